@@ -3,6 +3,7 @@ package com.github.tadukoo.parsing.code.java;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class JavaAnnotationTest{
@@ -29,4 +30,24 @@ public class JavaAnnotationTest{
 		annotation = JavaAnnotation.builder().name("Test").build();
 		assertEquals("@Test", annotation.toString());
 	}
+	
+	@Test
+	public void testEquals(){
+		annotation = JavaAnnotation.builder().name("Test").build();
+		assertEquals(JavaAnnotation.builder().name("Test").build(), annotation);
+		assertEquals(JavaAnnotation.builder().name("Test").build().hashCode(), annotation.hashCode());
+	}
+	
+	@Test
+	public void testNotEquals(){
+		annotation = JavaAnnotation.builder().name("Test").build();
+		assertNotEquals(JavaAnnotation.builder().name("Derp").build(), annotation);
+	}
+	
+	@Test
+	public void testRetainedSizeEstimate(){
+		annotation = JavaAnnotation.builder().name("Test").build();
+		// The annotation, then the name's String object and array
+		assertEquals(16 + 24 + 24, annotation.retainedSizeEstimate());
+	}
 }
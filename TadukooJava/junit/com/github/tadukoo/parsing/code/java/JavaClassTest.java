@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -50,6 +51,32 @@ public class JavaClassTest{
 		assertTrue(clazz.getFields().isEmpty());
 	}
 	
+	@Test
+	public void testDefaultGeneratedMembers(){
+		assertFalse(clazz.generatesConstructor());
+		assertFalse(clazz.generatesEquals());
+		assertFalse(clazz.generatesHashCode());
+		assertFalse(clazz.generatesToString());
+	}
+	
+	@Test
+	public void testSetGeneratedMembers(){
+		clazz = JavaClass.builder().packageName("some.package").className("AClassName")
+				.generateConstructor().generateEquals().generateHashCode().generateToString()
+				.build();
+		assertTrue(clazz.generatesConstructor());
+		assertTrue(clazz.generatesEquals());
+		assertTrue(clazz.generatesHashCode());
+		assertTrue(clazz.generatesToString());
+		clazz = JavaClass.builder().packageName("some.package").className("AClassName")
+				.generateConstructor(false).generateEquals(false).generateHashCode(false).generateToString(false)
+				.build();
+		assertFalse(clazz.generatesConstructor());
+		assertFalse(clazz.generatesEquals());
+		assertFalse(clazz.generatesHashCode());
+		assertFalse(clazz.generatesToString());
+	}
+	
 	@Test
 	public void testSetPackageName(){
 		assertEquals("some.package", clazz.getPackageName());
@@ -135,6 +162,16 @@ public class JavaClassTest{
 		assertEquals(Visibility.PRIVATE, clazz.getVisibility());
 	}
 	
+	@Test
+	public void testSetAbstract(){
+		assertFalse(clazz.isAbstract());
+		clazz = JavaClass.builder()
+				.packageName("some.package").className("AClassName")
+				.isAbstract()
+				.build();
+		assertTrue(clazz.isAbstract());
+	}
+	
 	@Test
 	public void testSetSuperClassName(){
 		clazz = JavaClass.builder()
@@ -144,6 +181,18 @@ public class JavaClassTest{
 		assertEquals("AnotherClassName", clazz.getSuperClassName());
 	}
 	
+	@Test
+	public void testSetSuperClassRef(){
+		clazz = JavaClass.builder()
+				.packageName("some.package").className("AClassName")
+				.superClassRef(TypeRef.of("AnotherClassName<T>"))
+				.build();
+		assertEquals("AnotherClassName<T>", clazz.getSuperClassName());
+		assertEquals("AnotherClassName", clazz.getSuperClassRef().getErasure().getText());
+		assertNull(JavaClass.builder().packageName("some.package").className("AClassName").build()
+				.getSuperClassRef());
+	}
+	
 	@Test
 	public void testSetFields(){
 		List<JavaField> fields = ListUtil.createList(JavaField.builder().type("int").name("test").build(),
@@ -233,6 +282,19 @@ public class JavaClassTest{
 		}
 	}
 	
+	@Test
+	public void testAbstractMethodInConcreteClass(){
+		try{
+			clazz = JavaClass.builder()
+					.packageName("some.package").className("AClassName")
+					.method(JavaMethod.builder().isAbstract().returnType("int").name("get").build())
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Only abstract classes can have abstract methods!", e.getMessage());
+		}
+	}
+	
 	@Test
 	public void testToString(){
 		String javaString = """
@@ -260,6 +322,23 @@ public class JavaClassTest{
 		assertEquals(javaString, clazz.toString());
 	}
 	
+	@Test
+	public void testToStringAbstract(){
+		clazz = JavaClass.builder()
+				.packageName("some.package").className("AClassName").isAbstract()
+				.method(JavaMethod.builder().isAbstract().returnType("int").name("get").build())
+				.build();
+		String javaString = """
+				package some.package;
+				
+				public abstract class AClassName{
+				\t
+				\tpublic abstract int get();
+				}
+				""";
+		assertEquals(javaString, clazz.toString());
+	}
+	
 	@Test
 	public void testToStringWithAnnotations(){
 		JavaAnnotation test = JavaAnnotation.builder().name("Test").build();
@@ -362,6 +441,26 @@ public class JavaClassTest{
 		assertEquals(javaString, clazz.toString());
 	}
 	
+	@Test
+	public void testToStringWithAnnotatedField(){
+		clazz = JavaClass.builder()
+				.packageName("some.package")
+				.className("AClassName")
+				.field(JavaField.builder().annotation(JavaAnnotation.builder().name("Test").build())
+						.type("int").name("test").build())
+				.build();
+		String javaString = """
+				package some.package;
+				
+				public class AClassName{
+				\t
+					@Test
+					private int test;
+				}
+				""";
+		assertEquals(javaString, clazz.toString());
+	}
+	
 	@Test
 	public void testToStringWithEverything(){
 		clazz = JavaClass.builder()
@@ -403,4 +502,86 @@ public class JavaClassTest{
 				""";
 		assertEquals(javaString, clazz.toString());
 	}
+	
+	@Test
+	public void testToStringWithGeneratedMembers(){
+		clazz = JavaClass.builder()
+				.packageName("some.package")
+				.singleImport("java.util.List")
+				.className("AClassName")
+				.field(JavaField.builder().isFinal().type("int").name("id").generateGetter().build())
+				.field(JavaField.builder().type("List<String>").name("names").generateGetter().generateSetter()
+						.build())
+				.method(JavaMethod.builder().returnType("int").name("size").line("return names.size();").build())
+				.generateConstructor().generateEquals().generateHashCode().generateToString()
+				.build();
+		String javaString = """
+				package some.package;
+				
+				import java.util.List;
+				import java.util.Objects;
+				
+				public class AClassName{
+				\t
+					private final int id;
+					private List<String> names;
+				\t
+					public int size(){
+						return names.size();
+					}
+				\t
+					public AClassName(int id, List<String> names){
+						this.id = id;
+						this.names = names;
+					}
+				\t
+					public int getId(){
+						return id;
+					}
+				\t
+					public List<String> getNames(){
+						return names;
+					}
+				\t
+					public void setNames(List<String> names){
+						this.names = names;
+					}
+				\t
+					@Override
+					public boolean equals(Object other){
+						if(this == other){
+							return true;
+						}
+						if(!(other instanceof AClassName)){
+							return false;
+						}
+						AClassName that = (AClassName) other;
+						return id == that.id && Objects.equals(names, that.names);
+					}
+				\t
+					@Override
+					public int hashCode(){
+						return Objects.hash(id, names);
+					}
+				\t
+					@Override
+					public String toString(){
+						return "AClassName{id=" + id + ", names=" + names + "}";
+					}
+				}
+				""";
+		assertEquals(javaString, clazz.toString());
+	}
+	
+	@Test
+	public void testRetainedSizeEstimate(){
+		JavaClass empty = JavaClass.builder().packageName("some.package").className("AClassName").build();
+		JavaField field = JavaField.builder().type("int").name("id").build();
+		JavaMethod method = JavaMethod.builder().returnType("int").name("getId").line("return id;").build();
+		JavaClass withMembers = JavaClass.builder().packageName("some.package").className("AClassName")
+				.field(field).method(method).build();
+		// Slots for the field and method in their lists, and the members themselves
+		assertEquals(empty.retainedSizeEstimate() + 8 + field.retainedSizeEstimate() + 8 +
+				method.retainedSizeEstimate(), withMembers.retainedSizeEstimate());
+	}
 }
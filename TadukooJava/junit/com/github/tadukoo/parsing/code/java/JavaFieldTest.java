@@ -3,11 +3,15 @@ package com.github.tadukoo.parsing.code.java;
 import com.github.tadukoo.util.ListUtil;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -36,11 +40,29 @@ public class JavaFieldTest{
 		assertNull(field.getValue());
 	}
 	
+	@Test
+	public void testDefaultGeneratesGetter(){
+		assertFalse(field.generatesGetter());
+	}
+	
+	@Test
+	public void testDefaultGeneratesSetter(){
+		assertFalse(field.generatesSetter());
+	}
+	
 	@Test
 	public void testSetType(){
 		assertEquals("int", field.getType());
 	}
 	
+	@Test
+	public void testSetTypeRef(){
+		field = JavaField.builder().typeRef(TypeRef.of("Map<String,Integer>")).name("test").build();
+		assertEquals("Map<String, Integer>", field.getType());
+		assertSame(TypeRef.of("Map<String, Integer>"), field.getTypeRef());
+		assertSame(field.getTypeRef(), field.getTypeRef());
+	}
+	
 	@Test
 	public void testSetName(){
 		assertEquals("test", field.getName());
@@ -108,6 +130,47 @@ public class JavaFieldTest{
 		assertEquals("42", field.getValue());
 	}
 	
+	@Test
+	public void testSetGenerateGetter(){
+		field = JavaField.builder()
+				.type("int").name("test")
+				.generateGetter()
+				.build();
+		assertTrue(field.generatesGetter());
+		field = JavaField.builder()
+				.type("int").name("test")
+				.generateGetter(false)
+				.build();
+		assertFalse(field.generatesGetter());
+	}
+	
+	@Test
+	public void testSetGenerateSetter(){
+		field = JavaField.builder()
+				.type("int").name("test")
+				.generateSetter()
+				.build();
+		assertTrue(field.generatesSetter());
+		field = JavaField.builder()
+				.type("int").name("test")
+				.generateSetter(false)
+				.build();
+		assertFalse(field.generatesSetter());
+	}
+	
+	@Test
+	public void testFinalFieldWithSetter(){
+		try{
+			field = JavaField.builder()
+					.isFinal().type("int").name("test")
+					.generateSetter()
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Can't generate a setter for a final field!", e.getMessage());
+		}
+	}
+	
 	@Test
 	public void testNullType(){
 		try{
@@ -148,6 +211,15 @@ public class JavaFieldTest{
 		assertEquals("private int test", field.toString());
 	}
 	
+	@Test
+	public void testToStringWithGeneratedAccessors(){
+		field = JavaField.builder()
+				.type("int").name("test")
+				.generateGetter().generateSetter()
+				.build();
+		assertEquals("private int test", field.toString());
+	}
+	
 	@Test
 	public void testToStringWithSingleAnnotation(){
 		JavaAnnotation test = JavaAnnotation.builder().name("Test").build();
@@ -211,4 +283,50 @@ public class JavaFieldTest{
 				private final int test = 42""";
 		assertEquals(javaString, field.toString());
 	}
+	
+	@Test
+	public void testEquals(){
+		JavaField otherField = JavaField.builder()
+				.type("int").name("test")
+				.build();
+		assertEquals(otherField, field);
+		assertEquals(otherField.hashCode(), field.hashCode());
+	}
+	
+	@Test
+	public void testNotEquals(){
+		assertNotEquals(JavaField.builder().type("int").name("test").isFinal().build(), field);
+		assertNotEquals(JavaField.builder().type("int").name("test").value("42").build(), field);
+		assertNotEquals(JavaField.builder().type("String").name("test").build(), field);
+		assertNotEquals(JavaField.builder().type("int").name("test").generateGetter().build(), field);
+		assertNotEquals(JavaField.builder().type("int").name("test").generateSetter().build(), field);
+	}
+	
+	@Test
+	public void testAnnotationsCopied(){
+		List<JavaAnnotation> annotations = new ArrayList<>();
+		JavaField copied = JavaField.builder().annotations(annotations).type("int").name("test").build();
+		String javaString = copied.toString();
+		int hashCode = copied.hashCode();
+		
+		// Changing the list after building doesn't change the field or its fingerprint
+		annotations.add(JavaAnnotation.builder().name("Test").build());
+		assertTrue(copied.getAnnotations().isEmpty());
+		assertEquals(javaString, copied.toString());
+		assertEquals(hashCode, copied.hashCode());
+		assertEquals(field, copied);
+		
+		assertThrows(UnsupportedOperationException.class,
+				() -> copied.getAnnotations().add(JavaAnnotation.builder().name("Test").build()));
+	}
+	
+	@Test
+	public void testRetainedSizeEstimate(){
+		// The field, the empty annotations list, and the type and name
+		assertEquals(48 + 40 + 48 + 48, field.retainedSizeEstimate());
+		JavaField annotated = JavaField.builder().annotation(JavaAnnotation.builder().name("Test").build())
+				.type("int").name("test").value("42").build();
+		// The annotation and a slot for it in the list, and the value
+		assertEquals(field.retainedSizeEstimate() + 64 + 8 + 48, annotated.retainedSizeEstimate());
+	}
 }
@@ -4,10 +4,15 @@ import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.tuple.Pair;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -24,6 +29,11 @@ public class JavaMethodTest{
 		assertEquals(Visibility.PUBLIC, method.getVisibility());
 	}
 	
+	@Test
+	public void testDefaultAbstract(){
+		assertFalse(method.isAbstract());
+	}
+	
 	@Test
 	public void testDefaultName(){
 		assertNull(method.getName());
@@ -68,11 +78,26 @@ public class JavaMethodTest{
 		assertEquals(Visibility.PRIVATE, method.getVisibility());
 	}
 	
+	@Test
+	public void testSetAbstract(){
+		method = JavaMethod.builder().isAbstract().returnType("String").name("get").build();
+		assertTrue(method.isAbstract());
+		method = JavaMethod.builder().isAbstract(false).returnType("String").name("get").build();
+		assertFalse(method.isAbstract());
+	}
+	
 	@Test
 	public void testSetReturnType(){
 		assertEquals("int", method.getReturnType());
 	}
 	
+	@Test
+	public void testSetReturnTypeRef(){
+		method = JavaMethod.builder().returnTypeRef(TypeRef.of("List< String >")).name("get").build();
+		assertEquals("List<String>", method.getReturnType());
+		assertSame(TypeRef.of("List<String>"), method.getReturnTypeRef());
+	}
+	
 	@Test
 	public void testSetName(){
 		method = JavaMethod.builder().name("someName").returnType("int").build();
@@ -87,6 +112,60 @@ public class JavaMethodTest{
 		assertEquals(parameters, method.getParameters());
 	}
 	
+	@Test
+	public void testSetParameterPairKept(){
+		Pair<String, String> parameter = Pair.of("int", "someInt");
+		method = JavaMethod.builder().returnType("int").parameter("String", "someText").parameter(parameter).build();
+		assertSame(parameter, method.getParameters().get(1));
+		assertEquals("someText", method.getParameters().get(0).getRight());
+	}
+	
+	@Test
+	public void testParametersMadeOnce(){
+		method = JavaMethod.builder().returnType("int").parameter("int", "someInt").build();
+		assertSame(method.getParameters(), method.getParameters());
+		assertEquals(method.getParameters(), method.getParameters());
+	}
+	
+	@Test
+	public void testSetParametersReplaces(){
+		method = JavaMethod.builder().returnType("int").parameter("int", "first")
+				.parameters(ListUtil.createList(Pair.of("String", "second")))
+				.build();
+		assertEquals(ListUtil.createList("second"), method.getParameterNames());
+	}
+	
+	@Test
+	public void testParameterArrays(){
+		JavaMethod.JavaMethodBuilder builder = JavaMethod.builder().returnType("int");
+		for(int i = 0; i < 10; i++){
+			builder.parameter("int", "value" + i);
+		}
+		method = builder.build();
+		assertEquals(10, method.getParameterCount());
+		assertEquals("int", method.getParameterType(9));
+		assertEquals("value9", method.getParameterName(9));
+		assertEquals(10, method.getParameterTypes().size());
+		assertEquals("value3", method.getParameterNames().get(3));
+		assertEquals("value3", method.getParameters().get(3).getRight());
+	}
+	
+	@Test
+	public void testParameterViewsUnmodifiable(){
+		method = JavaMethod.builder().returnType("int").parameter("int", "value").build();
+		try{
+			method.getParameters().add(Pair.of("int", "other"));
+			fail();
+		}catch(UnsupportedOperationException ignored){
+		}
+		try{
+			method.getParameterNames().set(0, "other");
+			fail();
+		}catch(UnsupportedOperationException ignored){
+		}
+		assertEquals("value", method.getParameterName(0));
+	}
+	
 	@Test
 	public void testSetParameterPair(){
 		method = JavaMethod.builder().returnType("int").parameter(Pair.of("String", "someText")).build();
@@ -107,6 +186,16 @@ public class JavaMethodTest{
 		assertEquals("someText", parameter.getRight());
 	}
 	
+	@Test
+	public void testSetParameterRef(){
+		method = JavaMethod.builder().returnType("int")
+				.parameterRef(TypeRef.of("String ..."), "someText")
+				.build();
+		assertEquals("String...", method.getParameters().get(0).getLeft());
+		assertEquals(ListUtil.createList(TypeRef.of("String...")), method.getParameterTypeRefs());
+		assertSame(method.getParameterTypeRefs(), method.getParameterTypeRefs());
+	}
+	
 	@Test
 	public void testSetThrowTypes(){
 		List<String> throwTypes = ListUtil.createList("Throwable", "Exception");
@@ -126,6 +215,15 @@ public class JavaMethodTest{
 		assertEquals("Throwable", throwTypes.get(0));
 	}
 	
+	@Test
+	public void testSetThrowTypeRef(){
+		method = JavaMethod.builder()
+				.returnType("int").throwTypeRef(TypeRef.of("java.io.IOException"))
+				.build();
+		assertEquals(ListUtil.createList("java.io.IOException"), method.getThrowTypes());
+		assertEquals("java.io", method.getThrowTypeRefs().get(0).getPackageName());
+	}
+	
 	@Test
 	public void testSetLines(){
 		List<String> lines = ListUtil.createList("doSomething();", "return 42;");
@@ -229,6 +327,27 @@ public class JavaMethodTest{
 		assertEquals(javaString, method.toString());
 	}
 	
+	@Test
+	public void testAbstractErrors(){
+		try{
+			method = JavaMethod.builder().isAbstract().visibility(Visibility.PRIVATE).returnType("int")
+					.line("return 42;").build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("""
+					Constructors can't be abstract!
+					Abstract methods can't be private!
+					Abstract methods can't have lines!""", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testToStringAbstract(){
+		method = JavaMethod.builder().isAbstract().visibility(Visibility.PROTECTED).returnType("int").name("get")
+				.parameter("int", "x").throwType("Exception").build();
+		assertEquals("protected abstract int get(int x) throws Exception;", method.toString());
+	}
+	
 	@Test
 	public void testToStringWithLines(){
 		method = JavaMethod.builder().returnType("int").line("doSomething();").line("return 42;").build();
@@ -258,4 +377,59 @@ public class JavaMethodTest{
 				}""";
 		assertEquals(javaString, method.toString());
 	}
+	
+	@Test
+	public void testEquals(){
+		method = JavaMethod.builder().returnType("int").name("someMethod")
+				.parameter("String", "text").throwType("Exception").line("return 42;").build();
+		JavaMethod otherMethod = JavaMethod.builder().returnType("int").name("someMethod")
+				.parameter("String", "text").throwType("Exception").line("return 42;").build();
+		assertEquals(otherMethod, method);
+		assertEquals(otherMethod.hashCode(), method.hashCode());
+	}
+	
+	@Test
+	public void testNotEquals(){
+		method = JavaMethod.builder().returnType("int").name("someMethod").parameter("String", "text").build();
+		assertNotEquals(JavaMethod.builder().returnType("int").name("someMethod")
+				.parameter("String", "derp").build(), method);
+		assertNotEquals(JavaMethod.builder().returnType("int").name("someMethod")
+				.parameter("String", "text").line("return 42;").build(), method);
+	}
+	
+	@Test
+	public void testListsCopied(){
+		List<String> lines = new ArrayList<>(List.of("return 42;"));
+		JavaMethod.JavaMethodBuilder builder = JavaMethod.builder().returnType("int").name("someMethod").lines(lines);
+		method = builder.build();
+		String javaString = method.toString();
+		int hashCode = method.hashCode();
+		
+		// Changing the builder or its lists after building doesn't change the method or its fingerprint
+		lines.add("return 0;");
+		builder.throwType("Exception").annotation(JavaAnnotation.builder().name("Test").build());
+		assertEquals(List.of("return 42;"), method.getLines());
+		assertEquals(javaString, method.toString());
+		assertEquals(hashCode, method.hashCode());
+		assertEquals(JavaMethod.builder().returnType("int").name("someMethod").line("return 42;").build(), method);
+		
+		assertThrows(UnsupportedOperationException.class, () -> method.getLines().add("return 0;"));
+		assertThrows(UnsupportedOperationException.class, () -> method.getThrowTypes().add("Exception"));
+		assertThrows(UnsupportedOperationException.class,
+				() -> method.getAnnotations().add(JavaAnnotation.builder().name("Test").build()));
+	}
+	
+	@Test
+	public void testRetainedSizeEstimate(){
+		method = JavaMethod.builder().returnType("int").name("someMethod").build();
+		// The method, 3 empty lists (methods without parameters share empty arrays), and the return type and name
+		assertEquals(72 + 3 * 40 + 48 + 56, method.retainedSizeEstimate());
+		JavaMethod withLine = JavaMethod.builder().returnType("int").name("someMethod").line("return 42;").build();
+		// A slot for the line in the list, and the line
+		assertEquals(method.retainedSizeEstimate() + 8 + 56, withLine.retainedSizeEstimate());
+		JavaMethod withParameter = JavaMethod.builder().returnType("int").name("someMethod")
+				.parameter("int", "x").build();
+		// The type and name arrays of 1 reference each, and the type and name
+		assertEquals(method.retainedSizeEstimate() + 2 * 24 + 2 * 48, withParameter.retainedSizeEstimate());
+	}
 }
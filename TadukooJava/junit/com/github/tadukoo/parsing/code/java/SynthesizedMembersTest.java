@@ -0,0 +1,257 @@
+package com.github.tadukoo.parsing.code.java;
+
+import com.github.tadukoo.parsing.code.java.format.BlankLinePolicy;
+import com.github.tadukoo.parsing.code.java.format.BracePlacement;
+import com.github.tadukoo.parsing.code.java.format.JavaFormatStyle;
+import com.github.tadukoo.parsing.code.java.format.RenderPlan;
+import com.github.tadukoo.parsing.code.java.specialize.SpecializedRenderer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SynthesizedMembersTest{
+	private final JavaClass dto = JavaClass.builder()
+			.packageName("some.package").className("Point")
+			.field(JavaField.builder().type("double").name("x").generateGetter().generateSetter().build())
+			.field(JavaField.builder().type("boolean").name("visible").generateGetter().build())
+			.field(JavaField.builder().type("int[]").name("tags").generateGetter().build())
+			.field(JavaField.builder().type("String[][]").name("grid").build())
+			.field(JavaField.builder().type("String").name("other").value("\"o\"").build())
+			.generateConstructor().generateEquals().generateHashCode().generateToString()
+			.build();
+	
+	@Test
+	public void testCount(){
+		assertEquals(8, SynthesizedMembers.count(dto));
+		assertEquals(0, SynthesizedMembers.count(JavaClass.builder()
+				.packageName("some.package").className("Empty")
+				.build()));
+	}
+	
+	@Test
+	public void testMissingImports(){
+		assertEquals(List.of("java.util.Objects", "java.util.Arrays"), SynthesizedMembers.missingImports(dto));
+	}
+	
+	@Test
+	public void testMissingImportsAlreadyImported(){
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("some.package").singleImport("java.util.*").className("Named")
+				.field(JavaField.builder().type("String").name("name").build())
+				.generateHashCode()
+				.build();
+		assertTrue(SynthesizedMembers.missingImports(javaClass).isEmpty());
+	}
+	
+	@Test
+	public void testMissingImportsOnlyPrimitives(){
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("some.package").className("Counter")
+				.field(JavaField.builder().type("int").name("count").build())
+				.generateEquals().generateToString()
+				.build();
+		assertTrue(SynthesizedMembers.missingImports(javaClass).isEmpty());
+	}
+	
+	@Test
+	public void testToString(){
+		String javaString = """
+				package some.package;
+				
+				import java.util.Objects;
+				import java.util.Arrays;
+				
+				public class Point{
+				\t
+					private double x;
+					private boolean visible;
+					private int[] tags;
+					private String[][] grid;
+					private String other = "o";
+				\t
+					public Point(double x, boolean visible, int[] tags, String[][] grid){
+						this.x = x;
+						this.visible = visible;
+						this.tags = tags;
+						this.grid = grid;
+					}
+				\t
+					public double getX(){
+						return x;
+					}
+				\t
+					public void setX(double x){
+						this.x = x;
+					}
+				\t
+					public boolean isVisible(){
+						return visible;
+					}
+				\t
+					public int[] getTags(){
+						return tags;
+					}
+				\t
+					@Override
+					public boolean equals(Object other){
+						if(this == other){
+							return true;
+						}
+						if(!(other instanceof Point)){
+							return false;
+						}
+						Point that = (Point) other;
+						return Double.compare(x, that.x) == 0 && visible == that.visible && Arrays.equals(tags, that.tags) && Arrays.deepEquals(grid, that.grid) && Objects.equals(this.other, that.other);
+					}
+				\t
+					@Override
+					public int hashCode(){
+						return Objects.hash(x, visible, Arrays.hashCode(tags), Arrays.deepHashCode(grid), other);
+					}
+				\t
+					@Override
+					public String toString(){
+						return "Point{x=" + x + ", visible=" + visible + ", tags=" + Arrays.toString(tags) + ", grid=" + Arrays.deepToString(grid) + ", other=" + other + "}";
+					}
+				}
+				""";
+		assertEquals(javaString, dto.toString());
+	}
+	
+	@Test
+	public void testNoFields(){
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("some.package").className("Empty")
+				.generateConstructor().generateEquals().generateHashCode().generateToString()
+				.build();
+		String javaString = """
+				package some.package;
+				
+				public class Empty{
+				\t
+					public Empty(){
+					}
+				\t
+					@Override
+					public boolean equals(Object other){
+						if(this == other){
+							return true;
+						}
+						if(!(other instanceof Empty)){
+							return false;
+						}
+						return true;
+					}
+				\t
+					@Override
+					public int hashCode(){
+						return 0;
+					}
+				\t
+					@Override
+					public String toString(){
+						return "Empty{}";
+					}
+				}
+				""";
+		assertEquals(javaString, javaClass.toString());
+	}
+	
+	@Test
+	public void testExpand(){
+		JavaClass expanded = SynthesizedMembers.expand(dto);
+		assertEquals(0, SynthesizedMembers.count(expanded));
+		assertEquals(8, expanded.getMethods().size());
+		assertEquals(List.of("java.util.Objects", "java.util.Arrays"), expanded.getImports());
+		assertEquals(dto.toString(), expanded.toString());
+	}
+	
+	@Test
+	public void testExpandAbstract(){
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("some.package").className("Shape").isAbstract()
+				.field(JavaField.builder().type("String").name("name").generateGetter().build())
+				.method(JavaMethod.builder().isAbstract().returnType("double").name("area").build())
+				.build();
+		JavaClass expanded = SynthesizedMembers.expand(javaClass);
+		assertTrue(expanded.isAbstract());
+		assertEquals(javaClass.toString(), expanded.toString());
+	}
+	
+	@Test
+	public void testExpandNothingSynthesized(){
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("some.package").className("Plain")
+				.field(JavaField.builder().type("int").name("count").build())
+				.build();
+		assertSame(javaClass, SynthesizedMembers.expand(javaClass));
+	}
+	
+	@Test
+	public void testRenderPlanMatchesExpanded(){
+		RenderPlan plan = RenderPlan.compile(JavaFormatStyle.builder()
+				.blankLinePolicy(BlankLinePolicy.EMPTY).lineSeparator("\r\n")
+				.build());
+		assertEquals(plan.render(SynthesizedMembers.expand(dto)), plan.render(dto));
+		assertEquals(dto.toString(), RenderPlan.DEFAULT.render(dto));
+	}
+	
+	@Test
+	public void testRenderPlanBracePlacement(){
+		RenderPlan plan = RenderPlan.compile(JavaFormatStyle.builder()
+				.indent("  ").bracePlacement(BracePlacement.NEXT_LINE)
+				.build());
+		assertTrue(plan.render(dto).contains("""
+				  public boolean equals(Object other)
+				  {
+				    if(this == other)
+				    {
+				      return true;
+				    }
+				"""));
+	}
+	
+	@Test
+	public void testRandomClassesMatchExpanded(){
+		Random random = new Random(43);
+		String[] types = {"int", "boolean", "float", "long", "String", "byte[]", "List<String>"};
+		SpecializedRenderer renderer = SpecializedRenderer.builder().build();
+		for(int i = 0; i < 200; i++){
+			JavaClass.JavaClassBuilder builder = JavaClass.builder()
+					.packageName("some.package").className("Random" + i)
+					.generateConstructor(random.nextBoolean()).generateEquals(random.nextBoolean())
+					.generateHashCode(random.nextBoolean()).generateToString(random.nextBoolean());
+			if(random.nextBoolean()){
+				builder.singleImport("java.util.List");
+			}
+			int fieldCount = random.nextInt(5);
+			for(int j = 0; j < fieldCount; j++){
+				boolean isFinal = random.nextBoolean();
+				builder.field(JavaField.builder()
+						.isFinal(isFinal).type(types[random.nextInt(types.length)]).name("field" + j)
+						.value(random.nextInt(4) == 0?"null":null)
+						.generateGetter(random.nextBoolean()).generateSetter(!isFinal && random.nextBoolean())
+						.build());
+			}
+			if(random.nextBoolean()){
+				builder.method(JavaMethod.builder().returnType("void").name("run").line("go();").build());
+			}
+			JavaClass javaClass = builder.build();
+			String expected = SynthesizedMembers.expand(javaClass).toString();
+			assertEquals(expected, javaClass.toString());
+			assertEquals(expected, RenderPlan.DEFAULT.render(javaClass));
+			assertEquals(expected, renderer.render(javaClass));
+		}
+	}
+	
+	@Test
+	public void testFieldToStringUnaffected(){
+		assertFalse(dto.getFields().get(0).toString().contains("getX"));
+	}
+}
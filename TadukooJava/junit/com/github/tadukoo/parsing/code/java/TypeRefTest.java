@@ -0,0 +1,186 @@
+package com.github.tadukoo.parsing.code.java;
+
+import com.github.tadukoo.util.ListUtil;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class TypeRefTest{
+	
+	@Test
+	public void testSimpleType(){
+		TypeRef type = TypeRef.of("String");
+		assertEquals("String", type.getName());
+		assertEquals("String", type.getSimpleName());
+		assertNull(type.getPackageName());
+		assertEquals("String", type.getText());
+		assertEquals("String", type.toString());
+		assertTrue(type.getTypeArguments().isEmpty());
+		assertFalse(type.isGeneric());
+		assertFalse(type.isArray());
+		assertFalse(type.isPrimitive());
+		assertFalse(type.isWildcard());
+		assertSame(type, type.getErasure());
+		assertNull(type.getElementType());
+	}
+	
+	@Test
+	public void testPrimitive(){
+		assertTrue(TypeRef.of("int").isPrimitive());
+		assertTrue(TypeRef.of("void").isPrimitive());
+		assertFalse(TypeRef.of("int[]").isPrimitive());
+		assertTrue(TypeRef.of("int[]").getElementType().isPrimitive());
+	}
+	
+	@Test
+	public void testInterned(){
+		assertSame(TypeRef.of("Map<String, List<Integer>>"), TypeRef.of("Map<String, List<Integer>>"));
+		assertSame(TypeRef.of("Map<String, List<Integer>>"), TypeRef.of(" Map < String ,List<Integer> > "));
+		assertSame(TypeRef.of("List<Integer>"), TypeRef.of("Map<String, List<Integer>>").getTypeArguments().get(1));
+	}
+	
+	@Test
+	public void testOnlyCanonicalTextInterned(){
+		TypeRef type = TypeRef.of(" Map < Short ,List<Byte> > ");
+		assertTrue(TypeRef.isInterned(type.getText()));
+		assertTrue(TypeRef.isInterned("List<Byte>"));
+		assertFalse(TypeRef.isInterned(" Map < Short ,List<Byte> > "));
+	}
+	
+	@Test
+	public void testUnusedTypesDropped() throws InterruptedException{
+		WeakReference<TypeRef> type = new WeakReference<>(TypeRef.of("UnusedTypeRefTestType<Boolean>"));
+		for(int i = 0; i < 50 && type.get() != null; i++){
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull(type.get());
+		assertFalse(TypeRef.isInterned("UnusedTypeRefTestType<Boolean>"));
+		// Interning again makes a new one
+		assertEquals("UnusedTypeRefTestType<Boolean>", TypeRef.of("UnusedTypeRefTestType<Boolean>").getText());
+		assertTrue(TypeRef.isInterned("UnusedTypeRefTestType<Boolean>"));
+	}
+	
+	@Test
+	public void testEqualsAndHashCode(){
+		assertEquals(TypeRef.of("List<String>"), TypeRef.of("List<String>"));
+		assertEquals("List<String>".hashCode(), TypeRef.of("List<String>").hashCode());
+		assertFalse(TypeRef.of("List<String>").equals(TypeRef.of("List<Integer>")));
+		assertFalse(TypeRef.of("List<String>").equals("List<String>"));
+	}
+	
+	@Test
+	public void testQualifiedName(){
+		TypeRef type = TypeRef.of("java.util.Map.Entry<K, V>");
+		assertEquals("java.util.Map.Entry", type.getName());
+		assertEquals("java.util", type.getPackageName());
+		assertEquals("Entry", type.getSimpleName());
+		assertEquals(ListUtil.createList(TypeRef.of("K"), TypeRef.of("V")), type.getTypeArguments());
+	}
+	
+	@Test
+	public void testNestedWithoutPackage(){
+		TypeRef type = TypeRef.of("Map.Entry");
+		assertNull(type.getPackageName());
+		assertEquals("Entry", type.getSimpleName());
+	}
+	
+	@Test
+	public void testLowercaseClassName(){
+		TypeRef type = TypeRef.of("some.pkg.thing");
+		assertEquals("some.pkg", type.getPackageName());
+		assertEquals("thing", type.getSimpleName());
+	}
+	
+	@Test
+	public void testGenerics(){
+		TypeRef type = TypeRef.of("Map<String,List<Integer>>");
+		assertEquals("Map<String, List<Integer>>", type.getText());
+		assertTrue(type.isGeneric());
+		assertSame(TypeRef.of("Map"), type.getErasure());
+		assertEquals("List", type.getTypeArguments().get(1).getSimpleName());
+	}
+	
+	@Test
+	public void testArrays(){
+		TypeRef type = TypeRef.of("List<String> [ ] []");
+		assertEquals("List<String>[][]", type.getText());
+		assertEquals(2, type.getArrayDimensions());
+		assertTrue(type.isArray());
+		assertFalse(type.isVarargs());
+		assertSame(TypeRef.of("List<String>"), type.getElementType());
+		assertSame(TypeRef.of("List[][]"), type.getErasure());
+	}
+	
+	@Test
+	public void testVarargs(){
+		TypeRef type = TypeRef.of("String[]...");
+		assertEquals("String[]...", type.getText());
+		assertEquals(2, type.getArrayDimensions());
+		assertTrue(type.isVarargs());
+		assertSame(TypeRef.of("String"), type.getElementType());
+		assertSame(type, type.getErasure());
+	}
+	
+	@Test
+	public void testWildcards(){
+		TypeRef type = TypeRef.of("Map<?, ? extends Number>");
+		TypeRef unbounded = type.getTypeArguments().get(0);
+		assertTrue(unbounded.isWildcard());
+		assertNull(unbounded.getUpperBound());
+		assertNull(unbounded.getLowerBound());
+		assertSame(TypeRef.of("Object"), unbounded.getErasure());
+		
+		TypeRef extendsNumber = type.getTypeArguments().get(1);
+		assertEquals("? extends Number", extendsNumber.getText());
+		assertSame(TypeRef.of("Number"), extendsNumber.getUpperBound());
+		assertSame(TypeRef.of("Number"), extendsNumber.getErasure());
+		
+		TypeRef superInteger = TypeRef.of("Comparator<? super Integer>").getTypeArguments().get(0);
+		assertSame(TypeRef.of("Integer"), superInteger.getLowerBound());
+		assertNull(superInteger.getUpperBound());
+		assertSame(TypeRef.of("Object"), superInteger.getErasure());
+	}
+	
+	@Test
+	public void testTypeArgumentsUnmodifiable(){
+		try{
+			TypeRef.of("List<String>").getTypeArguments().add(TypeRef.of("Integer"));
+			fail();
+		}catch(UnsupportedOperationException ignored){
+		}
+		assertEquals(Collections.emptyList(), TypeRef.of("String").getTypeArguments());
+	}
+	
+	@Test
+	public void testInvalidTypes(){
+		for(String invalid: ListUtil.createList("", "  ", "List<", "List<String", "List<>", "Map<String,>",
+				"int<String>", "List<int>", "String[", "String...[]", "1String", "List<String>>", "String extends",
+				"? extends int", "void[]", "List<? extends String...>")){
+			try{
+				TypeRef.of(invalid);
+				fail("Parsed " + invalid);
+			}catch(IllegalArgumentException e){
+				assertEquals("Not a valid type: " + invalid, e.getMessage());
+			}
+		}
+	}
+	
+	@Test
+	public void testNull(){
+		try{
+			TypeRef.of(null);
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Not a valid type: null", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package com.github.tadukoo.parsing.code.java.bytecode;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.Visibility;
+import com.github.tadukoo.parsing.code.java.compile.InMemoryClassLoader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ClassFileEmitterTest{
+	private final ClassFileEmitter emitter = ClassFileEmitter.builder().build();
+	
+	/**
+	 * @param classFiles The class files to load, keyed by binary name
+	 * @param name The binary name of the class to load
+	 * @return The loaded class
+	 * @throws ClassNotFoundException If the class can't be found
+	 */
+	private static Class<?> load(Map<String, byte[]> classFiles, String name) throws ClassNotFoundException{
+		return new InMemoryClassLoader(ClassFileEmitterTest.class.getClassLoader(), classFiles).loadClass(name);
+	}
+	
+	@Test
+	public void testDefaultMajorVersion(){
+		assertEquals(52, emitter.getMajorVersion());
+	}
+	
+	@Test
+	public void testBadMajorVersion(){
+		try{
+			ClassFileEmitter.builder().majorVersion(48).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("majorVersion must be at least 49!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testAccessFlags(){
+		assertEquals(ClassFileEmitter.ACC_PUBLIC, ClassFileEmitter.accessFlags(Visibility.PUBLIC));
+		assertEquals(ClassFileEmitter.ACC_PROTECTED, ClassFileEmitter.accessFlags(Visibility.PROTECTED));
+		assertEquals(ClassFileEmitter.ACC_PRIVATE, ClassFileEmitter.accessFlags(Visibility.PRIVATE));
+		assertEquals(0, ClassFileEmitter.accessFlags(Visibility.NONE));
+	}
+	
+	@Test
+	public void testEmitSignatures() throws ReflectiveOperationException{
+		JavaClass clazz = JavaClass.builder()
+				.packageName("some.pkg").className("Stub")
+				.singleImport("java.util.List")
+				.field(JavaField.builder().isFinal().type("List<String>").name("names").build())
+				.field(JavaField.builder().visibility(Visibility.PUBLIC).type("long[]").name("values").build())
+				.method(JavaMethod.builder().returnType("String").name("getName")
+						.parameter("int", "index").parameter("double", "weight")
+						.throwType("IOException").throwType("IllegalStateException").build())
+				.build();
+		// IOException isn't imported, so tell the emitter where to find it
+		clazz.getImports().add("java.io.IOException");
+		
+		Class<?> stub = load(Map.of("some.pkg.Stub", emitter.emit(clazz)), "some.pkg.Stub");
+		assertTrue(Modifier.isPublic(stub.getModifiers()));
+		assertEquals(Object.class, stub.getSuperclass());
+		
+		Field names = stub.getDeclaredField("names");
+		assertEquals(List.class, names.getType());
+		assertTrue(Modifier.isPrivate(names.getModifiers()));
+		assertTrue(Modifier.isFinal(names.getModifiers()));
+		Field values = stub.getDeclaredField("values");
+		assertEquals(long[].class, values.getType());
+		assertTrue(Modifier.isPublic(values.getModifiers()));
+		
+		Method getName = stub.getMethod("getName", int.class, double.class);
+		assertEquals(String.class, getName.getReturnType());
+		assertArrayEquals(new Class<?>[]{IOException.class, IllegalStateException.class},
+				getName.getExceptionTypes());
+		
+		// The default constructor works, but methods are stubs
+		Object instance = stub.getConstructor().newInstance();
+		InvocationTargetException e = assertThrows(InvocationTargetException.class,
+				() -> getName.invoke(instance, 1, 2.0));
+		assertTrue(e.getCause() instanceof UnsupportedOperationException);
+	}
+	
+	@Test
+	public void testEmitConstructorAndSuperClass() throws ReflectiveOperationException{
+		JavaClass base = JavaClass.builder().packageName("some.pkg").className("Base").build();
+		JavaClass derived = JavaClass.builder()
+				.packageName("some.pkg").className("Derived").superClassName("Base")
+				.method(JavaMethod.builder().visibility(Visibility.PROTECTED).returnType("Derived")
+						.parameter("String", "text").build())
+				.build();
+		Map<String, byte[]> classFiles = emitter.emitAll(List.of(base, derived));
+		
+		Class<?> derivedClass = load(classFiles, "some.pkg.Derived");
+		assertEquals("some.pkg.Base", derivedClass.getSuperclass().getName());
+		assertEquals(1, derivedClass.getDeclaredConstructors().length);
+		Constructor<?> constructor = derivedClass.getDeclaredConstructor(String.class);
+		assertTrue(Modifier.isProtected(constructor.getModifiers()));
+		constructor.setAccessible(true);
+		InvocationTargetException e = assertThrows(InvocationTargetException.class,
+				() -> constructor.newInstance("test"));
+		assertTrue(e.getCause() instanceof UnsupportedOperationException);
+	}
+	
+	@Test
+	public void testEmitAbstract() throws ReflectiveOperationException{
+		JavaClass shape = JavaClass.builder()
+				.packageName("some.pkg").className("Shape").isAbstract()
+				.method(JavaMethod.builder().isAbstract().visibility(Visibility.PROTECTED).returnType("double")
+						.name("area").throwType("IllegalStateException").build())
+				.method(JavaMethod.builder().returnType("double").name("twice").line("return 2 * area();").build())
+				.field(JavaField.builder().type("String").name("name").generateGetter().build())
+				.build();
+		Class<?> shapeClass = load(emitter.emitAll(List.of(shape)), "some.pkg.Shape");
+		assertTrue(Modifier.isAbstract(shapeClass.getModifiers()));
+		assertTrue(Modifier.isAbstract(shapeClass.getDeclaredMethod("area").getModifiers()));
+		assertFalse(Modifier.isAbstract(shapeClass.getDeclaredMethod("twice").getModifiers()));
+		assertFalse(Modifier.isAbstract(shapeClass.getDeclaredMethod("getName").getModifiers()));
+	}
+	
+	@Test
+	public void testEmitVarArgs() throws ReflectiveOperationException{
+		JavaClass joiner = JavaClass.builder()
+				.packageName("some.pkg").className("Joiner")
+				.method(JavaMethod.builder().returnType("Joiner").parameter("String...", "parts").build())
+				.method(JavaMethod.builder().returnType("String").name("join")
+						.parameter("String", "separator").parameter("Object...", "values").build())
+				.method(JavaMethod.builder().returnType("String").name("joinAll")
+						.parameter("String[]", "values").build())
+				.build();
+		byte[] classFile = emitter.emit(joiner);
+		Class<?> joinerClass = load(Map.of("some.pkg.Joiner", classFile), "some.pkg.Joiner");
+		assertTrue(joinerClass.getDeclaredConstructor(String[].class).isVarArgs());
+		assertTrue(joinerClass.getDeclaredMethod("join", String.class, Object[].class).isVarArgs());
+		assertFalse(joinerClass.getDeclaredMethod("joinAll", String[].class).isVarArgs());
+		
+		// Reading it back gives the same parameter types
+		List<JavaMethod> methods = ClassFileReader.read(classFile).getMethods();
+		assertEquals("String...", methods.get(0).getParameterType(0));
+		assertEquals("Object...", methods.get(1).getParameterType(1));
+		assertEquals("String[]", methods.get(2).getParameterType(0));
+	}
+	
+	@Test
+	public void testEmitAll(){
+		List<JavaClass> classes = new ArrayList<>();
+		for(int i = 0; i < 1000; i++){
+			classes.add(JavaClass.builder()
+					.packageName("some.pkg").className("Class" + i)
+					.field(JavaField.builder().type("int").name("value").build())
+					.method(JavaMethod.builder().returnType("int").name("getValue").build())
+					.build());
+		}
+		Map<String, byte[]> classFiles = emitter.emitAll(classes);
+		assertEquals(1000, classFiles.size());
+		assertEquals(0xCA, classFiles.get("some.pkg.Class999")[0] & 0xFF);
+	}
+}
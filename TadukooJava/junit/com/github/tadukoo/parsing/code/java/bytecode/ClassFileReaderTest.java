@@ -0,0 +1,241 @@
+package com.github.tadukoo.parsing.code.java.bytecode;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.Visibility;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClassFileReaderTest{
+	
+	public static class Sample extends AbstractList<Map.Entry<String, Integer>>{
+		private static final int CONSTANT = 1;
+		protected final List<String> names = null;
+		Map.Entry<String, int[]>[] entries;
+		
+		public Sample(String name, int... values) throws IOException{ }
+		
+		private Sample(){ }
+		
+		@Override
+		public Map.Entry<String, Integer> get(int index){
+			return null;
+		}
+		
+		@Override
+		public int size(){
+			return CONSTANT;
+		}
+		
+		public static void helper(){ }
+	}
+	
+	class Inner{
+		Inner(String name){ }
+	}
+	
+	/**
+	 * @param type The class to get the class file of
+	 * @return The bytes of the class file
+	 * @throws IOException If the class file can't be read
+	 */
+	private static byte[] classFile(Class<?> type) throws IOException{
+		String name = type.getName();
+		try(InputStream stream = type.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")){
+			return stream.readAllBytes();
+		}
+	}
+	
+	private List<String> parameterTypes(JavaMethod method){
+		return method.getParameters().stream().map(parameter -> parameter.getLeft()).collect(Collectors.toList());
+	}
+	
+	@Test
+	public void testClassDeclaration() throws IOException{
+		JavaClass javaClass = ClassFileReader.read(classFile(Sample.class));
+		assertEquals("com.github.tadukoo.parsing.code.java.bytecode", javaClass.getPackageName());
+		assertEquals("Sample", javaClass.getClassName());
+		assertEquals(Visibility.PUBLIC, javaClass.getVisibility());
+		assertEquals("AbstractList", javaClass.getSuperClassName());
+		assertEquals(List.of("java.io.IOException", "java.util.AbstractList", "java.util.List", "java.util.Map"),
+				javaClass.getImports());
+	}
+	
+	@Test
+	public void testFields() throws IOException{
+		List<JavaField> fields = ClassFileReader.read(classFile(Sample.class)).getFields();
+		assertEquals(2, fields.size());
+		assertEquals("names", fields.get(0).getName());
+		assertEquals("List", fields.get(0).getType());
+		assertEquals(Visibility.PROTECTED, fields.get(0).getVisibility());
+		assertTrue(fields.get(0).isFinal());
+		assertEquals("entries", fields.get(1).getName());
+		assertEquals("Map.Entry[]", fields.get(1).getType());
+		assertEquals(Visibility.NONE, fields.get(1).getVisibility());
+		assertFalse(fields.get(1).isFinal());
+	}
+	
+	@Test
+	public void testMethods() throws IOException{
+		List<JavaMethod> methods = ClassFileReader.read(classFile(Sample.class)).getMethods();
+		assertEquals(4, methods.size());
+		
+		JavaMethod constructor = methods.get(0);
+		assertNull(constructor.getName());
+		assertEquals("Sample", constructor.getReturnType());
+		assertEquals(Visibility.PUBLIC, constructor.getVisibility());
+		assertEquals(List.of("String", "int..."), parameterTypes(constructor));
+		assertEquals(List.of("IOException"), constructor.getThrowTypes());
+		
+		assertNull(methods.get(1).getName());
+		assertEquals(Visibility.PRIVATE, methods.get(1).getVisibility());
+		assertTrue(methods.get(1).getParameters().isEmpty());
+		
+		assertEquals("get", methods.get(2).getName());
+		assertEquals("Map.Entry", methods.get(2).getReturnType());
+		assertEquals(List.of("int"), parameterTypes(methods.get(2)));
+		assertEquals("size", methods.get(3).getName());
+		assertEquals("int", methods.get(3).getReturnType());
+	}
+	
+	@Test
+	public void testInnerClass() throws IOException{
+		JavaClass javaClass = ClassFileReader.read(classFile(Inner.class));
+		assertEquals("Inner", javaClass.getClassName());
+		assertEquals(Visibility.NONE, javaClass.getVisibility());
+		assertEquals(List.of("String"), parameterTypes(javaClass.getMethods().get(0)));
+	}
+	
+	@Test
+	public void testEnum() throws IOException{
+		JavaClass javaClass = ClassFileReader.read(classFile(Visibility.class));
+		assertEquals("Enum", javaClass.getSuperClassName());
+		assertEquals(List.of("String"), parameterTypes(javaClass.getMethods().get(0)));
+	}
+	
+	@Test
+	public void testAbstract() throws IOException{
+		JavaClass javaClass = ClassFileReader.read(classFile(Shape.class));
+		assertTrue(javaClass.isAbstract());
+		List<JavaMethod> methods = javaClass.getMethods();
+		assertFalse(methods.get(0).isAbstract());
+		assertEquals("describe", methods.get(1).getName());
+		assertTrue(methods.get(1).isAbstract());
+		assertEquals("name", methods.get(2).getName());
+		assertFalse(methods.get(2).isAbstract());
+		assertFalse(ClassFileReader.read(classFile(Sample.class)).isAbstract());
+	}
+	
+	static abstract class Shape{
+		protected Shape(){ }
+		
+		protected abstract String describe();
+		
+		public String name(){
+			return "shape";
+		}
+	}
+	
+	@Test
+	public void testReadEmittedClass(){
+		JavaClass original = JavaClass.builder()
+				.packageName("com.example")
+				.singleImport("java.util.List")
+				.className("Stub")
+				.superClassName("Exception")
+				.field(JavaField.builder().type("List<String>").name("names").isFinal().build())
+				.method(JavaMethod.builder().returnType("Stub").parameter("long", "id").throwType("IOException")
+						.build())
+				.method(JavaMethod.builder().returnType("int[][]").name("grid").build())
+				.build();
+		byte[] classFile = ClassFileEmitter.builder().build().emit(original);
+		
+		// Read from the middle of a larger buffer, to check the position is respected
+		ByteBuffer buffer = ByteBuffer.allocate(classFile.length + 8);
+		buffer.position(4);
+		buffer.put(classFile);
+		buffer.position(4).limit(4 + classFile.length);
+		JavaClass javaClass = ClassFileReader.read(buffer);
+		assertEquals(4, buffer.position());
+		
+		assertEquals("Stub", javaClass.getClassName());
+		assertEquals("Exception", javaClass.getSuperClassName());
+		assertEquals(List.of("java.util.List"), javaClass.getImports());
+		assertEquals(List.of("IOException"), javaClass.getMethods().get(0).getThrowTypes());
+		assertEquals("List", javaClass.getFields().get(0).getType());
+		assertEquals(List.of("long"), parameterTypes(javaClass.getMethods().get(0)));
+		assertEquals(List.of("arg0"), javaClass.getMethods().get(0).getParameters().stream()
+				.map(parameter -> parameter.getRight()).collect(Collectors.toList()));
+		assertEquals("int[][]", javaClass.getMethods().get(1).getReturnType());
+	}
+	
+	@Test
+	public void testBadMagic(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> ClassFileReader.read(new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}));
+		assertEquals("Not a class file: bad magic number", e.getMessage());
+	}
+	
+	@Test
+	public void testTruncated() throws IOException{
+		byte[] classFile = classFile(Sample.class);
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> ClassFileReader.read(ByteBuffer.wrap(classFile, 0, classFile.length / 2)));
+		assertEquals("Malformed class file: it ends early or has a bad index", e.getMessage());
+	}
+	
+	@Test
+	public void testIsClassEntry(){
+		assertTrue(ClassFileReader.isClassEntry("com/example/Test.class"));
+		assertTrue(ClassFileReader.isClassEntry("com/example/Test$Inner.class"));
+		assertFalse(ClassFileReader.isClassEntry("com/example/Test$1.class"));
+		assertFalse(ClassFileReader.isClassEntry("com/example/Test$1Local.class"));
+		assertFalse(ClassFileReader.isClassEntry("com/example/package-info.class"));
+		assertFalse(ClassFileReader.isClassEntry("module-info.class"));
+		assertFalse(ClassFileReader.isClassEntry("META-INF/versions/11/com/example/Test.class"));
+		assertFalse(ClassFileReader.isClassEntry("com/example/Test.java"));
+	}
+	
+	@Test
+	public void testReadJar() throws IOException{
+		Path jar = Files.createTempFile("tadukoo-java", ".jar");
+		try{
+			try(OutputStream stream = Files.newOutputStream(jar); ZipOutputStream zip = new ZipOutputStream(stream)){
+				zip.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+				zip.closeEntry();
+				for(Class<?> type: List.of(Sample.class, Inner.class, Visibility.class)){
+					zip.putNextEntry(new ZipEntry(type.getName().replace('.', '/') + ".class"));
+					zip.write(classFile(type));
+					zip.closeEntry();
+				}
+				zip.putNextEntry(new ZipEntry("com/example/Test$1.class"));
+				zip.closeEntry();
+			}
+			
+			List<JavaClass> javaClasses = ClassFileReader.readJar(jar);
+			assertEquals(List.of("Sample", "Inner", "Visibility"), javaClasses.stream()
+					.map(JavaClass::getClassName).collect(Collectors.toList()));
+		}finally{
+			Files.deleteIfExists(jar);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.github.tadukoo.parsing.code.java.bytecode;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TypeResolverTest{
+	private final TypeResolver resolver = new TypeResolver(JavaClass.builder()
+			.packageName("some.pkg").className("AClassName")
+			.singleImport("java.util.List").singleImport("java.util.Map")
+			.singleImport("java.util.concurrent.*")
+			.build(), TypeResolverTest.class.getClassLoader());
+	
+	@Test
+	public void testErase(){
+		assertEquals("Map", TypeResolver.erase("Map<String, List<Integer>>"));
+		assertEquals("List[]", TypeResolver.erase("List<String> []"));
+	}
+	
+	@Test
+	public void testPrimitives(){
+		assertEquals("I", resolver.descriptor("int"));
+		assertEquals("Z", resolver.descriptor("boolean"));
+		assertEquals("J", resolver.descriptor("long"));
+		assertEquals("V", resolver.descriptor("void"));
+	}
+	
+	@Test
+	public void testArrays(){
+		assertEquals("[[I", resolver.descriptor("int[][]"));
+		assertEquals("[Ljava/lang/String;", resolver.descriptor("String..."));
+	}
+	
+	@Test
+	public void testJavaLang(){
+		assertEquals("Ljava/lang/String;", resolver.descriptor("String"));
+		assertEquals("java/lang/Exception", resolver.internalName("Exception"));
+	}
+	
+	@Test
+	public void testSingleImport(){
+		assertEquals("Ljava/util/List;", resolver.descriptor("List<String>"));
+	}
+	
+	@Test
+	public void testOnDemandImport(){
+		assertEquals("java/util/concurrent/ConcurrentHashMap", resolver.internalName("ConcurrentHashMap<K, V>"));
+	}
+	
+	@Test
+	public void testNestedClass(){
+		assertEquals("java/util/Map$Entry", resolver.internalName("Map.Entry<String, Integer>"));
+	}
+	
+	@Test
+	public void testQualifiedName(){
+		assertEquals("java/util/Set", resolver.internalName("java.util.Set"));
+		assertEquals("java/util/Map$Entry", resolver.internalName("java.util.Map.Entry"));
+	}
+	
+	@Test
+	public void testTypeVariable(){
+		assertEquals("Ljava/lang/Object;", resolver.descriptor("T"));
+	}
+	
+	@Test
+	public void testSamePackage(){
+		assertEquals("Lsome/pkg/Derp;", resolver.descriptor("Derp"));
+	}
+}
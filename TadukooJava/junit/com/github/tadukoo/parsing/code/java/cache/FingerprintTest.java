@@ -0,0 +1,56 @@
+package com.github.tadukoo.parsing.code.java.cache;
+
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class FingerprintTest{
+	
+	@Test
+	public void testSameTextSameFingerprint(){
+		assertEquals(Fingerprint.of("test"), Fingerprint.of("test"));
+		assertEquals(Fingerprint.of("test").hashCode(), Fingerprint.of("test").hashCode());
+	}
+	
+	@Test
+	public void testDifferentTextDifferentFingerprint(){
+		assertNotEquals(Fingerprint.of("test"), Fingerprint.of("tesu"));
+		assertNotEquals(Fingerprint.of(""), Fingerprint.of(null));
+	}
+	
+	@Test
+	public void testStringsDontRunTogether(){
+		assertNotEquals(Fingerprint.hasher().add("ab").add("c").build(),
+				Fingerprint.hasher().add("a").add("bc").build());
+	}
+	
+	@Test
+	public void testToString(){
+		Fingerprint fingerprint = Fingerprint.of("test");
+		assertEquals(String.format("%016x%016x", fingerprint.getHigh(), fingerprint.getLow()), fingerprint.toString());
+		assertEquals(32, fingerprint.toString().length());
+	}
+	
+	@Test
+	public void testFieldFingerprintStored(){
+		JavaField field = JavaField.builder().type("int").name("test").build();
+		assertSame(field.getFingerprint(), field.getFingerprint());
+		assertEquals(field.getFingerprint(), JavaField.builder().type("int").name("test").build().getFingerprint());
+		assertNotEquals(field.getFingerprint(), JavaField.builder().type("int").name("test2").build().getFingerprint());
+	}
+	
+	@Test
+	public void testMethodFingerprintStored(){
+		JavaMethod method = JavaMethod.builder().returnType("int").name("test").parameter("int", "x")
+				.line("return x;").build();
+		assertSame(method.getFingerprint(), method.getFingerprint());
+		assertEquals(method.getFingerprint(), JavaMethod.builder().returnType("int").name("test")
+				.parameter("int", "x").line("return x;").build().getFingerprint());
+		assertNotEquals(method.getFingerprint(), JavaMethod.builder().returnType("int").name("test")
+				.parameter("int", "y").line("return x;").build().getFingerprint());
+	}
+}
@@ -0,0 +1,171 @@
+package com.github.tadukoo.parsing.code.java.cache;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class RenderCacheTest{
+	private RenderCache cache = RenderCache.builder().build();
+	
+	@AfterEach
+	public void clearGlobalCache(){
+		RenderCache.setGlobalCache(null);
+	}
+	
+	@Test
+	public void testDefaultMaxBytes(){
+		assertEquals(32L * 1024 * 1024, cache.getMaxBytes());
+	}
+	
+	@Test
+	public void testSetMaxBytes(){
+		cache = RenderCache.builder().maxBytes(1024).build();
+		assertEquals(1024, cache.getMaxBytes());
+	}
+	
+	@Test
+	public void testSetConcurrencyLevel(){
+		cache = RenderCache.builder().concurrencyLevel(5).build();
+		assertEquals(8, cache.getSegmentCount());
+	}
+	
+	@Test
+	public void testSingleSegment(){
+		cache = RenderCache.builder().concurrencyLevel(1).build();
+		assertEquals(1, cache.getSegmentCount());
+	}
+	
+	@Test
+	public void testBadParameters(){
+		try{
+			RenderCache.builder().maxBytes(0).concurrencyLevel(0).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("""
+					maxBytes must be positive!
+					concurrencyLevel must be between 1 and 65536!""", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testHitAndMiss(){
+		AtomicInteger renders = new AtomicInteger();
+		String first = cache.getOrRender(Fingerprint.of("key"), () -> "text" + renders.getAndIncrement());
+		assertEquals("text0", first);
+		assertSame(first, cache.getOrRender(Fingerprint.of("key"), () -> "text" + renders.getAndIncrement()));
+		assertEquals(1, renders.get());
+		
+		RenderCacheStats stats = cache.getStats();
+		assertEquals(1, stats.getHitCount());
+		assertEquals(1, stats.getMissCount());
+		assertEquals(2, stats.getRequestCount());
+		assertEquals(1, stats.getEntryCount());
+		assertTrue(stats.getWeightedSize() > 0);
+	}
+	
+	@Test
+	public void testStructurallyEqualMembersShareEntry(){
+		JavaField field1 = JavaField.builder().type("int").name("test").build();
+		JavaField field2 = JavaField.builder().type("int").name("test").build();
+		assertSame(cache.getOrRender(field1.getFingerprint(), field1::toString),
+				cache.getOrRender(field2.getFingerprint(), field2::toString));
+		assertEquals(1, cache.getStats().getHitCount());
+	}
+	
+	@Test
+	public void testEntryTooLargeIsRejected(){
+		cache = RenderCache.builder().maxBytes(64).concurrencyLevel(1).build();
+		assertEquals("a long rendering", cache.getOrRender(Fingerprint.of("key"), () -> "a long rendering"));
+		RenderCacheStats stats = cache.getStats();
+		assertEquals(0, stats.getEntryCount());
+		assertEquals(1, stats.getRejectionCount());
+	}
+	
+	@Test
+	public void testInfrequentCandidateIsRejected(){
+		// Room for exactly one entry
+		cache = RenderCache.builder().maxBytes(200).concurrencyLevel(1).build();
+		cache.getOrRender(Fingerprint.of("popular"), () -> "a");
+		cache.getOrRender(Fingerprint.of("popular"), () -> "a");
+		cache.getOrRender(Fingerprint.of("popular"), () -> "a");
+		cache.getOrRender(Fingerprint.of("one-off"), () -> "b");
+		
+		RenderCacheStats stats = cache.getStats();
+		assertEquals(1, stats.getEntryCount());
+		assertEquals(1, stats.getRejectionCount());
+		assertEquals(0, stats.getEvictionCount());
+		assertEquals(2, stats.getHitCount());
+	}
+	
+	@Test
+	public void testFrequentCandidateEvicts(){
+		// Room for exactly one entry
+		cache = RenderCache.builder().maxBytes(200).concurrencyLevel(1).build();
+		cache.getOrRender(Fingerprint.of("old"), () -> "a");
+		for(int i = 0; i < 3; i++){
+			cache.getOrRender(Fingerprint.of("new"), () -> "b");
+		}
+		
+		RenderCacheStats stats = cache.getStats();
+		assertEquals(1, stats.getEntryCount());
+		assertEquals(1, stats.getEvictionCount());
+		assertEquals("b", cache.getOrRender(Fingerprint.of("new"), () -> "c"));
+	}
+	
+	@Test
+	public void testInvalidateAll(){
+		cache.getOrRender(Fingerprint.of("key"), () -> "text");
+		cache.invalidateAll();
+		RenderCacheStats stats = cache.getStats();
+		assertEquals(0, stats.getEntryCount());
+		assertEquals(0, stats.getWeightedSize());
+		assertEquals(1, stats.getMissCount());
+	}
+	
+	@Test
+	public void testGlobalCacheUsedByModels(){
+		RenderCache.setGlobalCache(cache);
+		assertSame(cache, RenderCache.getGlobalCache());
+		JavaClass clazz = JavaClass.builder()
+				.packageName("some.pkg").className("AClassName")
+				.field(JavaField.builder().type("int").name("test").build())
+				.method(JavaMethod.builder().returnType("int").name("getTest").line("return test;").build())
+				.build();
+		String rendered = clazz.toString();
+		assertEquals(rendered, clazz.toString());
+		
+		RenderCacheStats stats = cache.getStats();
+		assertEquals(2, stats.getMissCount());
+		assertEquals(2, stats.getHitCount());
+		assertEquals(2, stats.getEntryCount());
+	}
+	
+	@Test
+	public void testConcurrentAccess() throws InterruptedException{
+		Thread[] threads = new Thread[4];
+		for(int t = 0; t < threads.length; t++){
+			threads[t] = new Thread(() -> {
+				for(int i = 0; i < 1000; i++){
+					String key = "key" + (i % 50);
+					assertEquals(key, cache.getOrRender(Fingerprint.of(key), () -> key));
+				}
+			});
+			threads[t].start();
+		}
+		for(Thread thread: threads){
+			thread.join();
+		}
+		RenderCacheStats stats = cache.getStats();
+		assertEquals(4000, stats.getRequestCount());
+		assertEquals(50, stats.getEntryCount());
+	}
+}
@@ -0,0 +1,137 @@
+package com.github.tadukoo.parsing.code.java.cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GeneratorDaemonTest{
+	
+	@Test
+	public void testDefaults(){
+		GeneratorDaemon daemon = GeneratorDaemon.builder().build();
+		assertEquals(JavaCodeCli.daemonFile(), daemon.getDaemonFile());
+		assertEquals(3 * 60 * 60, daemon.getIdleTimeoutSeconds());
+		assertEquals(10 * 1000, daemon.getRequestTimeoutMillis());
+		assertEquals(Runtime.getRuntime().availableProcessors(), daemon.getWorkers());
+		assertFalse(daemon.isRunning());
+	}
+	
+	@Test
+	public void testBuilderErrors(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> GeneratorDaemon.builder().daemonFile(null).idleTimeoutSeconds(-1).requestTimeoutMillis(0)
+						.workers(0).build());
+		assertEquals("Must specify daemonFile!\nidleTimeoutSeconds must not be negative!\n" +
+				"requestTimeoutMillis must be positive!\nworkers must be positive!", e.getMessage());
+	}
+	
+	@Test
+	public void testSubmitJobs() throws IOException{
+		Path directory = Files.createTempDirectory("tadukoo-java");
+		Path daemonFile = directory.resolve("state/daemon");
+		GeneratorDaemon daemon = GeneratorDaemon.builder().daemonFile(daemonFile).idleTimeoutSeconds(0).workers(2)
+				.build();
+		try{
+			daemon.start();
+			assertTrue(daemon.isRunning());
+			assertTrue(DaemonClient.isRunning(daemonFile));
+			assertEquals(String.valueOf(daemon.getPort()), Files.readAllLines(daemonFile).get(0));
+			
+			// Only one daemon can use a daemon file at a time
+			IOException e = assertThrows(IOException.class,
+					() -> GeneratorDaemon.builder().daemonFile(daemonFile).build().start());
+			assertEquals("A daemon is already running for " + daemonFile, e.getMessage());
+			
+			Files.write(directory.resolve("Simple.java"), JavaCodeCliTest.SOURCE.getBytes(StandardCharsets.UTF_8));
+			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+			ByteArrayOutputStream errBytes = new ByteArrayOutputStream();
+			int exitCode = DaemonClient.submit(daemonFile, directory, List.of("generate", "-o", "out", "Simple.java"),
+					new PrintStream(outBytes, true), new PrintStream(errBytes, true));
+			assertEquals(JavaCodeCli.SUCCESS, exitCode);
+			assertEquals("Generated 1 classes in " + directory.resolve("out") + System.lineSeparator(),
+					outBytes.toString());
+			assertEquals(JavaCodeCliTest.SOURCE, Files.readString(directory.resolve("out/com/example/Simple.java")));
+			
+			assertEquals(JavaCodeCli.USAGE, DaemonClient.submit(daemonFile, directory, List.of("bad"),
+					new PrintStream(outBytes, true), new PrintStream(errBytes, true)));
+			assertTrue(errBytes.toString().startsWith("Usage:"));
+			
+			assertTrue(DaemonClient.stop(daemonFile));
+			daemon.awaitStop();
+			assertFalse(daemon.isRunning());
+			assertFalse(Files.exists(daemonFile));
+			assertFalse(DaemonClient.stop(daemonFile));
+		}finally{
+			daemon.stop();
+			JavaCodeCliTest.delete(directory);
+		}
+	}
+	
+	@Test
+	public void testWrongToken() throws IOException{
+		Path directory = Files.createTempDirectory("tadukoo-java");
+		Path daemonFile = directory.resolve("daemon");
+		GeneratorDaemon daemon = GeneratorDaemon.builder().daemonFile(daemonFile).build();
+		try{
+			daemon.start();
+			Path forged = directory.resolve("forged");
+			Files.write(forged, (daemon.getPort() + "\nnot-the-token\n").getBytes(StandardCharsets.UTF_8));
+			assertFalse(DaemonClient.isRunning(forged));
+			assertThrows(IOException.class, () -> DaemonClient.submit(forged, directory, List.of("train"),
+					System.out, System.err));
+			assertTrue(daemon.isRunning());
+		}finally{
+			daemon.stop();
+			JavaCodeCliTest.delete(directory);
+		}
+	}
+	
+	@Test
+	public void testRequestTimeout() throws IOException{
+		Path directory = Files.createTempDirectory("tadukoo-java");
+		Path daemonFile = directory.resolve("daemon");
+		GeneratorDaemon daemon = GeneratorDaemon.builder().daemonFile(daemonFile).requestTimeoutMillis(200)
+				.workers(1).build();
+		try{
+			daemon.start();
+			// A client that never sends anything is dropped, freeing the only worker for the next client
+			try(Socket silent = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())){
+				silent.setSoTimeout(10 * 1000);
+				assertEquals(-1, silent.getInputStream().read());
+				assertTrue(DaemonClient.isRunning(daemonFile));
+			}
+		}finally{
+			daemon.stop();
+			JavaCodeCliTest.delete(directory);
+		}
+	}
+	
+	@Test
+	public void testIdleTimeout() throws IOException{
+		Path directory = Files.createTempDirectory("tadukoo-java");
+		Path daemonFile = directory.resolve("daemon");
+		GeneratorDaemon daemon = GeneratorDaemon.builder().daemonFile(daemonFile).idleTimeoutSeconds(1).build();
+		try{
+			daemon.start();
+			daemon.awaitStop();
+			assertFalse(daemon.isRunning());
+			assertFalse(Files.exists(daemonFile));
+		}finally{
+			daemon.stop();
+			JavaCodeCliTest.delete(directory);
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package com.github.tadukoo.parsing.code.java.cli;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.bytecode.ClassFileEmitter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaCodeCliTest{
+	/** The source of a small class, as {@link JavaClass#toString()} renders it */
+	static final String SOURCE = """
+			package com.example;
+			
+			public class Simple{
+			\t
+			\tprivate int value;
+			\t
+			\tpublic int getValue(){
+			\t\treturn value;
+			\t}
+			}
+			""";
+	
+	private final ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+	private final ByteArrayOutputStream errBytes = new ByteArrayOutputStream();
+	private final PrintStream out = new PrintStream(outBytes, true);
+	private final PrintStream err = new PrintStream(errBytes, true);
+	
+	/**
+	 * @param directory The directory to delete, along with everything in it
+	 * @throws IOException If deleting fails
+	 */
+	static void delete(Path directory) throws IOException{
+		try(Stream<Path> walk = Files.walk(directory)){
+			for(Path path: (Iterable<Path>) walk.sorted(Comparator.reverseOrder())::iterator){
+				Files.delete(path);
+			}
+		}
+	}
+	
+	@Test
+	public void testGenerate() throws IOException{
+		Path directory = Files.createTempDirectory("tadukoo-java");
+		try{
+			Path sources = Files.createDirectories(directory.resolve("sources"));
+			Files.write(sources.resolve("Simple.java"), SOURCE.getBytes(StandardCharsets.UTF_8));
+			JavaClass stub = JavaClass.builder().packageName("com.example.stubs").className("Stub")
+					.field(JavaField.builder().type("long").name("id").build()).build();
+			Files.write(directory.resolve("Stub.class"), ClassFileEmitter.builder().build().emit(stub));
+			
+			int exitCode = JavaCodeCli.run(List.of("generate", "-o", "out", "sources", "Stub.class"), directory,
+					out, err);
+			assertEquals(JavaCodeCli.SUCCESS, exitCode);
+			assertEquals("", errBytes.toString());
+			assertEquals("Generated 2 classes in " + directory.resolve("out") + System.lineSeparator(),
+					outBytes.toString());
+			assertEquals(SOURCE, Files.readString(directory.resolve("out/com/example/Simple.java")));
+			assertTrue(Files.readString(directory.resolve("out/com/example/stubs/Stub.java"))
+					.contains("private long id;"));
+		}finally{
+			delete(directory);
+		}
+	}
+	
+	@Test
+	public void testGenerateWithBadInput() throws IOException{
+		Path directory = Files.createTempDirectory("tadukoo-java");
+		try{
+			Files.write(directory.resolve("Simple.java"), SOURCE.getBytes(StandardCharsets.UTF_8));
+			Files.write(directory.resolve("Broken.java"), "package com.example;\n\ninterface Broken{}\n"
+					.getBytes(StandardCharsets.UTF_8));
+			
+			int exitCode = JavaCodeCli.run(List.of("generate", "-o", "out", "Simple.java", "Broken.java",
+					"notes.txt"), directory, out, err);
+			assertEquals(JavaCodeCli.FAILURE, exitCode);
+			String errors = errBytes.toString();
+			assertTrue(errors.contains("Broken.java: Expected"));
+			assertTrue(errors.contains("notes.txt: "));
+			assertTrue(Files.exists(directory.resolve("out/com/example/Simple.java")));
+		}finally{
+			delete(directory);
+		}
+	}
+	
+	@Test
+	public void testGenerateWithValidation() throws IOException{
+		Path directory = Files.createTempDirectory("tadukoo-java");
+		try{
+			JavaClass invalid = JavaClass.builder().packageName("com.example").className("Invalid")
+					.field(JavaField.builder().type("long").name("int").build()).build();
+			Files.write(directory.resolve("Invalid.class"), ClassFileEmitter.builder().build().emit(invalid));
+			
+			int exitCode = JavaCodeCli.run(List.of("generate", "--validate", "-o", "out", "Invalid.class"),
+					directory, out, err);
+			assertEquals(JavaCodeCli.FAILURE, exitCode);
+			assertTrue(errBytes.toString().contains("Invalid field name 'int'"));
+			assertFalse(Files.exists(directory.resolve("out")));
+		}finally{
+			delete(directory);
+		}
+	}
+	
+	@Test
+	public void testUsage(){
+		assertEquals(JavaCodeCli.USAGE, JavaCodeCli.run(List.of(), Path.of("."), out, err));
+		assertEquals(JavaCodeCli.USAGE, JavaCodeCli.run(List.of("generate", "input.java"), Path.of("."), out, err));
+		assertEquals(JavaCodeCli.USAGE, JavaCodeCli.run(List.of("generate", "-o"), Path.of("."), out, err));
+		assertTrue(errBytes.toString().startsWith("Usage:"));
+	}
+	
+	@Test
+	public void testTrain(){
+		assertEquals(JavaCodeCli.SUCCESS, JavaCodeCli.run(List.of("train"), Path.of("."), out, err));
+		assertEquals("Trained" + System.lineSeparator(), outBytes.toString());
+	}
+}
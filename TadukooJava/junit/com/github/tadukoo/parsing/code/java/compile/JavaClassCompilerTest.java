@@ -0,0 +1,93 @@
+package com.github.tadukoo.parsing.code.java.compile;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.Visibility;
+import com.github.tadukoo.util.ListUtil;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaClassCompilerTest{
+	private final JavaClassCompiler compiler = JavaClassCompiler.builder().build();
+	
+	@Test
+	public void testDefaultOptions(){
+		assertTrue(compiler.getOptions().isEmpty());
+	}
+	
+	@Test
+	public void testSetOption(){
+		assertEquals(ListUtil.createList("-g"), JavaClassCompiler.builder().option("-g").build().getOptions());
+	}
+	
+	@Test
+	public void testCompileAndLoad() throws ReflectiveOperationException{
+		JavaClass base = JavaClass.builder()
+				.packageName("some.pkg").className("Base")
+				.field(JavaField.builder().visibility(Visibility.PROTECTED).type("int").name("value").value("42").build())
+				.build();
+		JavaClass derived = JavaClass.builder()
+				.packageName("some.pkg").className("Derived").superClassName("Base")
+				.method(JavaMethod.builder().returnType("int").name("getValue").line("return value;").build())
+				.build();
+		CompilationResult result = compiler.compile(ListUtil.createList(base, derived));
+		
+		assertTrue(result.isSuccess());
+		assertTrue(result.getErrors().isEmpty());
+		assertEquals(2, result.getBytecode().size());
+		assertNotNull(result.getBytecode().get("some.pkg.Base"));
+		
+		Class<?> derivedClass = result.getClassLoader().loadClass("some.pkg.Derived");
+		assertSame(derivedClass, result.getClassLoader().loadClass("some.pkg.Derived"));
+		Object instance = derivedClass.getDeclaredConstructor().newInstance();
+		Method getValue = derivedClass.getMethod("getValue");
+		assertEquals(42, getValue.invoke(instance));
+	}
+	
+	@Test
+	public void testDiagnosticMappedToMethod(){
+		JavaMethod broken = JavaMethod.builder().returnType("int").name("broken")
+				.line("return \"not an int\";").build();
+		JavaClass clazz = JavaClass.builder()
+				.packageName("some.pkg").className("Broken")
+				.field(JavaField.builder().type("int").name("test").build())
+				.method(JavaMethod.builder().returnType("int").name("fine").line("return test;").build())
+				.method(broken)
+				.build();
+		CompilationResult result = compiler.compile(ListUtil.createList(clazz));
+		
+		assertFalse(result.isSuccess());
+		List<ModelDiagnostic> errors = result.getErrors();
+		assertEquals(1, errors.size());
+		ModelDiagnostic error = errors.get(0);
+		assertSame(clazz, error.getJavaClass());
+		assertSame(broken, error.getMethod());
+		assertNull(error.getField());
+		assertEquals(12, error.getLineNumber());
+	}
+	
+	@Test
+	public void testDiagnosticMappedToField(){
+		JavaField broken = JavaField.builder().type("UnknownType").name("test").build();
+		JavaClass clazz = JavaClass.builder()
+				.packageName("some.pkg").className("Broken")
+				.field(broken)
+				.build();
+		CompilationResult result = compiler.compile(ListUtil.createList(clazz));
+		
+		assertFalse(result.isSuccess());
+		ModelDiagnostic error = result.getErrors().get(0);
+		assertSame(broken, error.getField());
+		assertTrue(error.toString().startsWith("ERROR some.pkg.Broken:5:"));
+	}
+}
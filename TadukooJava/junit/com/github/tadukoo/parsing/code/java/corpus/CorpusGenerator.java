@@ -0,0 +1,465 @@
+package com.github.tadukoo.parsing.code.java.corpus;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.Visibility;
+import com.github.tadukoo.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Corpus Generator makes populations of realistic {@link JavaClass classes} to test and measure the library with at
+ * repository scale. The number of fields, methods, and lines in each method are drawn from configurable
+ * {@link Distribution distributions}, and classes, fields, and methods are annotated at a configurable density.
+ * <br><br>
+ * Each class only depends on the seed and its index in the corpus, so corpora can be generated in parallel (or
+ * regenerated a piece at a time instead of being held in memory) and always come out the same.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class CorpusGenerator{
+	
+	/**
+	 * Corpus Generator Builder is used to build a new {@link CorpusGenerator}. It contains the following parameters:
+	 *
+	 * <table>
+	 *     <caption>Corpus Generator Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>seed</td>
+	 *         <td>The seed the corpus is generated from</td>
+	 *         <td>0</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>packageCount</td>
+	 *         <td>The number of packages the classes are spread over</td>
+	 *         <td>50</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>fieldCounts</td>
+	 *         <td>The {@link Distribution} of the number of fields in a class</td>
+	 *         <td>geometric(0, 4, 40)</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>methodCounts</td>
+	 *         <td>The {@link Distribution} of the number of methods in a class</td>
+	 *         <td>geometric(1, 6, 60)</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>lineCounts</td>
+	 *         <td>The {@link Distribution} of the number of lines in a method</td>
+	 *         <td>geometric(1, 5, 80)</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>annotationDensity</td>
+	 *         <td>The chance (from 0 to 1) of each class, field, and method being annotated</td>
+	 *         <td>0.1</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static class CorpusGeneratorBuilder{
+		/** The seed the corpus is generated from */
+		private long seed = 0;
+		/** The number of packages the classes are spread over */
+		private int packageCount = 50;
+		/** The {@link Distribution} of the number of fields in a class */
+		private Distribution fieldCounts = Distribution.geometric(0, 4, 40);
+		/** The {@link Distribution} of the number of methods in a class */
+		private Distribution methodCounts = Distribution.geometric(1, 6, 60);
+		/** The {@link Distribution} of the number of lines in a method */
+		private Distribution lineCounts = Distribution.geometric(1, 5, 80);
+		/** The chance (from 0 to 1) of each class, field, and method being annotated */
+		private double annotationDensity = 0.1;
+		
+		// Can't create outside of Corpus Generator
+		private CorpusGeneratorBuilder(){ }
+		
+		/**
+		 * @param seed The seed the corpus is generated from
+		 * @return this, to continue building
+		 */
+		public CorpusGeneratorBuilder seed(long seed){
+			this.seed = seed;
+			return this;
+		}
+		
+		/**
+		 * @param packageCount The number of packages the classes are spread over
+		 * @return this, to continue building
+		 */
+		public CorpusGeneratorBuilder packageCount(int packageCount){
+			this.packageCount = packageCount;
+			return this;
+		}
+		
+		/**
+		 * @param fieldCounts The {@link Distribution} of the number of fields in a class
+		 * @return this, to continue building
+		 */
+		public CorpusGeneratorBuilder fieldCounts(Distribution fieldCounts){
+			this.fieldCounts = fieldCounts;
+			return this;
+		}
+		
+		/**
+		 * @param methodCounts The {@link Distribution} of the number of methods in a class
+		 * @return this, to continue building
+		 */
+		public CorpusGeneratorBuilder methodCounts(Distribution methodCounts){
+			this.methodCounts = methodCounts;
+			return this;
+		}
+		
+		/**
+		 * @param lineCounts The {@link Distribution} of the number of lines in a method
+		 * @return this, to continue building
+		 */
+		public CorpusGeneratorBuilder lineCounts(Distribution lineCounts){
+			this.lineCounts = lineCounts;
+			return this;
+		}
+		
+		/**
+		 * @param annotationDensity The chance (from 0 to 1) of each class, field, and method being annotated
+		 * @return this, to continue building
+		 */
+		public CorpusGeneratorBuilder annotationDensity(double annotationDensity){
+			this.annotationDensity = annotationDensity;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters
+		 *
+		 * @throws IllegalArgumentException if anything is wrong
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			if(packageCount <= 0){
+				errors.add("packageCount must be positive!");
+			}
+			if(fieldCounts == null){
+				errors.add("Must specify fieldCounts!");
+			}
+			if(methodCounts == null){
+				errors.add("Must specify methodCounts!");
+			}
+			if(lineCounts == null){
+				errors.add("Must specify lineCounts!");
+			}
+			if(!(annotationDensity >= 0 && annotationDensity <= 1)){
+				errors.add("annotationDensity must be between 0 and 1!");
+			}
+			
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters, then builds a new {@link CorpusGenerator}
+		 *
+		 * @return A newly built {@link CorpusGenerator}
+		 * @throws IllegalArgumentException if anything is wrong with the current parameters
+		 */
+		public CorpusGenerator build(){
+			checkForErrors();
+			
+			return new CorpusGenerator(seed, packageCount, fieldCounts, methodCounts, lineCounts, annotationDensity);
+		}
+	}
+	
+	/**
+	 * Distribution is a distribution of whole numbers between a minimum and a maximum that a {@link CorpusGenerator}
+	 * draws counts from
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static final class Distribution{
+		/** The smallest number drawn */
+		private final int min;
+		/** The largest number drawn */
+		private final int max;
+		/** The average number drawn before being capped at the maximum (only used for geometric distributions) */
+		private final double mean;
+		/** Whether the distribution is geometric (rather than uniform) */
+		private final boolean geometric;
+		
+		/**
+		 * Constructs a new Distribution with the given parameters
+		 *
+		 * @param min The smallest number drawn
+		 * @param max The largest number drawn
+		 * @param mean The average number drawn before being capped at the maximum
+		 * @param geometric Whether the distribution is geometric (rather than uniform)
+		 */
+		private Distribution(int min, int max, double mean, boolean geometric){
+			if(min < 0 || max < min){
+				throw new IllegalArgumentException("Distribution must have 0 <= min <= max!");
+			}
+			if(geometric && !(mean >= min)){
+				throw new IllegalArgumentException("Distribution must have mean >= min!");
+			}
+			this.min = min;
+			this.max = max;
+			this.mean = mean;
+			this.geometric = geometric;
+		}
+		
+		/**
+		 * @param value The only number to draw
+		 * @return A Distribution that always draws the given number
+		 */
+		public static Distribution fixed(int value){
+			return new Distribution(value, value, value, false);
+		}
+		
+		/**
+		 * @param min The smallest number to draw
+		 * @param max The largest number to draw
+		 * @return A Distribution that draws every number from min to max equally often
+		 */
+		public static Distribution uniform(int min, int max){
+			return new Distribution(min, max, (min + max) / 2.0, false);
+		}
+		
+		/**
+		 * Makes a long-tailed distribution, like the sizes of members in real code: mostly small numbers near the
+		 * minimum, with the occasional large one
+		 *
+		 * @param min The smallest number to draw
+		 * @param mean The average number to draw (before capping at the maximum)
+		 * @param max The largest number to draw
+		 * @return A geometric Distribution with the given parameters
+		 */
+		public static Distribution geometric(int min, double mean, int max){
+			return new Distribution(min, max, mean, true);
+		}
+		
+		/**
+		 * @return The smallest number drawn
+		 */
+		public int getMin(){
+			return min;
+		}
+		
+		/**
+		 * @return The largest number drawn
+		 */
+		public int getMax(){
+			return max;
+		}
+		
+		/**
+		 * @param random The random number generator to draw with
+		 * @return A number drawn from the distribution
+		 */
+		public int sample(SplittableRandom random){
+			if(min == max){
+				return min;
+			}else if(!geometric){
+				return random.nextInt(min, max + 1);
+			}else if(mean == min){
+				return min;
+			}
+			// Inverse transform of a geometric distribution with the given mean above the minimum
+			double p = 1 / (mean - min + 1);
+			double u = 1 - random.nextDouble();
+			long extra = (long) Math.floor(Math.log(u) / Math.log(1 - p));
+			return (int) Math.min(max, min + extra);
+		}
+	}
+	
+	/** The types fields are given, with a value for each one */
+	private static final String[][] FIELD_TYPES = {
+			{"int", "0"}, {"long", "0L"}, {"boolean", "false"}, {"double", "0.0"}, {"String", "\"\""},
+			{"List<String>", "new ArrayList<>()"}, {"Map<String, Integer>", "new HashMap<>()"}};
+	/** The names of the annotations classes, fields, and methods are given */
+	private static final String[] ANNOTATIONS = {"Deprecated", "Generated", "Nonnull"};
+	/** Multiplier used to spread the seeds of neighbouring classes apart */
+	private static final long SEED_SPREAD = 0x9E3779B97F4A7C15L;
+	
+	/** The seed the corpus is generated from */
+	private final long seed;
+	/** The number of packages the classes are spread over */
+	private final int packageCount;
+	/** The {@link Distribution} of the number of fields in a class */
+	private final Distribution fieldCounts;
+	/** The {@link Distribution} of the number of methods in a class */
+	private final Distribution methodCounts;
+	/** The {@link Distribution} of the number of lines in a method */
+	private final Distribution lineCounts;
+	/** The chance (from 0 to 1) of each class, field, and method being annotated */
+	private final double annotationDensity;
+	
+	/**
+	 * Constructs a new Corpus Generator with the given parameters
+	 *
+	 * @param seed The seed the corpus is generated from
+	 * @param packageCount The number of packages the classes are spread over
+	 * @param fieldCounts The {@link Distribution} of the number of fields in a class
+	 * @param methodCounts The {@link Distribution} of the number of methods in a class
+	 * @param lineCounts The {@link Distribution} of the number of lines in a method
+	 * @param annotationDensity The chance (from 0 to 1) of each class, field, and method being annotated
+	 */
+	private CorpusGenerator(
+			long seed, int packageCount, Distribution fieldCounts, Distribution methodCounts,
+			Distribution lineCounts, double annotationDensity){
+		this.seed = seed;
+		this.packageCount = packageCount;
+		this.fieldCounts = fieldCounts;
+		this.methodCounts = methodCounts;
+		this.lineCounts = lineCounts;
+		this.annotationDensity = annotationDensity;
+	}
+	
+	/**
+	 * @return A new {@link CorpusGeneratorBuilder} to use to build a {@link CorpusGenerator}
+	 */
+	public static CorpusGeneratorBuilder builder(){
+		return new CorpusGeneratorBuilder();
+	}
+	
+	/**
+	 * @param count The number of classes to generate
+	 * @return The first count classes of the corpus, generated in parallel
+	 */
+	public List<JavaClass> generate(int count){
+		return stream(count).parallel().collect(Collectors.toList());
+	}
+	
+	/**
+	 * @param count The number of classes in the stream
+	 * @return A (sequential) stream of the first count classes of the corpus, generated as they're used
+	 */
+	public Stream<JavaClass> stream(int count){
+		return IntStream.range(0, count).mapToObj(this::classAt);
+	}
+	
+	/**
+	 * @param index The index of the class in the corpus
+	 * @return The class at the given index
+	 */
+	public JavaClass classAt(int index){
+		SplittableRandom random = new SplittableRandom(seed ^ (index * SEED_SPREAD));
+		JavaClass.JavaClassBuilder builder = JavaClass.builder()
+				.packageName("com.example.corpus.pkg" + (index % packageCount))
+				.singleImport("java.util.ArrayList")
+				.singleImport("java.util.HashMap")
+				.singleImport("java.util.List")
+				.singleImport("java.util.Map")
+				.className("Generated" + index);
+		if(annotated(random)){
+			builder.annotation(annotation(random));
+		}
+		if(index >= packageCount && random.nextInt(4) == 0){
+			// An earlier class in the same package
+			builder.superClassName("Generated" + (index - packageCount * (1 + random.nextInt(index / packageCount))));
+		}
+		
+		int fieldCount = fieldCounts.sample(random);
+		for(int i = 0; i < fieldCount; i++){
+			String[] type = FIELD_TYPES[random.nextInt(FIELD_TYPES.length)];
+			JavaField.JavaFieldBuilder field = JavaField.builder().type(type[0]).name("field" + i);
+			if(annotated(random)){
+				field.annotation(annotation(random));
+			}
+			if(random.nextBoolean()){
+				field.isFinal().value(type[1]);
+			}
+			builder.field(field.build());
+		}
+		
+		int methodCount = methodCounts.sample(random);
+		for(int i = 0; i < methodCount; i++){
+			builder.method(method(random, i));
+		}
+		return builder.build();
+	}
+	
+	/**
+	 * @param random The random number generator for the class
+	 * @return Whether to annotate the next class, field, or method
+	 */
+	private boolean annotated(SplittableRandom random){
+		return annotationDensity > 0 && random.nextDouble() < annotationDensity;
+	}
+	
+	/**
+	 * @param random The random number generator for the class
+	 * @return An annotation to put on a class, field, or method
+	 */
+	private static JavaAnnotation annotation(SplittableRandom random){
+		return JavaAnnotation.builder().name(ANNOTATIONS[random.nextInt(ANNOTATIONS.length)]).build();
+	}
+	
+	/**
+	 * @param random The random number generator for the class
+	 * @param index The index of the method in the class
+	 * @return A method to put in the class
+	 */
+	private JavaMethod method(SplittableRandom random, int index){
+		boolean returnsInt = random.nextBoolean();
+		JavaMethod.JavaMethodBuilder method = JavaMethod.builder()
+				.visibility(random.nextInt(3) == 0?Visibility.PRIVATE:Visibility.PUBLIC)
+				.returnType(returnsInt?"int":"void")
+				.name("method" + index);
+		if(annotated(random)){
+			method.annotation(annotation(random));
+		}
+		int parameterCount = random.nextInt(4);
+		for(int i = 0; i < parameterCount; i++){
+			method.parameter(random.nextBoolean()?"int":"String", "param" + i);
+		}
+		
+		int lineCount = lineCounts.sample(random);
+		int total = 0;
+		for(int i = 0; i < lineCount; i++){
+			int value = random.nextInt(1000);
+			switch(random.nextInt(5)){
+				case 0:
+					method.line("int value" + i + " = " + value + " * " + (i + 1) + ";");
+					break;
+				case 1:
+					method.line("String text" + i + " = \"text " + value + "\";");
+					break;
+				case 2:
+					method.line("if(" + value + " > " + i + "){");
+					method.line("\tSystem.out.println(\"line " + i + "\");");
+					method.line("}");
+					break;
+				case 3:
+					method.line("// Step " + i);
+					break;
+				default:
+					method.line("List<String> list" + i + " = new ArrayList<>(" + value + ");");
+					break;
+			}
+			total += value;
+		}
+		if(returnsInt){
+			method.line("return " + total + ";");
+		}
+		return method.build();
+	}
+}
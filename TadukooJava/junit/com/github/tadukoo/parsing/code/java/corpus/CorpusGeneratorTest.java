@@ -0,0 +1,139 @@
+package com.github.tadukoo.parsing.code.java.corpus;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.corpus.CorpusGenerator.Distribution;
+import com.github.tadukoo.parsing.code.java.parser.JavaClassParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CorpusGeneratorTest{
+	
+	/**
+	 * @param classes The classes to render
+	 * @return The rendered classes
+	 */
+	private static List<String> render(List<JavaClass> classes){
+		return classes.stream().map(JavaClass::toString).collect(Collectors.toList());
+	}
+	
+	@Test
+	public void testDeterministic(){
+		CorpusGenerator generator = CorpusGenerator.builder().seed(42).build();
+		List<String> parallel = render(generator.generate(200));
+		List<String> sequential = render(generator.stream(200).collect(Collectors.toList()));
+		assertEquals(sequential, parallel);
+		assertEquals(parallel.get(150), generator.classAt(150).toString());
+		assertNotEquals(parallel, render(CorpusGenerator.builder().seed(43).build().generate(200)));
+	}
+	
+	@Test
+	public void testNames(){
+		CorpusGenerator generator = CorpusGenerator.builder().packageCount(3).build();
+		JavaClass javaClass = generator.classAt(7);
+		assertEquals("Generated7", javaClass.getClassName());
+		assertEquals("com.example.corpus.pkg1", javaClass.getPackageName());
+	}
+	
+	@Test
+	public void testSuperClassesInSamePackage(){
+		CorpusGenerator generator = CorpusGenerator.builder().packageCount(5).build();
+		int extending = 0;
+		for(JavaClass javaClass: generator.generate(400)){
+			if(javaClass.getSuperClassName() != null){
+				extending++;
+				int index = Integer.parseInt(javaClass.getClassName().substring("Generated".length()));
+				int superIndex = Integer.parseInt(javaClass.getSuperClassName().substring("Generated".length()));
+				assertTrue(superIndex < index);
+				assertEquals(index % 5, superIndex % 5);
+			}
+		}
+		assertTrue(extending > 0);
+	}
+	
+	@Test
+	public void testCounts(){
+		CorpusGenerator generator = CorpusGenerator.builder()
+				.fieldCounts(Distribution.fixed(3))
+				.methodCounts(Distribution.uniform(2, 4))
+				.lineCounts(Distribution.fixed(0))
+				.build();
+		for(JavaClass javaClass: generator.generate(100)){
+			assertEquals(3, javaClass.getFields().size());
+			assertTrue(javaClass.getMethods().size() >= 2 && javaClass.getMethods().size() <= 4);
+			for(JavaMethod method: javaClass.getMethods()){
+				// Only the return
+				assertTrue(method.getLines().size() <= 1);
+			}
+		}
+	}
+	
+	@Test
+	public void testAnnotationDensity(){
+		CorpusGenerator none = CorpusGenerator.builder().annotationDensity(0).build();
+		CorpusGenerator all = CorpusGenerator.builder().annotationDensity(1).build();
+		for(JavaClass javaClass: none.generate(50)){
+			assertTrue(javaClass.getAnnotations().isEmpty());
+			for(JavaField field: javaClass.getFields()){
+				assertTrue(field.getAnnotations().isEmpty());
+			}
+		}
+		for(JavaClass javaClass: all.generate(50)){
+			assertEquals(1, javaClass.getAnnotations().size());
+			for(JavaMethod method: javaClass.getMethods()){
+				assertEquals(1, method.getAnnotations().size());
+			}
+		}
+	}
+	
+	@Test
+	public void testRoundTrip(){
+		for(JavaClass javaClass: CorpusGenerator.builder().annotationDensity(0.5).build().generate(50)){
+			String source = javaClass.toString();
+			JavaClass parsed = JavaClassParser.parse(source).getJavaClass();
+			assertEquals(source, parsed.toString());
+			assertEquals(javaClass.getFields(), parsed.getFields());
+			assertEquals(javaClass.getMethods(), parsed.getMethods());
+		}
+	}
+	
+	@Test
+	public void testGeometricDistribution(){
+		Distribution distribution = Distribution.geometric(1, 5, 30);
+		SplittableRandom random = new SplittableRandom(0);
+		long total = 0;
+		for(int i = 0; i < 10000; i++){
+			int value = distribution.sample(random);
+			assertTrue(value >= 1 && value <= 30);
+			total += value;
+		}
+		double mean = total / 10000.0;
+		assertTrue(mean > 4.5 && mean < 5.5, "Mean was " + mean);
+	}
+	
+	@Test
+	public void testDistributionErrors(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> Distribution.uniform(5, 4));
+		assertEquals("Distribution must have 0 <= min <= max!", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class, () -> Distribution.geometric(5, 2, 10));
+		assertEquals("Distribution must have mean >= min!", e.getMessage());
+	}
+	
+	@Test
+	public void testBuilderErrors(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> CorpusGenerator.builder().packageCount(0).fieldCounts(null).methodCounts(null).lineCounts(null)
+						.annotationDensity(1.5).build());
+		assertEquals("packageCount must be positive!\nMust specify fieldCounts!\nMust specify methodCounts!\n" +
+				"Must specify lineCounts!\nannotationDensity must be between 0 and 1!", e.getMessage());
+	}
+}
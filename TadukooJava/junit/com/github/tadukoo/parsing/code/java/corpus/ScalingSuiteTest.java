@@ -0,0 +1,196 @@
+package com.github.tadukoo.parsing.code.java.corpus;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.parser.JavaClassParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures how many classes a second can be rendered and parsed back at repository scale, from 1 thread up to the
+ * number of processors (doubling each time) and over corpora of 10k, 100k, and 1M classes made by the
+ * {@link CorpusGenerator}. It takes minutes, so it only runs when the {@code tadukoo.scaling} system property is
+ * {@code true} (e.g. with {@code mvn test -Pscaling}). These system properties tune it:
+ * <ul>
+ *     <li>{@code tadukoo.scaling.sizes} - comma-separated corpus sizes (default {@code 10000,100000,1000000})</li>
+ *     <li>{@code tadukoo.scaling.maxThreads} - the most threads to measure with (default the number of
+ *     processors)</li>
+ *     <li>{@code tadukoo.scaling.distinct} - the most distinct classes to generate, cycled through for larger
+ *     corpora so 1M classes don't have to fit in memory (default 10000)</li>
+ *     <li>{@code tadukoo.scaling.minEfficiency} - the lowest scaling efficiency allowed, as the speedup over 1
+ *     thread divided by the number of threads (default 0.5)</li>
+ *     <li>{@code tadukoo.scaling.baseline} - a properties file of earlier throughputs to compare against; it's
+ *     written with the measured throughputs if it doesn't exist yet</li>
+ *     <li>{@code tadukoo.scaling.tolerance} - how far (as a fraction) throughput can drop below the baseline
+ *     (default 0.2)</li>
+ * </ul>
+ */
+@EnabledIfSystemProperty(named = "tadukoo.scaling", matches = "true")
+public class ScalingSuiteTest{
+	/** Throughputs (classes per second) by corpus size, then by thread count, measured once for all tests */
+	private static Map<Integer, Map<Integer, Double>> results;
+	
+	/**
+	 * @return The corpus sizes to measure
+	 */
+	private static List<Integer> sizes(){
+		List<Integer> sizes = new ArrayList<>();
+		for(String size: System.getProperty("tadukoo.scaling.sizes", "10000,100000,1000000").split(",")){
+			sizes.add(Integer.parseInt(size.trim()));
+		}
+		return sizes;
+	}
+	
+	/**
+	 * @return The thread counts to measure: powers of 2 up to the most threads, then the most threads
+	 */
+	private static List<Integer> threadCounts(){
+		int maxThreads = Integer.getInteger("tadukoo.scaling.maxThreads", Runtime.getRuntime().availableProcessors());
+		List<Integer> threadCounts = new ArrayList<>();
+		for(int threads = 1; threads < maxThreads; threads *= 2){
+			threadCounts.add(threads);
+		}
+		threadCounts.add(maxThreads);
+		return threadCounts;
+	}
+	
+	/**
+	 * @return Throughputs (classes per second) by corpus size, then by thread count
+	 */
+	private static synchronized Map<Integer, Map<Integer, Double>> results(){
+		if(results == null){
+			List<Integer> sizes = sizes();
+			List<Integer> threadCounts = threadCounts();
+			int largest = sizes.stream().mapToInt(Integer::intValue).max().orElse(0);
+			List<JavaClass> corpus = CorpusGenerator.builder().build()
+					.generate(Math.min(largest, Integer.getInteger("tadukoo.scaling.distinct", 10000)));
+			
+			// Warm up before measuring anything
+			for(int i = 0; i < 3; i++){
+				measure(corpus, corpus.size(), threadCounts.get(threadCounts.size() - 1));
+			}
+			
+			results = new LinkedHashMap<>();
+			for(int size: sizes){
+				Map<Integer, Double> sizeResults = new LinkedHashMap<>();
+				for(int threads: threadCounts){
+					double throughput = measure(corpus, size, threads);
+					sizeResults.put(threads, throughput);
+					System.out.printf("%,d classes on %d threads: %,.0f classes/s%n", size, threads, throughput);
+				}
+				results.put(size, sizeResults);
+			}
+		}
+		return results;
+	}
+	
+	/**
+	 * Renders and parses back the given number of classes, cycling through the corpus
+	 *
+	 * @param corpus The classes to render and parse
+	 * @param size The number of classes to render and parse
+	 * @param threads The number of threads to use
+	 * @return The throughput, in classes per second
+	 */
+	private static double measure(List<JavaClass> corpus, int size, int threads){
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try{
+			long start = System.nanoTime();
+			long total = pool.submit(() -> IntStream.range(0, size).parallel()
+					.mapToLong(i -> roundTrip(corpus.get(i % corpus.size())))
+					.sum()).get();
+			long elapsed = System.nanoTime() - start;
+			assertTrue(total > 0);
+			return size * 1e9 / elapsed;
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while measuring", e);
+		}catch(ExecutionException e){
+			throw new IllegalStateException("Failed to measure", e.getCause());
+		}finally{
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * @param javaClass The class to render and parse
+	 * @return A number depending on the results, so the work can't be skipped
+	 */
+	private static long roundTrip(JavaClass javaClass){
+		String source = javaClass.toString();
+		return source.length() + JavaClassParser.parse(source).getMemberCount();
+	}
+	
+	@Test
+	public void testScalingEfficiency(){
+		double minEfficiency = Double.parseDouble(System.getProperty("tadukoo.scaling.minEfficiency", "0.5"));
+		List<String> failures = new ArrayList<>();
+		for(Map.Entry<Integer, Map<Integer, Double>> sizeResults: results().entrySet()){
+			double single = sizeResults.getValue().get(1);
+			for(Map.Entry<Integer, Double> result: sizeResults.getValue().entrySet()){
+				double efficiency = result.getValue() / (single * result.getKey());
+				if(efficiency < minEfficiency){
+					failures.add(String.format("%,d classes on %d threads: efficiency %.2f is below %.2f",
+							sizeResults.getKey(), result.getKey(), efficiency, minEfficiency));
+				}
+			}
+		}
+		assertTrue(failures.isEmpty(), String.join("\n", failures));
+	}
+	
+	@Test
+	public void testThroughputRegression() throws IOException{
+		String baselineFile = System.getProperty("tadukoo.scaling.baseline");
+		if(baselineFile == null){
+			return;
+		}
+		Path baselinePath = Paths.get(baselineFile);
+		Properties baseline = new Properties();
+		boolean recording = Files.notExists(baselinePath);
+		if(!recording){
+			try(InputStream stream = Files.newInputStream(baselinePath)){
+				baseline.load(stream);
+			}
+		}
+		
+		double tolerance = Double.parseDouble(System.getProperty("tadukoo.scaling.tolerance", "0.2"));
+		List<String> failures = new ArrayList<>();
+		for(Map.Entry<Integer, Map<Integer, Double>> sizeResults: results().entrySet()){
+			for(Map.Entry<Integer, Double> result: sizeResults.getValue().entrySet()){
+				String key = sizeResults.getKey() + "." + result.getKey();
+				if(recording){
+					baseline.setProperty(key, String.valueOf(result.getValue()));
+				}else if(baseline.containsKey(key)){
+					double expected = Double.parseDouble(baseline.getProperty(key));
+					if(result.getValue() < expected * (1 - tolerance)){
+						failures.add(String.format("%,d classes on %d threads: %,.0f classes/s is more than %.0f%% " +
+								"below the baseline of %,.0f", sizeResults.getKey(), result.getKey(), result.getValue(),
+								tolerance * 100, expected));
+					}
+				}
+			}
+		}
+		if(recording){
+			try(OutputStream stream = Files.newOutputStream(baselinePath)){
+				baseline.store(stream, "Classes per second by corpus size and thread count");
+			}
+		}
+		assertTrue(failures.isEmpty(), String.join("\n", failures));
+	}
+}
@@ -0,0 +1,130 @@
+package com.github.tadukoo.parsing.code.java.document;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaClassDocumentTest{
+	private final JavaField count = JavaField.builder().type("int").name("count").build();
+	private final JavaField names = JavaField.builder()
+			.annotation(JavaAnnotation.builder().name("Deprecated").build())
+			.type("String").name("name").value("\"test\"").build();
+	private final JavaMethod constructor = JavaMethod.builder().returnType("Test")
+			.line("count = 1;").line("").line("name = null;").build();
+	private final JavaMethod getter = JavaMethod.builder().returnType("int").name("getCount")
+			.line("return count;").build();
+	
+	private JavaClass.JavaClassBuilder builder(){
+		return JavaClass.builder()
+				.packageName("com.example")
+				.singleImport("java.util.List")
+				.className("Test");
+	}
+	
+	@Test
+	public void testMatchesJavaClass(){
+		JavaClass javaClass = builder().field(count).field(names).method(constructor).method(getter).build();
+		JavaClassDocument document = new JavaClassDocument(javaClass);
+		assertEquals(javaClass.toString(), document.toString());
+		assertEquals(javaClass.toString().length(), document.length());
+		assertEquals(4, document.getMemberCount());
+	}
+	
+	@Test
+	public void testSynthesizedMembersExpanded(){
+		JavaClass javaClass = builder().field(count).field(names).generateEquals().generateToString().build();
+		JavaClassDocument document = new JavaClassDocument(javaClass);
+		assertEquals(javaClass.toString(), document.toString());
+		assertEquals(4, document.getMemberCount());
+		assertEquals(javaClass.toString(), document.toJavaClass().toString());
+	}
+	
+	@Test
+	public void testAbstractClass(){
+		JavaMethod area = JavaMethod.builder().isAbstract().returnType("double").name("area").build();
+		JavaClass javaClass = builder().isAbstract().field(count).method(area)
+				.generateToString().build();
+		JavaClassDocument document = new JavaClassDocument(javaClass);
+		assertEquals(javaClass.toString(), document.toString());
+		assertTrue(document.toString().contains("public abstract class Test{"));
+		assertTrue(document.toJavaClass().isAbstract());
+		assertEquals(javaClass.toString(), document.toJavaClass().toString());
+	}
+	
+	@Test
+	public void testEmptyClass(){
+		JavaClass javaClass = builder().build();
+		assertEquals(javaClass.toString(), new JavaClassDocument(javaClass).toString());
+	}
+	
+	@Test
+	public void testEdits(){
+		JavaClassDocument document = new JavaClassDocument(builder().method(getter).build());
+		
+		// Method first, then put a constructor before it
+		document.insertMember(0, constructor);
+		assertEquals(builder().method(constructor).method(getter).build().toString(), document.toString());
+		
+		// Fields go before the methods
+		document.insertMember(0, names);
+		document.insertMember(0, count);
+		assertEquals(builder().field(count).field(names).method(constructor).method(getter).build().toString(),
+				document.toString());
+		
+		// Remove the last field, so the first method follows a field
+		assertSame(names, document.removeMember(1));
+		assertEquals(builder().field(count).method(constructor).method(getter).build().toString(),
+				document.toString());
+		
+		// Replace the first member
+		JavaField total = JavaField.builder().type("long").name("total").build();
+		assertSame(count, document.replaceMember(0, total));
+		assertEquals(builder().field(total).method(constructor).method(getter).build().toString(),
+				document.toString());
+		assertEquals(document.toJavaClass().toString(), document.toString());
+		
+		// Remove everything
+		document.removeMember(0);
+		document.removeMember(0);
+		document.removeMember(0);
+		assertEquals(builder().build().toString(), document.toString());
+	}
+	
+	@Test
+	public void testMemberOffsets(){
+		JavaClassDocument document = new JavaClassDocument(builder().field(count).method(getter).build());
+		String text = document.toString();
+		assertEquals(text.indexOf("\tprivate int count;"), document.getMemberOffset(0));
+		assertEquals("\t\n\tpublic int getCount(){\n\t\treturn count;\n\t}\n", document.getMemberText(1));
+		assertEquals(text.indexOf("\tprivate int count;") + document.getMemberText(0).length(),
+				document.getMemberOffset(1));
+	}
+	
+	@Test
+	public void testWriteToChannel() throws IOException{
+		JavaClassDocument document = new JavaClassDocument(builder().field(count).method(getter).build());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		document.writeTo(Channels.newChannel(out), StandardCharsets.UTF_8);
+		assertEquals(document.toString(), out.toString(StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	public void testInvalidMember(){
+		JavaClassDocument document = new JavaClassDocument(builder().build());
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> document.addMember("not a member"));
+		assertEquals("Member must be a JavaField or JavaMethod!", e.getMessage());
+	}
+}
@@ -0,0 +1,66 @@
+package com.github.tadukoo.parsing.code.java.document;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PieceTreapTest{
+	private final PieceTreap treap = new PieceTreap();
+	
+	@Test
+	public void testEmpty() throws IOException{
+		assertEquals(0, treap.size());
+		assertEquals(0, treap.length());
+		StringWriter writer = new StringWriter();
+		treap.writeTo(writer);
+		assertEquals("", writer.toString());
+		assertThrows(IndexOutOfBoundsException.class, () -> treap.getMember(0));
+		assertThrows(IndexOutOfBoundsException.class, () -> treap.insert(1, "a", "a"));
+	}
+	
+	@Test
+	public void testRandomOperations() throws IOException{
+		Random random = new Random(42);
+		List<String> expected = new ArrayList<>();
+		List<Object> members = new ArrayList<>();
+		for(int i = 0; i < 2000; i++){
+			int operation = random.nextInt(4);
+			if(expected.isEmpty() || operation < 2){
+				int index = random.nextInt(expected.size() + 1);
+				String text = "piece" + i + ";";
+				expected.add(index, text);
+				members.add(index, i);
+				treap.insert(index, i, text);
+			}else if(operation == 2){
+				int index = random.nextInt(expected.size());
+				expected.remove(index);
+				assertEquals(members.remove(index), treap.remove(index));
+			}else{
+				int index = random.nextInt(expected.size());
+				String text = expected.get(index) + "!";
+				expected.set(index, text);
+				treap.setText(index, text);
+			}
+		}
+		
+		assertEquals(expected.size(), treap.size());
+		StringBuilder joined = new StringBuilder();
+		for(int i = 0; i < expected.size(); i++){
+			assertEquals(joined.length(), treap.getOffset(i));
+			assertEquals(expected.get(i), treap.getText(i));
+			assertEquals(members.get(i), treap.getMember(i));
+			joined.append(expected.get(i));
+		}
+		assertEquals(joined.length(), treap.length());
+		StringWriter writer = new StringWriter();
+		treap.writeTo(writer);
+		assertEquals(joined.toString(), writer.toString());
+	}
+}
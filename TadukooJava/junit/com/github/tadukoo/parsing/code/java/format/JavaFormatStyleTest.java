@@ -0,0 +1,53 @@
+package com.github.tadukoo.parsing.code.java.format;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JavaFormatStyleTest{
+	
+	@Test
+	public void testDefaults(){
+		JavaFormatStyle style = JavaFormatStyle.builder().build();
+		assertEquals("\t", style.getIndent());
+		assertEquals(BracePlacement.END_OF_LINE, style.getBracePlacement());
+		assertEquals(BlankLinePolicy.INDENTED, style.getBlankLinePolicy());
+		assertEquals(0, style.getParameterWrapWidth());
+		assertEquals("\n", style.getLineSeparator());
+	}
+	
+	@Test
+	public void testSettings(){
+		JavaFormatStyle style = JavaFormatStyle.builder()
+				.indent("    ")
+				.bracePlacement(BracePlacement.NEXT_LINE)
+				.blankLinePolicy(BlankLinePolicy.EMPTY)
+				.parameterWrapWidth(100)
+				.lineSeparator("\r\n")
+				.build();
+		assertEquals("    ", style.getIndent());
+		assertEquals(BracePlacement.NEXT_LINE, style.getBracePlacement());
+		assertEquals(BlankLinePolicy.EMPTY, style.getBlankLinePolicy());
+		assertEquals(100, style.getParameterWrapWidth());
+		assertEquals("\r\n", style.getLineSeparator());
+	}
+	
+	@Test
+	public void testAllErrors(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> JavaFormatStyle.builder()
+						.indent("x")
+						.bracePlacement(null)
+						.blankLinePolicy(null)
+						.parameterWrapWidth(-1)
+						.lineSeparator(";")
+						.build());
+		assertEquals("""
+				indent must only contain tabs and spaces!
+				Must specify bracePlacement!
+				Must specify blankLinePolicy!
+				parameterWrapWidth must not be negative!
+				lineSeparator must be \\n, \\r\\n, or \\r!""", e.getMessage());
+	}
+}
@@ -0,0 +1,172 @@
+package com.github.tadukoo.parsing.code.java.format;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.Visibility;
+import com.github.tadukoo.parsing.code.java.metrics.AggregatingMetricsListener;
+import com.github.tadukoo.parsing.code.java.metrics.JavaMetrics;
+import com.github.tadukoo.parsing.code.java.metrics.JavaModelType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RenderPlanTest{
+	private final JavaField field = JavaField.builder()
+			.annotation(JavaAnnotation.builder().name("Deprecated").build())
+			.isFinal().type("int").name("count").value("5").build();
+	private final JavaMethod method = JavaMethod.builder()
+			.annotation(JavaAnnotation.builder().name("Override").build())
+			.returnType("String").name("describe")
+			.parameter("int", "first").parameter("String...", "rest")
+			.throwType("Exception").throwType("Error")
+			.line("if(first > 0){").line("\treturn rest[0];").line("}").line("").line("return null;")
+			.build();
+	private final JavaClass javaClass = JavaClass.builder()
+			.packageName("com.example")
+			.singleImport("java.util.List")
+			.staticImport("java.util.Objects.equals")
+			.annotation(JavaAnnotation.builder().name("Deprecated").build())
+			.visibility(Visibility.NONE)
+			.className("Test").superClassName("Object")
+			.field(field)
+			.field(JavaField.builder().visibility(Visibility.NONE).type("String").name("name").build())
+			.method(JavaMethod.builder().returnType("Test").build())
+			.method(method)
+			.build();
+	
+	@Test
+	public void testDefaultMatchesToString(){
+		assertEquals(javaClass.toString(), RenderPlan.DEFAULT.render(javaClass));
+		assertEquals(field.toString(), RenderPlan.DEFAULT.render(field));
+		assertEquals(method.toString(), RenderPlan.DEFAULT.render(method));
+		assertSame(RenderPlan.DEFAULT.getStyle().getIndent(), JavaFormatStyle.builder().build().getIndent());
+	}
+	
+	@Test
+	public void testDefaultMatchesToStringForEmptyClasses(){
+		JavaClass empty = JavaClass.builder().packageName("a").className("B").build();
+		assertEquals(empty.toString(), RenderPlan.DEFAULT.render(empty));
+		JavaClass methodsOnly = JavaClass.builder().packageName("a").className("B")
+				.method(JavaMethod.builder().returnType("B").build()).build();
+		assertEquals(methodsOnly.toString(), RenderPlan.DEFAULT.render(methodsOnly));
+	}
+	
+	@Test
+	public void testDefaultMatchesToStringForAbstractClasses(){
+		JavaClass shape = JavaClass.builder()
+				.packageName("some.pkg").className("Shape").isAbstract()
+				.method(JavaMethod.builder().isAbstract().visibility(Visibility.PROTECTED).returnType("double")
+						.name("area").throwType("IllegalStateException").build())
+				.method(JavaMethod.builder().returnType("double").name("twice").line("return 2 * area();").build())
+				.build();
+		assertEquals(shape.toString(), RenderPlan.DEFAULT.render(shape));
+		assertEquals(shape.getMethods().get(0).toString(), RenderPlan.DEFAULT.render(shape.getMethods().get(0)));
+	}
+	
+	@Test
+	public void testReportsMetrics(){
+		AggregatingMetricsListener listener = new AggregatingMetricsListener();
+		JavaMetrics.setListener(listener);
+		try{
+			StringBuilder out = new StringBuilder("// Header\n");
+			RenderPlan.DEFAULT.render(javaClass, out);
+			assertEquals(1, listener.getRenderCount(JavaModelType.CLASS));
+			assertEquals(out.length() - "// Header\n".length(),
+					listener.getRenderedCharacters(JavaModelType.CLASS).getSum());
+			assertEquals(2, listener.getMethodsPerClass().getSum());
+		}finally{
+			JavaMetrics.setListener(null);
+		}
+	}
+	
+	@Test
+	public void testOtherStyle(){
+		RenderPlan plan = RenderPlan.compile(JavaFormatStyle.builder()
+				.indent("    ")
+				.bracePlacement(BracePlacement.NEXT_LINE)
+				.blankLinePolicy(BlankLinePolicy.EMPTY)
+				.lineSeparator("\r\n")
+				.build());
+		String expected = """
+				package com.example;
+				
+				import java.util.List;
+				
+				import static java.util.Objects.equals;
+				
+				@Deprecated
+				 class Test extends Object
+				{
+				
+				    @Deprecated
+				    private final int count = 5;
+				     String name;
+				
+				    public Test()
+				    {
+				    }
+				
+				    @Override
+				    public String describe(int first, String... rest) throws Exception, Error
+				    {
+				        if(first > 0){
+				        \treturn rest[0];
+				        }
+				
+				        return null;
+				    }
+				}
+				""".replace("\n", "\r\n");
+		assertEquals(expected, plan.render(javaClass));
+	}
+	
+	@Test
+	public void testSpacedBraces(){
+		RenderPlan plan = RenderPlan.compile(JavaFormatStyle.builder()
+				.bracePlacement(BracePlacement.END_OF_LINE_SPACED).build());
+		assertEquals("""
+				public Test() {
+				}""", plan.render(JavaMethod.builder().returnType("Test").build()));
+	}
+	
+	@Test
+	public void testParameterWrapping(){
+		RenderPlan plan = RenderPlan.compile(JavaFormatStyle.builder().parameterWrapWidth(60).build());
+		String rendered = plan.render(method);
+		assertEquals("""
+				@Override
+				public String describe(
+						int first,
+						String... rest) throws Exception, Error{""", rendered.substring(0, rendered.indexOf("{\n") + 1));
+		JavaMethod shortMethod = JavaMethod.builder().returnType("void").name("run").parameter("int", "a").build();
+		assertEquals("""
+				public void run(int a){
+				}""", plan.render(shortMethod));
+	}
+	
+	@Test
+	public void testParameterWrappingInClass(){
+		// "\tpublic void run(int a, int b){" is 31 characters long
+		RenderPlan plan = RenderPlan.compile(JavaFormatStyle.builder().parameterWrapWidth(30).build());
+		JavaClass wrapped = JavaClass.builder().packageName("a").className("B")
+				.method(JavaMethod.builder().returnType("void").name("run")
+						.parameter("int", "a").parameter("int", "b").build())
+				.build();
+		assertEquals("""
+				package a;
+				
+				public class B{
+				\t
+					public void run(
+							int a,
+							int b){
+					}
+				}
+				""", plan.render(wrapped));
+		RenderPlan widerPlan = RenderPlan.compile(JavaFormatStyle.builder().parameterWrapWidth(31).build());
+		assertEquals(wrapped.toString(), widerPlan.render(wrapped));
+	}
+}
@@ -0,0 +1,129 @@
+package com.github.tadukoo.parsing.code.java.jfr;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.parser.JavaClassParser;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class JavaCodeEventsTest{
+	
+	/**
+	 * Renders a small class and builds an invalid one inside a recording, then grabs the recorded events
+	 *
+	 * @param recording The recording to use
+	 * @return The events that were recorded
+	 * @throws IOException If the recording can't be dumped or read
+	 */
+	private List<RecordedEvent> record(Recording recording) throws IOException{
+		recording.start();
+		String source = JavaClass.builder()
+				.packageName("some.pkg").className("AClassName")
+				.field(JavaField.builder().type("int").name("test").build())
+				.method(JavaMethod.builder().returnType("int").name("getTest").line("return test;").build())
+				.build().toString();
+		JavaClassParser.parse(source);
+		try{
+			JavaField.builder().build();
+			fail();
+		}catch(IllegalArgumentException ignored){ }
+		recording.stop();
+		
+		Path file = Files.createTempFile("tadukoo-java", ".jfr");
+		try{
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file);
+		}finally{
+			Files.deleteIfExists(file);
+		}
+	}
+	
+	/**
+	 * @param events The events to search through
+	 * @param name The name of the event type to find
+	 * @return The first event with the given name
+	 */
+	private RecordedEvent find(List<RecordedEvent> events, String name){
+		return events.stream()
+				.filter(event -> event.getEventType().getName().equals(name))
+				.findFirst()
+				.orElseThrow(() -> new AssertionError("No " + name + " event"));
+	}
+	
+	@Test
+	public void testConfiguration() throws IOException, ParseException{
+		Configuration configuration = JavaCodeEvents.getConfiguration();
+		assertEquals("Tadukoo Java", configuration.getLabel());
+		Map<String, String> settings = configuration.getSettings();
+		assertEquals("true", settings.get(ClassRenderEvent.NAME + "#enabled"));
+		assertEquals("true", settings.get(MethodRenderEvent.NAME + "#enabled"));
+		assertEquals("true", settings.get(ClassParseEvent.NAME + "#enabled"));
+		// Validation events are recorded for every model built, so the profile leaves them off
+		assertEquals("false", settings.get(BuilderValidationEvent.NAME + "#enabled"));
+		assertEquals("0 ms", settings.get(BuilderValidationEvent.NAME + "#threshold"));
+	}
+	
+	@Test
+	public void testEventsDisabledByDefault() throws IOException{
+		try(Recording recording = new Recording()){
+			List<RecordedEvent> events = record(recording);
+			assertTrue(events.stream().noneMatch(event -> event.getEventType().getName().startsWith(
+					"com.github.tadukoo")));
+		}
+	}
+	
+	@Test
+	public void testEnable() throws IOException{
+		try(Recording recording = new Recording()){
+			JavaCodeEvents.enable(recording, Duration.ZERO);
+			List<RecordedEvent> events = record(recording);
+			
+			RecordedEvent classRender = find(events, ClassRenderEvent.NAME);
+			assertEquals("some.pkg.AClassName", classRender.getString("className"));
+			assertEquals(1, classRender.getInt("fieldCount"));
+			assertEquals(1, classRender.getInt("methodCount"));
+			assertTrue(classRender.getInt("outputSize") > 0);
+			
+			RecordedEvent classParse = find(events, ClassParseEvent.NAME);
+			assertEquals("some.pkg.AClassName", classParse.getString("className"));
+			assertEquals(2, classParse.getInt("memberCount"));
+			assertEquals(2, classParse.getInt("parsedMemberCount"));
+			assertTrue(classParse.getInt("sourceSize") > 0);
+			
+			RecordedEvent methodRender = find(events, MethodRenderEvent.NAME);
+			assertEquals("getTest", methodRender.getString("methodName"));
+			assertEquals(1, methodRender.getInt("lineCount"));
+			
+			assertTrue(events.stream()
+					.filter(event -> event.getEventType().getName().equals(BuilderValidationEvent.NAME))
+					.anyMatch(event -> event.getInt("errorCount") == 2 &&
+							event.getString("modelType").equals("JavaField")));
+		}
+	}
+	
+	@Test
+	public void testSettingsProfile() throws IOException, ParseException{
+		try(Recording recording = new Recording(JavaCodeEvents.getConfiguration())){
+			// Only the slow render events are recorded with the profile, and no validation events
+			List<RecordedEvent> events = record(recording);
+			assertTrue(events.stream().noneMatch(event -> event.getEventType().getName().equals(
+					BuilderValidationEvent.NAME)));
+		}
+	}
+}
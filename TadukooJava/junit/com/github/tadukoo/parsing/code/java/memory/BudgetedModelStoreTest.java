@@ -0,0 +1,149 @@
+package com.github.tadukoo.parsing.code.java.memory;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BudgetedModelStoreTest{
+	private Path directory;
+	
+	/**
+	 * @param index A number to put in the class's name
+	 * @return A small class
+	 */
+	private static JavaClass smallClass(int index){
+		return JavaClass.builder().packageName("com.example").className("Test" + index)
+				.field(JavaField.builder().type("int").name("count").build())
+				.build();
+	}
+	
+	/**
+	 * @return The files in the spill directory
+	 * @throws IOException If listing the directory fails
+	 */
+	private List<Path> spillFiles() throws IOException{
+		try(Stream<Path> files = Files.list(directory)){
+			return files.collect(Collectors.toList());
+		}
+	}
+	
+	@AfterEach
+	public void deleteDirectory() throws IOException{
+		if(directory != null){
+			for(Path file: spillFiles()){
+				Files.delete(file);
+			}
+			Files.delete(directory);
+		}
+	}
+	
+	@Test
+	public void testDefaults(){
+		BudgetedModelStore store = BudgetedModelStore.builder().build();
+		assertEquals(Runtime.getRuntime().maxMemory() / 4, store.getMaxBytes());
+		assertEquals(OverflowPolicy.SPILL, store.getOverflowPolicy());
+	}
+	
+	@Test
+	public void testBuilderErrors(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> BudgetedModelStore.builder().maxBytes(0).overflowPolicy(null).build());
+		assertEquals("maxBytes must be positive!\nMust specify overflowPolicy!", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class,
+				() -> BudgetedModelStore.builder().spillDirectory(null).build());
+		assertEquals("Must specify spillDirectory to spill!", e.getMessage());
+	}
+	
+	@Test
+	public void testInMemory() throws IOException{
+		JavaClass javaClass = smallClass(0);
+		try(BudgetedModelStore store = BudgetedModelStore.builder().maxBytes(1_000_000).build()){
+			assertTrue(store.add(javaClass));
+			assertEquals(1, store.size());
+			assertFalse(store.isSpilled(0));
+			assertEquals(0, store.getSpilledCount());
+			assertTrue(store.getRetainedBytes() > javaClass.retainedSizeEstimate());
+			assertSame(javaClass, store.get(0));
+		}
+	}
+	
+	@Test
+	public void testRefuse() throws IOException{
+		long size = smallClass(0).retainedSizeEstimate();
+		try(BudgetedModelStore store = BudgetedModelStore.builder().maxBytes(size * 5 / 2)
+				.overflowPolicy(OverflowPolicy.REFUSE).build()){
+			assertTrue(store.add(smallClass(0)));
+			assertTrue(store.add(smallClass(1)));
+			assertFalse(store.add(smallClass(2)));
+			assertEquals(2, store.size());
+			assertTrue(store.getRetainedBytes() <= store.getMaxBytes());
+		}
+	}
+	
+	@Test
+	public void testSpill() throws IOException{
+		directory = Files.createTempDirectory("tadukoo-store");
+		long size = smallClass(0).retainedSizeEstimate();
+		List<JavaClass> classes = new ArrayList<>();
+		try(BudgetedModelStore store = BudgetedModelStore.builder().maxBytes(size * 3)
+				.spillDirectory(directory).build()){
+			for(int i = 0; i < 10; i++){
+				classes.add(smallClass(i));
+				assertTrue(store.add(classes.get(i)));
+			}
+			classes.add(ModelCodecTest.buildClass());
+			assertTrue(store.add(classes.get(10)));
+			
+			assertEquals(11, store.size());
+			assertEquals(9, store.getSpilledCount());
+			assertTrue(store.getSpilledBytes() > 0);
+			assertTrue(store.getRetainedBytes() <= store.getMaxBytes());
+			assertFalse(store.isSpilled(1));
+			assertTrue(store.isSpilled(2));
+			assertEquals(1, spillFiles().size());
+			
+			int index = 0;
+			for(JavaClass javaClass: store){
+				assertEquals(classes.get(index).toString(), javaClass.toString());
+				index++;
+			}
+			assertEquals(11, index);
+			assertEquals(classes.get(10).getMethods(), store.get(10).getMethods());
+		}
+		assertTrue(spillFiles().isEmpty());
+	}
+	
+	@Test
+	public void testSpillNeedsRoomForEntry() throws IOException{
+		try(BudgetedModelStore store = BudgetedModelStore.builder().maxBytes(8).build()){
+			assertFalse(store.add(smallClass(0)));
+			assertEquals(0, store.size());
+		}
+	}
+	
+	@Test
+	public void testClosed() throws IOException{
+		BudgetedModelStore store = BudgetedModelStore.builder().build();
+		store.add(smallClass(0));
+		store.close();
+		store.close();
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> store.add(smallClass(1)));
+		assertEquals("Budgeted Model Store is closed!", e.getMessage());
+		assertThrows(IllegalStateException.class, () -> store.get(0));
+	}
+}
@@ -0,0 +1,105 @@
+package com.github.tadukoo.parsing.code.java.memory;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.Visibility;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ModelCodecTest{
+	
+	/**
+	 * @return A class using everything the models can hold
+	 */
+	static JavaClass buildClass(){
+		return JavaClass.builder()
+				.packageName("com.example")
+				.singleImport("java.util.List")
+				.staticImport("java.util.Objects.requireNonNull")
+				.annotation(JavaAnnotation.builder().name("Deprecated").build())
+				.visibility(Visibility.NONE)
+				.className("Test")
+				.superClassName("Base<String>")
+				.field(JavaField.builder().visibility(Visibility.PROTECTED).isFinal().type("String").name("name")
+						.value("\"caf\u00e9 \u2603\"").generateGetter().build())
+				.field(JavaField.builder().type("int").name("count").generateGetter().generateSetter().build())
+				.method(JavaMethod.builder().annotation(JavaAnnotation.builder().name("Override").build())
+						.visibility(Visibility.PUBLIC).returnType("String").name("describe")
+						.parameter("int", "times").parameter("String...", "extras")
+						.throwType("IllegalStateException")
+						.line("return name.repeat(times);").build())
+				.method(JavaMethod.builder().returnType("Test").line("count = 0;").build())
+				.generateEquals().generateHashCode().generateToString()
+				.build();
+	}
+	
+	@Test
+	public void testRoundTrip(){
+		JavaClass javaClass = buildClass();
+		JavaClass decoded = ModelCodec.decode(ModelCodec.encode(javaClass));
+		assertEquals(javaClass.toString(), decoded.toString());
+		assertEquals("com.example", decoded.getPackageName());
+		assertEquals(javaClass.getImports(), decoded.getImports());
+		assertEquals(javaClass.getStaticImports(), decoded.getStaticImports());
+		assertEquals(javaClass.getAnnotations(), decoded.getAnnotations());
+		assertEquals(Visibility.NONE, decoded.getVisibility());
+		assertEquals("Base<String>", decoded.getSuperClassName());
+		assertEquals(javaClass.getFields(), decoded.getFields());
+		assertEquals(javaClass.getMethods(), decoded.getMethods());
+		assertFalse(decoded.generatesConstructor());
+		assertTrue(decoded.generatesEquals());
+		assertTrue(decoded.generatesHashCode());
+		assertTrue(decoded.generatesToString());
+		assertEquals(javaClass.retainedSizeEstimate(), decoded.retainedSizeEstimate());
+	}
+	
+	@Test
+	public void testRoundTripNulls(){
+		JavaClass javaClass = JavaClass.builder().packageName("com.example").className("Empty").build();
+		JavaClass decoded = ModelCodec.decode(ModelCodec.encode(javaClass));
+		assertNull(decoded.getSuperClassName());
+		assertTrue(decoded.getFields().isEmpty());
+		assertTrue(decoded.getMethods().isEmpty());
+		assertEquals(javaClass.toString(), decoded.toString());
+	}
+	
+	@Test
+	public void testRoundTripAbstract(){
+		JavaClass shape = JavaClass.builder()
+				.packageName("some.pkg").className("Shape").isAbstract()
+				.method(JavaMethod.builder().isAbstract().visibility(Visibility.PROTECTED).returnType("double")
+						.name("area").throwType("IllegalStateException").build())
+				.method(JavaMethod.builder().returnType("double").name("twice").line("return 2 * area();").build())
+				.build();
+		JavaClass decoded = ModelCodec.decode(ModelCodec.encode(shape));
+		assertTrue(decoded.isAbstract());
+		assertTrue(decoded.getMethods().get(0).isAbstract());
+		assertFalse(decoded.getMethods().get(1).isAbstract());
+		assertEquals(shape.toString(), decoded.toString());
+	}
+	
+	@Test
+	public void testUnknownVersion(){
+		byte[] bytes = ModelCodec.encode(buildClass());
+		bytes[0] = 99;
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> ModelCodec.decode(bytes));
+		assertEquals("Unknown model format version: 99", e.getMessage());
+	}
+	
+	@Test
+	public void testTruncated(){
+		byte[] bytes = ModelCodec.encode(buildClass());
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> ModelCodec.decode(Arrays.copyOf(bytes, bytes.length / 2)));
+		assertEquals("Truncated or corrupt model", e.getMessage());
+	}
+}
@@ -0,0 +1,75 @@
+package com.github.tadukoo.parsing.code.java.memory;
+
+import com.github.tadukoo.util.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RetainedSizeTest{
+	
+	@Test
+	public void testAlign(){
+		assertEquals(0, RetainedSize.align(0));
+		assertEquals(8, RetainedSize.align(1));
+		assertEquals(8, RetainedSize.align(8));
+		assertEquals(16, RetainedSize.align(9));
+	}
+	
+	@Test
+	public void testShallow(){
+		assertEquals(16, RetainedSize.shallow(0, 0));
+		assertEquals(16, RetainedSize.shallow(1, 0));
+		assertEquals(24, RetainedSize.shallow(2, 1));
+	}
+	
+	@Test
+	public void testStringNull(){
+		assertEquals(0, RetainedSize.of((String) null));
+	}
+	
+	@Test
+	public void testStringLatin1(){
+		// String object, then the array header and one byte per character
+		assertEquals(24 + 16, RetainedSize.of(""));
+		assertEquals(24 + 32, RetainedSize.of("Some text"));
+	}
+	
+	@Test
+	public void testStringUtf16(){
+		assertEquals(24 + 40, RetainedSize.of("Some text \u2603"));
+	}
+	
+	@Test
+	public void testStrings(){
+		List<String> strings = new ArrayList<>();
+		strings.add("a");
+		strings.add(null);
+		strings.add("b");
+		// ArrayList object, its array of 3 references, and the 2 strings
+		assertEquals(24 + 32 + 2 * 48, RetainedSize.ofStrings(strings));
+		assertEquals(0, RetainedSize.ofStrings(null));
+	}
+	
+	@Test
+	public void testStringArray(){
+		// The array of 3 references and the 2 strings
+		assertEquals(32 + 2 * 48, RetainedSize.ofStringArray(new String[]{"a", null, "b"}));
+		assertEquals(0, RetainedSize.ofStringArray(null));
+	}
+	
+	@Test
+	public void testPairs(){
+		List<Pair<String, String>> pairs = new ArrayList<>();
+		pairs.add(Pair.of("int", "count"));
+		assertEquals(24 + 24 + 24 + 2 * 48, RetainedSize.ofPairs(pairs));
+	}
+	
+	@Test
+	public void testListWithElementSize(){
+		List<Integer> list = List.of(1, 2, 3, 4);
+		assertEquals(24 + 32 + 10, RetainedSize.of(list, Integer::longValue));
+	}
+}
@@ -0,0 +1,118 @@
+package com.github.tadukoo.parsing.code.java.metrics;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.parser.JavaClassParser;
+import com.github.tadukoo.parsing.code.java.parser.ParsedJavaClass;
+import com.github.tadukoo.parsing.code.java.parser.TextEdit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AggregatingMetricsListenerTest{
+	private final AggregatingMetricsListener listener = new AggregatingMetricsListener();
+	
+	@AfterEach
+	public void removeListener(){
+		JavaMetrics.setListener(null);
+	}
+	
+	/**
+	 * @return A simple class with 2 fields and 1 method
+	 */
+	private JavaClass buildClass(){
+		return JavaClass.builder()
+				.packageName("some.pkg").className("AClassName")
+				.field(JavaField.builder().type("int").name("test").build())
+				.field(JavaField.builder().type("String").name("derp").build())
+				.method(JavaMethod.builder().returnType("int").name("getTest").line("return test;").build())
+				.build();
+	}
+	
+	@Test
+	public void testDisabledByDefault(){
+		assertFalse(JavaMetrics.isEnabled());
+		assertNull(JavaMetrics.getListener());
+	}
+	
+	@Test
+	public void testSetListener(){
+		JavaMetrics.setListener(listener);
+		assertTrue(JavaMetrics.isEnabled());
+		assertSame(listener, JavaMetrics.getListener());
+	}
+	
+	@Test
+	public void testNothingRecordedWhenDisabled(){
+		buildClass().toString();
+		assertEquals(0, listener.getBuildCount(JavaModelType.CLASS));
+		assertEquals(0, listener.getRenderCount(JavaModelType.CLASS));
+	}
+	
+	@Test
+	public void testBuildCounts(){
+		JavaMetrics.setListener(listener);
+		buildClass();
+		assertEquals(2, listener.getBuildCount(JavaModelType.FIELD));
+		assertEquals(1, listener.getBuildCount(JavaModelType.METHOD));
+		assertEquals(1, listener.getBuildCount(JavaModelType.CLASS));
+	}
+	
+	@Test
+	public void testRenderCounts(){
+		JavaClass clazz = buildClass();
+		int methodLength = clazz.getMethods().get(0).toString().length();
+		JavaMetrics.setListener(listener);
+		String rendered = clazz.toString();
+		assertEquals(2, listener.getRenderCount(JavaModelType.FIELD));
+		assertEquals(1, listener.getRenderCount(JavaModelType.METHOD));
+		assertEquals(1, listener.getRenderCount(JavaModelType.CLASS));
+		assertEquals(rendered.length(), listener.getRenderedCharacters(JavaModelType.CLASS).getSum());
+		assertEquals(methodLength, listener.getRenderedCharacters(JavaModelType.METHOD).getSum());
+	}
+	
+	@Test
+	public void testMembersPerClass(){
+		JavaClass clazz = buildClass();
+		JavaMetrics.setListener(listener);
+		clazz.toString();
+		assertEquals(2, listener.getFieldsPerClass().getSum());
+		assertEquals(1, listener.getMethodsPerClass().getSum());
+		assertEquals(3, listener.getMembersPerClass().getMax());
+	}
+	
+	@Test
+	public void testParseCounts(){
+		String source = buildClass().toString();
+		JavaMetrics.setListener(listener);
+		ParsedJavaClass parsed = JavaClassParser.parse(source);
+		int offset = source.indexOf("return test;");
+		JavaClassParser.reparse(parsed, List.of(new TextEdit(offset, "return test;".length(), "return test + 1;")));
+		assertEquals(2, listener.getParseDurations().getCount());
+		// All 3 members are parsed the first time, but only the edited method is parsed again
+		assertEquals(3, listener.getMembersPerParse().getMax());
+		assertEquals(3 + 1, listener.getMembersPerParse().getSum());
+		// Parsing builds the models too
+		assertEquals(2, listener.getBuildCount(JavaModelType.CLASS));
+		assertEquals(2, listener.getBuildCount(JavaModelType.METHOD));
+	}
+	
+	@Test
+	public void testReset(){
+		JavaMetrics.setListener(listener);
+		JavaClassParser.parse(buildClass().toString());
+		listener.reset();
+		assertEquals(0, listener.getBuildCount(JavaModelType.FIELD));
+		assertEquals(0, listener.getRenderCount(JavaModelType.CLASS));
+		assertEquals(0, listener.getMembersPerClass().getCount());
+		assertEquals(0, listener.getParseDurations().getCount());
+	}
+}
@@ -0,0 +1,87 @@
+package com.github.tadukoo.parsing.code.java.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConcurrentHistogramTest{
+	private final ConcurrentHistogram histogram = new ConcurrentHistogram();
+	
+	@Test
+	public void testEmpty(){
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getSum());
+		assertEquals(0, histogram.getMax());
+		assertEquals(0.0, histogram.getMean(), 0.0);
+		assertEquals(0, histogram.getPercentileUpperBound(50));
+	}
+	
+	@Test
+	public void testBucketIndex(){
+		assertEquals(0, ConcurrentHistogram.bucketIndex(0));
+		assertEquals(1, ConcurrentHistogram.bucketIndex(1));
+		assertEquals(2, ConcurrentHistogram.bucketIndex(2));
+		assertEquals(2, ConcurrentHistogram.bucketIndex(3));
+		assertEquals(3, ConcurrentHistogram.bucketIndex(4));
+		assertEquals(63, ConcurrentHistogram.bucketIndex(Long.MAX_VALUE));
+	}
+	
+	@Test
+	public void testRecord(){
+		histogram.record(1);
+		histogram.record(3);
+		histogram.record(8);
+		assertEquals(3, histogram.getCount());
+		assertEquals(12, histogram.getSum());
+		assertEquals(8, histogram.getMax());
+		assertEquals(4.0, histogram.getMean(), 0.0);
+		long[] buckets = histogram.getBucketCounts();
+		assertEquals(1, buckets[1]);
+		assertEquals(1, buckets[2]);
+		assertEquals(1, buckets[4]);
+	}
+	
+	@Test
+	public void testRecordNegative(){
+		histogram.record(-5);
+		assertEquals(1, histogram.getBucketCounts()[0]);
+		assertEquals(0, histogram.getSum());
+	}
+	
+	@Test
+	public void testPercentileUpperBound(){
+		for(int i = 0; i < 99; i++){
+			histogram.record(10);
+		}
+		histogram.record(1000);
+		assertEquals(15, histogram.getPercentileUpperBound(50));
+		assertEquals(15, histogram.getPercentileUpperBound(99));
+		assertEquals(1000, histogram.getPercentileUpperBound(100));
+	}
+	
+	@Test
+	public void testReset(){
+		histogram.record(42);
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMax());
+	}
+	
+	@Test
+	public void testConcurrentRecord() throws InterruptedException{
+		Thread[] threads = new Thread[4];
+		for(int t = 0; t < threads.length; t++){
+			threads[t] = new Thread(() -> {
+				for(int i = 0; i < 10000; i++){
+					histogram.record(i);
+				}
+			});
+			threads[t].start();
+		}
+		for(Thread thread: threads){
+			thread.join();
+		}
+		assertEquals(40000, histogram.getCount());
+		assertEquals(9999, histogram.getMax());
+	}
+}
@@ -0,0 +1,325 @@
+package com.github.tadukoo.parsing.code.java.parser;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.Visibility;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaClassParserTest{
+	
+	private JavaClass buildClass(){
+		return JavaClass.builder()
+				.packageName("com.example")
+				.singleImport("java.util.List")
+				.singleImport("java.io.*")
+				.staticImport("java.util.Objects.requireNonNull")
+				.annotation(JavaAnnotation.builder().name("Deprecated").build())
+				.className("Test")
+				.superClassName("Base<String>")
+				.field(JavaField.builder().type("int").name("count").value("5").build())
+				.field(JavaField.builder().visibility(Visibility.PROTECTED).isFinal().type("List<String>")
+						.name("names").build())
+				.method(JavaMethod.builder().returnType("Test").parameter("int", "count")
+						.line("this.count = count;").build())
+				.method(JavaMethod.builder().annotation(JavaAnnotation.builder().name("Override").build())
+						.returnType("String").name("toString").line("if(count > 0){")
+						.line("\treturn \"}\";").line("}").line("").line("return \"{\";").build())
+				.method(JavaMethod.builder().visibility(Visibility.PRIVATE).returnType("void").name("run")
+						.parameter("String...", "args").throwType("IOException").throwType("Exception").build())
+				.build();
+	}
+	
+	@Test
+	public void testRoundTrip(){
+		JavaClass javaClass = buildClass();
+		String source = javaClass.toString();
+		ParsedJavaClass parsed = JavaClassParser.parse(source);
+		JavaClass result = parsed.getJavaClass();
+		assertEquals(source, result.toString());
+		assertEquals("com.example", result.getPackageName());
+		assertEquals("Base<String>", result.getSuperClassName());
+		assertEquals(javaClass.getFields(), result.getFields());
+		assertEquals(javaClass.getMethods(), result.getMethods());
+		assertEquals(5, parsed.getMemberCount());
+	}
+	
+	@Test
+	public void testMemberPositions(){
+		String source = buildClass().toString();
+		ParsedJavaClass parsed = JavaClassParser.parse(source);
+		assertEquals("private int count = 5;",
+				source.substring(parsed.getMemberStart(0), parsed.getMemberEnd(0)));
+		assertTrue(source.substring(parsed.getMemberStart(3), parsed.getMemberEnd(3)).startsWith("@Override"));
+		assertEquals('}', source.charAt(parsed.getBodyEnd()));
+		assertEquals('{', source.charAt(parsed.getBodyStart() - 1));
+	}
+	
+	@Test
+	public void testHandWritten(){
+		String source = """
+				// A header comment
+				package com.example ;
+				
+				import java.util.Map;
+				
+				/** Docs */
+				@SuppressWarnings("unchecked")
+				class Handwritten extends Object {
+				    private Map<String, int[]> values = new java.util.HashMap<>(); // trailing
+				    String text = "a;b{";
+				
+				    /* the getter */
+				    public Map<String, int[]> getValues() { return values; }
+				
+				    void set(String key, int[] value) {
+				        values.put(key, value);
+				        char c = '}';
+				    }
+				}
+				""";
+		JavaClass javaClass = JavaClassParser.parse(source).getJavaClass();
+		assertEquals("Handwritten", javaClass.getClassName());
+		assertEquals(Visibility.NONE, javaClass.getVisibility());
+		assertEquals("SuppressWarnings(\"unchecked\")", javaClass.getAnnotations().get(0).getName());
+		JavaField values = javaClass.getFields().get(0);
+		assertEquals(Visibility.PRIVATE, values.getVisibility());
+		assertEquals("Map<String, int[]>", values.getType());
+		assertEquals("new java.util.HashMap<>()", values.getValue());
+		assertEquals("\"a;b{\"", javaClass.getFields().get(1).getValue());
+		JavaMethod getter = javaClass.getMethods().get(0);
+		assertEquals(Collections.singletonList("return values;"), getter.getLines());
+		JavaMethod setter = javaClass.getMethods().get(1);
+		assertEquals("set", setter.getName());
+		assertEquals(List.of("values.put(key, value);", "char c = '}';"), setter.getLines());
+		assertEquals("int[]", setter.getParameters().get(1).getLeft());
+	}
+	
+	@Test
+	public void testErrors(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> JavaClassParser.parse("package a;\npublic class Test{\n\tstatic int x;\n}\n"));
+		assertEquals("Unsupported modifier 'static' at line 3, column 2", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class,
+				() -> JavaClassParser.parse("package a;\npublic class Test{\n\tint x\n}\n"));
+		assertEquals("Expected ';' at line 4, column 1", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class,
+				() -> JavaClassParser.parse("public class Test{}"));
+		assertEquals("Expected package declaration at line 1, column 1", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class,
+				() -> JavaClassParser.parse("package a;\nclass Test{\n\tvoid x(){\n"));
+		assertEquals("Expected '}' at line 4, column 1", e.getMessage());
+	}
+	
+	@Test
+	public void testAbstract(){
+		String source = """
+				package com.example;
+				
+				abstract public class Shape{
+				    protected abstract double area() throws IllegalStateException;
+				
+				    abstract String name();
+				
+				    public double twice(){
+				        return 2 * area();
+				    }
+				}
+				""";
+		JavaClass javaClass = JavaClassParser.parse(source).getJavaClass();
+		assertTrue(javaClass.isAbstract());
+		assertEquals(Visibility.PUBLIC, javaClass.getVisibility());
+		JavaMethod area = javaClass.getMethods().get(0);
+		assertTrue(area.isAbstract());
+		assertEquals(Visibility.PROTECTED, area.getVisibility());
+		assertEquals(List.of("IllegalStateException"), area.getThrowTypes());
+		assertTrue(javaClass.getMethods().get(1).isAbstract());
+		assertFalse(javaClass.getMethods().get(2).isAbstract());
+		assertEquals(javaClass.toString(), JavaClassParser.parse(javaClass.toString()).getJavaClass().toString());
+		
+		// Reparsing keeps the class abstract
+		int offset = source.indexOf("2 * area()");
+		ParsedJavaClass reparsed = JavaClassParser.reparse(JavaClassParser.parse(source),
+				List.of(new TextEdit(offset, 1, "3")));
+		assertTrue(reparsed.getJavaClass().isAbstract());
+	}
+	
+	@Test
+	public void testAbstractErrors(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> JavaClassParser.parse("package a;\npublic class Test{\n\tpublic abstract int x();\n}\n"));
+		assertEquals("Only abstract classes can have abstract methods at line 3, column 9", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class,
+				() -> JavaClassParser.parse("package a;\nabstract class Test{\n\tprivate abstract int x();\n}\n"));
+		assertEquals("Abstract methods can't be private at line 3, column 10", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class,
+				() -> JavaClassParser.parse("package a;\nabstract class Test{\n\tabstract Test();\n}\n"));
+		assertEquals("Constructors can't be abstract at line 3, column 2", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class,
+				() -> JavaClassParser.parse("package a;\nabstract class Test{\n\tabstract int x;\n}\n"));
+		assertEquals("Fields can't be abstract at line 3, column 2", e.getMessage());
+		e = assertThrows(IllegalArgumentException.class,
+				() -> JavaClassParser.parse("package a;\nabstract class Test{\n\tabstract int x(){}\n}\n"));
+		assertEquals("Expected ';' at line 3, column 18", e.getMessage());
+	}
+	
+	@Test
+	public void testReparseMethodBodyReusesOtherMembers(){
+		String source = buildClass().toString();
+		ParsedJavaClass parsed = JavaClassParser.parse(source);
+		int offset = source.indexOf("this.count = count;");
+		ParsedJavaClass reparsed = JavaClassParser.reparse(parsed,
+				List.of(new TextEdit(offset, "this.count = count;".length(), "this.count = count * 2;")));
+		
+		assertEquals(source.replace("this.count = count;", "this.count = count * 2;"), reparsed.getSource());
+		assertEquals(reparsed.getSource(), reparsed.getJavaClass().toString());
+		assertNotSame(parsed.getJavaClass(), reparsed.getJavaClass());
+		assertSame(parsed.getMember(0), reparsed.getMember(0));
+		assertSame(parsed.getMember(1), reparsed.getMember(1));
+		assertNotSame(parsed.getMember(2), reparsed.getMember(2));
+		assertSame(parsed.getMember(3), reparsed.getMember(3));
+		assertSame(parsed.getMember(4), reparsed.getMember(4));
+		assertEquals(List.of("this.count = count * 2;"), ((JavaMethod) reparsed.getMember(2)).getLines());
+		assertEquals(parsed.getMemberStart(4) + 4, reparsed.getMemberStart(4));
+		String toString = reparsed.getSource().substring(reparsed.getMemberStart(3), reparsed.getMemberEnd(3));
+		assertTrue(toString.startsWith("@Override"));
+		assertTrue(toString.endsWith("return \"{\";\n\t}"));
+	}
+	
+	@Test
+	public void testReparseInsertMember(){
+		String source = buildClass().toString();
+		ParsedJavaClass parsed = JavaClassParser.parse(source);
+		int offset = parsed.getMemberEnd(1);
+		ParsedJavaClass reparsed = JavaClassParser.reparse(parsed,
+				List.of(new TextEdit(offset, 0, "\n\tprivate long total;")));
+		assertEquals(6, reparsed.getMemberCount());
+		assertSame(parsed.getMember(0), reparsed.getMember(0));
+		assertEquals(parsed.getMember(1), reparsed.getMember(1));
+		assertEquals("total", ((JavaField) reparsed.getMember(2)).getName());
+		assertSame(parsed.getMember(2), reparsed.getMember(3));
+		assertEquals(3, reparsed.getJavaClass().getFields().size());
+		assertEquals(JavaClassParser.parse(reparsed.getSource()).getJavaClass().toString(),
+				reparsed.getJavaClass().toString());
+	}
+	
+	@Test
+	public void testReparseWhitespaceKeepsInstances(){
+		String source = buildClass().toString();
+		ParsedJavaClass parsed = JavaClassParser.parse(source);
+		ParsedJavaClass reparsed = JavaClassParser.reparse(parsed,
+				List.of(new TextEdit(parsed.getMemberEnd(0), 0, "\n")));
+		for(int i = 0; i < parsed.getMemberCount(); i++){
+			assertSame(parsed.getMember(i), reparsed.getMember(i));
+		}
+	}
+	
+	@Test
+	public void testReparseHeaderParsesAgain(){
+		String source = buildClass().toString();
+		ParsedJavaClass parsed = JavaClassParser.parse(source);
+		ParsedJavaClass reparsed = JavaClassParser.reparse(parsed,
+				List.of(new TextEdit(source.indexOf("Test"), 4, "Other")));
+		assertEquals("Other", reparsed.getJavaClass().getClassName());
+		assertNotSame(parsed.getMember(0), reparsed.getMember(0));
+		assertEquals(parsed.getMember(0), reparsed.getMember(0));
+	}
+	
+	@Test
+	public void testReparseCommentReachingOutsideRegion(){
+		String source = buildClass().toString();
+		ParsedJavaClass parsed = JavaClassParser.parse(source);
+		// Comment out the first two fields with one edit at each end
+		ParsedJavaClass reparsed = JavaClassParser.reparse(parsed, List.of(
+				new TextEdit(parsed.getMemberStart(0), 0, "/*"),
+				new TextEdit(parsed.getMemberEnd(1), 0, "*/")));
+		assertEquals(3, reparsed.getMemberCount());
+		assertFalse(reparsed.getJavaClass().getFields().iterator().hasNext());
+	}
+	
+	@Test
+	public void testReparseLineCommentRunningIntoNextMember(){
+		String source = buildClass().toString();
+		ParsedJavaClass parsed = JavaClassParser.parse(source);
+		// Add a trailing comment to the first field, then join the next line onto it
+		int newline = source.indexOf('\n', parsed.getMemberEnd(0));
+		ParsedJavaClass reparsed = JavaClassParser.reparse(parsed, List.of(
+				new TextEdit(parsed.getMemberEnd(0), 0, " // count"),
+				new TextEdit(newline, 1, " ")));
+		assertEquals(4, reparsed.getMemberCount());
+		assertEquals(1, reparsed.getJavaClass().getFields().size());
+		assertSame(parsed.getMember(2), reparsed.getMember(1));
+	}
+	
+	@Test
+	public void testReparseMatchesFullParse(){
+		String source = buildClass().toString();
+		ParsedJavaClass parsed = JavaClassParser.parse(source);
+		String[] replacements = {"", " ", "\n", "x", "//", "/*", "*/", "\"", "'", "\"\"\"", "{", "}", ";", "(",
+				"int y;", "// x\n"};
+		Random random = new Random(33);
+		for(int i = 0; i < 3000; i++){
+			// One or two edits, mostly in the class body
+			List<TextEdit> edits = new ArrayList<>();
+			int offset = parsed.getBodyStart() - 2 + random.nextInt(parsed.getBodyEnd() - parsed.getBodyStart() + 4);
+			for(int edit = 0; edit < 1 + random.nextInt(2) && offset < source.length(); edit++){
+				int length = Math.min(random.nextInt(4), source.length() - offset);
+				edits.add(new TextEdit(offset, length, replacements[random.nextInt(replacements.length)]));
+				offset += length + 1 + random.nextInt(40);
+			}
+			StringBuilder edited = new StringBuilder(source);
+			StringBuilder message = new StringBuilder();
+			for(int edit = edits.size() - 1; edit >= 0; edit--){
+				TextEdit textEdit = edits.get(edit);
+				edited.replace(textEdit.getOffset(), textEdit.getEnd(), textEdit.getReplacement());
+				message.append(textEdit.getOffset()).append(',').append(textEdit.getEnd()).append(' ')
+						.append(textEdit.getReplacement()).append('\n');
+			}
+			assertEquals(describe(() -> JavaClassParser.parse(edited.toString())),
+					describe(() -> JavaClassParser.reparse(parsed, edits)), message.toString());
+		}
+	}
+	
+	/**
+	 * @param parse The parse to run
+	 * @return The parsed class and where its members are, or the error if it can't be parsed
+	 */
+	private static String describe(Supplier<ParsedJavaClass> parse){
+		ParsedJavaClass parsed;
+		try{
+			parsed = parse.get();
+		}catch(IllegalArgumentException e){
+			return "Error: " + e.getMessage();
+		}
+		StringBuilder description = new StringBuilder(parsed.getJavaClass().toString());
+		for(int i = 0; i < parsed.getMemberCount(); i++){
+			description.append('\n').append(parsed.getMember(i)).append(" at ").append(parsed.getMemberStart(i))
+					.append('-').append(parsed.getMemberEnd(i));
+		}
+		return description.toString();
+	}
+	
+	@Test
+	public void testReparseInvalidEdits(){
+		ParsedJavaClass parsed = JavaClassParser.parse(buildClass().toString());
+		assertSame(parsed, JavaClassParser.reparse(parsed, Collections.emptyList()));
+		assertThrows(IllegalArgumentException.class, () -> JavaClassParser.reparse(parsed,
+				List.of(new TextEdit(10, 5, ""), new TextEdit(12, 0, "x"))));
+		assertThrows(IllegalArgumentException.class, () -> JavaClassParser.reparse(parsed,
+				List.of(new TextEdit(parsed.getSource().length(), 1, ""))));
+	}
+}
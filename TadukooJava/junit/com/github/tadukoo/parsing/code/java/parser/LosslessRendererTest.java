@@ -0,0 +1,164 @@
+package com.github.tadukoo.parsing.code.java.parser;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LosslessRendererTest{
+	private final String source = """
+			package com.example;
+			
+			import java.util.List;
+			
+			/**
+			 * Hand-written docs
+			 */
+			public class Test extends Object {
+			    // The count
+			    private int count = 0;
+			    private List<String> names;   // spaced out
+			
+			    /** Gets the count */
+			    public int getCount() {
+			        return count;
+			    }
+			
+			    public void reset() { count = 0; }
+			}
+			""";
+	private final ParsedJavaClass parsed = JavaClassParser.parse(source);
+	
+	private JavaClass.JavaClassBuilder copy(List<JavaField> fields, List<JavaMethod> methods){
+		JavaClass javaClass = parsed.getJavaClass();
+		return JavaClass.builder()
+				.packageName(javaClass.getPackageName())
+				.imports(javaClass.getImports())
+				.staticImports(javaClass.getStaticImports())
+				.annotations(javaClass.getAnnotations())
+				.visibility(javaClass.getVisibility())
+				.className(javaClass.getClassName())
+				.superClassName(javaClass.getSuperClassName())
+				.fields(fields)
+				.methods(methods);
+	}
+	
+	@Test
+	public void testTrivia(){
+		assertEquals("\n    // The count\n    ", parsed.getLeadingTrivia(0));
+		assertEquals("private List<String> names;", parsed.getMemberText(1));
+		assertEquals("   // spaced out\n\n    /** Gets the count */\n    ", parsed.getLeadingTrivia(2));
+	}
+	
+	@Test
+	public void testUnchanged(){
+		JavaClass javaClass = parsed.getJavaClass();
+		ParsedJavaClass rendered = LosslessRenderer.render(parsed,
+				copy(javaClass.getFields(), javaClass.getMethods()).build());
+		assertEquals(source, rendered.getSource());
+		for(int i = 0; i < parsed.getMemberCount(); i++){
+			assertSame(parsed.getMember(i), rendered.getMember(i));
+			assertEquals(parsed.getMemberStart(i), rendered.getMemberStart(i));
+		}
+	}
+	
+	@Test
+	public void testReplaceMethod(){
+		JavaClass javaClass = parsed.getJavaClass();
+		List<JavaMethod> methods = new ArrayList<>(javaClass.getMethods());
+		methods.set(1, JavaMethod.builder().returnType("void").name("reset").line("count = 0;")
+				.line("names = null;").build());
+		ParsedJavaClass rendered = LosslessRenderer.render(parsed, copy(javaClass.getFields(), methods).build());
+		assertEquals(source.replace("public void reset() { count = 0; }", """
+				public void reset(){
+				    	count = 0;
+				    	names = null;
+				    }"""), rendered.getSource());
+		assertEquals(rendered.getSource(), JavaClassParser.parse(rendered.getSource()).getSource());
+		assertEquals(methods.get(1), JavaClassParser.parse(rendered.getSource()).getJavaClass().getMethods().get(1));
+		assertEquals(rendered.getMemberText(3), rendered.getSource().substring(
+				rendered.getSource().indexOf("public void reset"), rendered.getSource().lastIndexOf("}") - 1));
+	}
+	
+	@Test
+	public void testRemoveAndAddMembers(){
+		JavaClass javaClass = parsed.getJavaClass();
+		List<JavaField> fields = List.of(javaClass.getFields().get(1),
+				JavaField.builder().type("boolean").name("dirty").build());
+		List<JavaMethod> methods = new ArrayList<>(javaClass.getMethods());
+		methods.add(JavaMethod.builder().returnType("void").name("touch").line("dirty = true;").build());
+		ParsedJavaClass rendered = LosslessRenderer.render(parsed, copy(fields, methods).build());
+		assertEquals("""
+				package com.example;
+				
+				import java.util.List;
+				
+				/**
+				 * Hand-written docs
+				 */
+				public class Test extends Object {
+				    private List<String> names;   // spaced out
+				    private boolean dirty;
+				
+				    /** Gets the count */
+				    public int getCount() {
+				        return count;
+				    }
+				
+				    public void reset() { count = 0; }
+				   \s
+				    public void touch(){
+				    	dirty = true;
+				    }
+				}
+				""", rendered.getSource());
+		assertEquals(5, rendered.getMemberCount());
+		assertEquals("private boolean dirty;", rendered.getMemberText(1));
+		assertSame(methods.get(2), rendered.getMember(4));
+		assertEquals(rendered.getSource().length() - 1, rendered.getPositions().getEnd(0));
+	}
+	
+	@Test
+	public void testChangedDeclaration(){
+		JavaClass javaClass = parsed.getJavaClass();
+		ParsedJavaClass rendered = LosslessRenderer.render(parsed,
+				copy(javaClass.getFields(), javaClass.getMethods()).className("Renamed").superClassName(null)
+						.build());
+		String body = source.substring(parsed.getBodyStart());
+		assertEquals("""
+				package com.example;
+				
+				import java.util.List;
+				
+				public class Renamed{""" + body, rendered.getSource());
+		assertEquals(rendered.getSource().indexOf("public class"), rendered.getPositions().getStart(0));
+		assertEquals(parsed.getMemberText(2), rendered.getMemberText(2));
+	}
+	
+	@Test
+	public void testMadeAbstract(){
+		JavaClass javaClass = parsed.getJavaClass();
+		List<JavaMethod> methods = new ArrayList<>(javaClass.getMethods());
+		methods.add(JavaMethod.builder().isAbstract().returnType("void").name("clear").build());
+		ParsedJavaClass rendered = LosslessRenderer.render(parsed,
+				copy(javaClass.getFields(), methods).isAbstract().build());
+		assertTrue(rendered.getSource().contains("public abstract class Test extends Object{"));
+		assertTrue(rendered.getSource().contains("public abstract void clear();"));
+		JavaClass reparsed = JavaClassParser.parse(rendered.getSource()).getJavaClass();
+		assertTrue(reparsed.isAbstract());
+		assertTrue(reparsed.getMethods().get(2).isAbstract());
+		
+		// Making it concrete again changes the declaration back
+		ParsedJavaClass concrete = LosslessRenderer.render(rendered,
+				copy(javaClass.getFields(), javaClass.getMethods()).build());
+		assertFalse(JavaClassParser.parse(concrete.getSource()).getJavaClass().isAbstract());
+	}
+}
@@ -0,0 +1,134 @@
+package com.github.tadukoo.parsing.code.java.parser;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SourceArchiveLoaderTest{
+	
+	/**
+	 * @param packageName The package of the class
+	 * @param className The name of the class
+	 * @return The source of a small class
+	 */
+	private static String source(String packageName, String className){
+		return "package " + packageName + ";\n\npublic class " + className + "{\n\t\n\tprivate int value;\n\t\n" +
+				"\tpublic int getValue(){\n\t\treturn value;\n\t}\n}\n";
+	}
+	
+	/**
+	 * @param archive The path to write the archive to
+	 * @param charset The {@link Charset} to encode the sources in
+	 * @param sources The sources to write, keyed by entry name
+	 * @throws IOException If writing fails
+	 */
+	private static void writeArchive(Path archive, Charset charset, Map<String, String> sources) throws IOException{
+		try(OutputStream stream = Files.newOutputStream(archive); ZipOutputStream zip = new ZipOutputStream(stream)){
+			zip.putNextEntry(new ZipEntry("com/"));
+			zip.closeEntry();
+			for(Map.Entry<String, String> source: sources.entrySet()){
+				zip.putNextEntry(new ZipEntry(source.getKey()));
+				zip.write(source.getValue().getBytes(charset));
+				zip.closeEntry();
+			}
+		}
+	}
+	
+	@Test
+	public void testLoad() throws IOException{
+		Path archive = Files.createTempFile("tadukoo-java", "-sources.jar");
+		try{
+			writeArchive(archive, StandardCharsets.UTF_8, Map.of(
+					"com/example/First.java", source("com.example", "First"),
+					"com/example/Second.java", "\uFEFF" + source("com.example", "Second"),
+					"com/example/Broken.java", "package com.example;\n\npublic interface Broken{\n}\n",
+					"com/example/package-info.java", "package com.example;\n",
+					"com/example/readme.txt", "Not a source file"));
+			
+			SourceArchiveResult result = SourceArchiveLoader.builder().build().load(archive);
+			assertEquals(archive, result.getArchive());
+			assertEquals(3, result.getEntryCount());
+			List<String> classNames = result.getJavaClasses().stream()
+					.map(JavaClass::getClassName).sorted().collect(Collectors.toList());
+			assertEquals(List.of("First", "Second"), classNames);
+			JavaClass first = result.getClasses().get("com/example/First.java").getJavaClass();
+			assertEquals(source("com.example", "First"), first.toString());
+			assertEquals(List.of("com/example/Broken.java"), List.copyOf(result.getErrors().keySet()));
+			assertTrue(result.getErrors().get("com/example/Broken.java").startsWith("Expected"));
+		}finally{
+			Files.deleteIfExists(archive);
+		}
+	}
+	
+	@Test
+	public void testEntryFilter() throws IOException{
+		Path archive = Files.createTempFile("tadukoo-java", "-sources.jar");
+		try{
+			writeArchive(archive, StandardCharsets.UTF_8, Map.of(
+					"com/example/First.java", source("com.example", "First"),
+					"com/example/internal/Hidden.java", "not even Java",
+					"org/other/Other.java", source("org.other", "Other")));
+			
+			SourceArchiveResult result = SourceArchiveLoader.builder()
+					.entryFilter(SourceArchiveLoader.packagePrefix("com/example/")
+							.and(name -> !name.contains("/internal/")))
+					.build().load(archive);
+			assertEquals(List.of("com/example/First.java"), List.copyOf(result.getClasses().keySet()));
+			assertTrue(result.getErrors().isEmpty());
+		}finally{
+			Files.deleteIfExists(archive);
+		}
+	}
+	
+	@Test
+	public void testCharsetAndPool() throws IOException{
+		Path archive = Files.createTempFile("tadukoo-java", ".zip");
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try{
+			String source = "package com.example;\n\npublic class Caf\u00e9{\n}\n";
+			writeArchive(archive, StandardCharsets.ISO_8859_1, Map.of("com/example/Caf\u00e9.java", source));
+			
+			SourceArchiveLoader loader = SourceArchiveLoader.builder()
+					.charset(StandardCharsets.ISO_8859_1)
+					.pool(pool)
+					.build();
+			assertSame(pool, loader.getPool());
+			assertEquals(StandardCharsets.ISO_8859_1, loader.getCharset());
+			SourceArchiveResult result = loader.load(archive);
+			assertEquals("Caf\u00e9", result.getJavaClasses().get(0).getClassName());
+		}finally{
+			pool.shutdown();
+			Files.deleteIfExists(archive);
+		}
+	}
+	
+	@Test
+	public void testMissingArchive(){
+		assertThrows(IOException.class, () -> SourceArchiveLoader.builder().build()
+				.load(Path.of("does-not-exist.jar")));
+	}
+	
+	@Test
+	public void testBuilderErrors(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> SourceArchiveLoader.builder().entryFilter(null).charset(null).pool(null).build());
+		assertEquals("Must specify entryFilter!\nMust specify charset!\nMust specify pool!", e.getMessage());
+	}
+}
@@ -0,0 +1,104 @@
+package com.github.tadukoo.parsing.code.java.parser;
+
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class SourcePositionTableTest{
+	private final String source = """
+			package com.example;
+			
+			@Deprecated
+			public class Test{
+			
+				private int count;
+			
+				public void run(){
+					count++;
+				}
+			}
+			""";
+	private final ParsedJavaClass parsed = JavaClassParser.parse(source);
+	private final SourcePositionTable positions = parsed.getPositions();
+	
+	@Test
+	public void testNodeCount(){
+		assertEquals(3, positions.getNodeCount());
+	}
+	
+	@Test
+	public void testClassNode(){
+		assertEquals(3, positions.getStartLine(SourcePositionTable.CLASS_NODE));
+		assertEquals(1, positions.getStartColumn(SourcePositionTable.CLASS_NODE));
+		assertEquals(11, positions.getEndLine(SourcePositionTable.CLASS_NODE));
+		assertEquals(1, positions.getEndColumn(SourcePositionTable.CLASS_NODE));
+		assertEquals(source.indexOf("@Deprecated"), positions.getStart(SourcePositionTable.CLASS_NODE));
+		assertEquals(source.length() - 1, positions.getEnd(SourcePositionTable.CLASS_NODE));
+	}
+	
+	@Test
+	public void testMemberNodes(){
+		assertEquals(6, positions.getStartLine(1));
+		assertEquals(2, positions.getStartColumn(1));
+		assertEquals(6, positions.getEndLine(1));
+		assertEquals(19, positions.getEndColumn(1));
+		assertEquals(8, positions.getStartLine(2));
+		assertEquals(10, positions.getEndLine(2));
+		assertEquals(2, positions.getEndColumn(2));
+	}
+	
+	@Test
+	public void testLines(){
+		assertEquals(12, positions.getLineCount());
+		assertEquals(0, positions.getLineStart(1));
+		assertEquals(21, positions.getLineStart(2));
+		assertEquals(1, positions.getLine(0));
+		assertEquals(1, positions.getLine(20));
+		assertEquals(2, positions.getLine(21));
+		assertEquals(1, positions.getColumn(21));
+		assertEquals(12, positions.getLine(source.length()));
+	}
+	
+	@Test
+	public void testFindNode(){
+		assertEquals(-1, positions.findNode(0));
+		assertEquals(SourcePositionTable.CLASS_NODE, positions.findNode(source.indexOf("class")));
+		assertEquals(1, positions.findNode(source.indexOf("count;")));
+		assertEquals(SourcePositionTable.CLASS_NODE, positions.findNode(source.indexOf("count;") + 6));
+		assertEquals(2, positions.findNode(source.indexOf("count++")));
+		assertEquals(-1, positions.findNode(source.length() - 1));
+	}
+	
+	@Test
+	public void testModelLookup(){
+		JavaField field = parsed.getJavaClass().getFields().get(0);
+		JavaMethod method = parsed.getJavaClass().getMethods().get(0);
+		assertEquals(SourcePositionTable.CLASS_NODE, parsed.getNodeId(parsed.getJavaClass()));
+		assertEquals(1, parsed.getNodeId(field));
+		assertEquals(2, parsed.getNodeId(method));
+		assertEquals(-1, parsed.getNodeId(JavaField.builder().type("int").name("count").build()));
+		assertSame(method, parsed.getNodeAt(source.indexOf("count++")));
+		assertSame(parsed.getJavaClass(), parsed.getNodeAt(source.indexOf("class")));
+		assertNull(parsed.getNodeAt(0));
+	}
+	
+	@Test
+	public void testPositionsAfterReparse(){
+		int offset = source.indexOf("count++;") + 8;
+		ParsedJavaClass reparsed = JavaClassParser.reparse(parsed,
+				List.of(new TextEdit(offset, 0, "\n\t\tcount--;")));
+		SourcePositionTable newPositions = reparsed.getPositions();
+		assertEquals(11, newPositions.getEndLine(2));
+		assertEquals(12, newPositions.getEndLine(SourcePositionTable.CLASS_NODE));
+		assertEquals(positions.getEnd(SourcePositionTable.CLASS_NODE) + 11,
+				newPositions.getEnd(SourcePositionTable.CLASS_NODE));
+		assertSame(parsed.getMember(0), reparsed.getMember(0));
+		assertEquals(6, newPositions.getStartLine(1));
+	}
+}
@@ -0,0 +1,153 @@
+package com.github.tadukoo.parsing.code.java.pipeline;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ClassDependencyGraphTest{
+	
+	/**
+	 * @param qualifiedName The fully qualified name of the class
+	 * @return A simple class with the given name
+	 */
+	private static JavaClass createClass(String qualifiedName){
+		int dot = qualifiedName.lastIndexOf('.');
+		return JavaClass.builder()
+				.packageName(qualifiedName.substring(0, dot)).className(qualifiedName.substring(dot + 1))
+				.build();
+	}
+	
+	@Test
+	public void testNoClasses(){
+		try{
+			ClassDependencyGraph.builder().build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Must specify at least one class or factory!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testDuplicateClass(){
+		try{
+			ClassDependencyGraph.builder()
+					.javaClass(createClass("some.pkg.A"))
+					.factory("some.pkg.A", Collections.emptyList(), deps -> createClass("some.pkg.A"))
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Duplicate class some.pkg.A!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testUnknownDependency(){
+		try{
+			ClassDependencyGraph.builder()
+					.factory("some.pkg.A", Collections.singletonList("some.pkg.B"), deps -> createClass("some.pkg.A"))
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("some.pkg.A depends on unknown class some.pkg.B!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testCycle(){
+		try{
+			ClassDependencyGraph.builder()
+					.factory("some.pkg.A", Collections.singletonList("some.pkg.B"), deps -> createClass("some.pkg.A"))
+					.factory("some.pkg.B", Collections.singletonList("some.pkg.C"), deps -> createClass("some.pkg.B"))
+					.factory("some.pkg.C", Collections.singletonList("some.pkg.A"), deps -> createClass("some.pkg.C"))
+					.build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Dependency cycle: some.pkg.A -> some.pkg.B -> some.pkg.C -> some.pkg.A", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testModelDependencies(){
+		ClassDependencyGraph graph = ClassDependencyGraph.builder()
+				.javaClass(createClass("some.pkg.Base"))
+				.javaClass(createClass("other.pkg.Imported"))
+				.javaClass(createClass("other.pkg.Constants"))
+				.javaClass(JavaClass.builder()
+						.packageName("some.pkg").className("Child")
+						.superClassName("Base<String>")
+						.singleImport("other.pkg.Imported").singleImport("java.util.List")
+						.staticImport("other.pkg.Constants.VALUE")
+						.build())
+				.build();
+		
+		assertEquals(Arrays.asList("some.pkg.Base", "other.pkg.Imported", "other.pkg.Constants"),
+				graph.getDependencies("some.pkg.Child"));
+		assertEquals(Collections.singletonList("some.pkg.Child"), graph.getDependents("some.pkg.Base"));
+		assertEquals(Collections.emptyList(), graph.getDependencies("some.pkg.Base"));
+	}
+	
+	@Test
+	public void testLevels(){
+		ClassDependencyGraph graph = ClassDependencyGraph.builder()
+				.factory("some.pkg.D", Arrays.asList("some.pkg.B", "some.pkg.C"), deps -> createClass("some.pkg.D"))
+				.factory("some.pkg.C", Collections.singletonList("some.pkg.A"), deps -> createClass("some.pkg.C"))
+				.javaClass(createClass("some.pkg.A"))
+				.javaClass(createClass("some.pkg.B"))
+				.build();
+		
+		assertEquals(4, graph.size());
+		assertEquals(Arrays.asList(
+				Arrays.asList("some.pkg.A", "some.pkg.B"),
+				Collections.singletonList("some.pkg.C"),
+				Collections.singletonList("some.pkg.D")), graph.getLevels());
+	}
+	
+	@Test
+	public void testNotInGraph(){
+		ClassDependencyGraph graph = ClassDependencyGraph.builder().javaClass(createClass("some.pkg.A")).build();
+		try{
+			graph.getDependencies("some.pkg.B");
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("some.pkg.B isn't in the graph!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testGenerate(){
+		JavaClass a = createClass("some.pkg.A");
+		Map<String, JavaClass> given = new HashMap<>();
+		ClassDependencyGraph graph = ClassDependencyGraph.builder()
+				.javaClass(a)
+				.factory("some.pkg.B", Collections.singletonList("some.pkg.A"), deps -> {
+					given.putAll(deps);
+					return createClass("some.pkg.B");
+				})
+				.build();
+		
+		assertSame(a, graph.generate("some.pkg.A", Collections.emptyMap()));
+		assertEquals("B", graph.generate("some.pkg.B", Collections.singletonMap("some.pkg.A", a)).getClassName());
+		assertSame(a, given.get("some.pkg.A"));
+	}
+	
+	@Test
+	public void testFactoryMadeWrongClass(){
+		ClassDependencyGraph graph = ClassDependencyGraph.builder()
+				.factory("some.pkg.A", Collections.emptyList(), deps -> createClass("some.pkg.Z"))
+				.build();
+		try{
+			graph.generate("some.pkg.A", Collections.emptyMap());
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Factory for some.pkg.A made some.pkg.Z!", e.getMessage());
+		}
+	}
+}
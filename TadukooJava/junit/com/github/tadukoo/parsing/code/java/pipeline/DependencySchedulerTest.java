@@ -0,0 +1,148 @@
+package com.github.tadukoo.parsing.code.java.pipeline;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class DependencySchedulerTest{
+	
+	/**
+	 * @param qualifiedName The fully qualified name of the class
+	 * @return A simple class with the given name
+	 */
+	private static JavaClass createClass(String qualifiedName){
+		int dot = qualifiedName.lastIndexOf('.');
+		return JavaClass.builder()
+				.packageName(qualifiedName.substring(0, dot)).className(qualifiedName.substring(dot + 1))
+				.build();
+	}
+	
+	@Test
+	public void testDefaults(){
+		DependencyScheduler scheduler = DependencyScheduler.builder().build();
+		assertSame(ForkJoinPool.commonPool(), scheduler.getExecutor());
+		assertNull(scheduler.getOutputDirectory());
+	}
+	
+	@Test
+	public void testNoExecutor(){
+		try{
+			DependencyScheduler.builder().executor(null).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("Must specify executor!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testFactoriesGetDependencies(){
+		ClassDependencyGraph graph = ClassDependencyGraph.builder()
+				.javaClass(createClass("some.pkg.Base"))
+				.factory("some.pkg.Child", Collections.singletonList("some.pkg.Base"), deps -> JavaClass.builder()
+						.packageName("some.pkg").className("Child")
+						.superClassName(deps.get("some.pkg.Base").getClassName())
+						.build())
+				.build();
+		
+		List<RenderedJavaClass> rendered = DependencyScheduler.builder().build().run(graph);
+		assertEquals(Arrays.asList("some.pkg.Base", "some.pkg.Child"),
+				rendered.stream().map(RenderedJavaClass::getQualifiedName).collect(Collectors.toList()));
+		assertEquals("Base", rendered.get(1).getJavaClass().getSuperClassName());
+		assertEquals(rendered.get(1).getJavaClass().toString(), rendered.get(1).getSource());
+	}
+	
+	@Test
+	public void testIndependentClassesDontWait() throws InterruptedException{
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch otherDone = new CountDownLatch(1);
+		ClassDependencyGraph graph = ClassDependencyGraph.builder()
+				.factory("some.pkg.Slow", Collections.emptyList(), deps -> {
+					try{
+						release.await(10, TimeUnit.SECONDS);
+					}catch(InterruptedException e){
+						Thread.currentThread().interrupt();
+					}
+					return createClass("some.pkg.Slow");
+				})
+				.factory("some.pkg.SlowChild", Collections.singletonList("some.pkg.Slow"),
+						deps -> createClass("some.pkg.SlowChild"))
+				.javaClass(createClass("some.pkg.Fast"))
+				.factory("some.pkg.FastChild", Collections.singletonList("some.pkg.Fast"), deps -> {
+					otherDone.countDown();
+					return createClass("some.pkg.FastChild");
+				})
+				.build();
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			CompletableFuture<List<RenderedJavaClass>> future = DependencyScheduler.builder()
+					.executor(executor)
+					.build().schedule(graph);
+			// The fast branch gets two levels in while the slow one is still on its first
+			assertTrue(otherDone.await(10, TimeUnit.SECONDS));
+			assertFalse(future.isDone());
+			release.countDown();
+			assertEquals(4, future.join().size());
+		}finally{
+			release.countDown();
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void testFailurePropagates(){
+		ClassDependencyGraph graph = ClassDependencyGraph.builder()
+				.factory("some.pkg.A", Collections.emptyList(), deps -> createClass("some.pkg.Wrong"))
+				.factory("some.pkg.B", Collections.singletonList("some.pkg.A"), deps -> {
+					fail("Shouldn't generate B");
+					return null;
+				})
+				.build();
+		try{
+			DependencyScheduler.builder().build().run(graph);
+			fail();
+		}catch(IllegalStateException e){
+			assertEquals("Factory for some.pkg.A made some.pkg.Wrong!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testWritesFiles() throws IOException{
+		Path directory = Files.createTempDirectory("scheduler");
+		ClassDependencyGraph graph = ClassDependencyGraph.builder()
+				.javaClass(createClass("some.pkg.A"))
+				.javaClass(createClass("other.pkg.B"))
+				.build();
+		
+		List<RenderedJavaClass> rendered = DependencyScheduler.builder()
+				.outputDirectory(directory)
+				.build().run(graph);
+		for(RenderedJavaClass renderedClass: rendered){
+			Path file = directory.resolve(renderedClass.getRelativePath());
+			assertEquals(renderedClass.getSource(), new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+		}
+		assertTrue(Files.exists(directory.resolve("some/pkg/A.java")));
+		assertTrue(Files.exists(directory.resolve("other/pkg/B.java")));
+	}
+}
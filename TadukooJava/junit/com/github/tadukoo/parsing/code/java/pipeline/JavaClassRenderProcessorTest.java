@@ -0,0 +1,233 @@
+package com.github.tadukoo.parsing.code.java.pipeline;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class JavaClassRenderProcessorTest{
+	
+	/**
+	 * A subscriber that collects everything it's given, requesting a fixed amount up front
+	 */
+	private static class CollectingSubscriber implements Flow.Subscriber<RenderedJavaClass>{
+		private final long initialRequest;
+		private final List<RenderedJavaClass> items = Collections.synchronizedList(new ArrayList<>());
+		private final CountDownLatch done = new CountDownLatch(1);
+		private final AtomicReference<Throwable> error = new AtomicReference<>();
+		private Flow.Subscription subscription;
+		
+		private CollectingSubscriber(long initialRequest){
+			this.initialRequest = initialRequest;
+		}
+		
+		@Override
+		public void onSubscribe(Flow.Subscription subscription){
+			this.subscription = subscription;
+			subscription.request(initialRequest);
+		}
+		
+		@Override
+		public void onNext(RenderedJavaClass item){
+			items.add(item);
+		}
+		
+		@Override
+		public void onError(Throwable throwable){
+			error.set(throwable);
+			done.countDown();
+		}
+		
+		@Override
+		public void onComplete(){
+			done.countDown();
+		}
+		
+		private void await() throws InterruptedException{
+			assertTrue(done.await(10, TimeUnit.SECONDS), "Stream never ended");
+		}
+	}
+	
+	/**
+	 * A publisher of a fixed number of classes that keeps track of how many have been requested
+	 */
+	private static class CountingPublisher implements Flow.Publisher<JavaClass>{
+		private final int count;
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicLong sent = new AtomicLong();
+		
+		private CountingPublisher(int count){
+			this.count = count;
+		}
+		
+		@Override
+		public void subscribe(Flow.Subscriber<? super JavaClass> subscriber){
+			subscriber.onSubscribe(new Flow.Subscription(){
+				@Override
+				public void request(long n){
+					requested.addAndGet(n);
+					while(sent.get() < Math.min(count, requested.get())){
+						subscriber.onNext(createClass((int) sent.getAndIncrement()));
+					}
+					if(sent.get() == count){
+						subscriber.onComplete();
+					}
+				}
+				
+				@Override
+				public void cancel(){ }
+			});
+		}
+	}
+	
+	/**
+	 * @param number The number to use in the class name
+	 * @return A simple class to render
+	 */
+	private static JavaClass createClass(int number){
+		return JavaClass.builder()
+				.packageName("some.pkg").className("Class" + number)
+				.method(JavaMethod.builder().returnType("int").name("get").line("return " + number + ";").build())
+				.build();
+	}
+	
+	@Test
+	public void testDefaultMaxInFlight(){
+		assertEquals(2 * Runtime.getRuntime().availableProcessors(),
+				JavaClassRenderProcessor.builder().build().getMaxInFlight());
+	}
+	
+	@Test
+	public void testBadMaxInFlight(){
+		try{
+			JavaClassRenderProcessor.builder().maxInFlight(0).build();
+			fail();
+		}catch(IllegalArgumentException e){
+			assertEquals("maxInFlight must be positive!", e.getMessage());
+		}
+	}
+	
+	@Test
+	public void testRendersEverything() throws InterruptedException{
+		JavaClassRenderProcessor processor = JavaClassRenderProcessor.builder().maxInFlight(4).build();
+		CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+		processor.subscribe(subscriber);
+		try(SubmissionPublisher<JavaClass> publisher = new SubmissionPublisher<>()){
+			publisher.subscribe(processor);
+			for(int i = 0; i < 100; i++){
+				publisher.submit(createClass(i));
+			}
+		}
+		subscriber.await();
+		
+		assertNull(subscriber.error.get());
+		assertEquals(100, subscriber.items.size());
+		Set<String> names = ConcurrentHashMap.newKeySet();
+		for(RenderedJavaClass item: subscriber.items){
+			assertEquals(item.getJavaClass().toString(), item.getSource());
+			names.add(item.getQualifiedName());
+		}
+		assertEquals(100, names.size());
+	}
+	
+	@Test
+	public void testOnlyRequestsWhatDownstreamWants() throws InterruptedException{
+		JavaClassRenderProcessor processor = JavaClassRenderProcessor.builder()
+				.executor(Runnable::run).maxInFlight(10).build();
+		CountingPublisher publisher = new CountingPublisher(50);
+		CollectingSubscriber subscriber = new CollectingSubscriber(3);
+		processor.subscribe(subscriber);
+		publisher.subscribe(processor);
+		
+		assertEquals(3, publisher.requested.get());
+		assertEquals(3, subscriber.items.size());
+		
+		subscriber.subscription.request(47);
+		subscriber.await();
+		assertEquals(50, subscriber.items.size());
+		assertNull(subscriber.error.get());
+	}
+	
+	@Test
+	public void testMaxInFlight(){
+		List<Runnable> queuedRenders = new ArrayList<>();
+		Executor queueingExecutor = queuedRenders::add;
+		JavaClassRenderProcessor processor = JavaClassRenderProcessor.builder()
+				.executor(queueingExecutor).maxInFlight(5).build();
+		CountingPublisher publisher = new CountingPublisher(50);
+		CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+		processor.subscribe(subscriber);
+		publisher.subscribe(processor);
+		
+		// Nothing has finished rendering, so only 5 may be in flight
+		assertEquals(5, publisher.requested.get());
+		assertEquals(5, queuedRenders.size());
+		
+		// Finishing renders lets more in
+		queuedRenders.remove(0).run();
+		queuedRenders.remove(0).run();
+		assertEquals(7, publisher.requested.get());
+		assertEquals(2, subscriber.items.size());
+	}
+	
+	@Test
+	public void testUpstreamError() throws InterruptedException{
+		JavaClassRenderProcessor processor = JavaClassRenderProcessor.builder().executor(Runnable::run).build();
+		CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+		processor.subscribe(subscriber);
+		processor.onSubscribe(new Flow.Subscription(){
+			@Override
+			public void request(long n){ }
+			
+			@Override
+			public void cancel(){ }
+		});
+		IllegalStateException error = new IllegalStateException("Derp");
+		processor.onError(error);
+		subscriber.await();
+		assertEquals(error, subscriber.error.get());
+	}
+	
+	@Test
+	public void testBadRequest() throws InterruptedException{
+		JavaClassRenderProcessor processor = JavaClassRenderProcessor.builder().executor(Runnable::run).build();
+		CollectingSubscriber subscriber = new CollectingSubscriber(0);
+		processor.subscribe(subscriber);
+		subscriber.await();
+		assertTrue(subscriber.error.get() instanceof IllegalArgumentException);
+	}
+	
+	@Test
+	public void testSecondSubscriberRejected() throws InterruptedException{
+		JavaClassRenderProcessor processor = JavaClassRenderProcessor.builder().executor(Runnable::run).build();
+		processor.subscribe(new CollectingSubscriber(1));
+		CollectingSubscriber second = new CollectingSubscriber(1);
+		processor.subscribe(second);
+		second.await();
+		assertTrue(second.error.get() instanceof IllegalStateException);
+	}
+	
+	@Test
+	public void testRelativePath(){
+		RenderedJavaClass rendered = RenderedJavaClass.render(createClass(1));
+		assertEquals("some/pkg/Class1.java", rendered.getRelativePath());
+		assertEquals("some.pkg.Class1", rendered.getQualifiedName());
+	}
+}
@@ -0,0 +1,199 @@
+package com.github.tadukoo.parsing.code.java.reflect;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.Visibility;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReflectionExtractorTest{
+	
+	@Deprecated
+	public static class Sample extends AbstractList<Map.Entry<String, Integer>>{
+		private static final int CONSTANT = 1;
+		protected final List<? extends Number> numbers = new ArrayList<>();
+		Map<String, int[]>[] maps;
+		
+		public Sample(String name, int... values) throws IOException{ }
+		
+		private Sample(){ }
+		
+		@Deprecated
+		public <T> T convert(T value, Supplier<? super T> supplier){
+			return value;
+		}
+		
+		@Override
+		public Map.Entry<String, Integer> get(int index){
+			return null;
+		}
+		
+		@Override
+		public int size(){
+			return CONSTANT;
+		}
+		
+		public static void helper(){ }
+	}
+	
+	class Inner{
+		Inner(String name){ }
+	}
+	
+	private List<String> parameterTypes(JavaMethod method){
+		return method.getParameters().stream().map(parameter -> parameter.getLeft()).collect(Collectors.toList());
+	}
+	
+	@Test
+	public void testClassDeclaration(){
+		JavaClass javaClass = ReflectionExtractor.extract(Sample.class);
+		assertEquals("com.github.tadukoo.parsing.code.java.reflect", javaClass.getPackageName());
+		assertEquals("Sample", javaClass.getClassName());
+		assertEquals(Visibility.PUBLIC, javaClass.getVisibility());
+		assertEquals("AbstractList<Map.Entry<String, Integer>>", javaClass.getSuperClassName());
+		assertEquals(1, javaClass.getAnnotations().size());
+		assertEquals("Deprecated", javaClass.getAnnotations().get(0).getName());
+		assertEquals(List.of("java.io.IOException", "java.util.AbstractList", "java.util.List", "java.util.Map",
+				"java.util.function.Supplier"), javaClass.getImports());
+	}
+	
+	@Test
+	public void testFields(){
+		List<JavaField> fields = ReflectionExtractor.extract(Sample.class).getFields();
+		assertEquals(2, fields.size());
+		JavaField numbers = fields.get(0);
+		assertEquals("numbers", numbers.getName());
+		assertEquals("List<? extends Number>", numbers.getType());
+		assertEquals(Visibility.PROTECTED, numbers.getVisibility());
+		assertTrue(numbers.isFinal());
+		JavaField maps = fields.get(1);
+		assertEquals("Map<String, int[]>[]", maps.getType());
+		assertEquals(Visibility.NONE, maps.getVisibility());
+	}
+	
+	@Test
+	public void testMethods(){
+		List<JavaMethod> methods = ReflectionExtractor.extract(Sample.class).getMethods();
+		assertEquals(5, methods.size());
+		
+		JavaMethod noArgs = methods.get(0);
+		assertNull(noArgs.getName());
+		assertEquals("Sample", noArgs.getReturnType());
+		assertEquals(Visibility.PRIVATE, noArgs.getVisibility());
+		assertTrue(noArgs.getParameters().isEmpty());
+		
+		JavaMethod constructor = methods.get(1);
+		assertEquals(List.of("String", "int..."), parameterTypes(constructor));
+		assertEquals(List.of("IOException"), constructor.getThrowTypes());
+		
+		JavaMethod convert = methods.get(2);
+		assertEquals("convert", convert.getName());
+		assertEquals("T", convert.getReturnType());
+		assertEquals(List.of("T", "Supplier<? super T>"), parameterTypes(convert));
+		assertEquals("Deprecated", convert.getAnnotations().get(0).getName());
+		
+		JavaMethod get = methods.get(3);
+		assertEquals("get", get.getName());
+		assertEquals("Map.Entry<String, Integer>", get.getReturnType());
+		
+		assertEquals("size", methods.get(4).getName());
+		assertEquals("int", methods.get(4).getReturnType());
+	}
+	
+	@Test
+	public void testInnerClassConstructor(){
+		JavaClass javaClass = ReflectionExtractor.extract(Inner.class);
+		assertEquals(Visibility.NONE, javaClass.getVisibility());
+		assertEquals(List.of("String"), parameterTypes(javaClass.getMethods().get(0)));
+	}
+	
+	@Test
+	public void testEnumConstructor(){
+		JavaClass javaClass = ReflectionExtractor.extract(Visibility.class);
+		assertEquals("Enum<Visibility>", javaClass.getSuperClassName());
+		JavaMethod constructor = javaClass.getMethods().get(0);
+		assertNull(constructor.getName());
+		assertEquals(List.of("String"), parameterTypes(constructor));
+	}
+	
+	@Test
+	public void testAbstract(){
+		JavaClass javaClass = ReflectionExtractor.extract(Shape.class);
+		assertTrue(javaClass.isAbstract());
+		List<JavaMethod> methods = javaClass.getMethods();
+		assertFalse(methods.get(0).isAbstract());
+		assertEquals("describe", methods.get(1).getName());
+		assertTrue(methods.get(1).isAbstract());
+		assertEquals("name", methods.get(2).getName());
+		assertFalse(methods.get(2).isAbstract());
+		assertFalse(ReflectionExtractor.extract(Sample.class).isAbstract());
+	}
+	
+	static abstract class Shape{
+		protected Shape(){ }
+		
+		protected abstract String describe();
+		
+		public String name(){
+			return "shape";
+		}
+	}
+	
+	@Test
+	public void testConflictingSimpleNames(){
+		JavaClass javaClass = ReflectionExtractor.extract(Conflict.class);
+		assertEquals(List.of("java.util.List"), javaClass.getImports());
+		assertEquals("List<String>", javaClass.getFields().get(0).getType());
+		assertEquals("java.awt.List", javaClass.getFields().get(1).getType());
+	}
+	
+	static class Conflict{
+		List<String> first;
+		java.awt.List second;
+	}
+	
+	@Test
+	public void testCached(){
+		assertSame(ReflectionExtractor.extract(Sample.class), ReflectionExtractor.extract(Sample.class));
+	}
+	
+	@Test
+	public void testExtractAll(){
+		List<JavaClass> javaClasses = ReflectionExtractor.extractAll(List.of(Sample.class, Inner.class));
+		assertEquals(2, javaClasses.size());
+		assertSame(ReflectionExtractor.extract(Sample.class), javaClasses.get(0));
+		assertEquals("Inner", javaClasses.get(1).getClassName());
+	}
+	
+	@Test
+	public void testExtractPackage() throws IOException, ClassNotFoundException{
+		List<JavaClass> javaClasses = ReflectionExtractor.extractPackage(JavaClass.class.getClassLoader(),
+				"com.github.tadukoo.parsing.code.java");
+		List<String> classNames = javaClasses.stream().map(JavaClass::getClassName).collect(Collectors.toList());
+		assertTrue(classNames.containsAll(List.of("JavaAnnotation", "JavaClass", "JavaField", "JavaMethod",
+				"Visibility")));
+		assertTrue(classNames.stream().noneMatch(className -> className.contains("Builder")));
+	}
+	
+	@Test
+	public void testPrimitive(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> ReflectionExtractor.extract(int.class));
+		assertEquals("Can't extract a model of int: it's a primitive, array, or anonymous class!", e.getMessage());
+	}
+}
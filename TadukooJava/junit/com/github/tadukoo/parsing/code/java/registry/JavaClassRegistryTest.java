@@ -0,0 +1,242 @@
+package com.github.tadukoo.parsing.code.java.registry;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaClassRegistryTest{
+	private final JavaClassRegistry registry = JavaClassRegistry.builder().build();
+	
+	/**
+	 * @param packageName The name of the package the class is in
+	 * @param className The name of the class
+	 * @return A new class with the given name
+	 */
+	private static JavaClass javaClass(String packageName, String className){
+		return JavaClass.builder().packageName(packageName).className(className).build();
+	}
+	
+	@Test
+	public void testBuilderErrors(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> JavaClassRegistry.builder().expectedPackages(0).expectedClassesPerPackage(-1).build());
+		assertEquals("expectedPackages must be positive!\nexpectedClassesPerPackage must be positive!",
+				e.getMessage());
+	}
+	
+	@Test
+	public void testRegisterAndGet(){
+		JavaClass test = javaClass("com.example", "Test");
+		assertTrue(registry.register(test));
+		assertSame(test, registry.get("com.example.Test"));
+		assertSame(test, registry.get("com.example", "Test"));
+		assertNull(registry.get("com.example.Other"));
+		assertNull(registry.get("com.other.Test"));
+		assertNull(registry.get("Test"));
+		assertEquals(1, registry.size());
+	}
+	
+	@Test
+	public void testRegisterDuplicate(){
+		JavaClass test = javaClass("com.example", "Test");
+		assertTrue(registry.register(test));
+		assertFalse(registry.register(javaClass("com.example", "Test")));
+		assertSame(test, registry.get("com.example.Test"));
+		assertEquals(1, registry.size());
+	}
+	
+	@Test
+	public void testComputeIfAbsent(){
+		JavaClass test = javaClass("com.example", "Test");
+		assertSame(test, registry.computeIfAbsent("com.example.Test", () -> test));
+		assertSame(test, registry.computeIfAbsent("com.example", "Test", () -> javaClass("com.example", "Test")));
+		assertEquals(1, registry.size());
+	}
+	
+	@Test
+	public void testComputeIfAbsentNotQualified(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> registry.computeIfAbsent("Test", () -> javaClass("com.example", "Test")));
+		assertEquals("Not a fully qualified name: Test", e.getMessage());
+	}
+	
+	@Test
+	public void testComputeIfAbsentOnce() throws Exception{
+		AtomicInteger generations = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try{
+			List<Future<JavaClass>> futures = new ArrayList<>();
+			for(int i = 0; i < 8; i++){
+				futures.add(executor.submit(() -> {
+					start.await();
+					return registry.computeIfAbsent("com.example", "Test", () -> {
+						generations.incrementAndGet();
+						try{
+							Thread.sleep(20);
+						}catch(InterruptedException e){
+							Thread.currentThread().interrupt();
+						}
+						return javaClass("com.example", "Test");
+					});
+				}));
+			}
+			start.countDown();
+			JavaClass first = futures.get(0).get(10, TimeUnit.SECONDS);
+			for(Future<JavaClass> future: futures){
+				assertSame(first, future.get(10, TimeUnit.SECONDS));
+			}
+		}finally{
+			executor.shutdownNow();
+		}
+		assertEquals(1, generations.get());
+		assertEquals(1, registry.size());
+	}
+	
+	@Test
+	public void testComputeIfAbsentNested(){
+		JavaClass child = registry.computeIfAbsent("com.example", "Child", () -> {
+			JavaClass parent = registry.computeIfAbsent("com.example", "Parent",
+					() -> javaClass("com.example", "Parent"));
+			// Still being generated
+			assertNull(registry.get("com.example.Child"));
+			assertTrue(registry.getPackage("com.example").contains(parent));
+			assertEquals(1, registry.getPackage("com.example").size());
+			return JavaClass.builder().packageName("com.example").className("Child")
+					.superClassName(parent.getClassName()).build();
+		});
+		assertSame(registry.get("com.example.Parent"), registry.getSuperClass(child));
+		assertEquals(2, registry.size());
+	}
+	
+	@Test
+	public void testComputeIfAbsentNeedsItself(){
+		IllegalStateException e = assertThrows(IllegalStateException.class,
+				() -> registry.computeIfAbsent("com.example", "Test",
+						() -> registry.computeIfAbsent("com.example", "Test", () -> javaClass("com.example", "Test"))));
+		assertEquals("Generating com.example.Test needs itself!", e.getMessage());
+		assertNull(registry.get("com.example.Test"));
+	}
+	
+	@Test
+	public void testComputeIfAbsentNeedsItselfAcrossThreads() throws Exception{
+		// Each thread starts generating its class, then asks for the other thread's
+		CountDownLatch bothGenerating = new CountDownLatch(2);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try{
+			List<Future<JavaClass>> futures = new ArrayList<>();
+			for(String[] names: new String[][]{{"A", "B"}, {"B", "A"}}){
+				futures.add(executor.submit(() -> registry.computeIfAbsent("com.example", names[0], () -> {
+					bothGenerating.countDown();
+					try{
+						bothGenerating.await();
+					}catch(InterruptedException e){
+						Thread.currentThread().interrupt();
+					}
+					registry.computeIfAbsent("com.example", names[1], () -> javaClass("com.example", names[1]));
+					return javaClass("com.example", names[0]);
+				})));
+			}
+			int failures = 0;
+			for(Future<JavaClass> future: futures){
+				try{
+					future.get(10, TimeUnit.SECONDS);
+				}catch(ExecutionException e){
+					assertTrue(e.getCause() instanceof IllegalStateException);
+					assertTrue(e.getCause().getMessage().endsWith(" needs itself!"));
+					failures++;
+				}
+			}
+			// At least one thread sees the cycle, and once it gives up the other may generate both classes itself
+			assertTrue(failures > 0);
+			assertEquals(failures == 1?2:0, registry.size());
+		}finally{
+			executor.shutdownNow();
+		}
+	}
+	
+	@Test
+	public void testComputeIfAbsentWrongClass(){
+		IllegalStateException e = assertThrows(IllegalStateException.class,
+				() -> registry.computeIfAbsent("com.example", "Test", () -> javaClass("com.example", "Other")));
+		assertEquals("Generator for com.example.Test made com.example.Other!", e.getMessage());
+		e = assertThrows(IllegalStateException.class,
+				() -> registry.computeIfAbsent("com.example", "Test", () -> null));
+		assertEquals("Generator for com.example.Test made null!", e.getMessage());
+		assertEquals(0, registry.size());
+	}
+	
+	@Test
+	public void testComputeIfAbsentAfterFailure(){
+		assertThrows(UnsupportedOperationException.class, () -> registry.computeIfAbsent("com.example", "Test", () -> {
+			throw new UnsupportedOperationException();
+		}));
+		JavaClass test = javaClass("com.example", "Test");
+		assertSame(test, registry.computeIfAbsent("com.example", "Test", () -> test));
+	}
+	
+	@Test
+	public void testGetSuperClass(){
+		JavaClass base = javaClass("com.example", "Base");
+		JavaClass imported = javaClass("com.other", "Imported");
+		registry.register(base);
+		registry.register(imported);
+		assertNull(registry.getSuperClass(javaClass("com.example", "Test")));
+		assertSame(base, registry.getSuperClass(JavaClass.builder().packageName("com.example").className("Test")
+				.superClassName("Base<String>").build()));
+		assertSame(imported, registry.getSuperClass(JavaClass.builder().packageName("com.example").className("Test")
+				.singleImport("com.other.Imported").superClassName("Imported").build()));
+		assertSame(imported, registry.getSuperClass(JavaClass.builder().packageName("com.example").className("Test")
+				.superClassName("com.other.Imported").build()));
+		assertNull(registry.getSuperClass(JavaClass.builder().packageName("com.example").className("Test")
+				.superClassName("Missing").build()));
+	}
+	
+	@Test
+	public void testPackages(){
+		Collection<JavaClass> examples = registry.getPackage("com.example");
+		assertTrue(examples.isEmpty());
+		assertTrue(registry.getPackageNames().isEmpty());
+		
+		JavaClass first = javaClass("com.example", "First");
+		JavaClass second = javaClass("com.example", "Second");
+		registry.register(first);
+		registry.register(second);
+		registry.register(javaClass("com.other", "Third"));
+		assertEquals(Set.of(first, second), new HashSet<>(examples));
+		assertEquals(Set.of("com.example", "com.other"), registry.getPackageNames());
+		assertThrows(UnsupportedOperationException.class, () -> examples.add(first));
+	}
+	
+	@Test
+	public void testSnapshot(){
+		for(int i = 0; i < 100; i++){
+			registry.register(javaClass("com.example.pkg" + (i % 7), "Test" + i));
+		}
+		List<JavaClass> snapshot = registry.snapshot();
+		assertEquals(100, snapshot.size());
+		registry.register(javaClass("com.example", "Later"));
+		assertEquals(100, snapshot.size());
+		assertEquals(101, registry.snapshot().size());
+		assertEquals(101, registry.size());
+	}
+}
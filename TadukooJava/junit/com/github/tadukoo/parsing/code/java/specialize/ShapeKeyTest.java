@@ -0,0 +1,55 @@
+package com.github.tadukoo.parsing.code.java.specialize;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class ShapeKeyTest{
+	
+	private JavaClass dto(String className, String fieldName, String value){
+		return JavaClass.builder()
+				.packageName("com.example")
+				.className(className)
+				.field(JavaField.builder().type("String").name(fieldName).value(value).build())
+				.method(JavaMethod.builder().returnType("String").name("get" + fieldName)
+						.line("return " + fieldName + ";").build())
+				.build();
+	}
+	
+	@Test
+	public void testSameShape(){
+		ShapeKey first = ShapeKey.of(dto("First", "name", null));
+		ShapeKey second = ShapeKey.of(dto("Second", "title", null));
+		assertEquals(first, second);
+		assertEquals(first.hashCode(), second.hashCode());
+	}
+	
+	@Test
+	public void testDifferentShapes(){
+		ShapeKey plain = ShapeKey.of(dto("First", "name", null));
+		assertNotEquals(plain, ShapeKey.of(dto("First", "name", "\"value\"")));
+		JavaClass annotated = JavaClass.builder()
+				.packageName("com.example")
+				.annotation(JavaAnnotation.builder().name("Deprecated").build())
+				.className("First")
+				.field(JavaField.builder().type("String").name("name").build())
+				.method(JavaMethod.builder().returnType("String").name("getname").line("return name;").build())
+				.build();
+		assertNotEquals(plain, ShapeKey.of(annotated));
+	}
+	
+	@Test
+	public void testCodes(){
+		ShapeKey shape = ShapeKey.of(dto("First", "name", "null"));
+		assertEquals(0, shape.get(ShapeKey.IMPORTS));
+		assertEquals(1, shape.get(ShapeKey.FIELD_COUNT));
+		assertEquals(1, shape.get(ShapeKey.METHOD_COUNT));
+		assertEquals(ShapeKey.FLAG_VALUE_OR_PARAMETERS, shape.get(ShapeKey.MEMBERS));
+		assertEquals(ShapeKey.FLAG_FINAL_OR_NAMED | ShapeKey.FLAG_LINES, shape.get(ShapeKey.MEMBERS + 1));
+	}
+}
@@ -0,0 +1,159 @@
+package com.github.tadukoo.parsing.code.java.specialize;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.Visibility;
+import com.github.tadukoo.parsing.code.java.metrics.AggregatingMetricsListener;
+import com.github.tadukoo.parsing.code.java.metrics.JavaMetrics;
+import com.github.tadukoo.parsing.code.java.metrics.JavaModelType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SpecializedRendererTest{
+	private final SpecializedRenderer renderer = SpecializedRenderer.builder().build();
+	
+	private JavaClass randomClass(Random random, int index){
+		JavaClass.JavaClassBuilder builder = JavaClass.builder()
+				.packageName("com.example.p" + index)
+				.className("Generated" + index)
+				.visibility(Visibility.values()[random.nextInt(Visibility.values().length)]);
+		if(random.nextBoolean()){
+			builder.singleImport("java.util.List").singleImport("java.util.Map");
+		}
+		if(random.nextBoolean()){
+			builder.staticImport("java.util.Objects.equals");
+		}
+		for(int i = random.nextInt(3); i > 0; i--){
+			builder.annotation(JavaAnnotation.builder().name("Annotation" + i).build());
+		}
+		if(random.nextBoolean()){
+			builder.superClassName("Base" + index);
+		}
+		for(int i = random.nextInt(4); i > 0; i--){
+			JavaField.JavaFieldBuilder field = JavaField.builder().type("int").name("field" + i)
+					.isFinal(random.nextBoolean());
+			if(random.nextBoolean()){
+				field.value(String.valueOf(i));
+			}
+			if(random.nextBoolean()){
+				field.annotation(JavaAnnotation.builder().name("Deprecated").build());
+			}
+			builder.field(field.build());
+		}
+		for(int i = random.nextInt(4); i > 0; i--){
+			JavaMethod.JavaMethodBuilder method = JavaMethod.builder();
+			if(random.nextBoolean()){
+				method.returnType("Generated" + index);
+			}else{
+				method.returnType("int").name("method" + i);
+			}
+			for(int j = random.nextInt(3); j > 0; j--){
+				method.parameter("int", "param" + j);
+			}
+			for(int j = random.nextInt(2); j > 0; j--){
+				method.throwType("Exception");
+			}
+			for(int j = random.nextInt(3); j > 0; j--){
+				method.line(j == 1?"":"doSomething(" + j + ");");
+			}
+			if(random.nextBoolean()){
+				method.annotation(JavaAnnotation.builder().name("Override").build());
+			}
+			builder.method(method.build());
+		}
+		return builder.build();
+	}
+	
+	@Test
+	public void testMatchesToString(){
+		Random random = new Random(7);
+		for(int i = 0; i < 500; i++){
+			JavaClass javaClass = randomClass(random, i);
+			assertEquals(javaClass.toString(), renderer.render(javaClass));
+		}
+	}
+	
+	@Test
+	public void testMatchesToStringForAbstractClasses(){
+		JavaClass shape = JavaClass.builder()
+				.packageName("some.pkg").className("Shape").isAbstract()
+				.method(JavaMethod.builder().isAbstract().visibility(Visibility.PROTECTED).returnType("double")
+						.name("area").throwType("IllegalStateException").build())
+				.method(JavaMethod.builder().returnType("double").name("twice").line("return 2 * area();").build())
+				.build();
+		assertEquals(shape.toString(), renderer.render(shape));
+	}
+	
+	@Test
+	public void testSharesRendererForSameShape(){
+		for(int i = 0; i < 10; i++){
+			JavaClass javaClass = JavaClass.builder()
+					.packageName("com.example")
+					.className("Dto" + i)
+					.field(JavaField.builder().type("String").name("name" + i).build())
+					.method(JavaMethod.builder().returnType("String").name("getName" + i)
+							.line("return name" + i + ";").build())
+					.build();
+			assertEquals(javaClass.toString(), renderer.render(javaClass));
+		}
+		assertEquals(1, renderer.getShapeCount());
+	}
+	
+	@Test
+	public void testLargeClass(){
+		JavaClass.JavaClassBuilder builder = JavaClass.builder().packageName("com.example").className("Large");
+		for(int i = 0; i < 300; i++){
+			builder.field(JavaField.builder().type("int").name("field" + i).build());
+			builder.method(JavaMethod.builder().returnType("int").name("getField" + i)
+					.line("return field" + i + ";").build());
+		}
+		JavaClass javaClass = builder.build();
+		assertEquals(javaClass.toString(), renderer.render(javaClass));
+	}
+	
+	@Test
+	public void testMaxShapes(){
+		SpecializedRenderer limited = SpecializedRenderer.builder().maxShapes(1).build();
+		assertEquals(1, limited.getMaxShapes());
+		JavaClass first = JavaClass.builder().packageName("a").className("A").build();
+		JavaClass second = JavaClass.builder().packageName("a").className("B").superClassName("A").build();
+		assertEquals(first.toString(), limited.render(first));
+		assertEquals(second.toString(), limited.render(second));
+		assertEquals(1, limited.getShapeCount());
+	}
+	
+	@Test
+	public void testReportsMetrics(){
+		SpecializedRenderer limited = SpecializedRenderer.builder().maxShapes(1).build();
+		JavaClass first = JavaClass.builder().packageName("a").className("A")
+				.field(JavaField.builder().type("int").name("count").build()).build();
+		JavaClass second = JavaClass.builder().packageName("a").className("B").superClassName("A").build();
+		AggregatingMetricsListener listener = new AggregatingMetricsListener();
+		JavaMetrics.setListener(listener);
+		try{
+			String rendered = limited.render(first);
+			assertEquals(1, listener.getRenderCount(JavaModelType.CLASS));
+			assertEquals(rendered.length(), listener.getRenderedCharacters(JavaModelType.CLASS).getSum());
+			assertEquals(1, listener.getFieldsPerClass().getSum());
+			
+			// The fallback to toString reports the class once, not twice
+			limited.render(second);
+			assertEquals(2, listener.getRenderCount(JavaModelType.CLASS));
+		}finally{
+			JavaMetrics.setListener(null);
+		}
+	}
+	
+	@Test
+	public void testBadMaxShapes(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> SpecializedRenderer.builder().maxShapes(0).build());
+		assertEquals("maxShapes must be positive!", e.getMessage());
+	}
+}
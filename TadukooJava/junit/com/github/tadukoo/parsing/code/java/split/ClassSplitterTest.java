@@ -0,0 +1,336 @@
+package com.github.tadukoo.parsing.code.java.split;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.Visibility;
+import com.github.tadukoo.parsing.code.java.compile.CompilationResult;
+import com.github.tadukoo.parsing.code.java.compile.JavaClassCompiler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClassSplitterTest{
+	private final ClassSplitter splitter = ClassSplitter.builder().maxCodeSize(300).maxConstantPoolSize(200).build();
+	
+	/**
+	 * @param count The number of entries to put in the map
+	 * @param prefix The prefix of the keys
+	 * @return Lines that put the given number of entries into a map called map
+	 */
+	private static List<String> putLines(int count, String prefix){
+		List<String> lines = new ArrayList<>();
+		for(int i = 0; i < count; i++){
+			lines.add("map.put(\"" + prefix + i + "\", " + i + ");");
+		}
+		return lines;
+	}
+	
+	/**
+	 * @param count The number of entries to put in the map
+	 * @return A method that builds a map with the given number of entries
+	 */
+	private static JavaMethod buildMethod(int count){
+		List<String> lines = new ArrayList<>();
+		lines.add("Map<String, Integer> map = new HashMap<>();");
+		lines.addAll(putLines(count, "key"));
+		lines.add("return map;");
+		return JavaMethod.builder().visibility(Visibility.PUBLIC).returnType("Map<String, Integer>").name("build")
+				.lines(lines).build();
+	}
+	
+	/**
+	 * @param methods The methods to put in the class
+	 * @return A class with the given methods
+	 */
+	private static JavaClass mapClass(List<JavaMethod> methods){
+		return JavaClass.builder()
+				.packageName("some.pkg").singleImport("java.util.HashMap").singleImport("java.util.Map")
+				.className("Table")
+				.methods(methods)
+				.build();
+	}
+	
+	/**
+	 * @param result The {@link SplitResult} to compile
+	 * @return The result of compiling the split classes
+	 */
+	private static CompilationResult compile(SplitResult result){
+		CompilationResult compiled = JavaClassCompiler.builder().build().compile(result.getClasses());
+		assertTrue(compiled.isSuccess(), compiled.getErrors().toString());
+		return compiled;
+	}
+	
+	/**
+	 * @param compiled The compiled classes
+	 * @param methodName The name of the method to call on a new instance of the main class
+	 * @return What the method returned
+	 * @throws ReflectiveOperationException If calling the method fails
+	 */
+	private static Object call(CompilationResult compiled, String methodName) throws ReflectiveOperationException{
+		Class<?> table = compiled.getClassLoader().loadClass("some.pkg.Table");
+		return table.getMethod(methodName).invoke(table.getDeclaredConstructor().newInstance());
+	}
+	
+	@Test
+	public void testDefaults(){
+		ClassSplitter defaults = ClassSplitter.builder().build();
+		assertEquals(ClassSplitter.DEFAULT_MAX_CODE_SIZE, defaults.getMaxCodeSize());
+		assertEquals(ClassSplitter.DEFAULT_MAX_CONSTANT_POOL_SIZE, defaults.getMaxConstantPoolSize());
+		assertSame(ForkJoinPool.commonPool(), defaults.getPool());
+	}
+	
+	@Test
+	public void testBuilderErrors(){
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> ClassSplitter.builder().maxCodeSize(0).maxConstantPoolSize(70000).pool(null).build());
+		assertEquals("maxCodeSize must be between 1 and 65535!\n" +
+				"maxConstantPoolSize must be between 1 and 65535!\n" +
+				"Must specify pool!", e.getMessage());
+	}
+	
+	@Test
+	public void testSmallClassNotSplit(){
+		JavaClass javaClass = mapClass(List.of(buildMethod(3)));
+		SplitResult result = splitter.split(javaClass);
+		assertFalse(result.isSplit());
+		assertSame(javaClass, result.getMainClass());
+		assertEquals(1, result.getClasses().size());
+		assertTrue(result.getOversizedMethods().isEmpty());
+	}
+	
+	@Test
+	public void testSplitMethod() throws ReflectiveOperationException{
+		SplitResult result = ClassSplitter.builder().maxCodeSize(300).build().split(mapClass(List.of(buildMethod(60))));
+		assertTrue(result.isSplit());
+		assertEquals(1, result.getClasses().size());
+		assertTrue(result.getOversizedMethods().isEmpty());
+		
+		List<JavaMethod> methods = result.getMainClass().getMethods();
+		assertTrue(methods.size() > 2);
+		JavaMethod build = methods.get(0);
+		assertEquals("build", build.getName());
+		assertEquals(Visibility.PUBLIC, build.getVisibility());
+		assertTrue(build.getParameters().isEmpty());
+		assertEquals("return buildPart2(map);", build.getLines().get(build.getLines().size() - 1));
+		for(int i = 1; i < methods.size(); i++){
+			JavaMethod part = methods.get(i);
+			assertEquals("buildPart" + (i + 1), part.getName());
+			assertEquals(Visibility.PRIVATE, part.getVisibility());
+			assertEquals("Map<String, Integer>", part.getReturnType());
+			assertEquals(1, part.getParameters().size());
+			assertEquals("Map<String, Integer>", part.getParameters().get(0).getLeft());
+			assertEquals("map", part.getParameters().get(0).getRight());
+			assertTrue(JvmLimitEstimator.estimateCodeSize(part) <= 300);
+		}
+		
+		Map<?, ?> map = (Map<?, ?>) call(compile(result), "build");
+		assertEquals(60, map.size());
+		assertEquals(59, map.get("key59"));
+	}
+	
+	@Test
+	public void testSplitMethodKeepsBlocksWhole(){
+		List<String> lines = new ArrayList<>();
+		lines.add("Map<String, Integer> map = new HashMap<>();");
+		lines.add("if(map.isEmpty()){");
+		lines.addAll(putLines(30, "inner"));
+		lines.add("}");
+		lines.addAll(putLines(20, "outer"));
+		lines.add("return map;");
+		JavaMethod method = JavaMethod.builder().returnType("Map<String, Integer>").name("build").lines(lines).build();
+		
+		SplitResult result = splitter.split(mapClass(List.of(method)));
+		for(JavaMethod part: result.getMainClass().getMethods()){
+			long opens = part.getLines().stream().filter(line -> line.endsWith("{")).count();
+			long closes = part.getLines().stream().filter(line -> line.equals("}")).count();
+			assertEquals(opens, closes);
+		}
+		// The if block is too big, but can't be split
+		assertEquals(1, result.getOversizedMethods().size());
+		assertEquals("if(map.isEmpty()){", result.getOversizedMethods().get(0).getLines().get(0));
+	}
+	
+	@Test
+	public void testSplitMethodStopsAtVar(){
+		List<String> lines = new ArrayList<>();
+		lines.add("var map = new HashMap<String, Integer>();");
+		lines.addAll(putLines(60, "key"));
+		lines.add("return map;");
+		JavaMethod method = JavaMethod.builder().returnType("Map<String, Integer>").name("build").lines(lines).build();
+		
+		SplitResult result = splitter.split(mapClass(List.of(method)));
+		assertEquals(List.of(method), result.getMainClass().getMethods());
+		assertEquals(List.of(method), result.getOversizedMethods());
+	}
+	
+	@Test
+	public void testSplitMethodSkipsUsedNames(){
+		JavaMethod used = JavaMethod.builder().returnType("int").name("buildPart2").line("return 2;").build();
+		SplitResult result = splitter.split(mapClass(List.of(buildMethod(60), used)));
+		List<String> names = new ArrayList<>();
+		for(JavaMethod method: result.getMainClass().getMethods()){
+			names.add(method.getName());
+		}
+		assertEquals("build", names.get(0));
+		assertEquals("buildPart3", names.get(1));
+		assertTrue(names.contains("buildPart2"));
+	}
+	
+	@Test
+	public void testSplitConstructor() throws ReflectiveOperationException{
+		List<String> lines = new ArrayList<>();
+		lines.add("map = new HashMap<>();");
+		lines.addAll(putLines(60, "key"));
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("some.pkg").singleImport("java.util.HashMap").singleImport("java.util.Map")
+				.className("Table")
+				.field(JavaField.builder().type("Map<String, Integer>").name("map").build())
+				.method(JavaMethod.builder().visibility(Visibility.PUBLIC).returnType("Table").lines(lines).build())
+				.method(JavaMethod.builder().visibility(Visibility.PUBLIC).returnType("int").name("size")
+						.line("return map.size();").build())
+				.build();
+		
+		SplitResult result = ClassSplitter.builder().maxCodeSize(300).build().split(javaClass);
+		List<JavaMethod> methods = result.getMainClass().getMethods();
+		assertEquals("initPart2();", methods.get(0).getLines().get(methods.get(0).getLines().size() - 1));
+		assertEquals("initPart2", methods.get(1).getName());
+		assertEquals("void", methods.get(1).getReturnType());
+		assertEquals(60, call(compile(result), "size"));
+	}
+	
+	@Test
+	public void testConstructorAssigningFinalFieldsNotSplit(){
+		List<String> lines = new ArrayList<>();
+		lines.add("map = new HashMap<>();");
+		lines.addAll(putLines(60, "key"));
+		JavaMethod constructor = JavaMethod.builder().returnType("Table").lines(lines).build();
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("some.pkg").singleImport("java.util.HashMap").singleImport("java.util.Map")
+				.className("Table")
+				.field(JavaField.builder().isFinal().type("Map<String, Integer>").name("map").build())
+				.method(constructor)
+				.build();
+		
+		SplitResult result = splitter.split(javaClass);
+		assertFalse(result.isSplit());
+		assertEquals(List.of(constructor), result.getOversizedMethods());
+	}
+	
+	@Test
+	public void testSplitClass() throws ReflectiveOperationException{
+		List<JavaMethod> methods = new ArrayList<>();
+		for(int i = 0; i < 6; i++){
+			List<String> lines = new ArrayList<>();
+			lines.add("Map<String, Integer> map = new HashMap<>();");
+			lines.addAll(putLines(15, "method" + i + "key"));
+			lines.add("return map.size() + count" + (i + 1) + "();");
+			methods.add(JavaMethod.builder().visibility(Visibility.PUBLIC).returnType("int").name("count" + i)
+					.lines(lines).build());
+		}
+		methods.add(JavaMethod.builder().visibility(Visibility.PRIVATE).returnType("int").name("count6")
+				.line("return offset;").build());
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("some.pkg").singleImport("java.util.HashMap").singleImport("java.util.Map")
+				.className("Table")
+				.field(JavaField.builder().type("int").name("offset").value("1").build())
+				.methods(methods)
+				.build();
+		
+		SplitResult result = ClassSplitter.builder().maxConstantPoolSize(200).build().split(javaClass);
+		List<JavaClass> classes = result.getClasses();
+		assertTrue(classes.size() > 1);
+		for(int i = 0; i < classes.size(); i++){
+			JavaClass part = classes.get(i);
+			assertEquals(i == 0?"Table":"TablePart" + (i + 1), part.getClassName());
+			assertEquals(i == classes.size() - 1?null:"TablePart" + (i + 2), part.getSuperClassName());
+			assertEquals(i == classes.size() - 1, !part.getFields().isEmpty());
+			assertTrue(JvmLimitEstimator.estimateConstantPoolSize(part) <= 200);
+		}
+		assertEquals(Visibility.NONE, classes.get(classes.size() - 1).getFields().get(0).getVisibility());
+		
+		// The methods keep their order down the chain
+		List<String> names = new ArrayList<>();
+		for(JavaClass part: classes){
+			for(JavaMethod method: part.getMethods()){
+				names.add(method.getName());
+				if(method.getName().equals("count6")){
+					assertEquals(Visibility.NONE, method.getVisibility());
+				}
+			}
+		}
+		assertEquals(List.of("count0", "count1", "count2", "count3", "count4", "count5", "count6"), names);
+		
+		assertEquals(6 * 15 + 1, call(compile(result), "count0"));
+	}
+	
+	@Test
+	public void testSplitClassCallingUpTheChain() throws ReflectiveOperationException{
+		// Each method calls the one before it, so the lower parts call up the chain, and the super class has no
+		// no-arg constructor
+		JavaClass base = JavaClass.builder()
+				.packageName("some.pkg").className("Base")
+				.field(JavaField.builder().visibility(Visibility.PROTECTED).isFinal().type("int").name("base").build())
+				.method(JavaMethod.builder().returnType("Base").parameter("int", "base").line("this.base = base;")
+						.build())
+				.build();
+		List<JavaMethod> methods = new ArrayList<>();
+		methods.add(JavaMethod.builder().returnType("Table").line("this(5);").build());
+		methods.add(JavaMethod.builder().returnType("Table").parameter("int", "start")
+				.line("super(start *").line("\t\t2); offset++;").build());
+		methods.add(JavaMethod.builder().visibility(Visibility.PRIVATE).returnType("int").name("count0")
+				.line("return base + offset;").build());
+		for(int i = 1; i < 6; i++){
+			List<String> lines = new ArrayList<>();
+			lines.add("Map<String, Integer> map = new HashMap<>();");
+			lines.addAll(putLines(15, "method" + i + "key"));
+			lines.add("return map.size() + " + (i == 1?"this.count0":"count" + (i - 1)) + "();");
+			methods.add(JavaMethod.builder().visibility(Visibility.PUBLIC).returnType("int").name("count" + i)
+					.lines(lines).build());
+		}
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("some.pkg").singleImport("java.util.HashMap").singleImport("java.util.Map")
+				.className("Table").superClassName("Base")
+				.field(JavaField.builder().type("int").name("offset").build())
+				.methods(methods)
+				.build();
+		
+		SplitResult result = ClassSplitter.builder().maxConstantPoolSize(120).build().split(javaClass);
+		List<JavaClass> classes = result.getClasses();
+		assertTrue(classes.size() > 2);
+		for(int i = 0; i < classes.size(); i++){
+			assertEquals(i > 0, classes.get(i).isAbstract());
+		}
+		
+		List<JavaClass> toCompile = new ArrayList<>(classes);
+		toCompile.add(base);
+		CompilationResult compiled = JavaClassCompiler.builder().build().compile(toCompile);
+		assertTrue(compiled.isSuccess(), compiled.getErrors().toString());
+		Class<?> table = compiled.getClassLoader().loadClass("some.pkg.Table");
+		assertEquals(5 * 15 + 10 + 1, table.getMethod("count5").invoke(table.getDeclaredConstructor().newInstance()));
+		assertEquals(5 * 15 + 6 + 1, table.getMethod("count5").invoke(
+				table.getDeclaredConstructor(int.class).newInstance(3)));
+	}
+	
+	@Test
+	public void testSplitAll(){
+		JavaClass small = mapClass(List.of(buildMethod(3)));
+		JavaClass large = mapClass(List.of(buildMethod(60)));
+		List<SplitResult> results = splitter.splitAll(List.of(small, large, small));
+		assertEquals(3, results.size());
+		assertSame(small, results.get(0).getOriginal());
+		assertFalse(results.get(0).isSplit());
+		assertSame(large, results.get(1).getOriginal());
+		assertTrue(results.get(1).isSplit());
+		assertSame(small, results.get(2).getOriginal());
+	}
+}
@@ -0,0 +1,117 @@
+package com.github.tadukoo.parsing.code.java.split;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JvmLimitEstimatorTest{
+	
+	/**
+	 * @param count The number of lines to put in the method
+	 * @return A method that puts the given number of different strings into a map
+	 */
+	private static JavaMethod putMethod(int count){
+		List<String> lines = new ArrayList<>();
+		for(int i = 0; i < count; i++){
+			lines.add("map.put(\"key" + i + "\", " + i + ");");
+		}
+		return JavaMethod.builder().returnType("void").name("fill").parameter("java.util.Map<String, Integer>", "map")
+				.lines(lines).build();
+	}
+	
+	@Test
+	public void testEstimateCodeSizeEmpty(){
+		assertEquals(1, JvmLimitEstimator.estimateCodeSize(JavaMethod.builder().returnType("void").name("test")
+				.build()));
+	}
+	
+	@Test
+	public void testEstimateCodeSizeIgnoresComments(){
+		JavaMethod method = JavaMethod.builder().returnType("void").name("test")
+				.line("// A comment")
+				.line("/* A block")
+				.line("comment */")
+				.line("")
+				.build();
+		assertEquals(1, JvmLimitEstimator.estimateCodeSize(method));
+	}
+	
+	@Test
+	public void testEstimateCodeSizeGrowsWithLines(){
+		int small = JvmLimitEstimator.estimateCodeSize(putMethod(10));
+		int large = JvmLimitEstimator.estimateCodeSize(putMethod(100));
+		assertTrue(large > 9 * small);
+		// map, put, the string, the number, and storing the result
+		assertEquals(1 + 10 * (2 + 3 + 3 + 3 + 1), small);
+	}
+	
+	@Test
+	public void testEstimateConstantPoolSizeEmptyClass(){
+		// The class, the super class, and the Code attribute name
+		assertEquals(5, JvmLimitEstimator.estimateConstantPoolSize(JavaClass.builder()
+				.packageName("some.pkg").className("Test").build()));
+	}
+	
+	@Test
+	public void testEstimateConstantPoolSizeSharesConstants(){
+		JavaClass once = JavaClass.builder().packageName("some.pkg").className("Test")
+				.method(putMethod(10))
+				.build();
+		JavaClass twice = JavaClass.builder().packageName("some.pkg").className("Test")
+				.method(putMethod(10))
+				.method(JavaMethod.builder().returnType("void").name("fill2")
+						.parameter("java.util.Map<String, Integer>", "map").lines(putMethod(10).getLines()).build())
+				.build();
+		int onceSize = JvmLimitEstimator.estimateConstantPoolSize(once);
+		int twiceSize = JvmLimitEstimator.estimateConstantPoolSize(twice);
+		// Only the second method's name is new
+		assertEquals(onceSize + 1, twiceSize);
+	}
+	
+	@Test
+	public void testEstimateConstantPoolSizeCountsFields(){
+		JavaClass javaClass = JavaClass.builder().packageName("some.pkg").className("Test")
+				.field(JavaField.builder().type("String").name("name").value("\"Some Name\"").build())
+				.build();
+		// The field's name, type, reference, and the string
+		assertEquals(5 + 1 + 1 + 2 + 2, JvmLimitEstimator.estimateConstantPoolSize(javaClass));
+	}
+	
+	@Test
+	public void testEstimateConstantPoolSizeIncludesSynthesizedMembers(){
+		JavaField field = JavaField.builder().type("int").name("value").build();
+		JavaClass plain = JavaClass.builder().packageName("some.pkg").className("Test").field(field).build();
+		JavaClass synthesized = JavaClass.builder().packageName("some.pkg").className("Test").field(field)
+				.generateToString().build();
+		assertTrue(JvmLimitEstimator.estimateConstantPoolSize(synthesized) >
+				JvmLimitEstimator.estimateConstantPoolSize(plain));
+	}
+	
+	@Test
+	public void testNumberSlots(){
+		assertEquals(0, ConstantPoolEstimate.numberSlots("12"));
+		assertEquals(0, ConstantPoolEstimate.numberSlots("0x7fff"));
+		assertEquals(1, ConstantPoolEstimate.numberSlots("0x7fffffff"));
+		assertEquals(1, ConstantPoolEstimate.numberSlots("1_000_000"));
+		assertEquals(1, ConstantPoolEstimate.numberSlots("1.5f"));
+		assertEquals(2, ConstantPoolEstimate.numberSlots("12L"));
+		assertEquals(2, ConstantPoolEstimate.numberSlots("1.5"));
+		assertEquals(2, ConstantPoolEstimate.numberSlots("1e10"));
+	}
+	
+	@Test
+	public void testExceedsLimits(){
+		assertFalse(JvmLimitEstimator.exceedsLimits(JavaClass.builder().packageName("some.pkg").className("Test")
+				.method(putMethod(100)).build()));
+		assertTrue(JvmLimitEstimator.exceedsLimits(JavaClass.builder().packageName("some.pkg").className("Test")
+				.method(putMethod(7000)).build()));
+	}
+}
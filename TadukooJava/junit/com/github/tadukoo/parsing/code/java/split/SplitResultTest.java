@@ -0,0 +1,63 @@
+package com.github.tadukoo.parsing.code.java.split;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitResultTest{
+	private final JavaClass main = JavaClass.builder().packageName("some.pkg").className("Test")
+			.superClassName("TestPart2").build();
+	private final JavaClass part = JavaClass.builder().packageName("some.pkg").className("TestPart2").build();
+	private final JavaMethod method = JavaMethod.builder().returnType("void").name("big").build();
+	
+	@Test
+	public void testGetters(){
+		JavaClass original = JavaClass.builder().packageName("some.pkg").className("Test").build();
+		SplitResult result = new SplitResult(original, List.of(main, part), List.of(method),
+				ForkJoinPool.commonPool());
+		assertSame(original, result.getOriginal());
+		assertEquals(List.of(main, part), result.getClasses());
+		assertSame(main, result.getMainClass());
+		assertEquals(List.of(method), result.getOversizedMethods());
+		assertTrue(result.isSplit());
+	}
+	
+	@Test
+	public void testNotSplit(){
+		SplitResult result = new SplitResult(part, List.of(part), new ArrayList<>(), ForkJoinPool.commonPool());
+		assertFalse(result.isSplit());
+	}
+	
+	@Test
+	public void testUnmodifiable(){
+		SplitResult result = new SplitResult(part, new ArrayList<>(List.of(part)), new ArrayList<>(),
+				ForkJoinPool.commonPool());
+		assertThrows(UnsupportedOperationException.class, () -> result.getClasses().add(main));
+		assertThrows(UnsupportedOperationException.class, () -> result.getOversizedMethods().add(method));
+	}
+	
+	@Test
+	public void testRender(){
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try{
+			SplitResult result = new SplitResult(main, List.of(main, part), new ArrayList<>(), pool);
+			Map<String, String> rendered = result.render();
+			assertEquals(List.of("some.pkg.Test", "some.pkg.TestPart2"), new ArrayList<>(rendered.keySet()));
+			assertEquals(main.toString(), rendered.get("some.pkg.Test"));
+			assertEquals(part.toString(), rendered.get("some.pkg.TestPart2"));
+		}finally{
+			pool.shutdown();
+		}
+	}
+}
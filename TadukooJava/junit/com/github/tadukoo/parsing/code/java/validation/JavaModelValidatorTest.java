@@ -0,0 +1,147 @@
+package com.github.tadukoo.parsing.code.java.validation;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.util.ListUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaModelValidatorTest{
+	
+	private JavaClass validClass(String className){
+		return JavaClass.builder()
+				.packageName("com.example")
+				.singleImport("java.util.List")
+				.singleImport("java.util.*")
+				.annotation(JavaAnnotation.builder().name("Deprecated").build())
+				.className(className)
+				.superClassName("Object")
+				.field(JavaField.builder().type("List<String>").name("names").build())
+				.method(JavaMethod.builder().returnType(className).build())
+				.method(JavaMethod.builder().returnType("void").name("run")
+						.parameter("String", "first").parameter("int...", "rest")
+						.throwType("java.io.IOException").build())
+				.build();
+	}
+	
+	@Test
+	public void testValidClass(){
+		ValidationReport report = JavaModelValidator.validate(validClass("Test"));
+		assertTrue(report.isValid());
+		assertEquals(1, report.getClassCount());
+	}
+	
+	@Test
+	public void testInvalidClass(){
+		JavaField badField = JavaField.builder().type("List<int>").name("class").build();
+		JavaMethod badMethod = JavaMethod.builder().returnType("void").name("2run")
+				.parameter("String...", "a").parameter("int", "a")
+				.throwType("int").build();
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("some.package")
+				.singleImport("Test")
+				.className("Te st")
+				.superClassName("int")
+				.field(badField)
+				.method(badMethod)
+				.build();
+		List<ValidationDiagnostic> diagnostics = JavaModelValidator.validate(javaClass).getDiagnostics();
+		assertEquals(10, diagnostics.size());
+		assertEquals("Invalid package name 'some.package'", diagnostics.get(0).getMessage());
+		assertEquals("Invalid import 'Test'", diagnostics.get(1).getMessage());
+		assertEquals("Invalid class name 'Te st'", diagnostics.get(2).getMessage());
+		assertEquals("Invalid super class 'int'", diagnostics.get(3).getMessage());
+		assertEquals("Invalid type 'List<int>' for field 'class'", diagnostics.get(4).getMessage());
+		assertSame(badField, diagnostics.get(4).getMember());
+		assertEquals("Invalid field name 'class'", diagnostics.get(5).getMessage());
+		assertEquals("Invalid method name '2run'", diagnostics.get(6).getMessage());
+		assertEquals("Varargs parameter 'a' must be last in method '2run'", diagnostics.get(7).getMessage());
+		assertSame(badMethod, diagnostics.get(7).getMember());
+		assertEquals("Duplicate parameter name 'a' in method '2run'", diagnostics.get(8).getMessage());
+		assertEquals("Invalid throw type 'int' in method '2run'", diagnostics.get(9).getMessage());
+		assertSame(javaClass, diagnostics.get(9).getJavaClass());
+	}
+	
+	@Test
+	public void testNullLists(){
+		JavaField field = JavaField.builder().annotations(null).type("int").name("count").build();
+		JavaMethod method = JavaMethod.builder().annotations(null).returnType("void").name("run")
+				.throwTypes(null).build();
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("com.example")
+				.imports(null).staticImports(null).annotations(null)
+				.className("Test")
+				.fields(ListUtil.createList(field)).methods(ListUtil.createList(method))
+				.build();
+		assertTrue(JavaModelValidator.validate(javaClass).isValid());
+		
+		JavaClass noMembers = JavaClass.builder()
+				.packageName("com.example")
+				.className("Empty")
+				.fields(null).methods(null)
+				.build();
+		assertTrue(JavaModelValidator.validateAll(ListUtil.createList(javaClass, noMembers)).isValid());
+	}
+	
+	@Test
+	public void testConstructorNameMismatch(){
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("com.example")
+				.className("Test")
+				.method(JavaMethod.builder().returnType("Other").build())
+				.build();
+		List<ValidationDiagnostic> diagnostics = JavaModelValidator.validate(javaClass).getDiagnostics();
+		assertEquals(1, diagnostics.size());
+		assertEquals("Constructor 'Other' doesn't match class name 'Test'", diagnostics.get(0).getMessage());
+	}
+	
+	@Test
+	public void testDuplicateField(){
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("com.example")
+				.className("Test")
+				.field(JavaField.builder().type("int").name("count").build())
+				.field(JavaField.builder().type("long").name("count").build())
+				.build();
+		List<ValidationDiagnostic> diagnostics = JavaModelValidator.validate(javaClass).getDiagnostics();
+		assertEquals(1, diagnostics.size());
+		assertEquals("Test: Duplicate field name 'count'", diagnostics.get(0).toString());
+	}
+	
+	@Test
+	public void testValidateAllKeepsOrder(){
+		List<JavaClass> classes = new ArrayList<>();
+		for(int i = 0; i < 200; i++){
+			classes.add(i % 3 == 0?validClass("if"):validClass("Test" + i));
+		}
+		ValidationReport report = JavaModelValidator.validateAll(classes);
+		assertEquals(200, report.getClassCount());
+		// Each "if" class has one problem: its reserved class name
+		assertEquals(67, report.getDiagnostics().size());
+		for(int i = 0; i < 67; i++){
+			assertSame(classes.get(i * 3), report.getDiagnostics().get(i).getJavaClass());
+		}
+		assertEquals(1, report.getDiagnosticsFor(classes.get(0)).size());
+		assertEquals(0, report.getDiagnosticsFor(classes.get(1)).size());
+	}
+	
+	@Test
+	public void testThrowIfInvalid(){
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("com.example")
+				.className("int")
+				.build();
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> JavaModelValidator.validate(javaClass).throwIfInvalid());
+		assertEquals("int: Invalid class name 'int'", e.getMessage());
+	}
+}
@@ -0,0 +1,86 @@
+package com.github.tadukoo.parsing.code.java.validation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaNamesTest{
+	
+	@Test
+	public void testIsIdentifier(){
+		assertTrue(JavaNames.isIdentifier("test"));
+		assertTrue(JavaNames.isIdentifier("$test_2"));
+		assertTrue(JavaNames.isIdentifier("\u00fcn\u00efcode"));
+		assertTrue(JavaNames.isIdentifier("var"));
+		assertFalse(JavaNames.isIdentifier(null));
+		assertFalse(JavaNames.isIdentifier(""));
+		assertFalse(JavaNames.isIdentifier("2test"));
+		assertFalse(JavaNames.isIdentifier("te-st"));
+		assertFalse(JavaNames.isIdentifier("class"));
+		assertFalse(JavaNames.isIdentifier("null"));
+		assertFalse(JavaNames.isIdentifier("_"));
+	}
+	
+	@Test
+	public void testIsQualifiedName(){
+		assertTrue(JavaNames.isQualifiedName("com.example.Test"));
+		assertTrue(JavaNames.isQualifiedName("Test"));
+		assertFalse(JavaNames.isQualifiedName("some.package"));
+		assertFalse(JavaNames.isQualifiedName("com..example"));
+		assertFalse(JavaNames.isQualifiedName("com.example."));
+		assertFalse(JavaNames.isQualifiedName(".com"));
+	}
+	
+	@Test
+	public void testIsImport(){
+		assertTrue(JavaNames.isImport("com.example.Test"));
+		assertTrue(JavaNames.isImport("com.example.*"));
+		assertFalse(JavaNames.isImport("Test"));
+		assertFalse(JavaNames.isImport("*"));
+		assertFalse(JavaNames.isImport("com.*.Test"));
+		assertFalse(JavaNames.isImport("com.example.*.*"));
+	}
+	
+	@Test
+	public void testIsType(){
+		assertTrue(JavaNames.isType("int"));
+		assertTrue(JavaNames.isType("String"));
+		assertTrue(JavaNames.isType("int[][]"));
+		assertTrue(JavaNames.isType("java.util.List<String>"));
+		assertTrue(JavaNames.isType("Map<String, List<? extends Number>>[]"));
+		assertTrue(JavaNames.isType("List<?>"));
+		assertTrue(JavaNames.isType("List<? super int[]>"));
+		assertTrue(JavaNames.isType("Outer<String>.Inner<Integer>"));
+		assertFalse(JavaNames.isType("List<int>"));
+		assertFalse(JavaNames.isType("List<String"));
+		assertFalse(JavaNames.isType("String["));
+		assertFalse(JavaNames.isType("class"));
+		assertFalse(JavaNames.isType("String..."));
+		assertFalse(JavaNames.isType("List<? extendsNumber>"));
+		assertFalse(JavaNames.isType(""));
+	}
+	
+	@Test
+	public void testIsClassType(){
+		assertTrue(JavaNames.isClassType("Exception"));
+		assertTrue(JavaNames.isClassType("java.io.IOException"));
+		assertFalse(JavaNames.isClassType("int"));
+		assertFalse(JavaNames.isClassType("String[]"));
+	}
+	
+	@Test
+	public void testIsParameterType(){
+		assertTrue(JavaNames.isParameterType("String..."));
+		assertTrue(JavaNames.isParameterType("int[]..."));
+		assertFalse(JavaNames.isParameterType("String...[]"));
+	}
+	
+	@Test
+	public void testIsPrimitiveAndReserved(){
+		assertTrue(JavaNames.isPrimitive("double"));
+		assertFalse(JavaNames.isPrimitive("void"));
+		assertTrue(JavaNames.isReserved("goto"));
+		assertFalse(JavaNames.isReserved("String"));
+	}
+}
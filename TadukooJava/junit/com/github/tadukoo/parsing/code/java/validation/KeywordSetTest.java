@@ -0,0 +1,33 @@
+package com.github.tadukoo.parsing.code.java.validation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KeywordSetTest{
+	
+	@Test
+	public void testAllKeywords(){
+		for(String keyword: KeywordSet.KEYWORDS){
+			assertTrue(KeywordSet.contains(keyword), keyword);
+		}
+	}
+	
+	@Test
+	public void testNonKeywords(){
+		assertFalse(KeywordSet.contains(""));
+		assertFalse(KeywordSet.contains("var"));
+		assertFalse(KeywordSet.contains("record"));
+		assertFalse(KeywordSet.contains("Int"));
+		assertFalse(KeywordSet.contains("classes"));
+		assertFalse(KeywordSet.contains("__"));
+		assertFalse(KeywordSet.contains("synchronizedBlock"));
+	}
+	
+	@Test
+	public void testSubSequence(){
+		assertTrue(KeywordSet.contains("public static", 7, 13));
+		assertFalse(KeywordSet.contains("public static", 6, 13));
+	}
+}
@@ -0,0 +1,116 @@
+package com.github.tadukoo.parsing.code.java.zip;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedZipFileTest{
+	private static final String TEXT = "Some text that repeats. Some text that repeats. Some text that repeats.";
+	
+	/**
+	 * @param file The path to write the zip file to
+	 * @param comment The comment to put at the end of the zip file
+	 * @throws IOException If writing fails
+	 */
+	private static void writeZip(Path file, String comment) throws IOException{
+		byte[] stored = "stored data".getBytes(StandardCharsets.UTF_8);
+		try(OutputStream stream = Files.newOutputStream(file); ZipOutputStream zip = new ZipOutputStream(stream)){
+			zip.putNextEntry(new ZipEntry("dir/"));
+			zip.closeEntry();
+			zip.putNextEntry(new ZipEntry("dir/deflated.txt"));
+			zip.write(TEXT.getBytes(StandardCharsets.UTF_8));
+			zip.closeEntry();
+			
+			ZipEntry storedEntry = new ZipEntry("stored.txt");
+			storedEntry.setMethod(ZipEntry.STORED);
+			storedEntry.setSize(stored.length);
+			CRC32 crc = new CRC32();
+			crc.update(stored);
+			storedEntry.setCrc(crc.getValue());
+			zip.putNextEntry(storedEntry);
+			zip.write(stored);
+			zip.closeEntry();
+			
+			zip.putNextEntry(new ZipEntry("na\u00efve.txt"));
+			zip.closeEntry();
+			zip.setComment(comment);
+		}
+	}
+	
+	/**
+	 * @param buffer The buffer to read
+	 * @return The contents of the buffer as a UTF-8 string
+	 */
+	private static String text(ByteBuffer buffer){
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	@Test
+	public void testEntries() throws IOException{
+		Path file = Files.createTempFile("tadukoo-java", ".zip");
+		try{
+			writeZip(file, "");
+			try(MappedZipFile zip = MappedZipFile.open(file)){
+				assertEquals(file, zip.getPath());
+				List<String> names = zip.getEntries().stream()
+						.map(MappedZipEntry::getName).collect(Collectors.toList());
+				assertEquals(List.of("dir/", "dir/deflated.txt", "stored.txt", "na\u00efve.txt"), names);
+				assertTrue(zip.getEntries().get(0).isDirectory());
+				assertFalse(zip.getEntries().get(1).isDirectory());
+				assertEquals(MappedZipFile.DEFLATED, zip.getEntry("dir/deflated.txt").getMethod());
+				assertEquals(TEXT.length(), zip.getEntry("dir/deflated.txt").getSize());
+				assertEquals(MappedZipFile.STORED, zip.getEntry("stored.txt").getMethod());
+				assertNull(zip.getEntry("missing.txt"));
+			}
+		}finally{
+			Files.deleteIfExists(file);
+		}
+	}
+	
+	@Test
+	public void testRead() throws IOException{
+		Path file = Files.createTempFile("tadukoo-java", ".zip");
+		try{
+			writeZip(file, "A comment at the end");
+			try(MappedZipFile zip = MappedZipFile.open(file)){
+				assertEquals(TEXT, text(zip.read(zip.getEntry("dir/deflated.txt"))));
+				ByteBuffer stored = zip.read(zip.getEntry("stored.txt"));
+				assertTrue(stored.isReadOnly());
+				assertEquals("stored data", text(stored));
+				assertEquals(0, zip.read(zip.getEntry("na\u00efve.txt")).remaining());
+			}
+		}finally{
+			Files.deleteIfExists(file);
+		}
+	}
+	
+	@Test
+	public void testNotAZip() throws IOException{
+		Path file = Files.createTempFile("tadukoo-java", ".zip");
+		try{
+			Files.write(file, "not a zip file at all".getBytes(StandardCharsets.UTF_8));
+			IOException e = assertThrows(IOException.class, () -> MappedZipFile.open(file));
+			assertEquals(file + " is not a zip file (no end of central directory record)", e.getMessage());
+		}finally{
+			Files.deleteIfExists(file);
+		}
+	}
+}
@@ -1,15 +1,19 @@
 package com.github.tadukoo.parsing.code.java;
 
+import com.github.tadukoo.parsing.code.java.cache.Fingerprint;
+import com.github.tadukoo.parsing.code.java.jfr.BuilderValidationEvent;
+import com.github.tadukoo.parsing.code.java.memory.RetainedSize;
 import com.github.tadukoo.util.StringUtil;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Represents an Annotation in Java.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.3
  */
 public class JavaAnnotation{
 	
@@ -55,12 +59,22 @@ public class JavaAnnotation{
 		 * @throws IllegalArgumentException if anything is wrong
 		 */
 		private void checkForErrors(){
+			BuilderValidationEvent event = new BuilderValidationEvent();
+			event.begin();
+			
 			List<String> errors = new ArrayList<>();
 			
 			if(StringUtil.isBlank(name)){
 				errors.add("Must specify name!");
 			}
 			
+			if(event.shouldCommit()){
+				event.setModelType("JavaAnnotation");
+				event.setModelName(name);
+				event.setErrorCount(errors.size());
+				event.commit();
+			}
+			
 			if(!errors.isEmpty()){
 				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
 			}
@@ -103,6 +117,57 @@ public class JavaAnnotation{
 		return name;
 	}
 	
+	/**
+	 * @return An estimate of the number of bytes of heap the annotation retains
+	 * @see RetainedSize
+	 */
+	public long retainedSizeEstimate(){
+		return RetainedSize.shallow(1, 0) + RetainedSize.of(name);
+	}
+	
+	/**
+	 * Checks if the given object is a {@link JavaAnnotation} with the same name as this one
+	 *
+	 * @param otherAnnotation The object to compare against
+	 * @return true if the given object is an equivalent {@link JavaAnnotation}, false otherwise
+	 */
+	@Override
+	public boolean equals(Object otherAnnotation){
+		if(this == otherAnnotation){
+			return true;
+		}
+		if(!(otherAnnotation instanceof JavaAnnotation)){
+			return false;
+		}
+		return Objects.equals(name, ((JavaAnnotation) otherAnnotation).name);
+	}
+	
+	/**
+	 * @return A hash code based on the name of the annotation
+	 */
+	@Override
+	public int hashCode(){
+		return Objects.hashCode(name);
+	}
+	
+	/**
+	 * Adds the given annotations (by name, with their count) to a {@link Fingerprint.Hasher} for the fingerprint
+	 * of a model that has them
+	 *
+	 * @param hasher The {@link Fingerprint.Hasher} to add the annotations to
+	 * @param annotations The annotations to add (may be null)
+	 */
+	static void addTo(Fingerprint.Hasher hasher, List<JavaAnnotation> annotations){
+		if(annotations == null){
+			hasher.add(-1);
+			return;
+		}
+		hasher.add(annotations.size());
+		for(JavaAnnotation annotation: annotations){
+			hasher.add(annotation == null?null:annotation.name);
+		}
+	}
+	
 	/**
 	 * @return This Java Annotation as a string, ready to be put in some Java code
 	 */
@@ -1,5 +1,11 @@
 package com.github.tadukoo.parsing.code.java;
 
+import com.github.tadukoo.parsing.code.java.jfr.BuilderValidationEvent;
+import com.github.tadukoo.parsing.code.java.jfr.ClassRenderEvent;
+import com.github.tadukoo.parsing.code.java.memory.RetainedSize;
+import com.github.tadukoo.parsing.code.java.metrics.JavaMetrics;
+import com.github.tadukoo.parsing.code.java.metrics.JavaMetricsListener;
+import com.github.tadukoo.parsing.code.java.metrics.JavaModelType;
 import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.StringUtil;
 
@@ -10,7 +16,7 @@ import java.util.List;
  * Java Class is used to represent a class in Java.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.3
  * @since Alpha v.0.2
  */
 public class JavaClass{
@@ -51,6 +57,11 @@ public class JavaClass{
 	 *         <td>{@link Visibility#PUBLIC}</td>
 	 *     </tr>
 	 *     <tr>
+	 *         <td>isAbstract</td>
+	 *         <td>Whether the class is abstract (and so can have abstract methods) or not</td>
+	 *         <td>false</td>
+	 *     </tr>
+	 *     <tr>
 	 *         <td>className</td>
 	 *         <td>The name of the class</td>
 	 *         <td>Required</td>
@@ -70,6 +81,26 @@ public class JavaClass{
 	 *         <td>The {@link JavaMethod methods} in the class</td>
 	 *         <td>An empty list</td>
 	 *     </tr>
+	 *     <tr>
+	 *         <td>generateConstructor</td>
+	 *         <td>Whether a constructor taking the fields without values is generated when the class is rendered</td>
+	 *         <td>false</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>generateEquals</td>
+	 *         <td>Whether an equals method comparing the fields is generated when the class is rendered</td>
+	 *         <td>false</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>generateHashCode</td>
+	 *         <td>Whether a hashCode method hashing the fields is generated when the class is rendered</td>
+	 *         <td>false</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>generateToString</td>
+	 *         <td>Whether a toString method showing the fields is generated when the class is rendered</td>
+	 *         <td>false</td>
+	 *     </tr>
 	 * </table>
 	 *
 	 * @author Logan Ferree (Tadukoo)
@@ -87,6 +118,8 @@ public class JavaClass{
 		private List<JavaAnnotation> annotations = new ArrayList<>();
 		/** The {@link Visibility} of the class */
 		private Visibility visibility = Visibility.PUBLIC;
+		/** Whether the class is abstract (and so can have abstract methods) or not */
+		private boolean isAbstract = false;
 		/** The name of the class */
 		private String className = null;
 		/** The name of the class this one extends (may be null) */
@@ -95,6 +128,14 @@ public class JavaClass{
 		private List<JavaField> fields = new ArrayList<>();
 		/** The {@link JavaMethod methods} in the class */
 		private List<JavaMethod> methods = new ArrayList<>();
+		/** Whether a constructor taking the fields without values is generated when the class is rendered */
+		private boolean generateConstructor = false;
+		/** Whether an equals method comparing the fields is generated when the class is rendered */
+		private boolean generateEquals = false;
+		/** Whether a hashCode method hashing the fields is generated when the class is rendered */
+		private boolean generateHashCode = false;
+		/** Whether a toString method showing the fields is generated when the class is rendered */
+		private boolean generateToString = false;
 		
 		// Can't create outside of JavaClass
 		private JavaClassBuilder(){ }
@@ -171,6 +212,25 @@ public class JavaClass{
 			return this;
 		}
 		
+		/**
+		 * Sets the class to be abstract (so it can have abstract methods)
+		 *
+		 * @return this, to continue building
+		 */
+		public JavaClassBuilder isAbstract(){
+			isAbstract = true;
+			return this;
+		}
+		
+		/**
+		 * @param isAbstract Whether the class is abstract (and so can have abstract methods) or not
+		 * @return this, to continue building
+		 */
+		public JavaClassBuilder isAbstract(boolean isAbstract){
+			this.isAbstract = isAbstract;
+			return this;
+		}
+		
 		/**
 		 * @param className The name of the class
 		 * @return this, to continue building
@@ -189,6 +249,15 @@ public class JavaClass{
 			return this;
 		}
 		
+		/**
+		 * @param superClass The {@link TypeRef type} of the class this one extends (may be null)
+		 * @return this, to continue building
+		 */
+		public JavaClassBuilder superClassRef(TypeRef superClass){
+			superClassName = superClass == null?null:superClass.getText();
+			return this;
+		}
+		
 		/**
 		 * @param fields The {@link JavaField fields} on the class
 		 * @return this, to continue building
@@ -225,12 +294,91 @@ public class JavaClass{
 			return this;
 		}
 		
+		/**
+		 * Has a constructor taking the fields without values generated when the class is rendered
+		 *
+		 * @return this, to continue building
+		 */
+		public JavaClassBuilder generateConstructor(){
+			generateConstructor = true;
+			return this;
+		}
+		
+		/**
+		 * @param generateConstructor Whether a constructor taking the fields without values is generated when the class is rendered
+		 * @return this, to continue building
+		 */
+		public JavaClassBuilder generateConstructor(boolean generateConstructor){
+			this.generateConstructor = generateConstructor;
+			return this;
+		}
+		
+		/**
+		 * Has an equals method comparing the fields generated when the class is rendered
+		 *
+		 * @return this, to continue building
+		 */
+		public JavaClassBuilder generateEquals(){
+			generateEquals = true;
+			return this;
+		}
+		
+		/**
+		 * @param generateEquals Whether an equals method comparing the fields is generated when the class is rendered
+		 * @return this, to continue building
+		 */
+		public JavaClassBuilder generateEquals(boolean generateEquals){
+			this.generateEquals = generateEquals;
+			return this;
+		}
+		
+		/**
+		 * Has a hashCode method hashing the fields generated when the class is rendered
+		 *
+		 * @return this, to continue building
+		 */
+		public JavaClassBuilder generateHashCode(){
+			generateHashCode = true;
+			return this;
+		}
+		
+		/**
+		 * @param generateHashCode Whether a hashCode method hashing the fields is generated when the class is rendered
+		 * @return this, to continue building
+		 */
+		public JavaClassBuilder generateHashCode(boolean generateHashCode){
+			this.generateHashCode = generateHashCode;
+			return this;
+		}
+		
+		/**
+		 * Has a toString method showing the fields generated when the class is rendered
+		 *
+		 * @return this, to continue building
+		 */
+		public JavaClassBuilder generateToString(){
+			generateToString = true;
+			return this;
+		}
+		
+		/**
+		 * @param generateToString Whether a toString method showing the fields is generated when the class is rendered
+		 * @return this, to continue building
+		 */
+		public JavaClassBuilder generateToString(boolean generateToString){
+			this.generateToString = generateToString;
+			return this;
+		}
+		
 		/**
 		 * Checks for any errors in the current parameters
 		 *
 		 * @throws IllegalArgumentException if anything is wrong
 		 */
 		private void checkForErrors(){
+			BuilderValidationEvent event = new BuilderValidationEvent();
+			event.begin();
+			
 			List<String> errors = new ArrayList<>();
 			
 			if(StringUtil.isBlank(packageName)){
@@ -241,6 +389,22 @@ public class JavaClass{
 				errors.add("Must specify className!");
 			}
 			
+			if(!isAbstract && ListUtil.isNotBlank(methods)){
+				for(JavaMethod method: methods){
+					if(method != null && method.isAbstract()){
+						errors.add("Only abstract classes can have abstract methods!");
+						break;
+					}
+				}
+			}
+			
+			if(event.shouldCommit()){
+				event.setModelType("JavaClass");
+				event.setModelName(className);
+				event.setErrorCount(errors.size());
+				event.commit();
+			}
+			
 			if(!errors.isEmpty()){
 				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
 			}
@@ -253,12 +417,20 @@ public class JavaClass{
 		 * @throws IllegalArgumentException if anything is wrong with the current parameters
 		 */
 		public JavaClass build(){
+			JavaMetricsListener listener = JavaMetrics.getListener();
+			long start = listener != null?System.nanoTime():0L;
+			
 			// Run the error check
 			checkForErrors();
 			
 			// Actually build the Java Class
-			return new JavaClass(packageName, imports, staticImports, annotations,
-					visibility, className, superClassName, fields, methods);
+			JavaClass clazz = new JavaClass(packageName, imports, staticImports, annotations,
+					visibility, isAbstract, className, superClassName, fields, methods,
+					generateConstructor, generateEquals, generateHashCode, generateToString);
+			if(listener != null){
+				listener.onModelBuilt(JavaModelType.CLASS, System.nanoTime() - start);
+			}
+			return clazz;
 		}
 	}
 	
@@ -272,6 +444,8 @@ public class JavaClass{
 	private final List<JavaAnnotation> annotations;
 	/** The {@link Visibility} of the class */
 	private final Visibility visibility;
+	/** Whether the class is abstract (and so can have abstract methods) or not */
+	private final boolean isAbstract;
 	/** The name of the class */
 	private final String className;
 	/** The name of the class this one extends (may be null) */
@@ -280,6 +454,16 @@ public class JavaClass{
 	private final List<JavaField> fields;
 	/** The {@link JavaMethod methods} in the class */
 	private final List<JavaMethod> methods;
+	/** Whether a constructor taking the fields without values is generated when the class is rendered */
+	private final boolean generateConstructor;
+	/** Whether an equals method comparing the fields is generated when the class is rendered */
+	private final boolean generateEquals;
+	/** Whether a hashCode method hashing the fields is generated when the class is rendered */
+	private final boolean generateHashCode;
+	/** Whether a toString method showing the fields is generated when the class is rendered */
+	private final boolean generateToString;
+	/** The {@link TypeRef type} of the class this one extends (made the first time it's needed) */
+	private TypeRef superClassRef = null;
 	
 	/**
 	 * Constructs a new Java Class with the given parameters
@@ -289,24 +473,36 @@ public class JavaClass{
 	 * @param staticImports The classes imported statically by the class
 	 * @param annotations The {@link JavaAnnotation annotations} on the class
 	 * @param visibility The {@link Visibility} of the class
+	 * @param isAbstract Whether the class is abstract (and so can have abstract methods) or not
 	 * @param className The name of the class
 	 * @param superClassName The name of the class this one extends (may be null)
 	 * @param fields The {@link JavaField fields} on the class
 	 * @param methods The {@link JavaMethod methods} in the class
+	 * @param generateConstructor Whether a constructor taking the fields without values is generated when the class is rendered
+	 * @param generateEquals Whether an equals method comparing the fields is generated when the class is rendered
+	 * @param generateHashCode Whether a hashCode method hashing the fields is generated when the class is rendered
+	 * @param generateToString Whether a toString method showing the fields is generated when the class is rendered
 	 */
 	private JavaClass(String packageName, List<String> imports, List<String> staticImports,
 	                  List<JavaAnnotation> annotations,
-	                  Visibility visibility, String className, String superClassName,
-	                  List<JavaField> fields, List<JavaMethod> methods){
+	                  Visibility visibility, boolean isAbstract, String className, String superClassName,
+	                  List<JavaField> fields, List<JavaMethod> methods,
+	                  boolean generateConstructor, boolean generateEquals,
+	                  boolean generateHashCode, boolean generateToString){
 		this.packageName = packageName;
 		this.imports = imports;
 		this.staticImports = staticImports;
 		this.annotations = annotations;
 		this.visibility = visibility;
+		this.isAbstract = isAbstract;
 		this.className = className;
 		this.superClassName = superClassName;
 		this.fields = fields;
 		this.methods = methods;
+		this.generateConstructor = generateConstructor;
+		this.generateEquals = generateEquals;
+		this.generateHashCode = generateHashCode;
+		this.generateToString = generateToString;
 	}
 	
 	/**
@@ -351,6 +547,13 @@ public class JavaClass{
 		return visibility;
 	}
 	
+	/**
+	 * @return Whether the class is abstract (and so can have abstract methods) or not
+	 */
+	public boolean isAbstract(){
+		return isAbstract;
+	}
+	
 	/**
 	 * @return The name of the class
 	 */
@@ -365,6 +568,20 @@ public class JavaClass{
 		return superClassName;
 	}
 	
+	/**
+	 * @return The interned {@link TypeRef type} of the class this one extends (null if it doesn't extend anything)
+	 * @throws IllegalArgumentException If the super class name isn't a valid type
+	 */
+	public TypeRef getSuperClassRef(){
+		// Threads racing to make it all get the same interned one, and Type Refs are immutable
+		TypeRef result = superClassRef;
+		if(result == null && StringUtil.isNotBlank(superClassName)){
+			result = TypeRef.of(superClassName);
+			superClassRef = result;
+		}
+		return result;
+	}
+	
 	/**
 	 * @return The {@link JavaField fields} on the class
 	 */
@@ -380,22 +597,100 @@ public class JavaClass{
 	}
 	
 	/**
+	 * @return Whether a constructor taking the fields without values is generated when the class is rendered
+	 * @see SynthesizedMembers
+	 */
+	public boolean generatesConstructor(){
+		return generateConstructor;
+	}
+	
+	/**
+	 * @return Whether an equals method comparing the fields is generated when the class is rendered
+	 * @see SynthesizedMembers
+	 */
+	public boolean generatesEquals(){
+		return generateEquals;
+	}
+	
+	/**
+	 * @return Whether a hashCode method hashing the fields is generated when the class is rendered
+	 * @see SynthesizedMembers
+	 */
+	public boolean generatesHashCode(){
+		return generateHashCode;
+	}
+	
+	/**
+	 * @return Whether a toString method showing the fields is generated when the class is rendered
+	 * @see SynthesizedMembers
+	 */
+	public boolean generatesToString(){
+		return generateToString;
+	}
+	
+	/**
+	 * @return An estimate of the number of bytes of heap the class retains, including its imports, annotations,
+	 * fields, and methods
+	 * @see RetainedSize
+	 */
+	public long retainedSizeEstimate(){
+		return RetainedSize.shallow(10, 5) + RetainedSize.of(packageName) + RetainedSize.ofStrings(imports) +
+				RetainedSize.ofStrings(staticImports) +
+				RetainedSize.of(annotations, JavaAnnotation::retainedSizeEstimate) + RetainedSize.of(className) +
+				RetainedSize.of(superClassName) + RetainedSize.of(fields, JavaField::retainedSizeEstimate) +
+				RetainedSize.of(methods, JavaMethod::retainedSizeEstimate);
+	}
+	
+	/**
+	 * Renders the class, reporting to the {@link JavaMetrics#getListener() metrics listener} and Flight Recorder
+	 * if enabled
+	 *
 	 * @return The actual Java code this {@link JavaClass} represents
 	 */
 	@Override
 	public String toString(){
+		JavaMetricsListener listener = JavaMetrics.getListener();
+		long start = listener != null?System.nanoTime():0L;
+		ClassRenderEvent event = new ClassRenderEvent();
+		event.begin();
+		
+		String rendered = render();
+		
+		if(event.shouldCommit()){
+			event.setClassName(packageName + "." + className);
+			event.setFieldCount(fields == null?0:fields.size());
+			event.setMethodCount(methods == null?0:methods.size());
+			event.setOutputSize(rendered.length());
+			event.commit();
+		}
+		if(listener != null){
+			listener.onClassRendered(this, System.nanoTime() - start, rendered.length());
+		}
+		return rendered;
+	}
+	
+	/**
+	 * @return The actual Java code this {@link JavaClass} represents
+	 */
+	private String render(){
 		// Create a list of the lines of the class
 		List<String> content = new ArrayList<>();
 		
 		// Package Declaration
 		content.add("package " + packageName + ";");
 		
-		// Import Statements
-		if(ListUtil.isNotBlank(imports)){
+		// Import Statements, including any needed by synthesized members
+		List<String> missingImports = SynthesizedMembers.missingImports(this);
+		if(ListUtil.isNotBlank(imports) || !missingImports.isEmpty()){
 			// Newline between package declaration + imports
 			content.add("");
-			for(String singleImport: imports){
-				content.add("import " + singleImport + ";");
+			if(ListUtil.isNotBlank(imports)){
+				for(String singleImport: imports){
+					content.add("import " + singleImport + ";");
+				}
+			}
+			for(String missingImport: missingImports){
+				content.add("import " + missingImport + ";");
 			}
 		}
 		
@@ -419,7 +714,7 @@ public class JavaClass{
 		}
 		
 		// Class Declaration
-		content.add(visibility.getText() + " class " + className +
+		content.add(visibility.getText() + (isAbstract?" abstract":"") + " class " + className +
 				(StringUtil.isNotBlank(superClassName)?" extends " + superClassName:"") + "{");
 		
 		// Newline at start of class
@@ -428,27 +723,39 @@ public class JavaClass{
 		// Fields on the class
 		if(ListUtil.isNotBlank(fields)){
 			for(JavaField field: fields){
-				content.add("\t" + field.toString() + ";");
+				// Indent every line, including the declaration after any annotations
+				content.add("\t" + field.toString().replace("\n", "\n\t") + ";");
 			}
 		}
 		
-		// Methods in the class
-		if(ListUtil.isNotBlank(methods)){
+		// Methods in the class, followed by any synthesized ones
+		int synthesizedCount = SynthesizedMembers.count(this);
+		if(ListUtil.isNotBlank(methods) || synthesizedCount > 0){
 			// Newline to separate fields from methods
 			if(ListUtil.isNotBlank(fields)){
 				content.add("\t");
 			}
-			for(JavaMethod method: methods){
-				// Split the method into its lines so we can add it to our lines
-				List<String> lines = StringUtil.parseListFromStringWithSeparator(
-						method.toString(), "\n", false);
-				for(String line: lines){
-					content.add("\t" + line);
+			if(ListUtil.isNotBlank(methods)){
+				for(JavaMethod method: methods){
+					// Split the method into its lines so we can add it to our lines
+					List<String> lines = StringUtil.parseListFromStringWithSeparator(
+							method.toString(), "\n", false);
+					for(String line: lines){
+						content.add("\t" + line);
+					}
+					content.add("\t");
 				}
-				content.add("\t");
 			}
-			// Remove extra newline at the end
-			content.remove(content.size()-1);
+			if(synthesizedCount > 0){
+				// Synthesized members are written straight out as one chunk, without their final newline
+				StringBuilder synthesized = new StringBuilder(synthesizedCount * 64);
+				SynthesizedMembers.render(this, SynthesizedMembers.Layout.DEFAULT, false, synthesized);
+				synthesized.setLength(synthesized.length() - 1);
+				content.add(synthesized.toString());
+			}else{
+				// Remove extra newline at the end
+				content.remove(content.size()-1);
+			}
 		}
 		
 		// Closing brace at end of class and empty newline at end of file
@@ -1,16 +1,25 @@
 package com.github.tadukoo.parsing.code.java;
 
+import com.github.tadukoo.parsing.code.java.cache.Fingerprint;
+import com.github.tadukoo.parsing.code.java.cache.RenderCache;
+import com.github.tadukoo.parsing.code.java.jfr.BuilderValidationEvent;
+import com.github.tadukoo.parsing.code.java.memory.RetainedSize;
+import com.github.tadukoo.parsing.code.java.metrics.JavaMetrics;
+import com.github.tadukoo.parsing.code.java.metrics.JavaMetricsListener;
+import com.github.tadukoo.parsing.code.java.metrics.JavaModelType;
 import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.StringUtil;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Java Field represents a field in a {@link JavaClass Java class}
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.3
  * @since Alpha v.0.2
  */
 public class JavaField{
@@ -55,6 +64,17 @@ public class JavaField{
 	 *         <td>The value assigned to the field</td>
 	 *         <td>null</td>
 	 *     </tr>
+	 *     <tr>
+	 *         <td>generateGetter</td>
+	 *         <td>Whether a getter for the field is generated when its class is rendered</td>
+	 *         <td>false</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>generateSetter</td>
+	 *         <td>Whether a setter for the field is generated when its class is rendered (not allowed on final
+	 *         fields)</td>
+	 *         <td>false</td>
+	 *     </tr>
 	 * </table>
 	 *
 	 * @author Logan Ferree (Tadukoo)
@@ -74,6 +94,10 @@ public class JavaField{
 		private String name = null;
 		/** The value assigned to the field */
 		private String value = null;
+		/** Whether a getter for the field is generated when its class is rendered */
+		private boolean generateGetter = false;
+		/** Whether a setter for the field is generated when its class is rendered */
+		private boolean generateSetter = false;
 		
 		// Can't create outside of JavaField
 		private JavaFieldBuilder(){ }
@@ -133,6 +157,15 @@ public class JavaField{
 			return this;
 		}
 		
+		/**
+		 * @param type The {@link TypeRef type} of the field
+		 * @return this, to continue building
+		 */
+		public JavaFieldBuilder typeRef(TypeRef type){
+			this.type = type == null?null:type.getText();
+			return this;
+		}
+		
 		/**
 		 * @param name The name of the field
 		 * @return this, to continue building
@@ -151,12 +184,53 @@ public class JavaField{
 			return this;
 		}
 		
+		/**
+		 * Has a getter generated for the field when its class is rendered
+		 *
+		 * @return this, to continue building
+		 */
+		public JavaFieldBuilder generateGetter(){
+			generateGetter = true;
+			return this;
+		}
+		
+		/**
+		 * @param generateGetter Whether a getter for the field is generated when its class is rendered
+		 * @return this, to continue building
+		 */
+		public JavaFieldBuilder generateGetter(boolean generateGetter){
+			this.generateGetter = generateGetter;
+			return this;
+		}
+		
+		/**
+		 * Has a setter generated for the field when its class is rendered
+		 *
+		 * @return this, to continue building
+		 */
+		public JavaFieldBuilder generateSetter(){
+			generateSetter = true;
+			return this;
+		}
+		
+		/**
+		 * @param generateSetter Whether a setter for the field is generated when its class is rendered
+		 * @return this, to continue building
+		 */
+		public JavaFieldBuilder generateSetter(boolean generateSetter){
+			this.generateSetter = generateSetter;
+			return this;
+		}
+		
 		/**
 		 * Checks for any errors in the current parameters
 		 *
 		 * @throws IllegalArgumentException if anything is wrong
 		 */
 		private void checkForErrors(){
+			BuilderValidationEvent event = new BuilderValidationEvent();
+			event.begin();
+			
 			List<String> errors = new ArrayList<>();
 			
 			if(StringUtil.isBlank(type)){
@@ -167,6 +241,17 @@ public class JavaField{
 				errors.add("Must specify name!");
 			}
 			
+			if(isFinal && generateSetter){
+				errors.add("Can't generate a setter for a final field!");
+			}
+			
+			if(event.shouldCommit()){
+				event.setModelType("JavaField");
+				event.setModelName(name);
+				event.setErrorCount(errors.size());
+				event.commit();
+			}
+			
 			if(!errors.isEmpty()){
 				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
 			}
@@ -179,9 +264,17 @@ public class JavaField{
 		 * @throws IllegalArgumentException if anything is wrong with the current parameters
 		 */
 		public JavaField build(){
+			JavaMetricsListener listener = JavaMetrics.getListener();
+			long start = listener != null?System.nanoTime():0L;
+			
 			checkForErrors();
 			
-			return new JavaField(annotations, visibility, isFinal, type, name, value);
+			JavaField field = new JavaField(annotations, visibility, isFinal, type, name, value,
+					generateGetter, generateSetter);
+			if(listener != null){
+				listener.onModelBuilt(JavaModelType.FIELD, System.nanoTime() - start);
+			}
+			return field;
 		}
 	}
 	
@@ -197,6 +290,14 @@ public class JavaField{
 	private final String name;
 	/** The value assigned to the field */
 	private final String value;
+	/** Whether a getter for the field is generated when its class is rendered */
+	private final boolean generateGetter;
+	/** Whether a setter for the field is generated when its class is rendered */
+	private final boolean generateSetter;
+	/** The {@link Fingerprint} of the structure of the field (made the first time it's needed) */
+	private Fingerprint fingerprint = null;
+	/** The {@link TypeRef type} of the field (made the first time it's needed) */
+	private TypeRef typeRef = null;
 	
 	/**
 	 * Constructs a Java Field with the given parameters
@@ -207,16 +308,32 @@ public class JavaField{
 	 * @param type The type of the field
 	 * @param name The name of the field
 	 * @param value The value assigned to the field
+	 * @param generateGetter Whether a getter for the field is generated when its class is rendered
+	 * @param generateSetter Whether a setter for the field is generated when its class is rendered
 	 */
 	private JavaField(
 			List<JavaAnnotation> annotations, Visibility visibility, boolean isFinal, String type,
-			String name, String value){
-		this.annotations = annotations;
+			String name, String value, boolean generateGetter, boolean generateSetter){
+		this.annotations = unmodifiableCopy(annotations);
 		this.visibility = visibility;
 		this.isFinal = isFinal;
 		this.type = type;
 		this.name = name;
 		this.value = value;
+		this.generateGetter = generateGetter;
+		this.generateSetter = generateSetter;
+	}
+	
+	/**
+	 * Copies a list given to the builder, so changes to it (or the builder) can't change the built field and leave
+	 * its {@link Fingerprint} stale
+	 *
+	 * @param list The list to copy (may be null)
+	 * @param <T> The type of elements in the list
+	 * @return An unmodifiable copy of the list, or null if it's null
+	 */
+	private static <T> List<T> unmodifiableCopy(List<T> list){
+		return list == null?null:Collections.unmodifiableList(new ArrayList<>(list));
 	}
 	
 	/**
@@ -227,7 +344,7 @@ public class JavaField{
 	}
 	
 	/**
-	 * @return The {@link JavaAnnotation annotations} on the field
+	 * @return The {@link JavaAnnotation annotations} on the field (unmodifiable)
 	 */
 	public List<JavaAnnotation> getAnnotations(){
 		return annotations;
@@ -254,6 +371,20 @@ public class JavaField{
 		return type;
 	}
 	
+	/**
+	 * @return The interned {@link TypeRef type} of the field
+	 * @throws IllegalArgumentException If the type isn't a valid type
+	 */
+	public TypeRef getTypeRef(){
+		// Threads racing to make it all get the same interned one, and Type Refs are immutable
+		TypeRef result = typeRef;
+		if(result == null){
+			result = TypeRef.of(type);
+			typeRef = result;
+		}
+		return result;
+	}
+	
 	/**
 	 * @return The name of the field
 	 */
@@ -269,10 +400,100 @@ public class JavaField{
 	}
 	
 	/**
+	 * @return Whether a getter for the field is generated when its class is rendered
+	 * @see SynthesizedMembers
+	 */
+	public boolean generatesGetter(){
+		return generateGetter;
+	}
+	
+	/**
+	 * @return Whether a setter for the field is generated when its class is rendered
+	 * @see SynthesizedMembers
+	 */
+	public boolean generatesSetter(){
+		return generateSetter;
+	}
+	
+	/**
+	 * @return An estimate of the number of bytes of heap the field retains, including its annotations
+	 * @see RetainedSize
+	 */
+	public long retainedSizeEstimate(){
+		return RetainedSize.shallow(7, 3) + RetainedSize.of(annotations, JavaAnnotation::retainedSizeEstimate) +
+				RetainedSize.of(type) + RetainedSize.of(name) + RetainedSize.of(value);
+	}
+	
+	/**
+	 * @return The {@link Fingerprint} of the structure of the field, used to key the {@link RenderCache}
+	 */
+	public Fingerprint getFingerprint(){
+		// Threads racing to make it all make the same one, and Fingerprints are immutable
+		Fingerprint result = fingerprint;
+		if(result == null){
+			Fingerprint.Hasher hasher = Fingerprint.hasher();
+			JavaAnnotation.addTo(hasher, annotations);
+			result = hasher.add(visibility.ordinal()).add(isFinal).add(type).add(name).add(value)
+					.add(generateGetter).add(generateSetter).build();
+			fingerprint = result;
+		}
+		return result;
+	}
+	
+	/**
+	 * Checks if the given object is a {@link JavaField} with the same annotations, visibility, finality,
+	 * type, name, value, and generated accessors as this one
+	 *
+	 * @param otherField The object to compare against
+	 * @return true if the given object is an equivalent {@link JavaField}, false otherwise
+	 */
+	@Override
+	public boolean equals(Object otherField){
+		if(this == otherField){
+			return true;
+		}
+		if(!(otherField instanceof JavaField)){
+			return false;
+		}
+		JavaField field = (JavaField) otherField;
+		return getFingerprint().equals(field.getFingerprint()) && isFinal == field.isFinal && visibility == field.visibility &&
+				generateGetter == field.generateGetter && generateSetter == field.generateSetter &&
+				Objects.equals(type, field.type) && Objects.equals(name, field.name) &&
+				Objects.equals(value, field.value) && Objects.equals(annotations, field.annotations);
+	}
+	
+	/**
+	 * @return A hash code based on the structure of the field (from its {@link #getFingerprint() fingerprint})
+	 */
+	@Override
+	public int hashCode(){
+		return getFingerprint().hashCode();
+	}
+	
+	/**
+	 * Renders the field, using the {@link RenderCache#getGlobalCache() global render cache} if one is set and
+	 * reporting to the {@link JavaMetrics#getListener() metrics listener} if one is installed
+	 *
 	 * @return A string of the form "{visibility.getText()} {type} {name}", with annotations on newlines above
 	 */
 	@Override
 	public String toString(){
+		JavaMetricsListener listener = JavaMetrics.getListener();
+		long start = listener != null?System.nanoTime():0L;
+		
+		RenderCache cache = RenderCache.getGlobalCache();
+		String rendered = cache != null?cache.getOrRender(getFingerprint(), this::render):render();
+		
+		if(listener != null){
+			listener.onFieldRendered(this, System.nanoTime() - start, rendered.length());
+		}
+		return rendered;
+	}
+	
+	/**
+	 * @return A string of the form "{visibility.getText()} {type} {name}", with annotations on newlines above
+	 */
+	private String render(){
 		List<String> content = new ArrayList<>();
 		
 		// Annotations
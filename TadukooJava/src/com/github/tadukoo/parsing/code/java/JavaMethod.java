@@ -1,20 +1,33 @@
 package com.github.tadukoo.parsing.code.java;
 
+import com.github.tadukoo.parsing.code.java.cache.Fingerprint;
+import com.github.tadukoo.parsing.code.java.cache.RenderCache;
+import com.github.tadukoo.parsing.code.java.jfr.BuilderValidationEvent;
+import com.github.tadukoo.parsing.code.java.jfr.MethodRenderEvent;
+import com.github.tadukoo.parsing.code.java.memory.RetainedSize;
+import com.github.tadukoo.parsing.code.java.metrics.JavaMetrics;
+import com.github.tadukoo.parsing.code.java.metrics.JavaMetricsListener;
+import com.github.tadukoo.parsing.code.java.metrics.JavaModelType;
 import com.github.tadukoo.util.ListUtil;
 import com.github.tadukoo.util.StringUtil;
 import com.github.tadukoo.util.tuple.Pair;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Java Method represents a method in a Java class or interface, etc.
  *
  * @author Logan Ferree (Tadukoo)
- * @version Alpha v.0.3
+ * @version Alpha v.0.3.3
  * @since Alpha v.0.2
  */
 public class JavaMethod{
+	/** The parameter arrays shared by every method (and builder) without parameters */
+	private static final String[] NO_PARAMETERS = new String[0];
 	
 	/**
 	 * Java Method Builder is used to build a new {@link JavaMethod}. It contains the following parameters:
@@ -37,6 +50,11 @@ public class JavaMethod{
 	 *         <td>{@link Visibility#PUBLIC}</td>
 	 *     </tr>
 	 *     <tr>
+	 *         <td>isAbstract</td>
+	 *         <td>Whether the method is abstract (declared without a body) or not</td>
+	 *         <td>false</td>
+	 *     </tr>
+	 *     <tr>
 	 *         <td>returnType</td>
 	 *         <td>The return type of the method</td>
 	 *         <td>Required</td>
@@ -72,12 +90,23 @@ public class JavaMethod{
 		private List<JavaAnnotation> annotations = new ArrayList<>();
 		/** The {@link Visibility} of the method */
 		private Visibility visibility = Visibility.PUBLIC;
+		/** Whether the method is abstract (declared without a body) or not */
+		private boolean isAbstract = false;
 		/** The return type of the method */
 		private String returnType = null;
 		/** The name of the method */
 		private String name = null;
-		/** The parameters used in the method - pairs of type, then name */
-		private List<Pair<String, String>> parameters = new ArrayList<>();
+		/** The types of the parameters used in the method, in the same order as their names */
+		private String[] parameterTypes = NO_PARAMETERS;
+		/** The names of the parameters used in the method, in the same order as their types */
+		private String[] parameterNames = NO_PARAMETERS;
+		/** The number of parameters added so far */
+		private int parameterCount = 0;
+		/**
+		 * The {@link Pair Pairs} the parameters were given as, in the same order as their types (null until one is
+		 * given as a Pair, and null at each index given as a type and name)
+		 */
+		private Pair<String, String>[] parameterPairs = null;
 		/** The types that can be thrown by the method */
 		private List<String> throwTypes = new ArrayList<>();
 		/** The actual lines of code in the method */
@@ -113,6 +142,25 @@ public class JavaMethod{
 			return this;
 		}
 		
+		/**
+		 * Sets the method to be abstract (declared without a body)
+		 *
+		 * @return this, to continue building
+		 */
+		public JavaMethodBuilder isAbstract(){
+			isAbstract = true;
+			return this;
+		}
+		
+		/**
+		 * @param isAbstract Whether the method is abstract (declared without a body) or not
+		 * @return this, to continue building
+		 */
+		public JavaMethodBuilder isAbstract(boolean isAbstract){
+			this.isAbstract = isAbstract;
+			return this;
+		}
+		
 		/**
 		 * @param returnType The return type of the method
 		 * @return this, to continue building
@@ -122,6 +170,15 @@ public class JavaMethod{
 			return this;
 		}
 		
+		/**
+		 * @param returnType The {@link TypeRef return type} of the method
+		 * @return this, to continue building
+		 */
+		public JavaMethodBuilder returnTypeRef(TypeRef returnType){
+			this.returnType = returnType == null?null:returnType.getText();
+			return this;
+		}
+		
 		/**
 		 * @param name The name of the method
 		 * @return this, to continue building
@@ -132,11 +189,17 @@ public class JavaMethod{
 		}
 		
 		/**
-		 * @param parameters The parameters used in the method - pairs of type, then name
+		 * @param parameters The parameters used in the method - pairs of type, then name (replaces any parameters
+		 * added so far)
 		 * @return this, to continue building
 		 */
 		public JavaMethodBuilder parameters(List<Pair<String, String>> parameters){
-			this.parameters = parameters;
+			parameterCount = 0;
+			if(parameters != null){
+				for(Pair<String, String> parameter: parameters){
+					parameter(parameter);
+				}
+			}
 			return this;
 		}
 		
@@ -145,7 +208,11 @@ public class JavaMethod{
 		 * @return this, to continue building
 		 */
 		public JavaMethodBuilder parameter(Pair<String, String> parameter){
-			parameters.add(parameter);
+			parameter(parameter.getLeft(), parameter.getRight());
+			if(parameterPairs == null){
+				parameterPairs = newPairArray(parameterTypes.length);
+			}
+			parameterPairs[parameterCount - 1] = parameter;
 			return this;
 		}
 		
@@ -155,10 +222,32 @@ public class JavaMethod{
 		 * @return this, to continue building
 		 */
 		public JavaMethodBuilder parameter(String type, String name){
-			parameters.add(Pair.of(type, name));
+			if(parameterCount == parameterTypes.length){
+				int capacity = Math.max(4, parameterCount * 2);
+				parameterTypes = Arrays.copyOf(parameterTypes, capacity);
+				parameterNames = Arrays.copyOf(parameterNames, capacity);
+				if(parameterPairs != null){
+					parameterPairs = Arrays.copyOf(parameterPairs, capacity);
+				}
+			}
+			parameterTypes[parameterCount] = type;
+			parameterNames[parameterCount] = name;
+			if(parameterPairs != null){
+				parameterPairs[parameterCount] = null;
+			}
+			parameterCount++;
 			return this;
 		}
 		
+		/**
+		 * @param type The {@link TypeRef type} of the parameter to be added
+		 * @param name The name of the parameter to be added
+		 * @return this, to continue building
+		 */
+		public JavaMethodBuilder parameterRef(TypeRef type, String name){
+			return parameter(type == null?null:type.getText(), name);
+		}
+		
 		/**
 		 * @param throwTypes The types the method can throw
 		 * @return this, to continue building
@@ -177,6 +266,14 @@ public class JavaMethod{
 			return this;
 		}
 		
+		/**
+		 * @param throwType A {@link TypeRef type} the method can throw - to add to the list
+		 * @return this, to continue building
+		 */
+		public JavaMethodBuilder throwTypeRef(TypeRef throwType){
+			return throwType(throwType == null?null:throwType.getText());
+		}
+		
 		/**
 		 * @param lines The actual lines of code in the method
 		 * @return this, to continue building
@@ -201,12 +298,34 @@ public class JavaMethod{
 		 * @throws IllegalArgumentException if anything is wrong
 		 */
 		private void checkForErrors(){
+			BuilderValidationEvent event = new BuilderValidationEvent();
+			event.begin();
+			
 			List<String> errors = new ArrayList<>();
 			
 			if(StringUtil.isBlank(returnType)){
 				errors.add("Must specify returnType!");
 			}
 			
+			if(isAbstract){
+				if(name == null){
+					errors.add("Constructors can't be abstract!");
+				}
+				if(visibility == Visibility.PRIVATE){
+					errors.add("Abstract methods can't be private!");
+				}
+				if(ListUtil.isNotBlank(lines)){
+					errors.add("Abstract methods can't have lines!");
+				}
+			}
+			
+			if(event.shouldCommit()){
+				event.setModelType("JavaMethod");
+				event.setModelName(name);
+				event.setErrorCount(errors.size());
+				event.commit();
+			}
+			
 			if(!errors.isEmpty()){
 				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
 			}
@@ -219,9 +338,20 @@ public class JavaMethod{
 		 * @throws IllegalArgumentException if anything is wrong with the current parameters
 		 */
 		public JavaMethod build(){
+			JavaMetricsListener listener = JavaMetrics.getListener();
+			long start = listener != null?System.nanoTime():0L;
+			
 			checkForErrors();
 			
-			return new JavaMethod(annotations, visibility, returnType, name, parameters, throwTypes, lines);
+			JavaMethod method = new JavaMethod(annotations, visibility, isAbstract, returnType, name,
+					parameterCount == 0?NO_PARAMETERS:Arrays.copyOf(parameterTypes, parameterCount),
+					parameterCount == 0?NO_PARAMETERS:Arrays.copyOf(parameterNames, parameterCount),
+					parameterPairs == null?null:Arrays.copyOf(parameterPairs, parameterCount),
+					throwTypes, lines);
+			if(listener != null){
+				listener.onModelBuilt(JavaModelType.METHOD, System.nanoTime() - start);
+			}
+			return method;
 		}
 	}
 	
@@ -229,37 +359,98 @@ public class JavaMethod{
 	private final List<JavaAnnotation> annotations;
 	/** The {@link Visibility} of the method */
 	private final Visibility visibility;
+	/** Whether the method is abstract (declared without a body) or not */
+	private final boolean isAbstract;
 	/** The return type of the method */
 	private final String returnType;
 	/** The name of the method */
 	private final String name;
-	/** The parameters used in the method - pairs of type, then name */
-	private final List<Pair<String, String>> parameters;
+	/** The types of the parameters used in the method, in the same order as their names */
+	private final String[] parameterTypes;
+	/** The names of the parameters used in the method, in the same order as their types */
+	private final String[] parameterNames;
+	/**
+	 * The parameters as {@link Pair Pairs} of type, then name - made the first time they're asked for, keeping
+	 * any Pairs the parameters were given as (null until then)
+	 */
+	private volatile List<Pair<String, String>> parameters;
 	/** The types that can be thrown by the method */
 	private final List<String> throwTypes;
 	/** The actual lines of code in the method */
 	private final List<String> lines;
+	/** The {@link Fingerprint} of the structure of the method (made the first time it's needed) */
+	private Fingerprint fingerprint = null;
+	/** The {@link TypeRef return type} of the method (made the first time it's needed) */
+	private TypeRef returnTypeRef = null;
+	/** The {@link TypeRef types} of the parameters used in the method (made the first time they're needed) */
+	private List<TypeRef> parameterTypeRefs = null;
+	/** The {@link TypeRef types} that can be thrown by the method (made the first time they're needed) */
+	private List<TypeRef> throwTypeRefs = null;
 	
 	/**
 	 * Constructs a new Java Method with the given parameters
 	 *
 	 * @param annotations The {@link JavaAnnotation annotations} on the method
 	 * @param visibility The {@link Visibility} of the method
+	 * @param isAbstract Whether the method is abstract (declared without a body) or not
 	 * @param returnType The return type of the method
 	 * @param name The name of the method
-	 * @param parameters The parameters used in the method - pairs of type, then name
+	 * @param parameterTypes The types of the parameters used in the method, in the same order as their names
+	 * @param parameterNames The names of the parameters used in the method, in the same order as their types
+	 * @param parameterPairs The {@link Pair Pairs} the parameters were given as, in the same order as their types
+	 * (null if none were, and null at each index that wasn't)
 	 * @param throwTypes The types that can be thrown by the method
 	 * @param lines The actual lines of code in the method
 	 */
-	private JavaMethod(List<JavaAnnotation> annotations, Visibility visibility, String returnType, String name,
-	                   List<Pair<String, String>> parameters, List<String> throwTypes, List<String> lines){
-		this.annotations = annotations;
+	private JavaMethod(List<JavaAnnotation> annotations, Visibility visibility, boolean isAbstract,
+	                   String returnType, String name, String[] parameterTypes, String[] parameterNames, Pair<String, String>[] parameterPairs,
+	                   List<String> throwTypes, List<String> lines){
+		this.annotations = unmodifiableCopy(annotations);
 		this.visibility = visibility;
+		this.isAbstract = isAbstract;
 		this.returnType = returnType;
 		this.name = name;
-		this.parameters = parameters;
-		this.throwTypes = throwTypes;
-		this.lines = lines;
+		this.parameterTypes = parameterTypes;
+		this.parameterNames = parameterNames;
+		this.parameters = parameterPairs == null?null:makeParameters(parameterPairs);
+		this.throwTypes = unmodifiableCopy(throwTypes);
+		this.lines = unmodifiableCopy(lines);
+	}
+	
+	/**
+	 * Copies a list given to the builder, so changes to it (or the builder) can't change the built method and leave
+	 * its {@link Fingerprint} stale
+	 *
+	 * @param list The list to copy (may be null)
+	 * @param <T> The type of elements in the list
+	 * @return An unmodifiable copy of the list, or null if it's null
+	 */
+	private static <T> List<T> unmodifiableCopy(List<T> list){
+		return list == null?null:Collections.unmodifiableList(new ArrayList<>(list));
+	}
+	
+	/**
+	 * @param length The length of the array
+	 * @return A new array of {@link Pair Pairs} of Strings
+	 */
+	@SuppressWarnings("unchecked")
+	private static Pair<String, String>[] newPairArray(int length){
+		return (Pair<String, String>[]) new Pair<?, ?>[length];
+	}
+	
+	/**
+	 * Makes the unmodifiable list of parameters, filling in a {@link Pair} for each one that wasn't given as one
+	 *
+	 * @param parameterPairs The {@link Pair Pairs} the parameters were given as (null at each index that wasn't)
+	 * @return The parameters as {@link Pair Pairs} of type, then name
+	 */
+	private List<Pair<String, String>> makeParameters(Pair<String, String>[] parameterPairs){
+		for(int i = 0; i < parameterPairs.length; i++){
+			if(parameterPairs[i] == null){
+				parameterPairs[i] = Pair.of(parameterTypes[i], parameterNames[i]);
+			}
+		}
+		return Collections.unmodifiableList(Arrays.asList(parameterPairs));
 	}
 	
 	/**
@@ -270,7 +461,7 @@ public class JavaMethod{
 	}
 	
 	/**
-	 * @return The {@link JavaAnnotation annotations} on the method
+	 * @return The {@link JavaAnnotation annotations} on the method (unmodifiable)
 	 */
 	public List<JavaAnnotation> getAnnotations(){
 		return annotations;
@@ -283,6 +474,13 @@ public class JavaMethod{
 		return visibility;
 	}
 	
+	/**
+	 * @return Whether the method is abstract (declared without a body) or not
+	 */
+	public boolean isAbstract(){
+		return isAbstract;
+	}
+	
 	/**
 	 * @return The return type of the method
 	 */
@@ -290,6 +488,20 @@ public class JavaMethod{
 		return returnType;
 	}
 	
+	/**
+	 * @return The interned {@link TypeRef return type} of the method
+	 * @throws IllegalArgumentException If the return type isn't a valid type
+	 */
+	public TypeRef getReturnTypeRef(){
+		// Threads racing to make it all get the same interned one, and Type Refs are immutable
+		TypeRef result = returnTypeRef;
+		if(result == null){
+			result = TypeRef.of(returnType);
+			returnTypeRef = result;
+		}
+		return result;
+	}
+	
 	/**
 	 * @return The name of the method
 	 */
@@ -298,31 +510,245 @@ public class JavaMethod{
 	}
 	
 	/**
-	 * @return The parameters used in the method - pairs of type, then name
+	 * @return The parameters used in the method - pairs of type, then name, as an unmodifiable list. Pairs given to
+	 * the builder are the ones returned, and the rest are made (once) the first time this is called, so code going
+	 * over a lot of methods should use {@link #getParameterCount()}, {@link #getParameterType(int)}, and
+	 * {@link #getParameterName(int)} instead
 	 */
 	public List<Pair<String, String>> getParameters(){
-		return parameters;
+		List<Pair<String, String>> result = parameters;
+		if(result == null){
+			// Pair has no equals, so every caller has to get the same Pairs
+			synchronized(this){
+				result = parameters;
+				if(result == null){
+					result = makeParameters(newPairArray(parameterTypes.length));
+					parameters = result;
+				}
+			}
+		}
+		return result;
 	}
 	
 	/**
-	 * @return The types that can be thrown by the method
+	 * @return The number of parameters used in the method
+	 */
+	public int getParameterCount(){
+		return parameterTypes.length;
+	}
+	
+	/**
+	 * @param index The index of the parameter
+	 * @return The type of the parameter
+	 * @throws IndexOutOfBoundsException If there's no parameter at the index
+	 */
+	public String getParameterType(int index){
+		return parameterTypes[index];
+	}
+	
+	/**
+	 * @param index The index of the parameter
+	 * @return The name of the parameter
+	 * @throws IndexOutOfBoundsException If there's no parameter at the index
+	 */
+	public String getParameterName(int index){
+		return parameterNames[index];
+	}
+	
+	/**
+	 * @return An unmodifiable view of the types of the parameters used in the method, in order
+	 */
+	public List<String> getParameterTypes(){
+		return Collections.unmodifiableList(Arrays.asList(parameterTypes));
+	}
+	
+	/**
+	 * @return An unmodifiable view of the names of the parameters used in the method, in order
+	 */
+	public List<String> getParameterNames(){
+		return Collections.unmodifiableList(Arrays.asList(parameterNames));
+	}
+	
+	/**
+	 * @return The interned {@link TypeRef types} of the parameters used in the method, in order (unmodifiable)
+	 * @throws IllegalArgumentException If any parameter type isn't a valid type
+	 */
+	public List<TypeRef> getParameterTypeRefs(){
+		List<TypeRef> result = parameterTypeRefs;
+		if(result == null){
+			result = typeRefs(Arrays.asList(parameterTypes));
+			parameterTypeRefs = result;
+		}
+		return result;
+	}
+	
+	/**
+	 * @return The types that can be thrown by the method (unmodifiable)
 	 */
 	public List<String> getThrowTypes(){
 		return throwTypes;
 	}
 	
 	/**
-	 * @return The actual lines of code in the method
+	 * @return The interned {@link TypeRef types} that can be thrown by the method, in order (unmodifiable)
+	 * @throws IllegalArgumentException If any throw type isn't a valid type
+	 */
+	public List<TypeRef> getThrowTypeRefs(){
+		List<TypeRef> result = throwTypeRefs;
+		if(result == null){
+			result = typeRefs(ListUtil.isNotBlank(throwTypes)?throwTypes:Collections.emptyList());
+			throwTypeRefs = result;
+		}
+		return result;
+	}
+	
+	/**
+	 * Makes the {@link TypeRef Type Refs} for some types of the method, to be kept. The list wraps an array, so
+	 * threads racing to make it all see it fully made
+	 *
+	 * @param types The types to make Type Refs for
+	 * @return The interned {@link TypeRef Type Refs} of the types, in order (unmodifiable)
+	 * @throws IllegalArgumentException If any type isn't a valid type
+	 */
+	private static List<TypeRef> typeRefs(List<String> types){
+		if(types.isEmpty()){
+			return Collections.emptyList();
+		}
+		TypeRef[] typeRefs = new TypeRef[types.size()];
+		for(int i = 0; i < typeRefs.length; i++){
+			typeRefs[i] = TypeRef.of(types.get(i));
+		}
+		return Collections.unmodifiableList(Arrays.asList(typeRefs));
+	}
+	
+	/**
+	 * @return The actual lines of code in the method (unmodifiable)
 	 */
 	public List<String> getLines(){
 		return lines;
 	}
 	
 	/**
+	 * @return An estimate of the number of bytes of heap the method retains, including its annotations,
+	 * parameters, and lines
+	 * @see RetainedSize
+	 */
+	public long retainedSizeEstimate(){
+		// Methods without parameters share the same empty arrays
+		long parametersSize = parameterTypes.length == 0?0:
+				RetainedSize.ofStringArray(parameterTypes) + RetainedSize.ofStringArray(parameterNames);
+		// The parameter Pairs (once made) share their Strings with the arrays, and Type Refs are shared
+		long pairsSize = RetainedSize.of(parameters, pair -> RetainedSize.shallow(2, 0));
+		long typeRefsSize = RetainedSize.of(parameterTypeRefs, typeRef -> 0) +
+				RetainedSize.of(throwTypeRefs, typeRef -> 0);
+		return RetainedSize.shallow(13, 1) + RetainedSize.of(annotations, JavaAnnotation::retainedSizeEstimate) +
+				RetainedSize.of(returnType) + RetainedSize.of(name) + parametersSize + pairsSize + typeRefsSize +
+				RetainedSize.ofStrings(throwTypes) + RetainedSize.ofStrings(lines);
+	}
+	
+	/**
+	 * @return The {@link Fingerprint} of the structure of the method, used to key the {@link RenderCache}
+	 */
+	public Fingerprint getFingerprint(){
+		// Threads racing to make it all make the same one, and Fingerprints are immutable
+		Fingerprint result = fingerprint;
+		if(result == null){
+			Fingerprint.Hasher hasher = Fingerprint.hasher();
+			JavaAnnotation.addTo(hasher, annotations);
+			hasher.add(visibility.ordinal()).add(isAbstract).add(returnType).add(name).add(parameterTypes.length);
+			for(int i = 0; i < parameterTypes.length; i++){
+				hasher.add(parameterTypes[i]).add(parameterNames[i]);
+			}
+			addTo(hasher, throwTypes);
+			addTo(hasher, lines);
+			result = hasher.build();
+			fingerprint = result;
+		}
+		return result;
+	}
+	
+	/**
+	 * @param hasher The {@link Fingerprint.Hasher} to add the strings to
+	 * @param strings The strings to add, with their count (may be null)
+	 */
+	private static void addTo(Fingerprint.Hasher hasher, List<String> strings){
+		if(strings == null){
+			hasher.add(-1);
+			return;
+		}
+		hasher.add(strings.size());
+		for(String string: strings){
+			hasher.add(string);
+		}
+	}
+	
+	/**
+	 * Checks if the given object is a {@link JavaMethod} with the same annotations, visibility, abstractness,
+	 * return type, name, parameters, throw types, and lines as this one
+	 *
+	 * @param otherMethod The object to compare against
+	 * @return true if the given object is an equivalent {@link JavaMethod}, false otherwise
+	 */
+	@Override
+	public boolean equals(Object otherMethod){
+		if(this == otherMethod){
+			return true;
+		}
+		if(!(otherMethod instanceof JavaMethod)){
+			return false;
+		}
+		JavaMethod method = (JavaMethod) otherMethod;
+		return getFingerprint().equals(method.getFingerprint()) && visibility == method.visibility &&
+				isAbstract == method.isAbstract &&
+				Objects.equals(returnType, method.returnType) && Objects.equals(name, method.name) &&
+				Arrays.equals(parameterTypes, method.parameterTypes) &&
+				Arrays.equals(parameterNames, method.parameterNames) &&
+				Objects.equals(throwTypes, method.throwTypes) && Objects.equals(lines, method.lines) &&
+				Objects.equals(annotations, method.annotations);
+	}
+	
+	/**
+	 * @return A hash code based on the structure of the method (from its {@link #getFingerprint() fingerprint})
+	 */
+	@Override
+	public int hashCode(){
+		return getFingerprint().hashCode();
+	}
+	
+	/**
+	 * Renders the method, using the {@link RenderCache#getGlobalCache() global render cache} if one is set and
+	 * reporting to the {@link JavaMetrics#getListener() metrics listener} and Flight Recorder if enabled
+	 *
 	 * @return This Java Method as a String, ready to be put in some Java code
 	 */
 	@Override
 	public String toString(){
+		JavaMetricsListener listener = JavaMetrics.getListener();
+		long start = listener != null?System.nanoTime():0L;
+		MethodRenderEvent event = new MethodRenderEvent();
+		event.begin();
+		
+		RenderCache cache = RenderCache.getGlobalCache();
+		String rendered = cache != null?cache.getOrRender(getFingerprint(), this::render):render();
+		
+		if(event.shouldCommit()){
+			event.setMethodName(name);
+			event.setReturnType(returnType);
+			event.setParameterCount(parameterTypes.length);
+			event.setLineCount(lines == null?0:lines.size());
+			event.setOutputSize(rendered.length());
+			event.commit();
+		}
+		if(listener != null){
+			listener.onMethodRendered(this, System.nanoTime() - start, rendered.length());
+		}
+		return rendered;
+	}
+	
+	/**
+	 * @return This Java Method as a String, ready to be put in some Java code
+	 */
+	private String render(){
 		List<String> content = new ArrayList<>();
 		
 		// Annotations
@@ -335,7 +761,8 @@ public class JavaMethod{
 		/*
 		 * Declaration
 		 */
-		StringBuilder declaration = new StringBuilder(visibility.getText() + " " + returnType);
+		StringBuilder declaration = new StringBuilder(visibility.getText() + (isAbstract?" abstract":"") + " " +
+				returnType);
 		
 		// Add name to declaration if we have it
 		if(StringUtil.isNotBlank(name)){
@@ -346,9 +773,9 @@ public class JavaMethod{
 		declaration.append("(");
 		
 		// Add parameters to the declaration
-		if(ListUtil.isNotBlank(parameters)){
-			for(Pair<String, String> parameter: parameters){
-				declaration.append(parameter.getLeft()).append(" ").append(parameter.getRight()).append(", ");
+		if(parameterTypes.length != 0){
+			for(int i = 0; i < parameterTypes.length; i++){
+				declaration.append(parameterTypes[i]).append(" ").append(parameterNames[i]).append(", ");
 			}
 			// Remove final comma + space
 			declaration.setLength(declaration.length()-2);
@@ -362,14 +789,19 @@ public class JavaMethod{
 			}
 			// Remove the final comma and space
 			declaration.delete(declaration.length() - 2, declaration.length());
-			// Add the opening brace
-			declaration.append('{');
 		}else{
-			// If no throw types, just end the declaration
-			declaration.append("){");
+			// If no throw types, just end the parameters
+			declaration.append(")");
+		}
+		
+		// Abstract methods end at the declaration
+		if(isAbstract){
+			content.add(declaration.append(';').toString());
+			return StringUtil.buildStringWithNewLines(content);
 		}
-		// Add the declaration to the content
-		content.add(declaration.toString());
+		
+		// Add the opening brace and the declaration to the content
+		content.add(declaration.append('{').toString());
 		
 		// Add the lines to the method
 		if(ListUtil.isNotBlank(lines)){
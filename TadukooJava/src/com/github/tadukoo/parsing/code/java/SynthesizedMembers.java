@@ -0,0 +1,615 @@
+package com.github.tadukoo.parsing.code.java;
+
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthesized Members are the methods a {@link JavaClass} asks for with flags instead of carrying them as
+ * {@link JavaMethod JavaMethods}: a constructor for its fields, getters and setters for its
+ * {@link JavaField fields}, and equals, hashCode, and toString. They're written straight into the output when the
+ * class is rendered, after its explicit methods and in this order:
+ * <ol>
+ *     <li>The constructor, taking every field that doesn't have a value</li>
+ *     <li>For each field, its getter ({@code getX}, or {@code isX} for a {@code boolean}) then its setter</li>
+ *     <li>equals, comparing every field</li>
+ *     <li>hashCode, hashing every field</li>
+ *     <li>toString, of the form {@code ClassName{a=..., b=...}}</li>
+ * </ol>
+ * A class that synthesizes members needs {@code java.util.Objects} and possibly {@code java.util.Arrays}, which are
+ * rendered after its own imports if it doesn't already import them (see {@link #missingImports(JavaClass)}).
+ * <br><br>
+ * Anything that has to work on the methods themselves, rather than the rendered text, can
+ * {@link #expand(JavaClass) expand} the class into one where the synthesized members are ordinary
+ * {@link JavaMethod JavaMethods}; it renders to exactly the same text.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class SynthesizedMembers{
+	
+	/**
+	 * Layout is the text synthesized members are rendered with: the indentation, opening braces, blank lines, and
+	 * line separator. {@link #DEFAULT} matches {@link JavaClass#toString()}.
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static final class Layout{
+		/** The layout used by {@link JavaClass#toString()} */
+		public static final Layout DEFAULT = new Layout("\t", "\t", "{", "{", "\t\n", "\n");
+		
+		/** The indentation of a method in the class */
+		private final String memberIndent;
+		/** The indentation of a line of a method body */
+		private final String bodyIndent;
+		/** The indentation of a line inside a block in a method body */
+		private final String nestedIndent;
+		/** The opening brace of a method, including anything before it */
+		private final String methodOpen;
+		/** The opening brace of a block in a method body, including anything before it */
+		private final String blockOpen;
+		/** The blank line between methods, including its line separator */
+		private final String blankLine;
+		/** The line separator */
+		private final String newline;
+		
+		/**
+		 * Constructs a new Layout with the given text
+		 *
+		 * @param memberIndent The indentation of a method in the class
+		 * @param indent The text used for one level of indentation
+		 * @param methodOpen The opening brace of a method, including anything before it
+		 * @param blockOpen The opening brace of a block in a method body, including anything before it
+		 * @param blankLine The blank line between methods, including its line separator
+		 * @param newline The line separator
+		 */
+		public Layout(
+				String memberIndent, String indent, String methodOpen, String blockOpen,
+				String blankLine, String newline){
+			this.memberIndent = memberIndent;
+			this.bodyIndent = memberIndent + indent;
+			this.nestedIndent = bodyIndent + indent;
+			this.methodOpen = methodOpen;
+			this.blockOpen = blockOpen;
+			this.blankLine = blankLine;
+			this.newline = newline;
+		}
+	}
+	
+	/**
+	 * Method Writer receives the synthesized methods one piece at a time, so the same code can write them as text
+	 * or build them into {@link JavaMethod JavaMethods}
+	 */
+	private abstract static class MethodWriter{
+		
+		/**
+		 * Starts a new method
+		 *
+		 * @param override Whether the method has an {@code @Override} annotation
+		 * @param returnType The return type of the method (the class name for a constructor)
+		 * @param name The name of the method (null for a constructor)
+		 */
+		abstract void declaration(boolean override, String returnType, String name);
+		
+		/**
+		 * @param type The type of the next parameter
+		 * @param name The name of the next parameter
+		 */
+		abstract void parameter(String type, String name);
+		
+		/**
+		 * Ends the declaration and opens the method body
+		 */
+		abstract void openBody();
+		
+		/**
+		 * Starts a line of the method body
+		 *
+		 * @param nested Whether the line is inside a block
+		 * @return The {@link StringBuilder} to append the line to
+		 */
+		abstract StringBuilder line(boolean nested);
+		
+		/**
+		 * Ends the current line with the opening brace of a block
+		 */
+		abstract void openBlock();
+		
+		/**
+		 * Ends the current line
+		 */
+		abstract void endLine();
+		
+		/**
+		 * Closes the method body
+		 */
+		abstract void closeBody();
+	}
+	
+	/**
+	 * Text Writer writes the synthesized methods as text, with a {@link Layout}
+	 */
+	private static final class TextWriter extends MethodWriter{
+		/** The {@link Layout} to write with */
+		private final Layout layout;
+		/** The {@link StringBuilder} to write to */
+		private final StringBuilder out;
+		/** Whether the next method needs a blank line before it */
+		private boolean separate;
+		/** Whether the next parameter is the first of its method */
+		private boolean firstParameter;
+		
+		/**
+		 * @param layout The {@link Layout} to write with
+		 * @param out The {@link StringBuilder} to write to
+		 * @param separateFirst Whether the first method needs a blank line before it
+		 */
+		private TextWriter(Layout layout, StringBuilder out, boolean separateFirst){
+			this.layout = layout;
+			this.out = out;
+			this.separate = separateFirst;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		void declaration(boolean override, String returnType, String name){
+			if(separate){
+				out.append(layout.blankLine);
+			}
+			separate = true;
+			firstParameter = true;
+			if(override){
+				out.append(layout.memberIndent).append("@Override").append(layout.newline);
+			}
+			out.append(layout.memberIndent).append("public ").append(returnType);
+			if(name != null){
+				out.append(' ').append(name);
+			}
+			out.append('(');
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		void parameter(String type, String name){
+			if(!firstParameter){
+				out.append(", ");
+			}
+			firstParameter = false;
+			out.append(type).append(' ').append(name);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		void openBody(){
+			out.append(')').append(layout.methodOpen).append(layout.newline);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		StringBuilder line(boolean nested){
+			return out.append(nested?layout.nestedIndent:layout.bodyIndent);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		void openBlock(){
+			out.append(layout.blockOpen);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		void endLine(){
+			out.append(layout.newline);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		void closeBody(){
+			out.append(layout.memberIndent).append('}').append(layout.newline);
+		}
+	}
+	
+	/**
+	 * Model Writer builds the synthesized methods into {@link JavaMethod JavaMethods}
+	 */
+	private static final class ModelWriter extends MethodWriter{
+		/** The {@link JavaMethod methods} built so far */
+		private final List<JavaMethod> methods = new ArrayList<>();
+		/** The builder for the current method */
+		private JavaMethod.JavaMethodBuilder builder;
+		/** The lines of the current method */
+		private List<String> lines;
+		/** The current line */
+		private final StringBuilder line = new StringBuilder();
+		
+		/** {@inheritDoc} */
+		@Override
+		void declaration(boolean override, String returnType, String name){
+			builder = JavaMethod.builder().returnType(returnType).name(name);
+			if(override){
+				builder.annotation(JavaAnnotation.builder().name("Override").build());
+			}
+			lines = new ArrayList<>();
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		void parameter(String type, String name){
+			builder.parameter(type, name);
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		void openBody(){ }
+		
+		/** {@inheritDoc} */
+		@Override
+		StringBuilder line(boolean nested){
+			line.setLength(0);
+			return nested?line.append('\t'):line;
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		void openBlock(){
+			line.append('{');
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		void endLine(){
+			lines.add(line.toString());
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		void closeBody(){
+			methods.add(builder.lines(lines).build());
+		}
+	}
+	
+	/** The import needed for equals and hashCode */
+	private static final String OBJECTS = "java.util.Objects";
+	/** The import needed for array fields */
+	private static final String ARRAYS = "java.util.Arrays";
+	
+	// Not allowed to create Synthesized Members
+	private SynthesizedMembers(){ }
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to check
+	 * @return The number of methods synthesized for the class
+	 */
+	public static int count(JavaClass javaClass){
+		int count = 0;
+		if(javaClass.generatesConstructor()){
+			count++;
+		}
+		for(JavaField field: fieldsOf(javaClass)){
+			if(field.generatesGetter()){
+				count++;
+			}
+			if(field.generatesSetter()){
+				count++;
+			}
+		}
+		if(javaClass.generatesEquals()){
+			count++;
+		}
+		if(javaClass.generatesHashCode()){
+			count++;
+		}
+		if(javaClass.generatesToString()){
+			count++;
+		}
+		return count;
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to check
+	 * @return The imports the synthesized members need that the class doesn't already have (usually empty)
+	 */
+	public static List<String> missingImports(JavaClass javaClass){
+		boolean equalsOrHashCode = javaClass.generatesEquals() || javaClass.generatesHashCode();
+		if(!equalsOrHashCode && !javaClass.generatesToString()){
+			return new ArrayList<>();
+		}
+		boolean objects = false, arrays = false;
+		for(JavaField field: fieldsOf(javaClass)){
+			if(isArray(field.getType())){
+				arrays = true;
+			}
+			if(javaClass.generatesHashCode() || (javaClass.generatesEquals() && !isPrimitive(field.getType()) &&
+					!isArray(field.getType()))){
+				objects = true;
+			}
+		}
+		List<String> missing = new ArrayList<>();
+		if(objects && !imports(javaClass, OBJECTS)){
+			missing.add(OBJECTS);
+		}
+		if(arrays && !imports(javaClass, ARRAYS)){
+			missing.add(ARRAYS);
+		}
+		return missing;
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to check
+	 * @param name The fully qualified name of a java.util class
+	 * @return Whether the class can already use the given class without importing it
+	 */
+	private static boolean imports(JavaClass javaClass, String name){
+		if("java.util".equals(javaClass.getPackageName())){
+			return true;
+		}
+		List<String> imports = javaClass.getImports();
+		return ListUtil.isNotBlank(imports) && (imports.contains(name) || imports.contains("java.util.*"));
+	}
+	
+	/**
+	 * Renders the synthesized members of the given class, each followed by a line separator and with a blank line
+	 * between them
+	 *
+	 * @param javaClass The {@link JavaClass} to render the synthesized members of
+	 * @param layout The {@link Layout} to render with
+	 * @param separateFirst Whether to put a blank line before the first synthesized member
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	public static void render(JavaClass javaClass, Layout layout, boolean separateFirst, StringBuilder out){
+		generate(javaClass, new TextWriter(layout, out, separateFirst));
+	}
+	
+	/**
+	 * Expands the synthesized members of the given class into ordinary {@link JavaMethod JavaMethods}, adding the
+	 * imports they need. The expanded class renders to exactly the same text as the given one.
+	 *
+	 * @param javaClass The {@link JavaClass} to expand
+	 * @return A {@link JavaClass} with no synthesized members, or the given class if it didn't have any
+	 */
+	public static JavaClass expand(JavaClass javaClass){
+		if(count(javaClass) == 0){
+			return javaClass;
+		}
+		ModelWriter writer = new ModelWriter();
+		generate(javaClass, writer);
+		
+		List<String> imports = ListUtil.isNotBlank(javaClass.getImports())?
+				new ArrayList<>(javaClass.getImports()):new ArrayList<>();
+		imports.addAll(missingImports(javaClass));
+		List<JavaField> fields = new ArrayList<>();
+		for(JavaField field: fieldsOf(javaClass)){
+			fields.add(!field.generatesGetter() && !field.generatesSetter()?field:JavaField.builder()
+					.annotations(field.getAnnotations())
+					.visibility(field.getVisibility())
+					.isFinal(field.isFinal())
+					.type(field.getType())
+					.name(field.getName())
+					.value(field.getValue())
+					.build());
+		}
+		List<JavaMethod> methods = ListUtil.isNotBlank(javaClass.getMethods())?
+				new ArrayList<>(javaClass.getMethods()):new ArrayList<>();
+		methods.addAll(writer.methods);
+		return JavaClass.builder()
+				.packageName(javaClass.getPackageName())
+				.imports(imports)
+				.staticImports(javaClass.getStaticImports())
+				.annotations(javaClass.getAnnotations())
+				.visibility(javaClass.getVisibility())
+				.isAbstract(javaClass.isAbstract())
+				.className(javaClass.getClassName())
+				.superClassName(javaClass.getSuperClassName())
+				.fields(fields)
+				.methods(methods)
+				.build();
+	}
+	
+	/**
+	 * Writes all the synthesized methods of the given class
+	 *
+	 * @param javaClass The {@link JavaClass} to write the synthesized methods of
+	 * @param writer The {@link MethodWriter} to write them to
+	 */
+	private static void generate(JavaClass javaClass, MethodWriter writer){
+		String className = javaClass.getClassName();
+		List<JavaField> fields = fieldsOf(javaClass);
+		
+		// Constructor
+		if(javaClass.generatesConstructor()){
+			writer.declaration(false, className, null);
+			for(JavaField field: fields){
+				if(StringUtil.isBlank(field.getValue())){
+					writer.parameter(field.getType(), field.getName());
+				}
+			}
+			writer.openBody();
+			for(JavaField field: fields){
+				if(StringUtil.isBlank(field.getValue())){
+					writer.line(false).append("this.").append(field.getName()).append(" = ")
+							.append(field.getName()).append(';');
+					writer.endLine();
+				}
+			}
+			writer.closeBody();
+		}
+		
+		// Getters and setters
+		for(JavaField field: fields){
+			String name = field.getName();
+			String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+			if(field.generatesGetter()){
+				writer.declaration(false, field.getType(), ("boolean".equals(field.getType())?"is":"get") + capitalized);
+				writer.openBody();
+				writer.line(false).append("return ").append(name).append(';');
+				writer.endLine();
+				writer.closeBody();
+			}
+			if(field.generatesSetter()){
+				writer.declaration(false, "void", "set" + capitalized);
+				writer.parameter(field.getType(), name);
+				writer.openBody();
+				writer.line(false).append("this.").append(name).append(" = ").append(name).append(';');
+				writer.endLine();
+				writer.closeBody();
+			}
+		}
+		
+		// Object methods
+		if(javaClass.generatesEquals()){
+			writeEquals(className, fields, writer);
+		}
+		if(javaClass.generatesHashCode()){
+			writer.declaration(true, "int", "hashCode");
+			writer.openBody();
+			StringBuilder line = writer.line(false);
+			if(fields.isEmpty()){
+				line.append("return 0;");
+			}else{
+				line.append("return Objects.hash(");
+				for(int i = 0; i < fields.size(); i++){
+					if(i > 0){
+						line.append(", ");
+					}
+					String type = fields.get(i).getType();
+					String name = fields.get(i).getName();
+					if(isArray(type)){
+						line.append(isNestedArray(type)?"Arrays.deepHashCode(":"Arrays.hashCode(")
+								.append(name).append(')');
+					}else{
+						line.append(name);
+					}
+				}
+				line.append(");");
+			}
+			writer.endLine();
+			writer.closeBody();
+		}
+		if(javaClass.generatesToString()){
+			writer.declaration(true, "String", "toString");
+			writer.openBody();
+			StringBuilder line = writer.line(false).append("return \"").append(className).append('{');
+			for(int i = 0; i < fields.size(); i++){
+				String type = fields.get(i).getType();
+				String name = fields.get(i).getName();
+				line.append(i > 0?", ":"").append(name).append("=\" + ");
+				if(isArray(type)){
+					line.append(isNestedArray(type)?"Arrays.deepToString(":"Arrays.toString(").append(name).append(')');
+				}else{
+					line.append(name);
+				}
+				line.append(" + \"");
+			}
+			line.append("}\";");
+			writer.endLine();
+			writer.closeBody();
+		}
+	}
+	
+	/**
+	 * Writes the equals method
+	 *
+	 * @param className The name of the class
+	 * @param fields The {@link JavaField fields} to compare
+	 * @param writer The {@link MethodWriter} to write it to
+	 */
+	private static void writeEquals(String className, List<JavaField> fields, MethodWriter writer){
+		writer.declaration(true, "boolean", "equals");
+		writer.parameter("Object", "other");
+		writer.openBody();
+		writer.line(false).append("if(this == other)");
+		writer.openBlock();
+		writer.endLine();
+		writer.line(true).append("return true;");
+		writer.endLine();
+		writer.line(false).append('}');
+		writer.endLine();
+		writer.line(false).append("if(!(other instanceof ").append(className).append("))");
+		writer.openBlock();
+		writer.endLine();
+		writer.line(true).append("return false;");
+		writer.endLine();
+		writer.line(false).append('}');
+		writer.endLine();
+		if(fields.isEmpty()){
+			writer.line(false).append("return true;");
+			writer.endLine();
+		}else{
+			writer.line(false).append(className).append(" that = (").append(className).append(") other;");
+			writer.endLine();
+			StringBuilder line = writer.line(false).append("return ");
+			for(int i = 0; i < fields.size(); i++){
+				if(i > 0){
+					line.append(" && ");
+				}
+				String type = fields.get(i).getType();
+				String name = fields.get(i).getName();
+				// The parameter and local variable would hide fields with the same names
+				String self = "other".equals(name) || "that".equals(name)?"this." + name:name;
+				if("float".equals(type) || "double".equals(type)){
+					line.append("float".equals(type)?"Float":"Double").append(".compare(")
+							.append(self).append(", that.").append(name).append(") == 0");
+				}else if(isPrimitive(type)){
+					line.append(self).append(" == that.").append(name);
+				}else if(isArray(type)){
+					line.append(isNestedArray(type)?"Arrays.deepEquals(":"Arrays.equals(")
+							.append(self).append(", that.").append(name).append(')');
+				}else{
+					line.append("Objects.equals(").append(self).append(", that.").append(name).append(')');
+				}
+			}
+			line.append(';');
+			writer.endLine();
+		}
+		writer.closeBody();
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to get the fields of
+	 * @return The {@link JavaField fields} of the class, or an empty list if it has none
+	 */
+	private static List<JavaField> fieldsOf(JavaClass javaClass){
+		return ListUtil.isNotBlank(javaClass.getFields())?javaClass.getFields():new ArrayList<>();
+	}
+	
+	/**
+	 * @param type The type to check
+	 * @return Whether the type is a primitive type
+	 */
+	private static boolean isPrimitive(String type){
+		switch(type){
+			case "boolean":
+			case "byte":
+			case "short":
+			case "char":
+			case "int":
+			case "long":
+			case "float":
+			case "double":
+				return true;
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * @param type The type to check
+	 * @return Whether the type is an array type
+	 */
+	private static boolean isArray(String type){
+		return type.endsWith("]");
+	}
+	
+	/**
+	 * @param type The type to check
+	 * @return Whether the type is an array of arrays
+	 */
+	private static boolean isNestedArray(String type){
+		return type.replace(" ", "").endsWith("[][]");
+	}
+}
@@ -0,0 +1,521 @@
+package com.github.tadukoo.parsing.code.java;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Type Ref is a parsed, immutable reference to a Java type, such as {@code int}, {@code String[]},
+ * {@code java.util.Map.Entry<K, V>}, {@code List<? extends Number>}, or {@code Object...}. The parts consumers
+ * usually need (the name, simple name, package, type arguments, array dimensions, erasure, and text) are worked out
+ * once when the type is parsed.
+ * <br><br>
+ * Type Refs are interned: {@link #of(String)} returns the same instance for the same text, and for any text that
+ * only differs in whitespace, so they can be compared with {@code ==} and looking up a type that was already parsed
+ * (in canonical form) doesn't scan it again. Their type arguments, bounds, erasures, and element types are interned
+ * too. The intern table only holds Type Refs weakly, by their canonical text, so a long-running process doesn't keep
+ * every type it ever saw: once nothing else uses a Type Ref, it's dropped from the table (and parsed again if it's
+ * needed later). The models keep the Type Refs they've made, so the ones in use stay interned.
+ * <br><br>
+ * Packages are told apart from outer classes by case: the leading parts of a name starting with a lowercase letter
+ * are the package (so {@code java.util.Map.Entry} is {@code Entry} nested in {@code Map} in {@code java.util}).
+ * Type annotations and type arguments on outer classes (e.g. {@code Outer<T>.Inner}) aren't supported.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class TypeRef{
+	/** The names of the primitive types (and void) */
+	private static final Set<String> PRIMITIVES = new HashSet<>(Arrays.asList(
+			"boolean", "byte", "char", "short", "int", "long", "float", "double", "void"));
+	/** The interned Type Refs, by their (canonical) text */
+	private static final ConcurrentMap<String, InternedRef> INTERNED = new ConcurrentHashMap<>();
+	/** Where the references of interned Type Refs that were garbage collected go, to be removed from the table */
+	private static final ReferenceQueue<TypeRef> COLLECTED = new ReferenceQueue<>();
+	
+	/**
+	 * Interned Ref is a weak reference to an interned {@link TypeRef}, which remembers its text so it can be removed
+	 * from the table once the Type Ref is collected
+	 */
+	private static final class InternedRef extends WeakReference<TypeRef>{
+		/** The text of the Type Ref */
+		private final String text;
+		
+		/**
+		 * @param typeRef The interned {@link TypeRef}
+		 */
+		private InternedRef(TypeRef typeRef){
+			super(typeRef, COLLECTED);
+			text = typeRef.text;
+		}
+	}
+	
+	/** The name of the type, without type arguments or array dimensions (? for a wildcard) */
+	private final String name;
+	/** The package of the type (null if it isn't qualified) */
+	private final String packageName;
+	/** The last part of the name of the type */
+	private final String simpleName;
+	/** The type arguments of the type */
+	private final List<TypeRef> typeArguments;
+	/** The number of array dimensions of the type (including varargs) */
+	private final int arrayDimensions;
+	/** Whether the last array dimension is written as varargs */
+	private final boolean varargs;
+	/** The bound of a wildcard (null if there isn't one) */
+	private final TypeRef bound;
+	/** Whether the bound of a wildcard is an upper (extends) bound rather than a lower (super) one */
+	private final boolean upperBound;
+	/** The text of the type */
+	private final String text;
+	/** The type with its type arguments (and any wildcard) erased */
+	private final TypeRef erasure;
+	/** The type of the elements of an array type (null if it isn't an array) */
+	private final TypeRef elementType;
+	
+	/**
+	 * Constructs a new Type Ref with the given parameters
+	 *
+	 * @param name The name of the type, without type arguments or array dimensions (? for a wildcard)
+	 * @param typeArguments The type arguments of the type
+	 * @param arrayDimensions The number of array dimensions of the type (including varargs)
+	 * @param varargs Whether the last array dimension is written as varargs
+	 * @param bound The bound of a wildcard (null if there isn't one)
+	 * @param upperBound Whether the bound of a wildcard is an upper (extends) bound rather than a lower (super) one
+	 * @param text The text of the type
+	 */
+	private TypeRef(
+			String name, List<TypeRef> typeArguments, int arrayDimensions, boolean varargs,
+			TypeRef bound, boolean upperBound, String text){
+		this.name = name;
+		this.typeArguments = typeArguments;
+		this.arrayDimensions = arrayDimensions;
+		this.varargs = varargs;
+		this.bound = bound;
+		this.upperBound = upperBound;
+		this.text = text;
+		
+		int lastDot = name.lastIndexOf('.');
+		simpleName = name.substring(lastDot + 1);
+		int packageEnd = -1;
+		for(int dot = name.indexOf('.'); dot != -1 && dot <= lastDot; dot = name.indexOf('.', dot + 1)){
+			if(!Character.isLowerCase(name.charAt(packageEnd + 1))){
+				break;
+			}
+			packageEnd = dot;
+		}
+		packageName = packageEnd == -1?null:name.substring(0, packageEnd);
+		
+		if("?".equals(name)){
+			erasure = bound != null && upperBound?bound.erasure:intern("Object", Collections.emptyList(), 0, false,
+					null, false);
+		}else if(typeArguments.isEmpty()){
+			erasure = this;
+		}else{
+			erasure = intern(name, Collections.emptyList(), arrayDimensions, varargs, null, false);
+		}
+		elementType = arrayDimensions == 0?null:intern(name, typeArguments, 0, false, null, false);
+	}
+	
+	/**
+	 * Parses the given type, or returns the interned Type Ref if it was already parsed
+	 *
+	 * @param type The text of the type (e.g. {@code Map<String, List<Integer>>[]})
+	 * @return The interned {@link TypeRef} for the type
+	 * @throws IllegalArgumentException If the text isn't a valid type
+	 */
+	public static TypeRef of(String type){
+		if(type == null){
+			throw new IllegalArgumentException("Not a valid type: null");
+		}
+		InternedRef ref = INTERNED.get(type);
+		TypeRef typeRef = ref == null?null:ref.get();
+		if(typeRef == null){
+			// Text that isn't in canonical form is parsed again each time, so odd spellings don't fill up the table
+			Parser parser = new Parser(type);
+			typeRef = parser.parseType();
+			parser.skipWhitespace();
+			if(parser.index != type.length()){
+				throw parser.error();
+			}
+		}
+		return typeRef;
+	}
+	
+	/**
+	 * Returns the interned Type Ref with the given parts, creating it if there isn't one
+	 *
+	 * @param name The name of the type, without type arguments or array dimensions (? for a wildcard)
+	 * @param typeArguments The (interned) type arguments of the type
+	 * @param arrayDimensions The number of array dimensions of the type (including varargs)
+	 * @param varargs Whether the last array dimension is written as varargs
+	 * @param bound The (interned) bound of a wildcard (null if there isn't one)
+	 * @param upperBound Whether the bound of a wildcard is an upper (extends) bound rather than a lower (super) one
+	 * @return The interned {@link TypeRef}
+	 */
+	private static TypeRef intern(
+			String name, List<TypeRef> typeArguments, int arrayDimensions, boolean varargs,
+			TypeRef bound, boolean upperBound){
+		StringBuilder text = new StringBuilder(name);
+		if(bound != null){
+			text.append(upperBound?" extends ":" super ").append(bound.text);
+		}
+		if(!typeArguments.isEmpty()){
+			text.append('<');
+			for(int i = 0; i < typeArguments.size(); i++){
+				text.append(i == 0?"":", ").append(typeArguments.get(i).text);
+			}
+			text.append('>');
+		}
+		for(int i = 0; i < arrayDimensions; i++){
+			text.append(varargs && i == arrayDimensions - 1?"...":"[]");
+		}
+		String key = text.toString();
+		
+		removeCollected();
+		while(true){
+			InternedRef ref = INTERNED.get(key);
+			TypeRef typeRef = ref == null?null:ref.get();
+			if(typeRef != null){
+				return typeRef;
+			}
+			TypeRef created = new TypeRef(name, typeArguments, arrayDimensions, varargs, bound, upperBound, key);
+			InternedRef createdRef = new InternedRef(created);
+			// Retry if another thread interned (or re-interned) the type first
+			if(ref == null?INTERNED.putIfAbsent(key, createdRef) == null:INTERNED.replace(key, ref, createdRef)){
+				return created;
+			}
+		}
+	}
+	
+	/**
+	 * Removes the Type Refs that were garbage collected from the intern table
+	 */
+	private static void removeCollected(){
+		InternedRef ref;
+		while((ref = (InternedRef) COLLECTED.poll()) != null){
+			INTERNED.remove(ref.text, ref);
+		}
+	}
+	
+	/**
+	 * @param text The text of a type
+	 * @return Whether a Type Ref is currently interned under exactly the given text
+	 */
+	static boolean isInterned(String text){
+		InternedRef ref = INTERNED.get(text);
+		return ref != null && ref.get() != null;
+	}
+	
+	/**
+	 * @return The name of the type, without type arguments or array dimensions, as written (qualified or not), or
+	 * ? for a wildcard
+	 */
+	public String getName(){
+		return name;
+	}
+	
+	/**
+	 * @return The package of the type, or null if it isn't qualified
+	 */
+	public String getPackageName(){
+		return packageName;
+	}
+	
+	/**
+	 * @return The last part of the name of the type (e.g. {@code Entry} for {@code java.util.Map.Entry<K, V>})
+	 */
+	public String getSimpleName(){
+		return simpleName;
+	}
+	
+	/**
+	 * @return The (interned) type arguments of the type
+	 */
+	public List<TypeRef> getTypeArguments(){
+		return typeArguments;
+	}
+	
+	/**
+	 * @return Whether the type has type arguments
+	 */
+	public boolean isGeneric(){
+		return !typeArguments.isEmpty();
+	}
+	
+	/**
+	 * @return The number of array dimensions of the type (including varargs)
+	 */
+	public int getArrayDimensions(){
+		return arrayDimensions;
+	}
+	
+	/**
+	 * @return Whether the type is an array (including varargs)
+	 */
+	public boolean isArray(){
+		return arrayDimensions > 0;
+	}
+	
+	/**
+	 * @return Whether the last array dimension is written as varargs
+	 */
+	public boolean isVarargs(){
+		return varargs;
+	}
+	
+	/**
+	 * @return Whether the type is a primitive type (or void)
+	 */
+	public boolean isPrimitive(){
+		return arrayDimensions == 0 && PRIMITIVES.contains(name);
+	}
+	
+	/**
+	 * @return Whether the type is a wildcard type argument
+	 */
+	public boolean isWildcard(){
+		return "?".equals(name);
+	}
+	
+	/**
+	 * @return The upper (extends) bound of a wildcard, or null if it doesn't have one
+	 */
+	public TypeRef getUpperBound(){
+		return upperBound?bound:null;
+	}
+	
+	/**
+	 * @return The lower (super) bound of a wildcard, or null if it doesn't have one
+	 */
+	public TypeRef getLowerBound(){
+		return upperBound?null:bound;
+	}
+	
+	/**
+	 * @return The (interned) type with its type arguments erased, keeping its array dimensions (a wildcard erases
+	 * to its upper bound, or Object)
+	 */
+	public TypeRef getErasure(){
+		return erasure;
+	}
+	
+	/**
+	 * @return The (interned) type of the elements of an array type, or null if it isn't an array
+	 */
+	public TypeRef getElementType(){
+		return elementType;
+	}
+	
+	/**
+	 * @return The text of the type, with whitespace only after commas and around wildcard bounds
+	 */
+	public String getText(){
+		return text;
+	}
+	
+	/**
+	 * @return The text of the type
+	 */
+	@Override
+	public String toString(){
+		return text;
+	}
+	
+	/**
+	 * Checks if the given object is a {@link TypeRef} with the same text as this one - as Type Refs are interned,
+	 * this is only true for the same instance
+	 *
+	 * @param otherType The object to compare against
+	 * @return true if the given object is the same type, false otherwise
+	 */
+	@Override
+	public boolean equals(Object otherType){
+		return this == otherType || (otherType instanceof TypeRef && text.equals(((TypeRef) otherType).text));
+	}
+	
+	/**
+	 * @return A hash code based on the text of the type
+	 */
+	@Override
+	public int hashCode(){
+		return text.hashCode();
+	}
+	
+	/**
+	 * Parser reads a type from its text
+	 */
+	private static final class Parser{
+		/** The text being parsed */
+		private final String type;
+		/** The offset of the next character to read */
+		private int index = 0;
+		
+		/**
+		 * @param type The text being parsed
+		 */
+		private Parser(String type){
+			this.type = type;
+		}
+		
+		/**
+		 * @return The (interned) type starting at the current offset
+		 * @throws IllegalArgumentException If there isn't a valid type there
+		 */
+		private TypeRef parseType(){
+			skipWhitespace();
+			if(peek() == '?'){
+				index++;
+				skipWhitespace();
+				if(keyword("extends")){
+					return intern("?", Collections.emptyList(), 0, false, parseReferenceType(), true);
+				}else if(keyword("super")){
+					return intern("?", Collections.emptyList(), 0, false, parseReferenceType(), false);
+				}
+				return intern("?", Collections.emptyList(), 0, false, null, false);
+			}
+			
+			StringBuilder name = new StringBuilder(identifier());
+			skipWhitespace();
+			while(peek() == '.' && !type.startsWith("...", index)){
+				index++;
+				skipWhitespace();
+				name.append('.').append(identifier());
+				skipWhitespace();
+			}
+			
+			List<TypeRef> typeArguments = Collections.emptyList();
+			if(peek() == '<'){
+				if(PRIMITIVES.contains(name.toString())){
+					throw error();
+				}
+				index++;
+				List<TypeRef> arguments = new ArrayList<>();
+				do{
+					TypeRef argument = parseType();
+					if(argument.isPrimitive()){
+						throw error();
+					}
+					arguments.add(argument);
+					skipWhitespace();
+				}while(consume(','));
+				if(!consume('>')){
+					throw error();
+				}
+				typeArguments = Collections.unmodifiableList(arguments);
+				skipWhitespace();
+			}
+			
+			int arrayDimensions = 0;
+			boolean varargs = false;
+			while(!varargs){
+				if(consume('[')){
+					skipWhitespace();
+					if(!consume(']')){
+						throw error();
+					}
+				}else if(type.startsWith("...", index)){
+					index += 3;
+					varargs = true;
+				}else{
+					break;
+				}
+				arrayDimensions++;
+				skipWhitespace();
+			}
+			if("void".contentEquals(name) && arrayDimensions != 0){
+				throw error();
+			}
+			return intern(name.toString(), typeArguments, arrayDimensions, varargs, null, false);
+		}
+		
+		/**
+		 * @return The (interned) non-primitive, non-wildcard type starting at the current offset
+		 * @throws IllegalArgumentException If there isn't a valid one there
+		 */
+		private TypeRef parseReferenceType(){
+			TypeRef typeRef = parseType();
+			if(typeRef.isPrimitive() || typeRef.isWildcard() || typeRef.isVarargs()){
+				throw error();
+			}
+			return typeRef;
+		}
+		
+		/**
+		 * @return The Java identifier at the current offset
+		 * @throws IllegalArgumentException If there isn't one there
+		 */
+		private String identifier(){
+			int start = index;
+			if(index >= type.length() || !Character.isJavaIdentifierStart(type.charAt(index))){
+				throw error();
+			}
+			index++;
+			while(index < type.length() && Character.isJavaIdentifierPart(type.charAt(index))){
+				index++;
+			}
+			return type.substring(start, index);
+		}
+		
+		/**
+		 * Reads the given keyword if it's at the current offset
+		 *
+		 * @param keyword The keyword to look for
+		 * @return Whether the keyword was there
+		 */
+		private boolean keyword(String keyword){
+			int end = index + keyword.length();
+			if(type.startsWith(keyword, index) &&
+					(end == type.length() || !Character.isJavaIdentifierPart(type.charAt(end)))){
+				index = end;
+				return true;
+			}
+			return false;
+		}
+		
+		/**
+		 * Reads the given character if it's at the current offset
+		 *
+		 * @param c The character to look for
+		 * @return Whether the character was there
+		 */
+		private boolean consume(char c){
+			if(peek() == c){
+				index++;
+				return true;
+			}
+			return false;
+		}
+		
+		/**
+		 * @return The character at the current offset (or 0 at the end)
+		 */
+		private char peek(){
+			return index < type.length()?type.charAt(index):0;
+		}
+		
+		/**
+		 * Moves past any whitespace at the current offset
+		 */
+		private void skipWhitespace(){
+			while(index < type.length() && Character.isWhitespace(type.charAt(index))){
+				index++;
+			}
+		}
+		
+		/**
+		 * @return An exception for the text not being a valid type
+		 */
+		private IllegalArgumentException error(){
+			return new IllegalArgumentException("Not a valid type: " + type);
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.github.tadukoo.parsing.code.java.bytecode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Byte Array Data Output is a {@link DataOutputStream} over an in-memory buffer, used to build up parts of a class
+ * file whose length has to be known before they're written
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+class ByteArrayDataOutput{
+	/** The buffer being written to */
+	private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+	/** The data stream over the buffer */
+	private final DataOutputStream output = new DataOutputStream(buffer);
+	
+	/**
+	 * @return The data stream to write to
+	 */
+	DataOutputStream getOutput(){
+		return output;
+	}
+	
+	/**
+	 * @return The number of bytes written so far
+	 */
+	int size(){
+		return buffer.size();
+	}
+	
+	/**
+	 * @return The bytes written so far
+	 */
+	byte[] toByteArray(){
+		return buffer.toByteArray();
+	}
+	
+	/**
+	 * Copies the bytes written so far to the given stream
+	 *
+	 * @param out The stream to copy to
+	 * @throws IOException If writing fails
+	 */
+	void writeTo(OutputStream out) throws IOException{
+		buffer.writeTo(out);
+	}
+}
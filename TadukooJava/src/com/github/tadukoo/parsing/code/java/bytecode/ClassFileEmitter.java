@@ -0,0 +1,435 @@
+package com.github.tadukoo.parsing.code.java.bytecode;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.SynthesizedMembers;
+import com.github.tadukoo.parsing.code.java.Visibility;
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.StringUtil;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class File Emitter writes class files directly from {@link JavaClass} models, without rendering source code or
+ * running a compiler. Only signatures are emitted - every method body is a stub that throws an
+ * {@link UnsupportedOperationException} (constructors call the no-argument constructor of the super class
+ * first), which makes the class files useful as API stubs and mocks.
+ * <br><br>
+ * Visibility, finality, abstractness, and variable arity (a last parameter type ending in {@code ...}) map to access
+ * flags (abstract methods get no body), types are resolved and erased as described in {@link TypeResolver}, and
+ * thrown types are written to the Exceptions attribute. If the
+ * class has no constructor, a public no-argument constructor is added (like javac does). Annotations, generic
+ * signatures, and field values aren't emitted.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class ClassFileEmitter{
+	
+	/**
+	 * Class File Emitter Builder is used to build a new {@link ClassFileEmitter}. It contains the following
+	 * parameters:
+	 *
+	 * <table>
+	 *     <caption>Class File Emitter Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>classLoader</td>
+	 *         <td>The class loader used to resolve types from on-demand imports</td>
+	 *         <td>The class loader of this class</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>majorVersion</td>
+	 *         <td>The class file major version to write (at least 49, for Java 5)</td>
+	 *         <td>52 (Java 8)</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static class ClassFileEmitterBuilder{
+		/** The class loader used to resolve types from on-demand imports */
+		private ClassLoader classLoader = ClassFileEmitter.class.getClassLoader();
+		/** The class file major version to write */
+		private int majorVersion = 52;
+		
+		// Can't create outside of ClassFileEmitter
+		private ClassFileEmitterBuilder(){ }
+		
+		/**
+		 * @param classLoader The class loader used to resolve types from on-demand imports
+		 * @return this, to continue building
+		 */
+		public ClassFileEmitterBuilder classLoader(ClassLoader classLoader){
+			this.classLoader = classLoader;
+			return this;
+		}
+		
+		/**
+		 * @param majorVersion The class file major version to write (at least 49, for Java 5)
+		 * @return this, to continue building
+		 */
+		public ClassFileEmitterBuilder majorVersion(int majorVersion){
+			this.majorVersion = majorVersion;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters
+		 *
+		 * @throws IllegalArgumentException if anything is wrong
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			// Version 50+ may use a StackMapTable, but stubs never branch, so they don't need one
+			if(majorVersion < 49){
+				errors.add("majorVersion must be at least 49!");
+			}
+			
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters, then builds a new {@link ClassFileEmitter}
+		 *
+		 * @return A newly built {@link ClassFileEmitter}
+		 * @throws IllegalArgumentException if anything is wrong with the current parameters
+		 */
+		public ClassFileEmitter build(){
+			checkForErrors();
+			
+			return new ClassFileEmitter(classLoader, majorVersion);
+		}
+	}
+	
+	/** Access flag for public */
+	static final int ACC_PUBLIC = 0x0001;
+	/** Access flag for private */
+	static final int ACC_PRIVATE = 0x0002;
+	/** Access flag for protected */
+	static final int ACC_PROTECTED = 0x0004;
+	/** Access flag for final */
+	static final int ACC_FINAL = 0x0010;
+	/** Access flag telling the JVM to use modern invokespecial semantics */
+	static final int ACC_SUPER = 0x0020;
+	/** Access flag for variable arity methods */
+	static final int ACC_VARARGS = 0x0080;
+	/** Access flag for abstract */
+	static final int ACC_ABSTRACT = 0x0400;
+	
+	/** The magic number at the start of every class file */
+	private static final int MAGIC = 0xCAFEBABE;
+	/** The internal name of {@link Object} */
+	private static final String OBJECT = "java/lang/Object";
+	/** The internal name of {@link UnsupportedOperationException} */
+	private static final String UNSUPPORTED = "java/lang/UnsupportedOperationException";
+	/** The name of constructors in class files */
+	private static final String CONSTRUCTOR = "<init>";
+	/** Descriptor of a no-argument void method */
+	private static final String NO_ARGS_VOID = "()V";
+	
+	/** Opcode to load a reference from local 0 (this) */
+	private static final int ALOAD_0 = 0x2a;
+	/** Opcode to create a new object */
+	private static final int NEW = 0xbb;
+	/** Opcode to duplicate the top of the stack */
+	private static final int DUP = 0x59;
+	/** Opcode to call a constructor */
+	private static final int INVOKESPECIAL = 0xb7;
+	/** Opcode to throw the exception on top of the stack */
+	private static final int ATHROW = 0xbf;
+	/** Opcode to return from a void method */
+	private static final int RETURN = 0xb1;
+	
+	/** The class loader used to resolve types from on-demand imports */
+	private final ClassLoader classLoader;
+	/** The class file major version to write */
+	private final int majorVersion;
+	
+	/**
+	 * Constructs a new Class File Emitter with the given parameters
+	 *
+	 * @param classLoader The class loader used to resolve types from on-demand imports
+	 * @param majorVersion The class file major version to write
+	 */
+	private ClassFileEmitter(ClassLoader classLoader, int majorVersion){
+		this.classLoader = classLoader;
+		this.majorVersion = majorVersion;
+	}
+	
+	/**
+	 * @return A new {@link ClassFileEmitterBuilder} to use to build a {@link ClassFileEmitter}
+	 */
+	public static ClassFileEmitterBuilder builder(){
+		return new ClassFileEmitterBuilder();
+	}
+	
+	/**
+	 * @return The class file major version to write
+	 */
+	public int getMajorVersion(){
+		return majorVersion;
+	}
+	
+	/**
+	 * @param visibility The {@link Visibility} to convert
+	 * @return The access flag for the given visibility
+	 */
+	static int accessFlags(Visibility visibility){
+		if(visibility == null){
+			return 0;
+		}
+		switch(visibility){
+			case PUBLIC:
+				return ACC_PUBLIC;
+			case PROTECTED:
+				return ACC_PROTECTED;
+			case PRIVATE:
+				return ACC_PRIVATE;
+			default:
+				return 0;
+		}
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to find the binary name of
+	 * @return The binary name of the class (e.g. com.example.Test)
+	 */
+	private static String binaryName(JavaClass javaClass){
+		return javaClass.getPackageName() + "." + javaClass.getClassName();
+	}
+	
+	/**
+	 * Emits class files for all of the given classes, in parallel
+	 *
+	 * @param classes The {@link JavaClass classes} to emit
+	 * @return The class files, keyed by binary class name
+	 */
+	public Map<String, byte[]> emitAll(Collection<JavaClass> classes){
+		Map<String, byte[]> classFiles = new ConcurrentHashMap<>();
+		classes.parallelStream().forEach(javaClass -> classFiles.put(binaryName(javaClass), emit(javaClass)));
+		return classFiles;
+	}
+	
+	/**
+	 * Emits a class file for the given class
+	 *
+	 * @param javaClass The {@link JavaClass} to emit
+	 * @return The bytes of the class file
+	 */
+	public byte[] emit(JavaClass javaClass){
+		try{
+			// Synthesized members get stubs like any other method
+			return write(SynthesizedMembers.expand(javaClass));
+		}catch(IOException e){
+			// Can't happen when writing to memory
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * Writes the class file for the given class
+	 *
+	 * @param javaClass The {@link JavaClass} to emit
+	 * @return The bytes of the class file
+	 * @throws IOException If writing fails
+	 */
+	private byte[] write(JavaClass javaClass) throws IOException{
+		TypeResolver resolver = new TypeResolver(javaClass, classLoader);
+		ConstantPool pool = new ConstantPool();
+		String thisClass = javaClass.getPackageName().replace('.', '/') + "/" + javaClass.getClassName();
+		String superClass = StringUtil.isNotBlank(javaClass.getSuperClassName())?
+				resolver.internalName(javaClass.getSuperClassName()):OBJECT;
+		int codeAttribute = pool.utf8("Code");
+		
+		// Fields
+		List<JavaField> fields = javaClass.getFields();
+		ByteArrayDataOutput fieldBytes = new ByteArrayDataOutput();
+		int fieldCount = ListUtil.isNotBlank(fields)?fields.size():0;
+		for(int i = 0; i < fieldCount; i++){
+			JavaField field = fields.get(i);
+			DataOutputStream out = fieldBytes.getOutput();
+			out.writeShort(accessFlags(field.getVisibility()) | (field.isFinal()?ACC_FINAL:0));
+			out.writeShort(pool.utf8(field.getName()));
+			out.writeShort(pool.utf8(resolver.descriptor(field.getType())));
+			out.writeShort(0);
+		}
+		
+		// Methods
+		List<JavaMethod> methods = javaClass.getMethods();
+		ByteArrayDataOutput methodBytes = new ByteArrayDataOutput();
+		int methodCount = 0;
+		boolean hasConstructor = false;
+		if(ListUtil.isNotBlank(methods)){
+			for(JavaMethod method: methods){
+				boolean isConstructor = StringUtil.isBlank(method.getName());
+				hasConstructor |= isConstructor;
+				writeMethod(methodBytes.getOutput(), pool, resolver, superClass, codeAttribute, method,
+						isConstructor);
+				methodCount++;
+			}
+		}
+		if(!hasConstructor){
+			writeDefaultConstructor(methodBytes.getOutput(), pool, superClass, codeAttribute);
+			methodCount++;
+		}
+		
+		// Resolve this and the super class last, so everything's in the pool before it's written
+		int thisClassIndex = pool.classRef(thisClass);
+		int superClassIndex = pool.classRef(superClass);
+		
+		ByteArrayDataOutput classFile = new ByteArrayDataOutput();
+		DataOutputStream out = classFile.getOutput();
+		out.writeInt(MAGIC);
+		out.writeShort(0);
+		out.writeShort(majorVersion);
+		pool.writeTo(out);
+		out.writeShort((javaClass.getVisibility() == Visibility.PUBLIC?ACC_PUBLIC:0) | ACC_SUPER |
+				(javaClass.isAbstract()?ACC_ABSTRACT:0));
+		out.writeShort(thisClassIndex);
+		out.writeShort(superClassIndex);
+		// No interfaces
+		out.writeShort(0);
+		out.writeShort(fieldCount);
+		fieldBytes.writeTo(out);
+		out.writeShort(methodCount);
+		methodBytes.writeTo(out);
+		// No class attributes
+		out.writeShort(0);
+		return classFile.toByteArray();
+	}
+	
+	/**
+	 * Writes a method_info structure for the given method, with a stub body (unless it's abstract)
+	 *
+	 * @param out The stream to write to
+	 * @param pool The {@link ConstantPool} of the class
+	 * @param resolver The {@link TypeResolver} of the class
+	 * @param superClass The internal name of the super class
+	 * @param codeAttribute The index of the "Code" constant
+	 * @param method The {@link JavaMethod} to write
+	 * @param isConstructor Whether the method is a constructor or not
+	 * @throws IOException If writing fails
+	 */
+	private void writeMethod(
+			DataOutputStream out, ConstantPool pool, TypeResolver resolver, String superClass, int codeAttribute,
+			JavaMethod method, boolean isConstructor) throws IOException{
+		// Build the descriptor and count the local variable slots for the parameters
+		StringBuilder descriptor = new StringBuilder("(");
+		int locals = 1;
+		for(int i = 0; i < method.getParameterCount(); i++){
+			String parameterDescriptor = resolver.descriptor(method.getParameterType(i));
+			descriptor.append(parameterDescriptor);
+			locals += parameterDescriptor.equals("J") || parameterDescriptor.equals("D")?2:1;
+		}
+		descriptor.append(')').append(isConstructor?"V":resolver.descriptor(method.getReturnType()));
+		
+		List<String> throwTypes = method.getThrowTypes();
+		boolean hasThrows = ListUtil.isNotBlank(throwTypes);
+		
+		int parameterCount = method.getParameterCount();
+		boolean isVarArgs = parameterCount != 0 && method.getParameterType(parameterCount - 1).endsWith("...");
+		boolean isAbstract = method.isAbstract();
+		out.writeShort(accessFlags(method.getVisibility()) | (isVarArgs?ACC_VARARGS:0) |
+				(isAbstract?ACC_ABSTRACT:0));
+		out.writeShort(pool.utf8(isConstructor?CONSTRUCTOR:method.getName()));
+		out.writeShort(pool.utf8(descriptor.toString()));
+		out.writeShort((hasThrows?1:0) + (isAbstract?0:1));
+		
+		// Code attribute
+		if(!isAbstract){
+			ByteArrayDataOutput code = new ByteArrayDataOutput();
+			DataOutputStream codeOut = code.getOutput();
+			if(isConstructor){
+				codeOut.writeByte(ALOAD_0);
+				codeOut.writeByte(INVOKESPECIAL);
+				codeOut.writeShort(pool.methodRef(superClass, CONSTRUCTOR, NO_ARGS_VOID));
+			}
+			codeOut.writeByte(NEW);
+			codeOut.writeShort(pool.classRef(UNSUPPORTED));
+			codeOut.writeByte(DUP);
+			codeOut.writeByte(INVOKESPECIAL);
+			codeOut.writeShort(pool.methodRef(UNSUPPORTED, CONSTRUCTOR, NO_ARGS_VOID));
+			codeOut.writeByte(ATHROW);
+			writeCode(out, codeAttribute, 2, locals, code);
+		}
+		
+		// Exceptions attribute
+		if(hasThrows){
+			out.writeShort(pool.utf8("Exceptions"));
+			out.writeInt(2 + 2 * throwTypes.size());
+			out.writeShort(throwTypes.size());
+			for(String throwType: throwTypes){
+				out.writeShort(pool.classRef(resolver.internalName(throwType)));
+			}
+		}
+	}
+	
+	/**
+	 * Writes a public no-argument constructor that just calls the super constructor
+	 *
+	 * @param out The stream to write to
+	 * @param pool The {@link ConstantPool} of the class
+	 * @param superClass The internal name of the super class
+	 * @param codeAttribute The index of the "Code" constant
+	 * @throws IOException If writing fails
+	 */
+	private void writeDefaultConstructor(
+			DataOutputStream out, ConstantPool pool, String superClass, int codeAttribute) throws IOException{
+		out.writeShort(ACC_PUBLIC);
+		out.writeShort(pool.utf8(CONSTRUCTOR));
+		out.writeShort(pool.utf8(NO_ARGS_VOID));
+		out.writeShort(1);
+		
+		ByteArrayDataOutput code = new ByteArrayDataOutput();
+		DataOutputStream codeOut = code.getOutput();
+		codeOut.writeByte(ALOAD_0);
+		codeOut.writeByte(INVOKESPECIAL);
+		codeOut.writeShort(pool.methodRef(superClass, CONSTRUCTOR, NO_ARGS_VOID));
+		codeOut.writeByte(RETURN);
+		writeCode(out, codeAttribute, 1, 1, code);
+	}
+	
+	/**
+	 * Writes a Code attribute with no exception table and no attributes of its own
+	 *
+	 * @param out The stream to write to
+	 * @param codeAttribute The index of the "Code" constant
+	 * @param maxStack The maximum depth of the operand stack
+	 * @param maxLocals The number of local variable slots
+	 * @param code The bytecode
+	 * @throws IOException If writing fails
+	 */
+	private static void writeCode(
+			DataOutputStream out, int codeAttribute, int maxStack, int maxLocals,
+			ByteArrayDataOutput code) throws IOException{
+		out.writeShort(codeAttribute);
+		out.writeInt(2 + 2 + 4 + code.size() + 2 + 2);
+		out.writeShort(maxStack);
+		out.writeShort(maxLocals);
+		out.writeInt(code.size());
+		code.writeTo(out);
+		// No exception table
+		out.writeShort(0);
+		// No attributes
+		out.writeShort(0);
+	}
+}
@@ -0,0 +1,625 @@
+package com.github.tadukoo.parsing.code.java.bytecode;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.Visibility;
+import com.github.tadukoo.parsing.code.java.zip.MappedZipEntry;
+import com.github.tadukoo.parsing.code.java.zip.MappedZipFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Class File Reader builds {@link JavaClass} skeletons from compiled class files, e.g. to generate adapters for
+ * libraries we don't have the source of. Only the constant pool, access flags, super class, fields, and method
+ * descriptors are read (plus the InnerClasses, Exceptions, and MethodParameters attributes) - Code attributes and
+ * everything else are skipped over without being decoded, and constant pool strings are only decoded when used.
+ * <br><br>
+ * The skeletons are shaped like the models from the reflection extractor: types are written by their simple names,
+ * with imports for anything outside {@code java.lang} and the class's own package (or fully qualified when two
+ * types share a simple name), and static, synthetic, and bridge members are left out. Types are erased, as generic
+ * signatures aren't read, and parameter names are {@code arg0}, etc. unless the class was compiled with
+ * {@code -parameters}. Abstract classes and methods (including interfaces and their methods) are marked abstract,
+ * and methods have no lines.
+ * <br><br>
+ * {@link #readJar(Path)} reads a whole jar through a {@link MappedZipFile} and decodes its entries in parallel.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class ClassFileReader{
+	/** Access flag for static */
+	private static final int ACC_STATIC = 0x0008;
+	/** Access flag for bridge methods */
+	private static final int ACC_BRIDGE = 0x0040;
+	/** Access flag for members generated by the compiler */
+	private static final int ACC_SYNTHETIC = 0x1000;
+	/** Access flag for enum classes */
+	private static final int ACC_ENUM = 0x4000;
+	
+	/** Constant pool tag for Utf8 */
+	private static final int CONSTANT_UTF8 = 1;
+	/** Constant pool tag for Long */
+	private static final int CONSTANT_LONG = 5;
+	/** Constant pool tag for Double */
+	private static final int CONSTANT_DOUBLE = 6;
+	/** Constant pool tag for Class */
+	private static final int CONSTANT_CLASS = 7;
+	
+	/** The magic number at the start of every class file */
+	private static final int MAGIC = 0xCAFEBABE;
+	/** The name of constructors in class files */
+	private static final String CONSTRUCTOR = "<init>";
+	/** The name of static initializers in class files */
+	private static final String STATIC_INITIALIZER = "<clinit>";
+	
+	// Not allowed to create a Class File Reader
+	private ClassFileReader(){ }
+	
+	/**
+	 * Reads a {@link JavaClass} skeleton from the given class file
+	 *
+	 * @param classFile The bytes of the class file
+	 * @return The {@link JavaClass} skeleton of the class
+	 * @throws IllegalArgumentException If the class file is malformed
+	 */
+	public static JavaClass read(byte[] classFile){
+		return read(ByteBuffer.wrap(classFile));
+	}
+	
+	/**
+	 * Reads a {@link JavaClass} skeleton from the given class file. The class file is read from the buffer's
+	 * position to its limit, and the buffer itself isn't modified.
+	 *
+	 * @param classFile A buffer containing the class file
+	 * @return The {@link JavaClass} skeleton of the class
+	 * @throws IllegalArgumentException If the class file is malformed
+	 */
+	public static JavaClass read(ByteBuffer classFile){
+		try{
+			return new Parse(classFile.slice()).parse();
+		}catch(BufferUnderflowException | IndexOutOfBoundsException e){
+			throw new IllegalArgumentException("Malformed class file: it ends early or has a bad index", e);
+		}
+	}
+	
+	/**
+	 * Reads {@link JavaClass} skeletons for all the classes in the given jar, in parallel. Anonymous and local
+	 * classes (whose names have a {@code $} followed by a digit), module-info and package-info, and anything under
+	 * META-INF are skipped.
+	 *
+	 * @param jar The path of the jar to read
+	 * @return The {@link JavaClass} skeletons, in the order of the jar's central directory
+	 * @throws IOException If the jar can't be read
+	 * @throws IllegalArgumentException If any class file in the jar is malformed
+	 */
+	public static List<JavaClass> readJar(Path jar) throws IOException{
+		try(MappedZipFile zip = MappedZipFile.open(jar)){
+			return zip.getEntries().parallelStream()
+					.filter(entry -> isClassEntry(entry.getName()))
+					.map(entry -> read(readEntry(zip, entry)))
+					.collect(Collectors.toList());
+		}catch(UncheckedIOException e){
+			throw e.getCause();
+		}
+	}
+	
+	/**
+	 * @param zip The {@link MappedZipFile} to read from
+	 * @param entry The {@link MappedZipEntry} to read
+	 * @return The data of the entry
+	 * @throws UncheckedIOException If the entry can't be read
+	 */
+	private static ByteBuffer readEntry(MappedZipFile zip, MappedZipEntry entry){
+		try{
+			return zip.read(entry);
+		}catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * @param name The name of a jar entry
+	 * @return Whether the entry is a class file to read or not
+	 */
+	static boolean isClassEntry(String name){
+		if(!name.endsWith(".class") || name.startsWith("META-INF/") ||
+				name.endsWith("module-info.class") || name.endsWith("package-info.class")){
+			return false;
+		}
+		for(int i = name.lastIndexOf('/') + 1; i < name.length() - 1; i++){
+			if(name.charAt(i) == '$' && Character.isDigit(name.charAt(i + 1))){
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * @param accessFlags The access flags of a class or member
+	 * @return The {@link Visibility} for the access flags
+	 */
+	private static Visibility visibility(int accessFlags){
+		if((accessFlags & ClassFileEmitter.ACC_PUBLIC) != 0){
+			return Visibility.PUBLIC;
+		}else if((accessFlags & ClassFileEmitter.ACC_PROTECTED) != 0){
+			return Visibility.PROTECTED;
+		}else if((accessFlags & ClassFileEmitter.ACC_PRIVATE) != 0){
+			return Visibility.PRIVATE;
+		}else{
+			return Visibility.NONE;
+		}
+	}
+	
+	/**
+	 * An entry from the InnerClasses attribute of a class file
+	 */
+	private static class InnerClass{
+		/** The internal name of the class it's a member of, or null for anonymous and local classes */
+		private final String outerClass;
+		/** The simple name of the class, or null for anonymous classes */
+		private final String simpleName;
+		/** The access flags of the class as declared in source */
+		private final int accessFlags;
+		
+		/**
+		 * Creates a new Inner Class entry
+		 *
+		 * @param outerClass The internal name of the class it's a member of, or null for anonymous and local classes
+		 * @param simpleName The simple name of the class, or null for anonymous classes
+		 * @param accessFlags The access flags of the class as declared in source
+		 */
+		private InnerClass(String outerClass, String simpleName, int accessFlags){
+			this.outerClass = outerClass;
+			this.simpleName = simpleName;
+			this.accessFlags = accessFlags;
+		}
+		
+		/**
+		 * @return Whether this is a member class (one that can be named in source) or not
+		 */
+		private boolean isMember(){
+			return outerClass != null && simpleName != null;
+		}
+	}
+	
+	/**
+	 * A single parse of a class file, holding the offsets of the constant pool entries and the names used so far
+	 */
+	private static class Parse{
+		/** The class file, starting at index 0 */
+		private final ByteBuffer buffer;
+		/** The current position in the class file */
+		private int position;
+		/** The offset of each constant pool entry (just after its tag) */
+		private int[] offsets;
+		/** The tag of each constant pool entry */
+		private byte[] tags;
+		/** The Utf8 constants that have been decoded so far */
+		private String[] strings;
+		/** The {@link InnerClass entries} for nested classes, keyed by internal name */
+		private final Map<String, InnerClass> innerClasses = new HashMap<>();
+		/** The top-level classes that have been referenced by their simple names */
+		private final Map<String, String> simpleNames = new HashMap<>();
+		/** The imports needed so far */
+		private final TreeSet<String> imports = new TreeSet<>();
+		/** The internal name of the package of the class (e.g. com/example) */
+		private String packagePath;
+		
+		/**
+		 * Starts a new parse of the given class file
+		 *
+		 * @param buffer The class file, starting at index 0
+		 */
+		private Parse(ByteBuffer buffer){
+			this.buffer = buffer;
+		}
+		
+		/**
+		 * @return The next unsigned byte
+		 */
+		private int u1(){
+			return buffer.get(position++) & 0xFF;
+		}
+		
+		/**
+		 * @return The next unsigned short
+		 */
+		private int u2(){
+			int value = buffer.getShort(position) & 0xFFFF;
+			position += 2;
+			return value;
+		}
+		
+		/**
+		 * @return The next int
+		 */
+		private int u4(){
+			int value = buffer.getInt(position);
+			position += 4;
+			return value;
+		}
+		
+		/**
+		 * Skips over attributes, starting at the attribute count
+		 */
+		private void skipAttributes(){
+			for(int count = u2(); count > 0; count--){
+				position += 2;
+				int length = u4();
+				position += length;
+			}
+		}
+		
+		/**
+		 * Skips over fields or methods, starting at their count
+		 */
+		private void skipMembers(){
+			for(int count = u2(); count > 0; count--){
+				position += 6;
+				skipAttributes();
+			}
+		}
+		
+		/**
+		 * @return The {@link JavaClass} skeleton of the class
+		 */
+		private JavaClass parse(){
+			if(u4() != MAGIC){
+				throw new IllegalArgumentException("Not a class file: bad magic number");
+			}
+			position += 4;
+			readConstantPool();
+			
+			int accessFlags = u2();
+			String thisClass = classConstant(u2());
+			int superIndex = u2();
+			int interfaceCount = u2();
+			position += 2 * interfaceCount;
+			int fieldsStart = position;
+			skipMembers();
+			int methodsStart = position;
+			skipMembers();
+			readInnerClasses();
+			
+			// Work out the package and simple name of the class
+			int slash = thisClass.lastIndexOf('/');
+			packagePath = slash == -1?"":thisClass.substring(0, slash);
+			InnerClass inner = innerClasses.get(thisClass);
+			boolean isMember = inner != null && inner.isMember();
+			String className = isMember?inner.simpleName:thisClass.substring(slash + 1);
+			simpleNames.put(className, thisClass);
+			int classFlags = isMember?inner.accessFlags:accessFlags;
+			
+			JavaClass.JavaClassBuilder builder = JavaClass.builder()
+					.packageName(packagePath.replace('/', '.'))
+					.visibility(visibility(classFlags))
+					.isAbstract((classFlags & ClassFileEmitter.ACC_ABSTRACT) != 0)
+					.className(className);
+			if(superIndex != 0){
+				String superClass = classConstant(superIndex);
+				if(!superClass.equals("java/lang/Object")){
+					builder.superClassName(className(superClass));
+				}
+			}
+			
+			position = fieldsStart;
+			for(int count = u2(); count > 0; count--){
+				JavaField field = readField();
+				if(field != null){
+					builder.field(field);
+				}
+			}
+			
+			// Enum constructors take the name and ordinal first, and inner class constructors the outer instance
+			int hiddenParameters = 0;
+			if((accessFlags & ACC_ENUM) != 0){
+				hiddenParameters = 2;
+			}else if(isMember && (classFlags & ACC_STATIC) == 0){
+				hiddenParameters = 1;
+			}
+			position = methodsStart;
+			for(int count = u2(); count > 0; count--){
+				JavaMethod method = readMethod(className, hiddenParameters);
+				if(method != null){
+					builder.method(method);
+				}
+			}
+			
+			// Imports are added last, as they're found while naming all the types
+			return builder.imports(new ArrayList<>(imports)).build();
+		}
+		
+		/**
+		 * Records the offsets and tags of the constant pool entries, without decoding them
+		 */
+		private void readConstantPool(){
+			int count = u2();
+			offsets = new int[count];
+			tags = new byte[count];
+			strings = new String[count];
+			for(int i = 1; i < count; i++){
+				int tag = u1();
+				tags[i] = (byte) tag;
+				offsets[i] = position;
+				switch(tag){
+					case CONSTANT_UTF8:
+						position += 2 + (buffer.getShort(position) & 0xFFFF);
+						break;
+					case CONSTANT_LONG:
+					case CONSTANT_DOUBLE:
+						// These take up two slots
+						position += 8;
+						i++;
+						break;
+					case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18:
+						position += 4;
+						break;
+					case 15:
+						position += 3;
+						break;
+					case CONSTANT_CLASS: case 8: case 16: case 19: case 20:
+						position += 2;
+						break;
+					default:
+						throw new IllegalArgumentException("Malformed class file: unknown constant pool tag " + tag);
+				}
+			}
+		}
+		
+		/**
+		 * Reads the InnerClasses attribute (if there is one) from the class attributes, at the current position
+		 */
+		private void readInnerClasses(){
+			for(int count = u2(); count > 0; count--){
+				String name = utf8(u2());
+				int length = u4();
+				int next = position + length;
+				if(name.equals("InnerClasses")){
+					for(int classes = u2(); classes > 0; classes--){
+						String innerClass = classConstant(u2());
+						int outerIndex = u2();
+						int nameIndex = u2();
+						int flags = u2();
+						innerClasses.put(innerClass, new InnerClass(
+								outerIndex == 0?null:classConstant(outerIndex),
+								nameIndex == 0?null:utf8(nameIndex), flags));
+					}
+				}
+				position = next;
+			}
+		}
+		
+		/**
+		 * Reads a field_info structure at the current position
+		 *
+		 * @return The {@link JavaField} for the field, or null if it's static or synthetic
+		 */
+		private JavaField readField(){
+			int accessFlags = u2();
+			int nameIndex = u2();
+			int descriptorIndex = u2();
+			skipAttributes();
+			if((accessFlags & (ACC_STATIC | ACC_SYNTHETIC)) != 0){
+				return null;
+			}
+			String descriptor = utf8(descriptorIndex);
+			int[] index = {0};
+			return JavaField.builder()
+					.visibility(visibility(accessFlags))
+					.isFinal((accessFlags & ClassFileEmitter.ACC_FINAL) != 0)
+					.type(typeName(descriptor, index))
+					.name(utf8(nameIndex))
+					.build();
+		}
+		
+		/**
+		 * Reads a method_info structure at the current position
+		 *
+		 * @param className The simple name of the class (the return type of constructors)
+		 * @param hiddenParameters The number of parameters at the start of constructors that aren't in the source
+		 * @return The {@link JavaMethod} for the method, or null if it's static, synthetic, or a bridge
+		 */
+		private JavaMethod readMethod(String className, int hiddenParameters){
+			int accessFlags = u2();
+			int nameIndex = u2();
+			int descriptorIndex = u2();
+			if((accessFlags & (ACC_STATIC | ACC_SYNTHETIC | ACC_BRIDGE)) != 0){
+				skipAttributes();
+				return null;
+			}
+			String name = utf8(nameIndex);
+			if(name.equals(STATIC_INITIALIZER)){
+				skipAttributes();
+				return null;
+			}
+			boolean isConstructor = name.equals(CONSTRUCTOR);
+			
+			// Read the thrown types and parameter names, skipping everything else
+			List<String> throwTypes = new ArrayList<>();
+			List<String> parameterNames = new ArrayList<>();
+			for(int count = u2(); count > 0; count--){
+				String attribute = utf8(u2());
+				int length = u4();
+				int next = position + length;
+				if(attribute.equals("Exceptions")){
+					for(int exceptions = u2(); exceptions > 0; exceptions--){
+						throwTypes.add(className(classConstant(u2())));
+					}
+				}else if(attribute.equals("MethodParameters")){
+					for(int parameters = u1(); parameters > 0; parameters--){
+						int parameterName = u2();
+						position += 2;
+						parameterNames.add(parameterName == 0?null:utf8(parameterName));
+					}
+				}
+				position = next;
+			}
+			
+			// Parse the descriptor into parameters and the return type
+			String descriptor = utf8(descriptorIndex);
+			List<String> parameterTypes = new ArrayList<>();
+			int[] index = {1};
+			while(descriptor.charAt(index[0]) != ')'){
+				parameterTypes.add(typeName(descriptor, index));
+			}
+			index[0]++;
+			String returnType = isConstructor?className:typeName(descriptor, index);
+			
+			JavaMethod.JavaMethodBuilder builder = JavaMethod.builder()
+					.visibility(visibility(accessFlags))
+					.isAbstract((accessFlags & ClassFileEmitter.ACC_ABSTRACT) != 0)
+					.returnType(returnType)
+					.name(isConstructor?null:name);
+			int first = isConstructor?Math.min(hiddenParameters, parameterTypes.size()):0;
+			for(int i = first; i < parameterTypes.size(); i++){
+				String parameterType = parameterTypes.get(i);
+				if((accessFlags & ClassFileEmitter.ACC_VARARGS) != 0 && i == parameterTypes.size() - 1 &&
+						parameterType.endsWith("[]")){
+					parameterType = parameterType.substring(0, parameterType.length() - 2) + "...";
+				}
+				String parameterName = i < parameterNames.size()?parameterNames.get(i):null;
+				builder.parameter(parameterType, parameterName != null?parameterName:"arg" + (i - first));
+			}
+			return builder.throwTypes(throwTypes).build();
+		}
+		
+		/**
+		 * Names the type at the given index of a descriptor, moving the index past it
+		 *
+		 * @param descriptor The field or method descriptor
+		 * @param index A single-element array holding the index in the descriptor
+		 * @return The name of the type as it would be written in source
+		 */
+		private String typeName(String descriptor, int[] index){
+			int dimensions = 0;
+			while(descriptor.charAt(index[0]) == '['){
+				dimensions++;
+				index[0]++;
+			}
+			char c = descriptor.charAt(index[0]++);
+			String name;
+			switch(c){
+				case 'Z': name = "boolean"; break;
+				case 'B': name = "byte"; break;
+				case 'C': name = "char"; break;
+				case 'S': name = "short"; break;
+				case 'I': name = "int"; break;
+				case 'J': name = "long"; break;
+				case 'F': name = "float"; break;
+				case 'D': name = "double"; break;
+				case 'V': name = "void"; break;
+				case 'L':
+					int end = descriptor.indexOf(';', index[0]);
+					name = className(descriptor.substring(index[0], end));
+					index[0] = end + 1;
+					break;
+				default:
+					throw new IllegalArgumentException("Malformed class file: bad descriptor " + descriptor);
+			}
+			StringBuilder typeName = new StringBuilder(name);
+			for(int i = 0; i < dimensions; i++){
+				typeName.append("[]");
+			}
+			return typeName.toString();
+		}
+		
+		/**
+		 * Names the given class, adding an import for it if needed
+		 *
+		 * @param internalName The internal name of the class (e.g. java/util/Map$Entry)
+		 * @return The name of the class as it would be written in the source of the class being read
+		 */
+		private String className(String internalName){
+			InnerClass inner = innerClasses.get(internalName);
+			if(inner != null){
+				if(inner.isMember()){
+					return className(inner.outerClass) + "." + inner.simpleName;
+				}
+				// Anonymous and local classes can't be named in source
+				return internalName.replace('/', '.');
+			}
+			
+			int slash = internalName.lastIndexOf('/');
+			String simpleName = internalName.substring(slash + 1);
+			String existing = simpleNames.putIfAbsent(simpleName, internalName);
+			if(existing != null && !existing.equals(internalName)){
+				// Another type already has this simple name
+				return internalName.replace('/', '.');
+			}
+			String classPackage = slash == -1?"":internalName.substring(0, slash);
+			if(!classPackage.equals("java/lang") && !classPackage.equals(packagePath)){
+				imports.add(internalName.replace('/', '.'));
+			}
+			return simpleName;
+		}
+		
+		/**
+		 * @param index The index of a Class constant
+		 * @return The internal name of the class
+		 */
+		private String classConstant(int index){
+			if(tags[index] != CONSTANT_CLASS){
+				throw new IllegalArgumentException("Malformed class file: constant " + index + " isn't a Class");
+			}
+			return utf8(buffer.getShort(offsets[index]) & 0xFFFF);
+		}
+		
+		/**
+		 * Decodes the given Utf8 constant (in the JVM's modified UTF-8), caching it for later uses
+		 *
+		 * @param index The index of a Utf8 constant
+		 * @return The string value of the constant
+		 */
+		private String utf8(int index){
+			String string = strings[index];
+			if(string != null){
+				return string;
+			}
+			if(tags[index] != CONSTANT_UTF8){
+				throw new IllegalArgumentException("Malformed class file: constant " + index + " isn't a Utf8");
+			}
+			int offset = offsets[index];
+			int length = buffer.getShort(offset) & 0xFFFF;
+			byte[] bytes = new byte[length];
+			boolean ascii = true;
+			for(int i = 0; i < length; i++){
+				byte b = buffer.get(offset + 2 + i);
+				bytes[i] = b;
+				ascii &= b >= 0;
+			}
+			if(ascii){
+				string = new String(bytes, StandardCharsets.ISO_8859_1);
+			}else{
+				char[] chars = new char[length];
+				int count = 0;
+				for(int i = 0; i < length; i++){
+					int b = bytes[i] & 0xFF;
+					if(b < 0x80){
+						chars[count++] = (char) b;
+					}else if((b & 0xE0) == 0xC0){
+						chars[count++] = (char) (((b & 0x1F) << 6) | (bytes[++i] & 0x3F));
+					}else{
+						chars[count++] = (char) (((b & 0x0F) << 12) | ((bytes[++i] & 0x3F) << 6) |
+								(bytes[++i] & 0x3F));
+					}
+				}
+				string = new String(chars, 0, count);
+			}
+			strings[index] = string;
+			return string;
+		}
+	}
+}
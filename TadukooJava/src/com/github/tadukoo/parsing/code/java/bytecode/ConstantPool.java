@@ -0,0 +1,144 @@
+package com.github.tadukoo.parsing.code.java.bytecode;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Constant Pool builds the constant pool of a class file, making sure each constant is only added once
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+class ConstantPool{
+	/** Tag for a UTF-8 string constant */
+	static final int UTF8 = 1;
+	/** Tag for a class reference */
+	static final int CLASS = 7;
+	/** Tag for a method reference */
+	static final int METHOD_REF = 10;
+	/** Tag for a name and type */
+	static final int NAME_AND_TYPE = 12;
+	
+	/** The most entries a constant pool can have */
+	static final int MAX_ENTRIES = 65535;
+	
+	/** The indices of the constants added so far, keyed by tag and content */
+	private final Map<String, Integer> indices = new HashMap<>();
+	/** The encoded constants */
+	private final ByteArrayDataOutput bytes = new ByteArrayDataOutput();
+	/** The index the next constant will get */
+	private int nextIndex = 1;
+	
+	/**
+	 * Adds a constant if it's not already present
+	 *
+	 * @param key The key identifying the constant (tag and content)
+	 * @param writer Writes the constant if it's new
+	 * @return The index of the constant
+	 */
+	private int add(String key, ConstantWriter writer){
+		Integer index = indices.get(key);
+		if(index != null){
+			return index;
+		}
+		if(nextIndex >= MAX_ENTRIES){
+			throw new IllegalStateException("Constant pool has more than " + MAX_ENTRIES + " entries!");
+		}
+		try{
+			writer.write(bytes.getOutput());
+		}catch(IOException e){
+			// Can't happen when writing to memory
+			throw new IllegalStateException(e);
+		}
+		int newIndex = nextIndex++;
+		indices.put(key, newIndex);
+		return newIndex;
+	}
+	
+	/**
+	 * @param value The string to add
+	 * @return The index of the UTF-8 constant
+	 */
+	int utf8(String value){
+		return add(UTF8 + ":" + value, out -> {
+			out.writeByte(UTF8);
+			out.writeUTF(value);
+		});
+	}
+	
+	/**
+	 * @param internalName The internal name of the class (e.g. java/lang/Object)
+	 * @return The index of the class constant
+	 */
+	int classRef(String internalName){
+		int nameIndex = utf8(internalName);
+		return add(CLASS + ":" + internalName, out -> {
+			out.writeByte(CLASS);
+			out.writeShort(nameIndex);
+		});
+	}
+	
+	/**
+	 * @param name The name of the member
+	 * @param descriptor The descriptor of the member
+	 * @return The index of the name and type constant
+	 */
+	int nameAndType(String name, String descriptor){
+		int nameIndex = utf8(name);
+		int descriptorIndex = utf8(descriptor);
+		return add(NAME_AND_TYPE + ":" + name + ":" + descriptor, out -> {
+			out.writeByte(NAME_AND_TYPE);
+			out.writeShort(nameIndex);
+			out.writeShort(descriptorIndex);
+		});
+	}
+	
+	/**
+	 * @param owner The internal name of the class owning the method
+	 * @param name The name of the method
+	 * @param descriptor The descriptor of the method
+	 * @return The index of the method reference constant
+	 */
+	int methodRef(String owner, String name, String descriptor){
+		int classIndex = classRef(owner);
+		int nameAndTypeIndex = nameAndType(name, descriptor);
+		return add(METHOD_REF + ":" + owner + "." + name + ":" + descriptor, out -> {
+			out.writeByte(METHOD_REF);
+			out.writeShort(classIndex);
+			out.writeShort(nameAndTypeIndex);
+		});
+	}
+	
+	/**
+	 * @return The number of entries in the constant pool, plus one (as written in the class file)
+	 */
+	int getCount(){
+		return nextIndex;
+	}
+	
+	/**
+	 * Writes the constant pool count and entries
+	 *
+	 * @param out The stream to write to
+	 * @throws IOException If writing fails
+	 */
+	void writeTo(DataOutputStream out) throws IOException{
+		out.writeShort(nextIndex);
+		bytes.writeTo(out);
+	}
+	
+	/**
+	 * Writes a single constant
+	 */
+	@FunctionalInterface
+	private interface ConstantWriter{
+		/**
+		 * @param out The stream to write the constant to
+		 * @throws IOException If writing fails
+		 */
+		void write(DataOutputStream out) throws IOException;
+	}
+}
@@ -0,0 +1,194 @@
+package com.github.tadukoo.parsing.code.java.bytecode;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Type Resolver turns the type names used in a {@link JavaClass} (e.g. {@code List<String>}, {@code int[]}, or
+ * {@code Map.Entry}) into the internal names and descriptors used in class files. Generic arguments are erased.
+ * Simple names are resolved in this order:
+ * <ol>
+ *     <li>Single-type imports of the class</li>
+ *     <li>{@code java.lang}</li>
+ *     <li>On-demand (wildcard) imports of the class, if the type can be found by the class loader</li>
+ *     <li>A single uppercase letter (optionally followed by digits) is taken to be a type variable, and erased to
+ *     {@code java.lang.Object}</li>
+ *     <li>Otherwise, the package of the class</li>
+ * </ol>
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+class TypeResolver{
+	/** Descriptors of the primitive types (and void), keyed by their names */
+	private static final Map<String, String> PRIMITIVES = Map.of(
+			"boolean", "Z", "byte", "B", "char", "C", "short", "S",
+			"int", "I", "long", "J", "float", "F", "double", "D", "void", "V");
+	
+	/** The internal name of the package of the class (e.g. com/example) */
+	private final String packagePath;
+	/** The imports of the class */
+	private final List<String> imports;
+	/** The class loader used to look up types from on-demand imports */
+	private final ClassLoader classLoader;
+	/** Already resolved internal names, keyed by simple name */
+	private final Map<String, String> resolved = new HashMap<>();
+	
+	/**
+	 * Creates a new Type Resolver for the given class
+	 *
+	 * @param javaClass The {@link JavaClass} whose types are being resolved
+	 * @param classLoader The class loader used to look up types from on-demand imports
+	 */
+	TypeResolver(JavaClass javaClass, ClassLoader classLoader){
+		packagePath = javaClass.getPackageName().replace('.', '/');
+		imports = javaClass.getImports();
+		this.classLoader = classLoader;
+	}
+	
+	/**
+	 * @param typeName The type name to erase
+	 * @return The given type name with all generic arguments and whitespace removed
+	 */
+	static String erase(String typeName){
+		StringBuilder erased = new StringBuilder(typeName.length());
+		int depth = 0;
+		for(int i = 0; i < typeName.length(); i++){
+			char c = typeName.charAt(i);
+			if(c == '<'){
+				depth++;
+			}else if(c == '>'){
+				depth--;
+			}else if(depth == 0 && !Character.isWhitespace(c)){
+				erased.append(c);
+			}
+		}
+		return erased.toString();
+	}
+	
+	/**
+	 * @param typeName The type name to find the descriptor for (e.g. {@code List<String>[]})
+	 * @return The field descriptor of the type (e.g. {@code [Ljava/util/List;})
+	 */
+	String descriptor(String typeName){
+		String erased = erase(typeName);
+		StringBuilder descriptor = new StringBuilder();
+		while(erased.endsWith("[]") || erased.endsWith("...")){
+			descriptor.append('[');
+			erased = erased.substring(0, erased.length() - (erased.endsWith("[]")?2:3));
+		}
+		String primitive = PRIMITIVES.get(erased);
+		if(primitive != null){
+			return descriptor.append(primitive).toString();
+		}
+		return descriptor.append('L').append(resolve(erased)).append(';').toString();
+	}
+	
+	/**
+	 * @param typeName The name of a class type (e.g. {@code Map.Entry<K, V>})
+	 * @return The internal name of the class (e.g. {@code java/util/Map$Entry})
+	 */
+	String internalName(String typeName){
+		return resolve(erase(typeName));
+	}
+	
+	/**
+	 * @param name The erased, non-array name of a class type
+	 * @return The internal name of the class
+	 */
+	private String resolve(String name){
+		String internalName = resolved.get(name);
+		if(internalName == null){
+			internalName = lookUp(name);
+			resolved.put(name, internalName);
+		}
+		return internalName;
+	}
+	
+	/**
+	 * @param name The erased, non-array name of a class type
+	 * @return The internal name of the class
+	 */
+	private String lookUp(String name){
+		// Split off nested classes (e.g. Map.Entry) from an outer class that needs resolving
+		int dot = name.indexOf('.');
+		if(dot != -1){
+			if(Character.isLowerCase(name.charAt(0))){
+				return qualifiedToInternal(name);
+			}
+			return resolve(name.substring(0, dot)) + "$" + name.substring(dot + 1).replace('.', '$');
+		}
+		
+		// Single-type imports
+		if(imports != null){
+			for(String singleImport: imports){
+				if(singleImport.endsWith("." + name)){
+					return qualifiedToInternal(singleImport);
+				}
+			}
+		}
+		
+		// java.lang
+		if(exists("java.lang." + name)){
+			return "java/lang/" + name;
+		}
+		
+		// On-demand imports
+		if(imports != null){
+			for(String singleImport: imports){
+				if(singleImport.endsWith(".*")){
+					String candidate = singleImport.substring(0, singleImport.length() - 1) + name;
+					if(exists(candidate)){
+						return candidate.replace('.', '/');
+					}
+				}
+			}
+		}
+		
+		// Type variables
+		if(name.matches("[A-Z][0-9]*")){
+			return "java/lang/Object";
+		}
+		
+		return packagePath.isEmpty()?name:packagePath + "/" + name;
+	}
+	
+	/**
+	 * Converts a qualified name to an internal name, treating segments after the first uppercase one as nested
+	 * classes (e.g. java.util.Map.Entry becomes java/util/Map$Entry)
+	 *
+	 * @param qualifiedName The qualified name to convert
+	 * @return The internal name
+	 */
+	private static String qualifiedToInternal(String qualifiedName){
+		StringBuilder internal = new StringBuilder(qualifiedName.length());
+		boolean inClass = false;
+		for(String segment: qualifiedName.split("\\.")){
+			if(internal.length() > 0){
+				internal.append(inClass?'$':'/');
+			}
+			internal.append(segment);
+			if(!segment.isEmpty() && Character.isUpperCase(segment.charAt(0))){
+				inClass = true;
+			}
+		}
+		return internal.toString();
+	}
+	
+	/**
+	 * @param qualifiedName The qualified name of a class
+	 * @return Whether the class can be found or not
+	 */
+	private boolean exists(String qualifiedName){
+		try{
+			Class.forName(qualifiedName, false, classLoader);
+			return true;
+		}catch(ClassNotFoundException | LinkageError e){
+			return false;
+		}
+	}
+}
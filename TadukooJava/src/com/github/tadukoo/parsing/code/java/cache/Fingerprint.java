@@ -0,0 +1,186 @@
+package com.github.tadukoo.parsing.code.java.cache;
+
+import com.github.tadukoo.parsing.code.java.memory.RetainedSize;
+
+/**
+ * Fingerprint is a 128-bit hash of the structure of a model, used to key the {@link RenderCache}. The models
+ * compute theirs once (the first time it's needed) and keep it, so looking a member up in the cache doesn't have to
+ * hash or compare its lines again. With 128 bits, two different members getting the same fingerprint is
+ * vanishingly unlikely.
+ * <br><br>
+ * Fingerprints are made with a {@link Hasher}, which runs two independent 64-bit hashes over everything added to
+ * it. Strings are added with their length, so adjacent values can't run into each other.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class Fingerprint{
+	/** The number of bytes of heap a Fingerprint takes */
+	public static final long RETAINED_SIZE = RetainedSize.shallow(0, 16);
+	
+	/**
+	 * Hasher adds up the parts of a model into a {@link Fingerprint}. It's not thread-safe.
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static final class Hasher{
+		/** The 64-bit FNV-1a prime, used for the high half */
+		private static final long HIGH_PRIME = 0x100000001B3L;
+		/** The 64-bit golden ratio multiplier, used for the low half */
+		private static final long LOW_MULTIPLIER = 0x9E3779B97F4A7C15L;
+		/** What's added in place of a null String */
+		private static final int NULL_MARKER = -1;
+		
+		/** The high half of the hash so far */
+		private long high = 0xCBF29CE484222325L;
+		/** The low half of the hash so far */
+		private long low = 0x2545F4914F6CDD1DL;
+		
+		// Can't create outside of Fingerprint
+		private Hasher(){ }
+		
+		/**
+		 * @param value The value to add to both halves
+		 */
+		private void mix(long value){
+			high = (high ^ value) * HIGH_PRIME;
+			low = (low + value) * LOW_MULTIPLIER;
+		}
+		
+		/**
+		 * @param value The int to add
+		 * @return this, to continue hashing
+		 */
+		public Hasher add(int value){
+			mix(value);
+			return this;
+		}
+		
+		/**
+		 * @param value The boolean to add
+		 * @return this, to continue hashing
+		 */
+		public Hasher add(boolean value){
+			mix(value?1:0);
+			return this;
+		}
+		
+		/**
+		 * @param value The String to add (may be null)
+		 * @return this, to continue hashing
+		 */
+		public Hasher add(String value){
+			if(value == null){
+				mix(NULL_MARKER);
+				return this;
+			}
+			int length = value.length();
+			mix(length);
+			for(int i = 0; i < length; i++){
+				mix(value.charAt(i));
+			}
+			return this;
+		}
+		
+		/**
+		 * @return The {@link Fingerprint} of everything added so far
+		 */
+		public Fingerprint build(){
+			return new Fingerprint(finish(high), finish(low));
+		}
+		
+		/**
+		 * Mixes the bits of one half of the hash (the MurmurHash3 finalizer)
+		 *
+		 * @param hash The half to finish
+		 * @return The finished half
+		 */
+		private static long finish(long hash){
+			hash ^= hash >>> 33;
+			hash *= 0xFF51AFD7ED558CCDL;
+			hash ^= hash >>> 33;
+			hash *= 0xC4CEB9FE1A85EC53L;
+			return hash ^ (hash >>> 33);
+		}
+	}
+	
+	/** The high 64 bits of the fingerprint */
+	private final long high;
+	/** The low 64 bits of the fingerprint */
+	private final long low;
+	
+	/**
+	 * Constructs a new Fingerprint with the given parameters
+	 *
+	 * @param high The high 64 bits of the fingerprint
+	 * @param low The low 64 bits of the fingerprint
+	 */
+	private Fingerprint(long high, long low){
+		this.high = high;
+		this.low = low;
+	}
+	
+	/**
+	 * @return A new {@link Hasher} to make a {@link Fingerprint} with
+	 */
+	public static Hasher hasher(){
+		return new Hasher();
+	}
+	
+	/**
+	 * @param text The text to fingerprint
+	 * @return The {@link Fingerprint} of just the given text
+	 */
+	public static Fingerprint of(String text){
+		return hasher().add(text).build();
+	}
+	
+	/**
+	 * @return The high 64 bits of the fingerprint
+	 */
+	public long getHigh(){
+		return high;
+	}
+	
+	/**
+	 * @return The low 64 bits of the fingerprint
+	 */
+	public long getLow(){
+		return low;
+	}
+	
+	/**
+	 * @param otherFingerprint The object to compare against
+	 * @return true if the given object is a {@link Fingerprint} with the same bits, false otherwise
+	 */
+	@Override
+	public boolean equals(Object otherFingerprint){
+		if(this == otherFingerprint){
+			return true;
+		}
+		if(!(otherFingerprint instanceof Fingerprint)){
+			return false;
+		}
+		Fingerprint fingerprint = (Fingerprint) otherFingerprint;
+		return high == fingerprint.high && low == fingerprint.low;
+	}
+	
+	/**
+	 * @return The low 32 bits of the fingerprint
+	 */
+	@Override
+	public int hashCode(){
+		return (int) low;
+	}
+	
+	/**
+	 * @return The fingerprint as 32 hex digits
+	 */
+	@Override
+	public String toString(){
+		return String.format("%016x%016x", high, low);
+	}
+}
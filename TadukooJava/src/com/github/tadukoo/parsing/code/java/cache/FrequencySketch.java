@@ -0,0 +1,98 @@
+package com.github.tadukoo.parsing.code.java.cache;
+
+/**
+ * Frequency Sketch is a small count-min sketch used by the {@link RenderCache} to estimate how often a key has
+ * been requested recently. Each counter is capped at 15, and all counters are halved once enough increments
+ * have happened, so that keys which were popular a long time ago slowly lose their advantage.
+ * <br><br>
+ * This class is not thread-safe - the {@link RenderCache} only uses it while holding the lock of the segment
+ * that owns it.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+class FrequencySketch{
+	/** The maximum value a single counter can reach */
+	private static final int MAX_COUNT = 15;
+	/** Seeds used to derive the index for each row of the sketch */
+	private static final int[] SEEDS = {0x97cb3127, 0xb0f3a5c9, 0x5a6c1d87, 0xe3f1c43b};
+	
+	/** The counters, one row per seed */
+	private final byte[][] table;
+	/** Mask used to turn a hash into an index in a row */
+	private final int mask;
+	/** The number of increments allowed before all counters get halved */
+	private final int sampleSize;
+	/** The number of increments since the last time counters were halved */
+	private int additions;
+	
+	/**
+	 * Creates a new Frequency Sketch with (at least) the given number of counters per row
+	 *
+	 * @param width The desired number of counters per row - rounded up to a power of two
+	 */
+	FrequencySketch(int width){
+		int size = 16;
+		while(size < width){
+			size <<= 1;
+		}
+		table = new byte[SEEDS.length][size];
+		mask = size - 1;
+		sampleSize = size * 10;
+	}
+	
+	/**
+	 * @param hash The hash of the key to find the index for
+	 * @param row The row to find the index in
+	 * @return The index of the counter for the given hash in the given row
+	 */
+	private int indexOf(int hash, int row){
+		int h = hash * SEEDS[row];
+		h ^= h >>> 16;
+		return h & mask;
+	}
+	
+	/**
+	 * Records another request for the key with the given hash
+	 *
+	 * @param hash The hash of the key that was requested
+	 */
+	void increment(int hash){
+		boolean added = false;
+		for(int row = 0; row < SEEDS.length; row++){
+			int index = indexOf(hash, row);
+			if(table[row][index] < MAX_COUNT){
+				table[row][index]++;
+				added = true;
+			}
+		}
+		if(added && ++additions >= sampleSize){
+			reset();
+		}
+	}
+	
+	/**
+	 * @param hash The hash of the key to check the frequency of
+	 * @return The estimated number of recent requests for the key with the given hash
+	 */
+	int frequency(int hash){
+		int frequency = MAX_COUNT;
+		for(int row = 0; row < SEEDS.length; row++){
+			frequency = Math.min(frequency, table[row][indexOf(hash, row)]);
+		}
+		return frequency;
+	}
+	
+	/**
+	 * Halves every counter, so that old popularity fades over time
+	 */
+	private void reset(){
+		for(byte[] row: table){
+			for(int i = 0; i < row.length; i++){
+				row[i] = (byte) (row[i] >>> 1);
+			}
+		}
+		additions = additions >>> 1;
+	}
+}
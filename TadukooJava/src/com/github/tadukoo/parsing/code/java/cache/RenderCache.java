@@ -0,0 +1,388 @@
+package com.github.tadukoo.parsing.code.java.cache;
+
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Render Cache is used to store the rendered text of {@link JavaField fields} and {@link JavaMethod methods},
+ * keyed by the {@link Fingerprint} of the structure of the member, so that structurally identical members (e.g. the
+ * same getters in many classes) only have to be rendered once. The members keep their fingerprints, so a lookup
+ * only hashes and compares 128 bits, however long the member is.
+ * <br><br>
+ * The cache is bounded by an estimated number of bytes. It's split into lock-striped segments, each of which keeps
+ * its entries in least-recently-used order along with a {@link FrequencySketch} of recent requests. A new rendering
+ * is only admitted to a full segment if it's been requested more often than the entry it would evict, so one-off
+ * members can't push out the commonly used ones.
+ * <br><br>
+ * The cache is optional - it's only used by the models when it has been set as the
+ * {@link #setGlobalCache(RenderCache) global cache}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class RenderCache{
+	
+	/**
+	 * Render Cache Builder is used to build a new {@link RenderCache}. It contains the following parameters:
+	 *
+	 * <table>
+	 *     <caption>Render Cache Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>maxBytes</td>
+	 *         <td>The estimated number of bytes the cache may hold</td>
+	 *         <td>32 MiB</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>concurrencyLevel</td>
+	 *         <td>The number of independently locked segments (rounded up to a power of two)</td>
+	 *         <td>4 times the number of available processors</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static class RenderCacheBuilder{
+		/** The estimated number of bytes the cache may hold */
+		private long maxBytes = 32L * 1024 * 1024;
+		/** The number of independently locked segments */
+		private int concurrencyLevel = 4 * Runtime.getRuntime().availableProcessors();
+		
+		// Can't create outside of RenderCache
+		private RenderCacheBuilder(){ }
+		
+		/**
+		 * @param maxBytes The estimated number of bytes the cache may hold
+		 * @return this, to continue building
+		 */
+		public RenderCacheBuilder maxBytes(long maxBytes){
+			this.maxBytes = maxBytes;
+			return this;
+		}
+		
+		/**
+		 * @param concurrencyLevel The number of independently locked segments (rounded up to a power of two)
+		 * @return this, to continue building
+		 */
+		public RenderCacheBuilder concurrencyLevel(int concurrencyLevel){
+			this.concurrencyLevel = concurrencyLevel;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters
+		 *
+		 * @throws IllegalArgumentException if anything is wrong
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			if(maxBytes <= 0){
+				errors.add("maxBytes must be positive!");
+			}
+			
+			if(concurrencyLevel <= 0 || concurrencyLevel > MAX_SEGMENTS){
+				errors.add("concurrencyLevel must be between 1 and " + MAX_SEGMENTS + "!");
+			}
+			
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters, then builds a new {@link RenderCache}
+		 *
+		 * @return A newly built {@link RenderCache}
+		 * @throws IllegalArgumentException if anything is wrong with the current parameters
+		 */
+		public RenderCache build(){
+			checkForErrors();
+			
+			return new RenderCache(maxBytes, concurrencyLevel);
+		}
+	}
+	
+	/**
+	 * A single cached rendering, along with the data needed to weigh it and check its frequency
+	 */
+	private static class Entry{
+		/** The rendered text */
+		private final String rendered;
+		/** The spread hash of the key */
+		private final int hash;
+		/** The estimated number of bytes of the entry */
+		private final long weight;
+		
+		/**
+		 * @param rendered The rendered text
+		 * @param hash The spread hash of the key
+		 * @param weight The estimated number of bytes of the entry
+		 */
+		private Entry(String rendered, int hash, long weight){
+			this.rendered = rendered;
+			this.hash = hash;
+			this.weight = weight;
+		}
+	}
+	
+	/**
+	 * A lock-striped segment of the cache, holding its own entries, byte budget, and frequency sketch
+	 */
+	private class Segment{
+		/** The lock guarding everything in the segment */
+		private final ReentrantLock lock = new ReentrantLock();
+		/** The entries in least-recently-used order */
+		private final LinkedHashMap<Fingerprint, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+		/** The recent request frequencies of keys in this segment */
+		private final FrequencySketch sketch;
+		/** The estimated number of bytes this segment may hold */
+		private final long maxWeight;
+		/** The estimated number of bytes this segment currently holds */
+		private long weight = 0;
+		
+		/**
+		 * @param maxWeight The estimated number of bytes this segment may hold
+		 */
+		private Segment(long maxWeight){
+			this.maxWeight = maxWeight;
+			sketch = new FrequencySketch((int) Math.min(1 << 16, Math.max(16, maxWeight / 256)));
+		}
+		
+		/**
+		 * Records a request for the given key and grabs its cached rendering
+		 *
+		 * @param key The key to look up
+		 * @param hash The spread hash of the key
+		 * @return The cached rendering, or null
+		 */
+		private String get(Fingerprint key, int hash){
+			lock.lock();
+			try{
+				sketch.increment(hash);
+				Entry entry = entries.get(key);
+				return entry == null?null:entry.rendered;
+			}finally{
+				lock.unlock();
+			}
+		}
+		
+		/**
+		 * Attempts to add the given rendering to the segment, evicting less frequently used entries as needed
+		 *
+		 * @param key The key to store the rendering for
+		 * @param hash The spread hash of the key
+		 * @param rendered The rendered text
+		 */
+		private void admit(Fingerprint key, int hash, String rendered){
+			long entryWeight = weigh(rendered);
+			if(entryWeight > maxWeight){
+				rejectionCount.increment();
+				return;
+			}
+			
+			lock.lock();
+			try{
+				// Another thread may have rendered the same member in the meantime
+				if(entries.containsKey(key)){
+					return;
+				}
+				
+				int candidateFrequency = sketch.frequency(hash);
+				Iterator<Map.Entry<Fingerprint, Entry>> iterator = entries.entrySet().iterator();
+				while(weight + entryWeight > maxWeight){
+					Entry victim = iterator.next().getValue();
+					if(sketch.frequency(victim.hash) >= candidateFrequency){
+						rejectionCount.increment();
+						return;
+					}
+					iterator.remove();
+					weight -= victim.weight;
+					evictionCount.increment();
+				}
+				
+				entries.put(key, new Entry(rendered, hash, entryWeight));
+				weight += entryWeight;
+			}finally{
+				lock.unlock();
+			}
+		}
+		
+		/**
+		 * Removes all entries from the segment
+		 */
+		private void clear(){
+			lock.lock();
+			try{
+				entries.clear();
+				weight = 0;
+			}finally{
+				lock.unlock();
+			}
+		}
+	}
+	
+	/** The maximum number of segments allowed */
+	private static final int MAX_SEGMENTS = 1 << 16;
+	/**
+	 * Estimated number of bytes used by an entry beyond its characters (map node, entry, String, and
+	 * {@link Fingerprint} objects)
+	 */
+	private static final long ENTRY_OVERHEAD = 112 + Fingerprint.RETAINED_SIZE;
+	/** The cache used by the models when rendering, if one is set */
+	private static volatile RenderCache globalCache = null;
+	
+	/** The estimated number of bytes the cache may hold */
+	private final long maxBytes;
+	/** The lock-striped segments of the cache */
+	private final Segment[] segments;
+	/** The number of lookups that found a cached rendering */
+	private final LongAdder hitCount = new LongAdder();
+	/** The number of lookups that had to render */
+	private final LongAdder missCount = new LongAdder();
+	/** The number of entries evicted to stay within the byte limit */
+	private final LongAdder evictionCount = new LongAdder();
+	/** The number of renderings that were not admitted */
+	private final LongAdder rejectionCount = new LongAdder();
+	
+	/**
+	 * Constructs a new Render Cache with the given parameters
+	 *
+	 * @param maxBytes The estimated number of bytes the cache may hold
+	 * @param concurrencyLevel The number of independently locked segments (rounded up to a power of two)
+	 */
+	private RenderCache(long maxBytes, int concurrencyLevel){
+		this.maxBytes = maxBytes;
+		int segmentCount = 1;
+		while(segmentCount < concurrencyLevel){
+			segmentCount <<= 1;
+		}
+		segments = new Segment[segmentCount];
+		long segmentWeight = Math.max(1, maxBytes / segmentCount);
+		for(int i = 0; i < segmentCount; i++){
+			segments[i] = new Segment(segmentWeight);
+		}
+	}
+	
+	/**
+	 * @return A new {@link RenderCacheBuilder} to use to build a {@link RenderCache}
+	 */
+	public static RenderCacheBuilder builder(){
+		return new RenderCacheBuilder();
+	}
+	
+	/**
+	 * @return The cache used by the models when rendering, or null if there is none
+	 */
+	public static RenderCache getGlobalCache(){
+		return globalCache;
+	}
+	
+	/**
+	 * @param cache The cache to be used by the models when rendering (may be null to stop caching)
+	 */
+	public static void setGlobalCache(RenderCache cache){
+		globalCache = cache;
+	}
+	
+	/**
+	 * Estimates the number of bytes an entry with the given rendering takes (including its key), assuming two
+	 * bytes per character
+	 *
+	 * @param rendered The rendered text
+	 * @return The estimated number of bytes of the entry
+	 */
+	private static long weigh(String rendered){
+		return ENTRY_OVERHEAD + 2L * rendered.length();
+	}
+	
+	/**
+	 * @param key The key to spread the hash of
+	 * @return The hash of the key, with the high bits spread to the low bits
+	 */
+	private static int spread(Fingerprint key){
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+	
+	/**
+	 * @return The estimated number of bytes the cache may hold
+	 */
+	public long getMaxBytes(){
+		return maxBytes;
+	}
+	
+	/**
+	 * @return The number of lock-striped segments the cache is split into
+	 */
+	public int getSegmentCount(){
+		return segments.length;
+	}
+	
+	/**
+	 * Grabs the cached rendering for the given key, rendering (and possibly caching) it if it's not present
+	 *
+	 * @param key The {@link Fingerprint} of the member to grab the rendering for
+	 * @param renderer Used to render the member if it's not cached
+	 * @return The rendered text for the given member
+	 */
+	public String getOrRender(Fingerprint key, Supplier<String> renderer){
+		int hash = spread(key);
+		Segment segment = segments[hash & (segments.length - 1)];
+		String rendered = segment.get(key, hash);
+		if(rendered != null){
+			hitCount.increment();
+			return rendered;
+		}
+		
+		missCount.increment();
+		rendered = renderer.get();
+		segment.admit(key, hash, rendered);
+		return rendered;
+	}
+	
+	/**
+	 * Removes all cached renderings (statistics are kept)
+	 */
+	public void invalidateAll(){
+		for(Segment segment: segments){
+			segment.clear();
+		}
+	}
+	
+	/**
+	 * @return A snapshot of the current statistics of the cache
+	 */
+	public RenderCacheStats getStats(){
+		long entryCount = 0;
+		long weightedSize = 0;
+		for(Segment segment: segments){
+			segment.lock.lock();
+			try{
+				entryCount += segment.entries.size();
+				weightedSize += segment.weight;
+			}finally{
+				segment.lock.unlock();
+			}
+		}
+		return new RenderCacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), rejectionCount.sum(),
+				entryCount, weightedSize);
+	}
+}
@@ -0,0 +1,111 @@
+package com.github.tadukoo.parsing.code.java.cache;
+
+/**
+ * Render Cache Stats is an immutable snapshot of the statistics of a {@link RenderCache} at some point in time.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class RenderCacheStats{
+	/** The number of lookups that found a cached rendering */
+	private final long hitCount;
+	/** The number of lookups that had to render */
+	private final long missCount;
+	/** The number of entries evicted to stay within the byte limit */
+	private final long evictionCount;
+	/** The number of renderings that were not admitted because they were used less than what they'd replace */
+	private final long rejectionCount;
+	/** The number of entries in the cache */
+	private final long entryCount;
+	/** The estimated number of bytes held by the cache */
+	private final long weightedSize;
+	
+	/**
+	 * Constructs a new Render Cache Stats snapshot with the given parameters
+	 *
+	 * @param hitCount The number of lookups that found a cached rendering
+	 * @param missCount The number of lookups that had to render
+	 * @param evictionCount The number of entries evicted to stay within the byte limit
+	 * @param rejectionCount The number of renderings that were not admitted because they were used less
+	 * than what they'd replace
+	 * @param entryCount The number of entries in the cache
+	 * @param weightedSize The estimated number of bytes held by the cache
+	 */
+	RenderCacheStats(
+			long hitCount, long missCount, long evictionCount, long rejectionCount,
+			long entryCount, long weightedSize){
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.rejectionCount = rejectionCount;
+		this.entryCount = entryCount;
+		this.weightedSize = weightedSize;
+	}
+	
+	/**
+	 * @return The number of lookups that found a cached rendering
+	 */
+	public long getHitCount(){
+		return hitCount;
+	}
+	
+	/**
+	 * @return The number of lookups that had to render
+	 */
+	public long getMissCount(){
+		return missCount;
+	}
+	
+	/**
+	 * @return The total number of lookups
+	 */
+	public long getRequestCount(){
+		return hitCount + missCount;
+	}
+	
+	/**
+	 * @return The ratio of lookups that found a cached rendering, or 1 if there were no lookups
+	 */
+	public double getHitRate(){
+		long requestCount = getRequestCount();
+		return requestCount == 0?1.0:(double) hitCount / requestCount;
+	}
+	
+	/**
+	 * @return The number of entries evicted to stay within the byte limit
+	 */
+	public long getEvictionCount(){
+		return evictionCount;
+	}
+	
+	/**
+	 * @return The number of renderings that were not admitted because they were used less than what they'd replace
+	 */
+	public long getRejectionCount(){
+		return rejectionCount;
+	}
+	
+	/**
+	 * @return The number of entries in the cache
+	 */
+	public long getEntryCount(){
+		return entryCount;
+	}
+	
+	/**
+	 * @return The estimated number of bytes held by the cache
+	 */
+	public long getWeightedSize(){
+		return weightedSize;
+	}
+	
+	/**
+	 * @return A summary of these stats, useful for logging
+	 */
+	@Override
+	public String toString(){
+		return "RenderCacheStats{hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount +
+				", rejections=" + rejectionCount + ", entries=" + entryCount + ", bytes=" + weightedSize + "}";
+	}
+}
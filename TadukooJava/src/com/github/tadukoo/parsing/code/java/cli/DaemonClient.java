@@ -0,0 +1,143 @@
+package com.github.tadukoo.parsing.code.java.cli;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Daemon Client sends requests to a running {@link GeneratorDaemon}, found through its daemon file
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+final class DaemonClient{
+	/** How long to wait to connect to the daemon, in milliseconds */
+	private static final int CONNECT_TIMEOUT_MILLIS = 1000;
+	
+	// Not allowed to create a Daemon Client
+	private DaemonClient(){ }
+	
+	/**
+	 * Submits a job to the daemon and waits for it to finish, printing its output
+	 *
+	 * @param daemonFile The daemon file of the daemon
+	 * @param workingDirectory The directory the job's relative paths are resolved against
+	 * @param args The command line arguments of the job
+	 * @param out The stream to print the job's normal output to
+	 * @param err The stream to print the job's errors to
+	 * @return The exit code of the job
+	 * @throws IOException If the daemon can't be reached
+	 */
+	static int submit(Path daemonFile, Path workingDirectory, List<String> args, PrintStream out, PrintStream err)
+			throws IOException{
+		try(Socket socket = connect(daemonFile, GeneratorDaemon.RUN)){
+			DataOutputStream request = new DataOutputStream(socket.getOutputStream());
+			request.writeUTF(workingDirectory.toAbsolutePath().toString());
+			request.writeInt(args.size());
+			for(String arg: args){
+				request.writeUTF(arg);
+			}
+			request.flush();
+			
+			DataInputStream response = new DataInputStream(socket.getInputStream());
+			int exitCode = response.readInt();
+			out.print(new String(readBytes(response), StandardCharsets.UTF_8));
+			err.print(new String(readBytes(response), StandardCharsets.UTF_8));
+			return exitCode;
+		}
+	}
+	
+	/**
+	 * @param daemonFile The daemon file of the daemon
+	 * @return Whether a daemon is running and answering for the given daemon file
+	 */
+	static boolean isRunning(Path daemonFile){
+		return send(daemonFile, GeneratorDaemon.PING);
+	}
+	
+	/**
+	 * Asks the daemon to stop
+	 *
+	 * @param daemonFile The daemon file of the daemon
+	 * @return Whether there was a daemon to stop or not
+	 */
+	static boolean stop(Path daemonFile){
+		return send(daemonFile, GeneratorDaemon.STOP);
+	}
+	
+	/**
+	 * Sends a request without any arguments to the daemon
+	 *
+	 * @param daemonFile The daemon file of the daemon
+	 * @param request The request to send
+	 * @return Whether the daemon answered or not
+	 */
+	private static boolean send(Path daemonFile, String request){
+		if(!Files.exists(daemonFile)){
+			return false;
+		}
+		try(Socket socket = connect(daemonFile, request)){
+			DataInputStream response = new DataInputStream(socket.getInputStream());
+			response.readInt();
+			readBytes(response);
+			readBytes(response);
+			return true;
+		}catch(IOException e){
+			return false;
+		}
+	}
+	
+	/**
+	 * Connects to the daemon and sends the token and request type
+	 *
+	 * @param daemonFile The daemon file of the daemon
+	 * @param request The request being sent
+	 * @return The socket connected to the daemon
+	 * @throws IOException If the daemon file can't be read or the daemon can't be reached
+	 */
+	private static Socket connect(Path daemonFile, String request) throws IOException{
+		List<String> lines = Files.readAllLines(daemonFile, StandardCharsets.UTF_8);
+		if(lines.size() != 2){
+			throw new IOException("Malformed daemon file " + daemonFile);
+		}
+		int port;
+		try{
+			port = Integer.parseInt(lines.get(0));
+		}catch(NumberFormatException e){
+			throw new IOException("Malformed daemon file " + daemonFile, e);
+		}
+		
+		Socket socket = new Socket();
+		try{
+			socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), CONNECT_TIMEOUT_MILLIS);
+			DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+			out.writeUTF(lines.get(1));
+			out.writeUTF(request);
+			out.flush();
+			return socket;
+		}catch(IOException e){
+			socket.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * @param in The stream to read from
+	 * @return The bytes read, which were preceded by their length
+	 * @throws IOException If reading fails
+	 */
+	private static byte[] readBytes(DataInputStream in) throws IOException{
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return bytes;
+	}
+}
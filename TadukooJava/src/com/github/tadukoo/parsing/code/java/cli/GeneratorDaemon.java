@@ -0,0 +1,456 @@
+package com.github.tadukoo.parsing.code.java.cli;
+
+import com.github.tadukoo.util.StringUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generator Daemon keeps a warm JVM around to run {@link JavaCodeCli} jobs, so build scripts that generate code
+ * many times only pay for JVM startup and class loading once. It listens on a loopback socket, and writes its port
+ * and a random token to the daemon file (readable only by its owner where the file system allows it) - clients
+ * must send the token before anything else, so only someone who can read the file can submit jobs. Clients that
+ * don't send their request within the request timeout are dropped, so they can't hold on to a worker.
+ * <br><br>
+ * Each job is run by {@link JavaCodeCli#run} on a pool of worker threads, in the client's working directory, and
+ * its output and exit code are sent back to the client. The daemon stops when it's sent a stop request, or after
+ * no jobs have been run for the idle timeout, and removes the daemon file when it does.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class GeneratorDaemon{
+	
+	/**
+	 * Generator Daemon Builder is used to build a new {@link GeneratorDaemon}. It contains the following parameters:
+	 *
+	 * <table>
+	 *     <caption>Generator Daemon Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>daemonFile</td>
+	 *         <td>The file to write the port and token to, where clients will look for them</td>
+	 *         <td>The file from the {@value JavaCodeCli#DAEMON_FILE_PROPERTY} system property, or
+	 *         ~/.tadukoo-java/daemon</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>idleTimeoutSeconds</td>
+	 *         <td>How long to go without any jobs before stopping (0 to never stop on its own)</td>
+	 *         <td>3 hours</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>requestTimeoutMillis</td>
+	 *         <td>How long to wait on a client sending its request before dropping it</td>
+	 *         <td>10 seconds</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>workers</td>
+	 *         <td>The number of jobs that can run at once</td>
+	 *         <td>The number of available processors</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static class GeneratorDaemonBuilder{
+		/** The file to write the port and token to */
+		private Path daemonFile = JavaCodeCli.daemonFile();
+		/** How long to go without any jobs before stopping */
+		private int idleTimeoutSeconds = 3 * 60 * 60;
+		/** How long to wait on a client sending its request before dropping it */
+		private int requestTimeoutMillis = 10 * 1000;
+		/** The number of jobs that can run at once */
+		private int workers = Runtime.getRuntime().availableProcessors();
+		
+		// Can't create outside of GeneratorDaemon
+		private GeneratorDaemonBuilder(){ }
+		
+		/**
+		 * @param daemonFile The file to write the port and token to, where clients will look for them
+		 * @return this, to continue building
+		 */
+		public GeneratorDaemonBuilder daemonFile(Path daemonFile){
+			this.daemonFile = daemonFile;
+			return this;
+		}
+		
+		/**
+		 * @param idleTimeoutSeconds How long to go without any jobs before stopping (0 to never stop on its own)
+		 * @return this, to continue building
+		 */
+		public GeneratorDaemonBuilder idleTimeoutSeconds(int idleTimeoutSeconds){
+			this.idleTimeoutSeconds = idleTimeoutSeconds;
+			return this;
+		}
+		
+		/**
+		 * @param requestTimeoutMillis How long to wait on a client sending its request before dropping it
+		 * @return this, to continue building
+		 */
+		public GeneratorDaemonBuilder requestTimeoutMillis(int requestTimeoutMillis){
+			this.requestTimeoutMillis = requestTimeoutMillis;
+			return this;
+		}
+		
+		/**
+		 * @param workers The number of jobs that can run at once
+		 * @return this, to continue building
+		 */
+		public GeneratorDaemonBuilder workers(int workers){
+			this.workers = workers;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters
+		 *
+		 * @throws IllegalArgumentException if anything is wrong
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			if(daemonFile == null){
+				errors.add("Must specify daemonFile!");
+			}
+			if(idleTimeoutSeconds < 0){
+				errors.add("idleTimeoutSeconds must not be negative!");
+			}
+			if(requestTimeoutMillis <= 0){
+				errors.add("requestTimeoutMillis must be positive!");
+			}
+			if(workers <= 0){
+				errors.add("workers must be positive!");
+			}
+			
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters, then builds a new {@link GeneratorDaemon}
+		 *
+		 * @return A newly built {@link GeneratorDaemon}
+		 * @throws IllegalArgumentException if anything is wrong with the current parameters
+		 */
+		public GeneratorDaemon build(){
+			checkForErrors();
+			
+			return new GeneratorDaemon(daemonFile, idleTimeoutSeconds, requestTimeoutMillis, workers);
+		}
+	}
+	
+	/** Request to run a job */
+	static final String RUN = "run";
+	/** Request to check the daemon is running */
+	static final String PING = "ping";
+	/** Request to stop the daemon */
+	static final String STOP = "stop";
+	
+	/** How often the accepting thread wakes up to check the idle timeout, in milliseconds */
+	private static final int ACCEPT_TIMEOUT_MILLIS = 1000;
+	
+	/** The file to write the port and token to */
+	private final Path daemonFile;
+	/** How long to go without any jobs before stopping */
+	private final int idleTimeoutSeconds;
+	/** How long to wait on a client sending its request before dropping it */
+	private final int requestTimeoutMillis;
+	/** The number of jobs that can run at once */
+	private final int workers;
+	/** Whether the daemon has been stopped */
+	private final AtomicBoolean stopped = new AtomicBoolean();
+	/** Released once the daemon has stopped */
+	private final CountDownLatch stopLatch = new CountDownLatch(1);
+	/** The number of jobs currently running */
+	private final AtomicInteger activeJobs = new AtomicInteger();
+	/** When the last job finished (or the daemon started), from {@link System#nanoTime()} */
+	private volatile long lastActivity;
+	/** The socket the daemon listens on */
+	private ServerSocket server;
+	/** The token clients must send */
+	private String token;
+	/** The bytes of the token, to compare what clients send against in constant time */
+	private byte[] tokenBytes;
+	/** The workers that run jobs */
+	private ExecutorService executor;
+	
+	/**
+	 * Constructs a new Generator Daemon with the given parameters
+	 *
+	 * @param daemonFile The file to write the port and token to
+	 * @param idleTimeoutSeconds How long to go without any jobs before stopping
+	 * @param requestTimeoutMillis How long to wait on a client sending its request before dropping it
+	 * @param workers The number of jobs that can run at once
+	 */
+	private GeneratorDaemon(Path daemonFile, int idleTimeoutSeconds, int requestTimeoutMillis, int workers){
+		this.daemonFile = daemonFile;
+		this.idleTimeoutSeconds = idleTimeoutSeconds;
+		this.requestTimeoutMillis = requestTimeoutMillis;
+		this.workers = workers;
+	}
+	
+	/**
+	 * @return A new {@link GeneratorDaemonBuilder} to use to build a {@link GeneratorDaemon}
+	 */
+	public static GeneratorDaemonBuilder builder(){
+		return new GeneratorDaemonBuilder();
+	}
+	
+	/**
+	 * @return The file the port and token are written to
+	 */
+	public Path getDaemonFile(){
+		return daemonFile;
+	}
+	
+	/**
+	 * @return How long to go without any jobs before stopping (0 to never stop on its own)
+	 */
+	public int getIdleTimeoutSeconds(){
+		return idleTimeoutSeconds;
+	}
+	
+	/**
+	 * @return How long to wait on a client sending its request before dropping it
+	 */
+	public int getRequestTimeoutMillis(){
+		return requestTimeoutMillis;
+	}
+	
+	/**
+	 * @return The number of jobs that can run at once
+	 */
+	public int getWorkers(){
+		return workers;
+	}
+	
+	/**
+	 * @return The port the daemon is listening on (only valid once started)
+	 */
+	public int getPort(){
+		return server.getLocalPort();
+	}
+	
+	/**
+	 * @return Whether the daemon has been started and hasn't stopped
+	 */
+	public boolean isRunning(){
+		return server != null && !stopped.get();
+	}
+	
+	/**
+	 * Starts listening for jobs on a background thread
+	 *
+	 * @throws IOException If another daemon is already running, or the socket or daemon file can't be created
+	 */
+	public synchronized void start() throws IOException{
+		if(server != null){
+			throw new IllegalStateException("Daemon has already been started!");
+		}
+		if(DaemonClient.isRunning(daemonFile)){
+			throw new IOException("A daemon is already running for " + daemonFile);
+		}
+		
+		SecureRandom random = new SecureRandom();
+		byte[] randomBytes = new byte[16];
+		random.nextBytes(randomBytes);
+		StringBuilder tokenText = new StringBuilder();
+		for(byte b: randomBytes){
+			tokenText.append(String.format("%02x", b));
+		}
+		token = tokenText.toString();
+		tokenBytes = token.getBytes(StandardCharsets.UTF_8);
+		
+		server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		server.setSoTimeout(ACCEPT_TIMEOUT_MILLIS);
+		try{
+			writeDaemonFile();
+		}catch(IOException e){
+			server.close();
+			throw e;
+		}
+		executor = Executors.newFixedThreadPool(workers, runnable -> {
+			Thread thread = new Thread(runnable, "Tadukoo Java Daemon Worker");
+			thread.setDaemon(true);
+			return thread;
+		});
+		lastActivity = System.nanoTime();
+		
+		Thread acceptor = new Thread(this::acceptJobs, "Tadukoo Java Daemon");
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+	
+	/**
+	 * Writes the port and token to the daemon file, atomically and (where possible) readable only by its owner
+	 *
+	 * @throws IOException If the file can't be written
+	 */
+	private void writeDaemonFile() throws IOException{
+		Path directory = daemonFile.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path temporary;
+		if(FileSystems.getDefault().supportedFileAttributeViews().contains("posix")){
+			temporary = Files.createTempFile(directory, "daemon", ".tmp",
+					PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+		}else{
+			temporary = Files.createTempFile(directory, "daemon", ".tmp");
+		}
+		Files.write(temporary, (getPort() + "\n" + token + "\n").getBytes(StandardCharsets.UTF_8));
+		Files.move(temporary, daemonFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+	
+	/**
+	 * Accepts connections until the daemon is stopped, handing each to a worker
+	 */
+	private void acceptJobs(){
+		while(!stopped.get()){
+			try{
+				Socket socket = server.accept();
+				executor.execute(() -> handle(socket));
+			}catch(SocketTimeoutException e){
+				if(idleTimeoutSeconds > 0 && activeJobs.get() == 0 &&
+						System.nanoTime() - lastActivity > idleTimeoutSeconds * 1_000_000_000L){
+					stop();
+				}
+			}catch(IOException e){
+				// The socket is closed when stopping
+				if(!stopped.get()){
+					stop();
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Handles a single connection from a client
+	 *
+	 * @param socket The socket connected to the client
+	 */
+	private void handle(Socket socket){
+		activeJobs.incrementAndGet();
+		try(Socket client = socket){
+			// A client that connects but never sends its request would otherwise hold a worker forever
+			client.setSoTimeout(requestTimeoutMillis);
+			DataInputStream in = new DataInputStream(client.getInputStream());
+			DataOutputStream out = new DataOutputStream(client.getOutputStream());
+			if(!MessageDigest.isEqual(tokenBytes, in.readUTF().getBytes(StandardCharsets.UTF_8))){
+				return;
+			}
+			String request = in.readUTF();
+			if(request.equals(RUN)){
+				Path workingDirectory = Paths.get(in.readUTF());
+				int argCount = in.readInt();
+				List<String> args = new ArrayList<>(argCount);
+				for(int i = 0; i < argCount; i++){
+					args.add(in.readUTF());
+				}
+				// Jobs can take as long as they need
+				client.setSoTimeout(0);
+				
+				ByteArrayOutputStream jobOut = new ByteArrayOutputStream();
+				ByteArrayOutputStream jobErr = new ByteArrayOutputStream();
+				int exitCode;
+				try(PrintStream outStream = new PrintStream(jobOut, true, "UTF-8");
+				    PrintStream errStream = new PrintStream(jobErr, true, "UTF-8")){
+					exitCode = JavaCodeCli.run(args, workingDirectory, outStream, errStream);
+				}catch(RuntimeException e){
+					exitCode = JavaCodeCli.FAILURE;
+					jobErr.write(String.valueOf(e).getBytes(StandardCharsets.UTF_8));
+				}
+				out.writeInt(exitCode);
+				writeBytes(out, jobOut.toByteArray());
+				writeBytes(out, jobErr.toByteArray());
+			}else{
+				out.writeInt(JavaCodeCli.SUCCESS);
+				writeBytes(out, new byte[0]);
+				writeBytes(out, new byte[0]);
+			}
+			out.flush();
+			if(request.equals(STOP)){
+				stop();
+			}
+		}catch(IOException e){
+			// The client went away - nothing to send the error to
+		}finally{
+			lastActivity = System.nanoTime();
+			activeJobs.decrementAndGet();
+		}
+	}
+	
+	/**
+	 * @param out The stream to write to
+	 * @param bytes The bytes to write, after their length
+	 * @throws IOException If writing fails
+	 */
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException{
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+	
+	/**
+	 * Stops the daemon: stops listening, lets running jobs finish, and removes the daemon file if it's still ours
+	 */
+	public void stop(){
+		if(server == null || !stopped.compareAndSet(false, true)){
+			return;
+		}
+		try{
+			server.close();
+		}catch(IOException e){
+			// Already closed
+		}
+		executor.shutdown();
+		try{
+			List<String> lines = Files.readAllLines(daemonFile, StandardCharsets.UTF_8);
+			if(lines.size() == 2 && lines.get(1).equals(token)){
+				Files.delete(daemonFile);
+			}
+		}catch(IOException e){
+			// Already removed or replaced
+		}
+		stopLatch.countDown();
+	}
+	
+	/**
+	 * Waits until the daemon has stopped
+	 */
+	public void awaitStop(){
+		try{
+			stopLatch.await();
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+	}
+}
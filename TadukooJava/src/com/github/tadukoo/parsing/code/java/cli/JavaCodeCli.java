@@ -0,0 +1,325 @@
+package com.github.tadukoo.parsing.code.java.cli;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.bytecode.ClassFileEmitter;
+import com.github.tadukoo.parsing.code.java.bytecode.ClassFileReader;
+import com.github.tadukoo.parsing.code.java.parser.JavaClassParser;
+import com.github.tadukoo.parsing.code.java.parser.SourceArchiveLoader;
+import com.github.tadukoo.parsing.code.java.parser.SourceArchiveResult;
+import com.github.tadukoo.parsing.code.java.validation.JavaModelValidator;
+import com.github.tadukoo.parsing.code.java.validation.ValidationDiagnostic;
+import com.github.tadukoo.parsing.code.java.validation.ValidationReport;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Java Code CLI is the command line entry point for generating sources from Java models. Models are read from
+ * Java sources ({@code .java} files, directories of them, or {@code -sources.jar}/{@code .zip} archives) or from
+ * compiled classes ({@code .class} files or {@code .jar}s, which give signature-only skeletons), and written out as
+ * sources under an output directory, one file per class in its package's directory. The commands are:
+ * <ul>
+ *     <li>{@code generate [--validate] [--no-daemon] -o <dir> <input>...} - Generates sources from the inputs.
+ *     With {@code --validate}, nothing is written if any model breaks Java's naming rules.</li>
+ *     <li>{@code daemon [--idle-timeout <seconds>]} - Starts a {@link GeneratorDaemon} that keeps a warm JVM
+ *     around for later {@code generate} commands</li>
+ *     <li>{@code stop} - Stops the running daemon</li>
+ *     <li>{@code train} - Runs every stage once on an in-memory model, for recording an AppCDS archive</li>
+ * </ul>
+ * When a daemon is running, {@code generate} submits its job to the daemon (which runs it in the client's working
+ * directory) instead of doing the work in a new JVM, unless {@code --no-daemon} is given. The daemon is found
+ * through the file given by the {@value #DAEMON_FILE_PROPERTY} system property, or
+ * {@code ~/.tadukoo-java/daemon} by default.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class JavaCodeCli{
+	/** The system property that can be used to change where the daemon file is */
+	public static final String DAEMON_FILE_PROPERTY = "tadukoo.java.daemonFile";
+	/** The exit code for success */
+	public static final int SUCCESS = 0;
+	/** The exit code for when any input couldn't be loaded or any model was invalid */
+	public static final int FAILURE = 1;
+	/** The exit code for bad command line arguments */
+	public static final int USAGE = 2;
+	
+	/** The text printed for bad command line arguments */
+	private static final String USAGE_TEXT = "Usage:\n" +
+			"  generate [--validate] [--no-daemon] -o <dir> <input>...\n" +
+			"  daemon [--idle-timeout <seconds>]\n" +
+			"  stop\n" +
+			"  train";
+	
+	// Not allowed to create a Java Code CLI
+	private JavaCodeCli(){ }
+	
+	/**
+	 * Runs the command line, exiting with the command's exit code
+	 *
+	 * @param args The command line arguments
+	 */
+	public static void main(String[] args){
+		System.exit(launch(Arrays.asList(args), Paths.get("").toAbsolutePath(), System.out, System.err));
+	}
+	
+	/**
+	 * Runs the given command line, submitting {@code generate} commands to the daemon if one is running
+	 *
+	 * @param args The command line arguments
+	 * @param workingDirectory The directory relative paths are resolved against
+	 * @param out The stream to print normal output to
+	 * @param err The stream to print errors to
+	 * @return The exit code of the command
+	 */
+	static int launch(List<String> args, Path workingDirectory, PrintStream out, PrintStream err){
+		Path daemonFile = daemonFile();
+		String command = args.isEmpty()?"":args.get(0);
+		try{
+			switch(command){
+				case "daemon":
+					return daemon(args.subList(1, args.size()), daemonFile, out, err);
+				case "stop":
+					if(DaemonClient.stop(daemonFile)){
+						out.println("Stopped the daemon");
+					}else{
+						out.println("No daemon is running");
+					}
+					return SUCCESS;
+				case "generate":
+					if(!args.contains("--no-daemon") && Files.exists(daemonFile)){
+						try{
+							return DaemonClient.submit(daemonFile, workingDirectory, args, out, err);
+						}catch(IOException e){
+							// The daemon has gone away - just do the work here instead
+						}
+					}
+					return run(args, workingDirectory, out, err);
+				default:
+					return run(args, workingDirectory, out, err);
+			}
+		}catch(IOException e){
+			err.println(e.getMessage());
+			return FAILURE;
+		}
+	}
+	
+	/**
+	 * @return The file the daemon writes its port and token to
+	 */
+	static Path daemonFile(){
+		String property = System.getProperty(DAEMON_FILE_PROPERTY);
+		if(property != null){
+			return Paths.get(property);
+		}
+		return Paths.get(System.getProperty("user.home"), ".tadukoo-java", "daemon");
+	}
+	
+	/**
+	 * Starts a daemon and waits until it stops
+	 *
+	 * @param args The arguments after "daemon"
+	 * @param daemonFile The file the daemon writes its port and token to
+	 * @param out The stream to print normal output to
+	 * @param err The stream to print errors to
+	 * @return The exit code of the command
+	 * @throws IOException If the daemon can't be started
+	 */
+	private static int daemon(List<String> args, Path daemonFile, PrintStream out, PrintStream err)
+			throws IOException{
+		GeneratorDaemon.GeneratorDaemonBuilder builder = GeneratorDaemon.builder().daemonFile(daemonFile);
+		if(args.size() == 2 && args.get(0).equals("--idle-timeout")){
+			try{
+				builder.idleTimeoutSeconds(Integer.parseInt(args.get(1)));
+			}catch(NumberFormatException e){
+				err.println("Bad idle timeout: " + args.get(1));
+				return USAGE;
+			}
+		}else if(!args.isEmpty()){
+			err.println(USAGE_TEXT);
+			return USAGE;
+		}
+		GeneratorDaemon daemon = builder.build();
+		daemon.start();
+		out.println("Daemon listening on port " + daemon.getPort());
+		daemon.awaitStop();
+		return SUCCESS;
+	}
+	
+	/**
+	 * Runs the given command in this JVM. This is what the daemon calls for jobs it's sent.
+	 *
+	 * @param args The command line arguments
+	 * @param workingDirectory The directory relative paths are resolved against
+	 * @param out The stream to print normal output to
+	 * @param err The stream to print errors to
+	 * @return The exit code of the command
+	 */
+	public static int run(List<String> args, Path workingDirectory, PrintStream out, PrintStream err){
+		String command = args.isEmpty()?"":args.get(0);
+		switch(command){
+			case "generate":
+				return generate(args.subList(1, args.size()), workingDirectory, out, err);
+			case "train":
+				train();
+				out.println("Trained");
+				return SUCCESS;
+			default:
+				err.println(USAGE_TEXT);
+				return USAGE;
+		}
+	}
+	
+	/**
+	 * Runs the generate command
+	 *
+	 * @param args The arguments after "generate"
+	 * @param workingDirectory The directory relative paths are resolved against
+	 * @param out The stream to print normal output to
+	 * @param err The stream to print errors to
+	 * @return The exit code of the command
+	 */
+	private static int generate(List<String> args, Path workingDirectory, PrintStream out, PrintStream err){
+		// Parse the arguments
+		Path outputDirectory = null;
+		boolean validate = false;
+		List<Path> inputs = new ArrayList<>();
+		for(int i = 0; i < args.size(); i++){
+			String arg = args.get(i);
+			if(arg.equals("-o") || arg.equals("--output")){
+				if(i + 1 == args.size()){
+					err.println(USAGE_TEXT);
+					return USAGE;
+				}
+				outputDirectory = workingDirectory.resolve(args.get(++i));
+			}else if(arg.equals("--validate")){
+				validate = true;
+			}else if(!arg.equals("--no-daemon")){
+				inputs.add(workingDirectory.resolve(arg));
+			}
+		}
+		if(outputDirectory == null || inputs.isEmpty()){
+			err.println(USAGE_TEXT);
+			return USAGE;
+		}
+		
+		// Load the models
+		List<JavaClass> javaClasses = new ArrayList<>();
+		boolean failed = false;
+		for(Path input: inputs){
+			try{
+				failed |= !load(input, javaClasses, err);
+			}catch(IOException | IllegalArgumentException e){
+				err.println(input + ": " + e.getMessage());
+				failed = true;
+			}
+		}
+		
+		if(validate){
+			ValidationReport report = JavaModelValidator.validateAll(javaClasses);
+			if(!report.isValid()){
+				for(ValidationDiagnostic diagnostic: report.getDiagnostics()){
+					err.println(diagnostic);
+				}
+				return FAILURE;
+			}
+		}
+		
+		// Write the sources
+		for(JavaClass javaClass: javaClasses){
+			Path file = outputDirectory.resolve(javaClass.getPackageName().replace('.', '/'))
+					.resolve(javaClass.getClassName() + ".java");
+			try{
+				Files.createDirectories(file.getParent());
+				Files.write(file, javaClass.toString().getBytes(StandardCharsets.UTF_8));
+			}catch(IOException e){
+				err.println(file + ": " + e.getMessage());
+				failed = true;
+			}
+		}
+		out.println("Generated " + javaClasses.size() + " classes in " + outputDirectory);
+		return failed?FAILURE:SUCCESS;
+	}
+	
+	/**
+	 * Loads the models from the given input
+	 *
+	 * @param input A source file, class file, directory, or archive to load models from
+	 * @param javaClasses The list of {@link JavaClass models} to add to
+	 * @param err The stream to print errors to
+	 * @return Whether everything in the input was loaded or not
+	 * @throws IOException If the input can't be read
+	 */
+	private static boolean load(Path input, List<JavaClass> javaClasses, PrintStream err) throws IOException{
+		String name = input.getFileName().toString();
+		if(Files.isDirectory(input)){
+			List<Path> files;
+			try(Stream<Path> walk = Files.walk(input)){
+				files = walk.filter(file -> file.toString().endsWith(".java") || file.toString().endsWith(".class"))
+						.sorted()
+						.collect(Collectors.toList());
+			}
+			boolean loaded = true;
+			for(Path file: files){
+				try{
+					loaded &= load(file, javaClasses, err);
+				}catch(IllegalArgumentException e){
+					err.println(file + ": " + e.getMessage());
+					loaded = false;
+				}
+			}
+			return loaded;
+		}else if(name.endsWith(".java")){
+			String source = new String(Files.readAllBytes(input), StandardCharsets.UTF_8);
+			javaClasses.add(JavaClassParser.parse(source).getJavaClass());
+			return true;
+		}else if(name.endsWith(".class")){
+			javaClasses.add(ClassFileReader.read(Files.readAllBytes(input)));
+			return true;
+		}else if(name.endsWith("-sources.jar") || name.endsWith(".zip")){
+			SourceArchiveResult result = SourceArchiveLoader.builder().build().load(input);
+			javaClasses.addAll(result.getJavaClasses());
+			for(Map.Entry<String, String> error: result.getErrors().entrySet()){
+				err.println(input + "!/" + error.getKey() + ": " + error.getValue());
+			}
+			return result.getErrors().isEmpty();
+		}else if(name.endsWith(".jar")){
+			javaClasses.addAll(ClassFileReader.readJar(input));
+			return true;
+		}
+		throw new IllegalArgumentException("Don't know how to load models from this kind of file");
+	}
+	
+	/**
+	 * Runs every stage once on an in-memory model, so their classes get loaded (and recorded when creating an
+	 * AppCDS archive)
+	 */
+	static void train(){
+		JavaClass javaClass = JavaClass.builder()
+				.packageName("com.example")
+				.singleImport("java.util.List")
+				.className("Training")
+				.field(JavaField.builder().type("List<String>").name("names").build())
+				.method(JavaMethod.builder().returnType("Training").parameter("List<String>", "names")
+						.line("this.names = names;").build())
+				.method(JavaMethod.builder().returnType("List<String>").name("getNames").line("return names;")
+						.build())
+				.build();
+		JavaModelValidator.validate(javaClass);
+		JavaClassParser.parse(javaClass.toString());
+		ClassFileReader.read(ClassFileEmitter.builder().build().emit(javaClass));
+	}
+}
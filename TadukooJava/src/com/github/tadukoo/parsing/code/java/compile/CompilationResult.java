@@ -0,0 +1,82 @@
+package com.github.tadukoo.parsing.code.java.compile;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Compilation Result holds the outcome of compiling {@link com.github.tadukoo.parsing.code.java.JavaClass} models
+ * with a {@link JavaClassCompiler}: the bytecode of every class that was written, and the diagnostics the compiler
+ * reported, mapped back to the models
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class CompilationResult{
+	/** Whether the compilation succeeded or not */
+	private final boolean success;
+	/** The bytecode of each class that was written, keyed by binary class name */
+	private final Map<String, byte[]> bytecode;
+	/** The {@link ModelDiagnostic diagnostics} reported by the compiler */
+	private final List<ModelDiagnostic> diagnostics;
+	/** The parent to use for the {@link #getClassLoader() class loader} */
+	private final ClassLoader parentClassLoader;
+	/** The class loader for the compiled classes - created the first time it's requested */
+	private InMemoryClassLoader classLoader = null;
+	
+	/**
+	 * Constructs a new Compilation Result with the given parameters
+	 *
+	 * @param success Whether the compilation succeeded or not
+	 * @param bytecode The bytecode of each class that was written, keyed by binary class name
+	 * @param diagnostics The {@link ModelDiagnostic diagnostics} reported by the compiler
+	 * @param parentClassLoader The parent to use for the {@link #getClassLoader() class loader}
+	 */
+	CompilationResult(
+			boolean success, Map<String, byte[]> bytecode, List<ModelDiagnostic> diagnostics,
+			ClassLoader parentClassLoader){
+		this.success = success;
+		this.bytecode = bytecode;
+		this.diagnostics = diagnostics;
+		this.parentClassLoader = parentClassLoader;
+	}
+	
+	/**
+	 * @return Whether the compilation succeeded or not
+	 */
+	public boolean isSuccess(){
+		return success;
+	}
+	
+	/**
+	 * @return The bytecode of each class that was written, keyed by binary class name
+	 */
+	public Map<String, byte[]> getBytecode(){
+		return bytecode;
+	}
+	
+	/**
+	 * @return The {@link ModelDiagnostic diagnostics} reported by the compiler
+	 */
+	public List<ModelDiagnostic> getDiagnostics(){
+		return diagnostics;
+	}
+	
+	/**
+	 * @return The {@link ModelDiagnostic diagnostics} that are errors
+	 */
+	public List<ModelDiagnostic> getErrors(){
+		return diagnostics.stream().filter(ModelDiagnostic::isError).collect(Collectors.toList());
+	}
+	
+	/**
+	 * @return A {@link ClassLoader} that can load the compiled classes - the same one is returned every time
+	 */
+	public synchronized InMemoryClassLoader getClassLoader(){
+		if(classLoader == null){
+			classLoader = new InMemoryClassLoader(parentClassLoader, bytecode);
+		}
+		return classLoader;
+	}
+}
@@ -0,0 +1,52 @@
+package com.github.tadukoo.parsing.code.java.compile;
+
+import javax.tools.SimpleJavaFileObject;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+
+/**
+ * In Memory Class File is a {@link javax.tools.JavaFileObject} that collects the bytecode written by the compiler
+ * for a single class, instead of writing it to disk
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class InMemoryClassFile extends SimpleJavaFileObject{
+	/** The binary name of the class (e.g. com.example.Test or com.example.Test$Inner) */
+	private final String className;
+	/** Holds the bytecode as it's written */
+	private final ByteArrayOutputStream bytecode = new ByteArrayOutputStream();
+	
+	/**
+	 * Constructs a new In Memory Class File for the given class
+	 *
+	 * @param className The binary name of the class (e.g. com.example.Test or com.example.Test$Inner)
+	 */
+	public InMemoryClassFile(String className){
+		super(URI.create("bytes:///" + className.replace('.', '/') + Kind.CLASS.extension), Kind.CLASS);
+		this.className = className;
+	}
+	
+	/**
+	 * @return The binary name of the class (e.g. com.example.Test or com.example.Test$Inner)
+	 */
+	public String getClassName(){
+		return className;
+	}
+	
+	/**
+	 * @return The bytecode written for the class
+	 */
+	public byte[] getBytecode(){
+		return bytecode.toByteArray();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public OutputStream openOutputStream(){
+		bytecode.reset();
+		return bytecode;
+	}
+}
@@ -0,0 +1,37 @@
+package com.github.tadukoo.parsing.code.java.compile;
+
+import java.util.Map;
+
+/**
+ * In Memory Class Loader defines classes from bytecode held in memory, falling back to its parent for anything
+ * else
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class InMemoryClassLoader extends ClassLoader{
+	/** The bytecode of the classes to define, keyed by binary class name */
+	private final Map<String, byte[]> bytecode;
+	
+	/**
+	 * Creates a new In Memory Class Loader for the given bytecode
+	 *
+	 * @param parent The parent {@link ClassLoader}
+	 * @param bytecode The bytecode of the classes to define, keyed by binary class name
+	 */
+	public InMemoryClassLoader(ClassLoader parent, Map<String, byte[]> bytecode){
+		super(parent);
+		this.bytecode = bytecode;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	protected Class<?> findClass(String name) throws ClassNotFoundException{
+		byte[] classBytes = bytecode.get(name);
+		if(classBytes == null){
+			throw new ClassNotFoundException(name);
+		}
+		return defineClass(name, classBytes, 0, classBytes.length);
+	}
+}
@@ -0,0 +1,46 @@
+package com.github.tadukoo.parsing.code.java.compile;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In Memory File Manager is a {@link JavaFileManager} that keeps class output in memory as
+ * {@link InMemoryClassFile}s, while reading everything else (e.g. the classpath) through the file manager it wraps
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+class InMemoryFileManager extends ForwardingJavaFileManager<JavaFileManager>{
+	/** The class files written by the compiler, keyed by binary class name */
+	private final Map<String, InMemoryClassFile> classFiles = new LinkedHashMap<>();
+	
+	/**
+	 * Creates a new In Memory File Manager wrapping the given file manager
+	 *
+	 * @param fileManager The file manager to read everything besides class output through
+	 */
+	InMemoryFileManager(JavaFileManager fileManager){
+		super(fileManager);
+	}
+	
+	/**
+	 * @return The class files written by the compiler, keyed by binary class name
+	 */
+	Map<String, InMemoryClassFile> getClassFiles(){
+		return classFiles;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public JavaFileObject getJavaFileForOutput(
+			Location location, String className, JavaFileObject.Kind kind, FileObject sibling){
+		InMemoryClassFile classFile = new InMemoryClassFile(className);
+		classFiles.put(className, classFile);
+		return classFile;
+	}
+}
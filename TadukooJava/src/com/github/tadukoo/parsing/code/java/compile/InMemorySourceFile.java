@@ -0,0 +1,54 @@
+package com.github.tadukoo.parsing.code.java.compile;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+
+import javax.tools.SimpleJavaFileObject;
+import java.net.URI;
+
+/**
+ * In Memory Source File is a {@link javax.tools.JavaFileObject} holding the rendered source of a {@link JavaClass},
+ * so it can be compiled without writing it to disk
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class InMemorySourceFile extends SimpleJavaFileObject{
+	/** The {@link JavaClass} the source was rendered from */
+	private final JavaClass javaClass;
+	/** The rendered source code */
+	private final String source;
+	
+	/**
+	 * Constructs a new In Memory Source File for the given class and its rendered source
+	 *
+	 * @param javaClass The {@link JavaClass} the source was rendered from
+	 * @param source The rendered source code
+	 */
+	public InMemorySourceFile(JavaClass javaClass, String source){
+		super(URI.create("string:///" + javaClass.getPackageName().replace('.', '/') + "/" +
+				javaClass.getClassName() + Kind.SOURCE.extension), Kind.SOURCE);
+		this.javaClass = javaClass;
+		this.source = source;
+	}
+	
+	/**
+	 * @return The {@link JavaClass} the source was rendered from
+	 */
+	public JavaClass getJavaClass(){
+		return javaClass;
+	}
+	
+	/**
+	 * @return The rendered source code
+	 */
+	public String getSource(){
+		return source;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public CharSequence getCharContent(boolean ignoreEncodingErrors){
+		return source;
+	}
+}
@@ -0,0 +1,287 @@
+package com.github.tadukoo.parsing.code.java.compile;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.util.StringUtil;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Java Class Compiler compiles {@link JavaClass} models entirely in memory using the {@link JavaCompiler} from
+ * {@code javax.tools}. All the given classes are rendered and compiled together in a single compilation task, and
+ * the resulting bytecode is collected in memory (and can be loaded through
+ * {@link CompilationResult#getClassLoader()}). Diagnostics are mapped back to the {@link JavaClass}, and the
+ * {@link JavaField field} or {@link JavaMethod method} they point at.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class JavaClassCompiler{
+	
+	/**
+	 * Java Class Compiler Builder is used to build a new {@link JavaClassCompiler}. It contains the following
+	 * parameters:
+	 *
+	 * <table>
+	 *     <caption>Java Class Compiler Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>compiler</td>
+	 *         <td>The {@link JavaCompiler} to use</td>
+	 *         <td>The system Java compiler</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>options</td>
+	 *         <td>Options to pass to the compiler (e.g. -classpath)</td>
+	 *         <td>An empty list</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>parentClassLoader</td>
+	 *         <td>The parent of the {@link ClassLoader} for compiled classes</td>
+	 *         <td>The class loader of this class</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static class JavaClassCompilerBuilder{
+		/** The {@link JavaCompiler} to use */
+		private JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		/** Options to pass to the compiler */
+		private List<String> options = new ArrayList<>();
+		/** The parent of the {@link ClassLoader} for compiled classes */
+		private ClassLoader parentClassLoader = JavaClassCompiler.class.getClassLoader();
+		
+		// Can't create outside of JavaClassCompiler
+		private JavaClassCompilerBuilder(){ }
+		
+		/**
+		 * @param compiler The {@link JavaCompiler} to use
+		 * @return this, to continue building
+		 */
+		public JavaClassCompilerBuilder compiler(JavaCompiler compiler){
+			this.compiler = compiler;
+			return this;
+		}
+		
+		/**
+		 * @param options Options to pass to the compiler (e.g. -classpath)
+		 * @return this, to continue building
+		 */
+		public JavaClassCompilerBuilder options(List<String> options){
+			this.options = options;
+			return this;
+		}
+		
+		/**
+		 * @param option A single option to pass to the compiler, to be added to the list
+		 * @return this, to continue building
+		 */
+		public JavaClassCompilerBuilder option(String option){
+			options.add(option);
+			return this;
+		}
+		
+		/**
+		 * @param parentClassLoader The parent of the {@link ClassLoader} for compiled classes
+		 * @return this, to continue building
+		 */
+		public JavaClassCompilerBuilder parentClassLoader(ClassLoader parentClassLoader){
+			this.parentClassLoader = parentClassLoader;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters
+		 *
+		 * @throws IllegalArgumentException if anything is wrong
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			if(compiler == null){
+				errors.add("No compiler available - must run on a JDK or specify compiler!");
+			}
+			
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters, then builds a new {@link JavaClassCompiler}
+		 *
+		 * @return A newly built {@link JavaClassCompiler}
+		 * @throws IllegalArgumentException if anything is wrong with the current parameters
+		 */
+		public JavaClassCompiler build(){
+			checkForErrors();
+			
+			return new JavaClassCompiler(compiler, options, parentClassLoader);
+		}
+	}
+	
+	/** The {@link JavaCompiler} to use */
+	private final JavaCompiler compiler;
+	/** Options to pass to the compiler */
+	private final List<String> options;
+	/** The parent of the {@link ClassLoader} for compiled classes */
+	private final ClassLoader parentClassLoader;
+	
+	/**
+	 * Constructs a new Java Class Compiler with the given parameters
+	 *
+	 * @param compiler The {@link JavaCompiler} to use
+	 * @param options Options to pass to the compiler
+	 * @param parentClassLoader The parent of the {@link ClassLoader} for compiled classes
+	 */
+	private JavaClassCompiler(JavaCompiler compiler, List<String> options, ClassLoader parentClassLoader){
+		this.compiler = compiler;
+		this.options = options;
+		this.parentClassLoader = parentClassLoader;
+	}
+	
+	/**
+	 * @return A new {@link JavaClassCompilerBuilder} to use to build a {@link JavaClassCompiler}
+	 */
+	public static JavaClassCompilerBuilder builder(){
+		return new JavaClassCompilerBuilder();
+	}
+	
+	/**
+	 * @return Options to pass to the compiler
+	 */
+	public List<String> getOptions(){
+		return options;
+	}
+	
+	/**
+	 * Renders and compiles the given classes together in a single compilation task
+	 *
+	 * @param classes The {@link JavaClass classes} to compile
+	 * @return The {@link CompilationResult} with the bytecode and diagnostics
+	 */
+	public CompilationResult compile(Collection<JavaClass> classes){
+		List<InMemorySourceFile> sources = new ArrayList<>(classes.size());
+		for(JavaClass javaClass: classes){
+			sources.add(new InMemorySourceFile(javaClass, javaClass.toString()));
+		}
+		return compileSources(sources);
+	}
+	
+	/**
+	 * Compiles the given already rendered sources together in a single compilation task
+	 *
+	 * @param sources The {@link InMemorySourceFile sources} to compile
+	 * @return The {@link CompilationResult} with the bytecode and diagnostics
+	 */
+	public CompilationResult compileSources(Collection<InMemorySourceFile> sources){
+		DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+		boolean success;
+		Map<String, byte[]> bytecode = new LinkedHashMap<>();
+		try(StandardJavaFileManager standardFileManager = compiler.getStandardFileManager(collector, null, null);
+		    InMemoryFileManager fileManager = new InMemoryFileManager(standardFileManager)){
+			success = compiler.getTask(null, fileManager, collector, options, null, sources).call();
+			for(InMemoryClassFile classFile: fileManager.getClassFiles().values()){
+				bytecode.put(classFile.getClassName(), classFile.getBytecode());
+			}
+		}catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+		
+		// Map the diagnostics back to the models
+		Map<InMemorySourceFile, MemberLocator> locators = new LinkedHashMap<>();
+		List<ModelDiagnostic> diagnostics = new ArrayList<>();
+		for(Diagnostic<? extends JavaFileObject> diagnostic: collector.getDiagnostics()){
+			JavaClass javaClass = null;
+			Object member = null;
+			if(diagnostic.getSource() instanceof InMemorySourceFile){
+				InMemorySourceFile source = (InMemorySourceFile) diagnostic.getSource();
+				javaClass = source.getJavaClass();
+				if(diagnostic.getPosition() != Diagnostic.NOPOS){
+					member = locators.computeIfAbsent(source, MemberLocator::new)
+							.findMember((int) diagnostic.getPosition());
+				}
+			}
+			diagnostics.add(new ModelDiagnostic(diagnostic.getKind(), diagnostic.getMessage(null), javaClass, member,
+					diagnostic.getLineNumber(), diagnostic.getColumnNumber()));
+		}
+		
+		return new CompilationResult(success, bytecode, diagnostics, parentClassLoader);
+	}
+	
+	/**
+	 * Member Locator finds where each {@link JavaField field} and {@link JavaMethod method} of a class ended up in
+	 * its rendered source, so that source positions can be mapped back to members
+	 */
+	private static class MemberLocator{
+		/** The members of the class, in the order they were found in the source */
+		private final List<Object> members = new ArrayList<>();
+		/** The start offset of each member */
+		private final List<Integer> starts = new ArrayList<>();
+		/** The end offset of each member */
+		private final List<Integer> ends = new ArrayList<>();
+		
+		/**
+		 * Finds the members of the given source's class in its rendered source
+		 *
+		 * @param source The {@link InMemorySourceFile} to find the members in
+		 */
+		private MemberLocator(InMemorySourceFile source){
+			JavaClass javaClass = source.getJavaClass();
+			String text = source.getSource();
+			int offset = 0;
+			List<Object> classMembers = new ArrayList<>();
+			if(javaClass.getFields() != null){
+				classMembers.addAll(javaClass.getFields());
+			}
+			if(javaClass.getMethods() != null){
+				classMembers.addAll(javaClass.getMethods());
+			}
+			for(Object member: classMembers){
+				// Members are indented by a tab in the class
+				String rendered = member.toString().replace("\n", "\n\t");
+				int start = text.indexOf(rendered, offset);
+				if(start != -1){
+					members.add(member);
+					starts.add(start);
+					ends.add(start + rendered.length());
+					offset = start + rendered.length();
+				}
+			}
+		}
+		
+		/**
+		 * @param position The offset in the rendered source
+		 * @return The member at the given position, or null if it's not inside a member
+		 */
+		private Object findMember(int position){
+			for(int i = 0; i < members.size(); i++){
+				if(starts.get(i) <= position && position <= ends.get(i)){
+					return members.get(i);
+				}
+			}
+			return null;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package com.github.tadukoo.parsing.code.java.compile;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+
+import javax.tools.Diagnostic;
+
+/**
+ * Model Diagnostic is a compiler {@link Diagnostic} mapped back to the {@link JavaClass} it was reported for, and
+ * the {@link JavaField field} or {@link JavaMethod method} it points at when it can be found
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class ModelDiagnostic{
+	/** The kind of diagnostic (e.g. error or warning) */
+	private final Diagnostic.Kind kind;
+	/** The message from the compiler */
+	private final String message;
+	/** The {@link JavaClass} the diagnostic is for (null if it isn't for any source) */
+	private final JavaClass javaClass;
+	/** The {@link JavaField} or {@link JavaMethod} the diagnostic points at (null if it's outside any member) */
+	private final Object member;
+	/** The line number in the rendered source (1-based, or -1 if unknown) */
+	private final long lineNumber;
+	/** The column number in the rendered source (1-based, or -1 if unknown) */
+	private final long columnNumber;
+	
+	/**
+	 * Constructs a new Model Diagnostic with the given parameters
+	 *
+	 * @param kind The kind of diagnostic (e.g. error or warning)
+	 * @param message The message from the compiler
+	 * @param javaClass The {@link JavaClass} the diagnostic is for (null if it isn't for any source)
+	 * @param member The {@link JavaField} or {@link JavaMethod} the diagnostic points at
+	 * (null if it's outside any member)
+	 * @param lineNumber The line number in the rendered source (1-based, or -1 if unknown)
+	 * @param columnNumber The column number in the rendered source (1-based, or -1 if unknown)
+	 */
+	public ModelDiagnostic(
+			Diagnostic.Kind kind, String message, JavaClass javaClass, Object member,
+			long lineNumber, long columnNumber){
+		this.kind = kind;
+		this.message = message;
+		this.javaClass = javaClass;
+		this.member = member;
+		this.lineNumber = lineNumber;
+		this.columnNumber = columnNumber;
+	}
+	
+	/**
+	 * @return The kind of diagnostic (e.g. error or warning)
+	 */
+	public Diagnostic.Kind getKind(){
+		return kind;
+	}
+	
+	/**
+	 * @return Whether this diagnostic is an error or not
+	 */
+	public boolean isError(){
+		return kind == Diagnostic.Kind.ERROR;
+	}
+	
+	/**
+	 * @return The message from the compiler
+	 */
+	public String getMessage(){
+		return message;
+	}
+	
+	/**
+	 * @return The {@link JavaClass} the diagnostic is for (null if it isn't for any source)
+	 */
+	public JavaClass getJavaClass(){
+		return javaClass;
+	}
+	
+	/**
+	 * @return The {@link JavaField} or {@link JavaMethod} the diagnostic points at (null if it's outside any member)
+	 */
+	public Object getMember(){
+		return member;
+	}
+	
+	/**
+	 * @return The {@link JavaField} the diagnostic points at, or null if it doesn't point at a field
+	 */
+	public JavaField getField(){
+		return member instanceof JavaField?(JavaField) member:null;
+	}
+	
+	/**
+	 * @return The {@link JavaMethod} the diagnostic points at, or null if it doesn't point at a method
+	 */
+	public JavaMethod getMethod(){
+		return member instanceof JavaMethod?(JavaMethod) member:null;
+	}
+	
+	/**
+	 * @return The line number in the rendered source (1-based, or -1 if unknown)
+	 */
+	public long getLineNumber(){
+		return lineNumber;
+	}
+	
+	/**
+	 * @return The column number in the rendered source (1-based, or -1 if unknown)
+	 */
+	public long getColumnNumber(){
+		return columnNumber;
+	}
+	
+	/**
+	 * @return A string of the form "{kind} {package}.{class}:{line}:{column}: {message}"
+	 */
+	@Override
+	public String toString(){
+		String location = javaClass == null?"":
+				javaClass.getPackageName() + "." + javaClass.getClassName() + ":" + lineNumber + ":" + columnNumber +
+						": ";
+		return kind + " " + location + message;
+	}
+}
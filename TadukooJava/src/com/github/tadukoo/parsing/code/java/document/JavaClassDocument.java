@@ -0,0 +1,278 @@
+package com.github.tadukoo.parsing.code.java.document;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.SynthesizedMembers;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Java Class Document is the rendered text of a {@link JavaClass} kept as a rope of pieces, one per
+ * {@link JavaField field} or {@link JavaMethod method}, so members can be inserted, removed, or replaced in the
+ * rendered text over and over without rendering the whole class again or copying one big string. Each of those
+ * changes renders only the member involved and costs O(log n) in the number of members, and
+ * {@link #writeTo(Writer)} streams the pieces out without ever joining them.
+ * <br><br>
+ * The text matches {@link JavaClass#toString()} for the same members: fields are indented with a tab and end with
+ * a semicolon, method lines are indented with a tab, and there's a blank (tab-only) line before each method and
+ * before a field that follows a method. As long as the fields come before the methods (as they do in a
+ * {@link JavaClass}), writing the document gives exactly the same text as rendering {@link #toJavaClass()}.
+ * {@link SynthesizedMembers Synthesized members} are {@link SynthesizedMembers#expand expanded} into ordinary
+ * methods when the document is created, so they can be edited like any other.
+ * <br><br>
+ * A Java Class Document is not thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class JavaClassDocument{
+	/** The blank line put before methods (and fields that follow methods) */
+	private static final String BLANK_LINE = "\t\n";
+	/** The closing brace at the end of the class */
+	private static final String FOOTER = "}\n";
+	
+	/** The {@link JavaClass} the package, imports, and class declaration come from */
+	private final JavaClass declaration;
+	/** The rendered package, imports, and class declaration, through the blank line after the opening brace */
+	private final String header;
+	/** The rendered members */
+	private final PieceTreap pieces = new PieceTreap();
+	
+	/**
+	 * Constructs a new Java Class Document with the rendering of the given {@link JavaClass}
+	 *
+	 * @param javaClass The {@link JavaClass} to start the document with
+	 */
+	public JavaClassDocument(JavaClass javaClass){
+		javaClass = SynthesizedMembers.expand(javaClass);
+		this.declaration = javaClass;
+		String empty = copyDeclaration(javaClass).build().toString();
+		this.header = empty.substring(0, empty.length() - FOOTER.length());
+		for(JavaField field: javaClass.getFields()){
+			addMember(field);
+		}
+		for(JavaMethod method: javaClass.getMethods()){
+			addMember(method);
+		}
+	}
+	
+	/**
+	 * @return The number of {@link JavaField fields} and {@link JavaMethod methods} in the document
+	 */
+	public int getMemberCount(){
+		return pieces.size();
+	}
+	
+	/**
+	 * @param index The index of the member
+	 * @return The {@link JavaField} or {@link JavaMethod} at the given index
+	 */
+	public Object getMember(int index){
+		return pieces.getMember(index);
+	}
+	
+	/**
+	 * @param index The index of the member
+	 * @return The offset of the member's text in the document (including the blank line before it, if any)
+	 */
+	public long getMemberOffset(int index){
+		return header.length() + pieces.getOffset(index);
+	}
+	
+	/**
+	 * @param index The index of the member
+	 * @return The text of the member in the document (including the blank line before it, if any)
+	 */
+	public String getMemberText(int index){
+		return pieces.getText(index);
+	}
+	
+	/**
+	 * @return The number of characters in the document
+	 */
+	public long length(){
+		return header.length() + pieces.length() + FOOTER.length();
+	}
+	
+	/**
+	 * Adds a member at the end of the document
+	 *
+	 * @param member The {@link JavaField} or {@link JavaMethod} to add
+	 */
+	public void addMember(Object member){
+		insertMember(pieces.size(), member);
+	}
+	
+	/**
+	 * Inserts a member at the given index
+	 *
+	 * @param index The index to insert the member at
+	 * @param member The {@link JavaField} or {@link JavaMethod} to insert
+	 */
+	public void insertMember(int index, Object member){
+		checkMember(member);
+		pieces.insert(index, member, render(index, member));
+		refresh(index + 1);
+	}
+	
+	/**
+	 * Removes the member at the given index
+	 *
+	 * @param index The index of the member to remove
+	 * @return The {@link JavaField} or {@link JavaMethod} that was removed
+	 */
+	public Object removeMember(int index){
+		Object removed = pieces.remove(index);
+		refresh(index);
+		return removed;
+	}
+	
+	/**
+	 * Replaces the member at the given index
+	 *
+	 * @param index The index of the member to replace
+	 * @param member The {@link JavaField} or {@link JavaMethod} to put in its place
+	 * @return The {@link JavaField} or {@link JavaMethod} that was replaced
+	 */
+	public Object replaceMember(int index, Object member){
+		checkMember(member);
+		Object replaced = pieces.remove(index);
+		pieces.insert(index, member, render(index, member));
+		refresh(index + 1);
+		return replaced;
+	}
+	
+	/**
+	 * Writes the document, piece by piece
+	 *
+	 * @param writer The {@link Writer} to write to (it's not flushed or closed)
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	public void writeTo(Writer writer) throws IOException{
+		writer.write(header);
+		pieces.writeTo(writer);
+		writer.write(FOOTER);
+	}
+	
+	/**
+	 * Writes the document to a channel, piece by piece, encoding it with the given charset as it goes
+	 *
+	 * @param channel The {@link WritableByteChannel} to write to (it's not closed)
+	 * @param charset The {@link Charset} to encode the text with
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	public void writeTo(WritableByteChannel channel, Charset charset) throws IOException{
+		Writer writer = Channels.newWriter(channel, charset.newEncoder(), 8192);
+		writeTo(writer);
+		writer.flush();
+	}
+	
+	/**
+	 * @return A {@link JavaClass} with the declaration of the original class and the members now in the document
+	 */
+	public JavaClass toJavaClass(){
+		List<JavaField> fields = new ArrayList<>();
+		List<JavaMethod> methods = new ArrayList<>();
+		for(int i = 0; i < pieces.size(); i++){
+			Object member = pieces.getMember(i);
+			if(member instanceof JavaField){
+				fields.add((JavaField) member);
+			}else{
+				methods.add((JavaMethod) member);
+			}
+		}
+		return copyDeclaration(declaration).fields(fields).methods(methods).build();
+	}
+	
+	/**
+	 * @return The whole document as a single string
+	 */
+	@Override
+	public String toString(){
+		StringWriter writer = new StringWriter((int) Math.min(length(), Integer.MAX_VALUE - 8));
+		try{
+			writeTo(writer);
+		}catch(IOException e){
+			// StringWriter doesn't throw IOExceptions
+			throw new IllegalStateException(e);
+		}
+		return writer.toString();
+	}
+	
+	/**
+	 * Renders the member at the given index again, since the member before it changed (which can change whether
+	 * it needs a blank line before it)
+	 *
+	 * @param index The index of the member (nothing is done if there's no member there)
+	 */
+	private void refresh(int index){
+		if(index < pieces.size()){
+			String text = render(index, pieces.getMember(index));
+			if(!text.equals(pieces.getText(index))){
+				pieces.setText(index, text);
+			}
+		}
+	}
+	
+	/**
+	 * @param index The index the member is at
+	 * @param member The {@link JavaField} or {@link JavaMethod} to render
+	 * @return The text of the member, indented like {@link JavaClass#toString()} does, with a blank line before it
+	 * if it needs one
+	 */
+	private String render(int index, Object member){
+		Object previous = index > 0?pieces.getMember(index - 1):null;
+		StringBuilder text = new StringBuilder();
+		if(previous != null && (member instanceof JavaMethod || previous instanceof JavaMethod)){
+			text.append(BLANK_LINE);
+		}
+		if(member instanceof JavaField){
+			text.append('\t').append(member.toString().replace("\n", "\n\t")).append(";\n");
+		}else{
+			String rendered = member.toString();
+			int lineStart = 0;
+			int newline;
+			while((newline = rendered.indexOf('\n', lineStart)) != -1){
+				text.append('\t').append(rendered, lineStart, newline + 1);
+				lineStart = newline + 1;
+			}
+			text.append('\t').append(rendered, lineStart, rendered.length()).append('\n');
+		}
+		return text.toString();
+	}
+	
+	/**
+	 * @param member The member to check
+	 * @throws IllegalArgumentException if the member isn't a {@link JavaField} or {@link JavaMethod}
+	 */
+	private static void checkMember(Object member){
+		if(!(member instanceof JavaField) && !(member instanceof JavaMethod)){
+			throw new IllegalArgumentException("Member must be a JavaField or JavaMethod!");
+		}
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to copy the declaration of
+	 * @return A {@link JavaClass.JavaClassBuilder} with the package, imports, and class declaration of the class
+	 */
+	private static JavaClass.JavaClassBuilder copyDeclaration(JavaClass javaClass){
+		return JavaClass.builder()
+				.packageName(javaClass.getPackageName())
+				.imports(javaClass.getImports())
+				.staticImports(javaClass.getStaticImports())
+				.annotations(javaClass.getAnnotations())
+				.visibility(javaClass.getVisibility())
+				.isAbstract(javaClass.isAbstract())
+				.className(javaClass.getClassName())
+				.superClassName(javaClass.getSuperClassName());
+	}
+}
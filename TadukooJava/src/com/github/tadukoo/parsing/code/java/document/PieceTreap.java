@@ -0,0 +1,302 @@
+package com.github.tadukoo.parsing.code.java.document;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Piece Treap is the rope behind a {@link JavaClassDocument}: an implicit treap (a randomized balanced binary tree
+ * ordered by position rather than by key) of pieces of text, each one the rendering of a single member. Every node
+ * keeps the number of pieces and the number of characters in its subtree, so finding, inserting, removing, or
+ * replacing the piece at an index, and finding the character offset of a piece, are all O(log n). The pieces are
+ * never concatenated - {@link #writeTo(Writer)} streams them in order.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+final class PieceTreap{
+	
+	/**
+	 * Node is a single piece in the treap, along with the sizes of its subtree
+	 */
+	private static final class Node{
+		/** The member this piece is the rendering of */
+		private final Object member;
+		/** The text of this piece */
+		private String text;
+		/** The random priority that keeps the tree balanced (higher priorities are closer to the root) */
+		private final int priority;
+		/** The pieces before this one in its subtree */
+		private Node left;
+		/** The pieces after this one in its subtree */
+		private Node right;
+		/** The number of pieces in this subtree */
+		private int count;
+		/** The number of characters in this subtree */
+		private long length;
+		
+		/**
+		 * @param member The member this piece is the rendering of
+		 * @param text The text of this piece
+		 * @param priority The random priority that keeps the tree balanced
+		 */
+		private Node(Object member, String text, int priority){
+			this.member = member;
+			this.text = text;
+			this.priority = priority;
+			update();
+		}
+		
+		/**
+		 * Recalculates the sizes of this subtree from its children
+		 */
+		private void update(){
+			count = 1 + count(left) + count(right);
+			length = text.length() + length(left) + length(right);
+		}
+	}
+	
+	/** The root of the tree (null when empty) */
+	private Node root;
+	/** The state of the xorshift generator used for priorities */
+	private int seed = 0x2545F491;
+	
+	/**
+	 * @param node The node (may be null)
+	 * @return The number of pieces in the node's subtree
+	 */
+	private static int count(Node node){
+		return node == null?0:node.count;
+	}
+	
+	/**
+	 * @param node The node (may be null)
+	 * @return The number of characters in the node's subtree
+	 */
+	private static long length(Node node){
+		return node == null?0:node.length;
+	}
+	
+	/**
+	 * @return The number of pieces
+	 */
+	int size(){
+		return count(root);
+	}
+	
+	/**
+	 * @return The number of characters in all the pieces
+	 */
+	long length(){
+		return length(root);
+	}
+	
+	/**
+	 * @param index The index of the piece
+	 * @return The member the piece at the given index is the rendering of
+	 */
+	Object getMember(int index){
+		return find(index).member;
+	}
+	
+	/**
+	 * @param index The index of the piece
+	 * @return The text of the piece at the given index
+	 */
+	String getText(int index){
+		return find(index).text;
+	}
+	
+	/**
+	 * @param index The index of the piece
+	 * @return The number of characters in all the pieces before the given index
+	 */
+	long getOffset(int index){
+		checkIndex(index, size());
+		long offset = 0;
+		Node node = root;
+		while(true){
+			int leftCount = count(node.left);
+			if(index < leftCount){
+				node = node.left;
+			}else if(index == leftCount){
+				return offset + length(node.left);
+			}else{
+				offset += length(node.left) + node.text.length();
+				index -= leftCount + 1;
+				node = node.right;
+			}
+		}
+	}
+	
+	/**
+	 * Inserts a piece at the given index
+	 *
+	 * @param index The index to insert at (the number of pieces to add at the end)
+	 * @param member The member the piece is the rendering of
+	 * @param text The text of the piece
+	 */
+	void insert(int index, Object member, String text){
+		checkIndex(index, size() + 1);
+		Node[] parts = split(root, index);
+		root = merge(merge(parts[0], new Node(member, text, nextPriority())), parts[1]);
+	}
+	
+	/**
+	 * Removes the piece at the given index
+	 *
+	 * @param index The index of the piece to remove
+	 * @return The member the removed piece was the rendering of
+	 */
+	Object remove(int index){
+		checkIndex(index, size());
+		Node[] before = split(root, index);
+		Node[] after = split(before[1], 1);
+		root = merge(before[0], after[1]);
+		return after[0].member;
+	}
+	
+	/**
+	 * Changes the text of the piece at the given index, keeping its member
+	 *
+	 * @param index The index of the piece
+	 * @param text The new text of the piece
+	 */
+	void setText(int index, String text){
+		checkIndex(index, size());
+		// Walk down to the node, then fix the lengths on the way back up
+		Deque<Node> path = new ArrayDeque<>();
+		Node node = root;
+		while(true){
+			path.push(node);
+			int leftCount = count(node.left);
+			if(index < leftCount){
+				node = node.left;
+			}else if(index == leftCount){
+				break;
+			}else{
+				index -= leftCount + 1;
+				node = node.right;
+			}
+		}
+		node.text = text;
+		while(!path.isEmpty()){
+			path.pop().update();
+		}
+	}
+	
+	/**
+	 * Writes all the pieces in order, without joining them together first
+	 *
+	 * @param writer The {@link Writer} to write to
+	 * @throws IOException If anything goes wrong in writing
+	 */
+	void writeTo(Writer writer) throws IOException{
+		Deque<Node> stack = new ArrayDeque<>();
+		Node node = root;
+		while(node != null || !stack.isEmpty()){
+			while(node != null){
+				stack.push(node);
+				node = node.left;
+			}
+			node = stack.pop();
+			writer.write(node.text);
+			node = node.right;
+		}
+	}
+	
+	/**
+	 * @param index The index of the piece
+	 * @return The node for the piece at the given index
+	 */
+	private Node find(int index){
+		checkIndex(index, size());
+		Node node = root;
+		while(true){
+			int leftCount = count(node.left);
+			if(index < leftCount){
+				node = node.left;
+			}else if(index == leftCount){
+				return node;
+			}else{
+				index -= leftCount + 1;
+				node = node.right;
+			}
+		}
+	}
+	
+	/**
+	 * Splits a subtree into the first pieces and the rest
+	 *
+	 * @param node The root of the subtree to split
+	 * @param index The number of pieces to put in the first part
+	 * @return The roots of the two parts (either may be null)
+	 */
+	private static Node[] split(Node node, int index){
+		if(node == null){
+			return new Node[]{null, null};
+		}
+		int leftCount = count(node.left);
+		if(index <= leftCount){
+			Node[] parts = split(node.left, index);
+			node.left = parts[1];
+			node.update();
+			parts[1] = node;
+			return parts;
+		}else{
+			Node[] parts = split(node.right, index - leftCount - 1);
+			node.right = parts[0];
+			node.update();
+			parts[0] = node;
+			return parts;
+		}
+	}
+	
+	/**
+	 * Joins two subtrees, with all the pieces of the first before all the pieces of the second
+	 *
+	 * @param first The root of the first subtree (may be null)
+	 * @param second The root of the second subtree (may be null)
+	 * @return The root of the joined tree
+	 */
+	private static Node merge(Node first, Node second){
+		if(first == null){
+			return second;
+		}
+		if(second == null){
+			return first;
+		}
+		if(first.priority > second.priority){
+			first.right = merge(first.right, second);
+			first.update();
+			return first;
+		}else{
+			second.left = merge(first, second.left);
+			second.update();
+			return second;
+		}
+	}
+	
+	/**
+	 * @return The next random priority
+	 */
+	private int nextPriority(){
+		seed ^= seed << 13;
+		seed ^= seed >>> 17;
+		seed ^= seed << 5;
+		return seed;
+	}
+	
+	/**
+	 * @param index The index to check
+	 * @param bound The index must be less than this
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	private static void checkIndex(int index, int bound){
+		if(index < 0 || index >= bound){
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + bound);
+		}
+	}
+}
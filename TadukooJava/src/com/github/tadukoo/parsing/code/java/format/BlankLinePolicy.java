@@ -0,0 +1,15 @@
+package com.github.tadukoo.parsing.code.java.format;
+
+/**
+ * Blank Line Policy is what blank lines inside a class look like in a {@link JavaFormatStyle}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public enum BlankLinePolicy{
+	/** Blank lines are indented to the level of the code around them (e.g. a single tab between methods) */
+	INDENTED,
+	/** Blank lines are completely empty, with no trailing whitespace */
+	EMPTY
+}
@@ -0,0 +1,17 @@
+package com.github.tadukoo.parsing.code.java.format;
+
+/**
+ * Brace Placement is where the opening brace of a class or method goes in a {@link JavaFormatStyle}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public enum BracePlacement{
+	/** At the end of the declaration, with no space before it - e.g. {@code run(){} */
+	END_OF_LINE,
+	/** At the end of the declaration, with a space before it - e.g. {@code run() {} */
+	END_OF_LINE_SPACED,
+	/** On its own line after the declaration, at the same indentation as the declaration */
+	NEXT_LINE
+}
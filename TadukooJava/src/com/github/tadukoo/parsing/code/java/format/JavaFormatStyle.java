@@ -0,0 +1,237 @@
+package com.github.tadukoo.parsing.code.java.format;
+
+import com.github.tadukoo.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Java Format Style is the formatting to render Java code with. A style is {@link RenderPlan#compile compiled}
+ * into a {@link RenderPlan} once, and the plan is then used for rendering.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class JavaFormatStyle{
+	
+	/**
+	 * Java Format Style Builder is used to build a new {@link JavaFormatStyle}. The defaults match the way
+	 * {@link com.github.tadukoo.parsing.code.java.JavaClass#toString()} renders. It contains the following
+	 * parameters:
+	 *
+	 * <table>
+	 *     <caption>Java Format Style Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>indent</td>
+	 *         <td>The text used for one level of indentation (must be tabs and/or spaces)</td>
+	 *         <td>A single tab</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>bracePlacement</td>
+	 *         <td>Where the opening brace of a class or method goes</td>
+	 *         <td>{@link BracePlacement#END_OF_LINE}</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>blankLinePolicy</td>
+	 *         <td>What blank lines inside a class look like</td>
+	 *         <td>{@link BlankLinePolicy#INDENTED}</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>parameterWrapWidth</td>
+	 *         <td>The longest a method declaration can be before its parameters are put on their own lines
+	 *         (0 to never wrap)</td>
+	 *         <td>0</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>lineSeparator</td>
+	 *         <td>The text used to end lines ("\n", "\r\n", or "\r")</td>
+	 *         <td>"\n"</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static class JavaFormatStyleBuilder{
+		/** The text used for one level of indentation */
+		private String indent = "\t";
+		/** Where the opening brace of a class or method goes */
+		private BracePlacement bracePlacement = BracePlacement.END_OF_LINE;
+		/** What blank lines inside a class look like */
+		private BlankLinePolicy blankLinePolicy = BlankLinePolicy.INDENTED;
+		/** The longest a method declaration can be before its parameters are wrapped (0 to never wrap) */
+		private int parameterWrapWidth = 0;
+		/** The text used to end lines */
+		private String lineSeparator = "\n";
+		
+		// Can't create outside of Java Format Style
+		private JavaFormatStyleBuilder(){ }
+		
+		/**
+		 * @param indent The text used for one level of indentation (must be tabs and/or spaces)
+		 * @return this, to continue building
+		 */
+		public JavaFormatStyleBuilder indent(String indent){
+			this.indent = indent;
+			return this;
+		}
+		
+		/**
+		 * @param bracePlacement Where the opening brace of a class or method goes
+		 * @return this, to continue building
+		 */
+		public JavaFormatStyleBuilder bracePlacement(BracePlacement bracePlacement){
+			this.bracePlacement = bracePlacement;
+			return this;
+		}
+		
+		/**
+		 * @param blankLinePolicy What blank lines inside a class look like
+		 * @return this, to continue building
+		 */
+		public JavaFormatStyleBuilder blankLinePolicy(BlankLinePolicy blankLinePolicy){
+			this.blankLinePolicy = blankLinePolicy;
+			return this;
+		}
+		
+		/**
+		 * @param parameterWrapWidth The longest a method declaration can be before its parameters are put on
+		 * their own lines (0 to never wrap)
+		 * @return this, to continue building
+		 */
+		public JavaFormatStyleBuilder parameterWrapWidth(int parameterWrapWidth){
+			this.parameterWrapWidth = parameterWrapWidth;
+			return this;
+		}
+		
+		/**
+		 * @param lineSeparator The text used to end lines ("\n", "\r\n", or "\r")
+		 * @return this, to continue building
+		 */
+		public JavaFormatStyleBuilder lineSeparator(String lineSeparator){
+			this.lineSeparator = lineSeparator;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters
+		 *
+		 * @throws IllegalArgumentException if anything is wrong
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			if(indent == null || !indent.matches("[ \\t]*")){
+				errors.add("indent must only contain tabs and spaces!");
+			}
+			if(bracePlacement == null){
+				errors.add("Must specify bracePlacement!");
+			}
+			if(blankLinePolicy == null){
+				errors.add("Must specify blankLinePolicy!");
+			}
+			if(parameterWrapWidth < 0){
+				errors.add("parameterWrapWidth must not be negative!");
+			}
+			if(!"\n".equals(lineSeparator) && !"\r\n".equals(lineSeparator) && !"\r".equals(lineSeparator)){
+				errors.add("lineSeparator must be \\n, \\r\\n, or \\r!");
+			}
+			
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters, then builds a new {@link JavaFormatStyle}
+		 *
+		 * @return A newly built {@link JavaFormatStyle}
+		 * @throws IllegalArgumentException if anything is wrong with the current parameters
+		 */
+		public JavaFormatStyle build(){
+			checkForErrors();
+			
+			return new JavaFormatStyle(indent, bracePlacement, blankLinePolicy, parameterWrapWidth, lineSeparator);
+		}
+	}
+	
+	/** The text used for one level of indentation */
+	private final String indent;
+	/** Where the opening brace of a class or method goes */
+	private final BracePlacement bracePlacement;
+	/** What blank lines inside a class look like */
+	private final BlankLinePolicy blankLinePolicy;
+	/** The longest a method declaration can be before its parameters are wrapped (0 to never wrap) */
+	private final int parameterWrapWidth;
+	/** The text used to end lines */
+	private final String lineSeparator;
+	
+	/**
+	 * Constructs a new Java Format Style with the given parameters
+	 *
+	 * @param indent The text used for one level of indentation
+	 * @param bracePlacement Where the opening brace of a class or method goes
+	 * @param blankLinePolicy What blank lines inside a class look like
+	 * @param parameterWrapWidth The longest a method declaration can be before its parameters are wrapped
+	 * (0 to never wrap)
+	 * @param lineSeparator The text used to end lines
+	 */
+	private JavaFormatStyle(
+			String indent, BracePlacement bracePlacement, BlankLinePolicy blankLinePolicy,
+			int parameterWrapWidth, String lineSeparator){
+		this.indent = indent;
+		this.bracePlacement = bracePlacement;
+		this.blankLinePolicy = blankLinePolicy;
+		this.parameterWrapWidth = parameterWrapWidth;
+		this.lineSeparator = lineSeparator;
+	}
+	
+	/**
+	 * @return A new {@link JavaFormatStyleBuilder} to use to build a {@link JavaFormatStyle}
+	 */
+	public static JavaFormatStyleBuilder builder(){
+		return new JavaFormatStyleBuilder();
+	}
+	
+	/**
+	 * @return The text used for one level of indentation
+	 */
+	public String getIndent(){
+		return indent;
+	}
+	
+	/**
+	 * @return Where the opening brace of a class or method goes
+	 */
+	public BracePlacement getBracePlacement(){
+		return bracePlacement;
+	}
+	
+	/**
+	 * @return What blank lines inside a class look like
+	 */
+	public BlankLinePolicy getBlankLinePolicy(){
+		return blankLinePolicy;
+	}
+	
+	/**
+	 * @return The longest a method declaration can be before its parameters are wrapped (0 to never wrap)
+	 */
+	public int getParameterWrapWidth(){
+		return parameterWrapWidth;
+	}
+	
+	/**
+	 * @return The text used to end lines
+	 */
+	public String getLineSeparator(){
+		return lineSeparator;
+	}
+}
@@ -0,0 +1,391 @@
+package com.github.tadukoo.parsing.code.java.format;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.SynthesizedMembers;
+import com.github.tadukoo.parsing.code.java.jfr.ClassRenderEvent;
+import com.github.tadukoo.parsing.code.java.metrics.JavaMetrics;
+import com.github.tadukoo.parsing.code.java.metrics.JavaMetricsListener;
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.StringUtil;
+
+import java.util.List;
+
+/**
+ * Render Plan is a {@link JavaFormatStyle} compiled into the exact strings needed to render with it: the
+ * indentation at each level, the line separator, the opening braces, and the blank lines. Rendering with a plan
+ * only ever appends those strings, so every style costs the same to render as the default one - the style is only
+ * looked at once, when the plan is {@link #compile compiled}. Plans are immutable and can be shared between threads.
+ * <br><br>
+ * {@link #DEFAULT} renders exactly the same text as {@link JavaClass#toString()}, {@link JavaField#toString()},
+ * and {@link JavaMethod#toString()}. Rendering a class is reported to the
+ * {@link JavaMetrics#getListener() metrics listener} and Flight Recorder (as a {@link ClassRenderEvent}) like
+ * {@link JavaClass#toString()} does, though its fields and methods aren't reported separately, as the plan renders
+ * them itself rather than calling their toString methods.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class RenderPlan{
+	/** The plan for the default style, which matches the toString methods of the models */
+	public static final RenderPlan DEFAULT = compile(JavaFormatStyle.builder().build());
+	
+	/** Depth of a member rendered on its own (not in a class) */
+	private static final int TOP = 0;
+	/** Depth of a member rendered in a class */
+	private static final int IN_CLASS = 1;
+	
+	/** The {@link JavaFormatStyle} this plan was compiled from */
+	private final JavaFormatStyle style;
+	/** The line separator */
+	private final String newline;
+	/** The opening brace of a class, including anything before it */
+	private final String classOpen;
+	/** The blank line inside a class, including its line separator */
+	private final String blankLine;
+	/** The longest a method declaration can be before its parameters are wrapped (0 to never wrap) */
+	private final int wrapWidth;
+	/** The indentation of a member at each depth */
+	private final String[] memberIndent = new String[2];
+	/** The opening brace of a method at each depth, including anything before it */
+	private final String[] methodOpen = new String[2];
+	/** The indentation of the lines of a method body at each depth */
+	private final String[] bodyIndent = new String[2];
+	/** An empty line in a method body at each depth */
+	private final String[] emptyBodyLine = new String[2];
+	/** The indentation of wrapped parameters at each depth, including the line separator before it */
+	private final String[] wrappedParameter = new String[2];
+	/** The {@link SynthesizedMembers.Layout layout} of synthesized members (whose parameters are never wrapped) */
+	private final SynthesizedMembers.Layout synthesizedLayout;
+	
+	/**
+	 * Compiles the given style into a plan
+	 *
+	 * @param style The {@link JavaFormatStyle} to compile
+	 */
+	private RenderPlan(JavaFormatStyle style){
+		this.style = style;
+		String indent = style.getIndent();
+		newline = style.getLineSeparator();
+		classOpen = brace(style.getBracePlacement(), "");
+		blankLine = (style.getBlankLinePolicy() == BlankLinePolicy.INDENTED?indent:"") + newline;
+		wrapWidth = style.getParameterWrapWidth();
+		for(int depth = TOP; depth <= IN_CLASS; depth++){
+			memberIndent[depth] = depth == TOP?"":indent;
+			methodOpen[depth] = brace(style.getBracePlacement(), memberIndent[depth]);
+			bodyIndent[depth] = memberIndent[depth] + indent;
+			emptyBodyLine[depth] = style.getBlankLinePolicy() == BlankLinePolicy.INDENTED?bodyIndent[depth]:"";
+			wrappedParameter[depth] = newline + bodyIndent[depth] + indent;
+		}
+		synthesizedLayout = new SynthesizedMembers.Layout(memberIndent[IN_CLASS], indent, methodOpen[IN_CLASS],
+				brace(style.getBracePlacement(), bodyIndent[IN_CLASS]), blankLine, newline);
+	}
+	
+	/**
+	 * @param placement The {@link BracePlacement} to use
+	 * @param indent The indentation of the declaration the brace is for
+	 * @return The opening brace, including anything that goes between the declaration and it
+	 */
+	private String brace(BracePlacement placement, String indent){
+		switch(placement){
+			case END_OF_LINE_SPACED:
+				return " {";
+			case NEXT_LINE:
+				return newline + indent + "{";
+			default:
+				return "{";
+		}
+	}
+	
+	/**
+	 * Compiles the given style into a plan to render with
+	 *
+	 * @param style The {@link JavaFormatStyle} to compile
+	 * @return The compiled {@link RenderPlan}
+	 */
+	public static RenderPlan compile(JavaFormatStyle style){
+		return new RenderPlan(style);
+	}
+	
+	/**
+	 * @return The {@link JavaFormatStyle} this plan was compiled from
+	 */
+	public JavaFormatStyle getStyle(){
+		return style;
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to render
+	 * @return The class rendered with this plan
+	 */
+	public String render(JavaClass javaClass){
+		StringBuilder out = new StringBuilder(1024);
+		render(javaClass, out);
+		return out.toString();
+	}
+	
+	/**
+	 * @param field The {@link JavaField} to render
+	 * @return The field rendered with this plan (without a semicolon, like {@link JavaField#toString()})
+	 */
+	public String render(JavaField field){
+		StringBuilder out = new StringBuilder(64);
+		renderField(field, TOP, out);
+		return out.toString();
+	}
+	
+	/**
+	 * @param method The {@link JavaMethod} to render
+	 * @return The method rendered with this plan
+	 */
+	public String render(JavaMethod method){
+		StringBuilder out = new StringBuilder(256);
+		renderMethod(method, TOP, out);
+		return out.toString();
+	}
+	
+	/**
+	 * Renders the given class with this plan
+	 *
+	 * @param javaClass The {@link JavaClass} to render
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	public void render(JavaClass javaClass, StringBuilder out){
+		JavaMetricsListener listener = JavaMetrics.getListener();
+		long start = listener != null?System.nanoTime():0L;
+		ClassRenderEvent event = new ClassRenderEvent();
+		event.begin();
+		int startLength = out.length();
+		
+		renderClass(javaClass, out);
+		
+		int characters = out.length() - startLength;
+		if(event.shouldCommit()){
+			event.setClassName(javaClass.getPackageName() + "." + javaClass.getClassName());
+			event.setFieldCount(javaClass.getFields() == null?0:javaClass.getFields().size());
+			event.setMethodCount(javaClass.getMethods() == null?0:javaClass.getMethods().size());
+			event.setOutputSize(characters);
+			event.commit();
+		}
+		if(listener != null){
+			listener.onClassRendered(javaClass, System.nanoTime() - start, characters);
+		}
+	}
+	
+	/**
+	 * Renders the given class with this plan, without reporting it
+	 *
+	 * @param javaClass The {@link JavaClass} to render
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private void renderClass(JavaClass javaClass, StringBuilder out){
+		// Package Declaration
+		out.append("package ").append(javaClass.getPackageName()).append(';').append(newline);
+		
+		// Import Statements, including any needed by synthesized members
+		List<String> imports = javaClass.getImports();
+		List<String> missingImports = SynthesizedMembers.missingImports(javaClass);
+		if(ListUtil.isNotBlank(imports) || !missingImports.isEmpty()){
+			out.append(newline);
+			if(ListUtil.isNotBlank(imports)){
+				for(String singleImport: imports){
+					out.append("import ").append(singleImport).append(';').append(newline);
+				}
+			}
+			for(String missingImport: missingImports){
+				out.append("import ").append(missingImport).append(';').append(newline);
+			}
+		}
+		
+		// Static Import Statements
+		List<String> staticImports = javaClass.getStaticImports();
+		if(ListUtil.isNotBlank(staticImports)){
+			out.append(newline);
+			for(String staticImport: staticImports){
+				out.append("import static ").append(staticImport).append(';').append(newline);
+			}
+		}
+		out.append(newline);
+		
+		// Class Declaration
+		renderAnnotations(javaClass.getAnnotations(), "", out);
+		out.append(javaClass.getVisibility().getText());
+		if(javaClass.isAbstract()){
+			out.append(" abstract");
+		}
+		out.append(" class ").append(javaClass.getClassName());
+		if(StringUtil.isNotBlank(javaClass.getSuperClassName())){
+			out.append(" extends ").append(javaClass.getSuperClassName());
+		}
+		out.append(classOpen).append(newline).append(blankLine);
+		
+		// Fields
+		List<JavaField> fields = javaClass.getFields();
+		if(ListUtil.isNotBlank(fields)){
+			for(JavaField field: fields){
+				renderField(field, IN_CLASS, out);
+				out.append(';').append(newline);
+			}
+		}
+		
+		// Methods, with blank lines between them and the fields
+		List<JavaMethod> methods = javaClass.getMethods();
+		if(ListUtil.isNotBlank(methods)){
+			if(ListUtil.isNotBlank(fields)){
+				out.append(blankLine);
+			}
+			for(int i = 0; i < methods.size(); i++){
+				if(i > 0){
+					out.append(blankLine);
+				}
+				renderMethod(methods.get(i), IN_CLASS, out);
+				out.append(newline);
+			}
+		}
+		
+		// Synthesized methods, straight after the explicit ones
+		if(SynthesizedMembers.count(javaClass) > 0){
+			SynthesizedMembers.render(javaClass, synthesizedLayout,
+					ListUtil.isNotBlank(fields) || ListUtil.isNotBlank(methods), out);
+		}
+		
+		out.append('}').append(newline);
+	}
+	
+	/**
+	 * Renders a field (without a semicolon or line separator after it)
+	 *
+	 * @param field The {@link JavaField} to render
+	 * @param depth The depth of the field ({@link #TOP} or {@link #IN_CLASS})
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private void renderField(JavaField field, int depth, StringBuilder out){
+		String indent = memberIndent[depth];
+		renderAnnotations(field.getAnnotations(), indent, out);
+		out.append(indent).append(field.getVisibility().getText());
+		if(field.isFinal()){
+			out.append(" final");
+		}
+		out.append(' ').append(field.getType()).append(' ').append(field.getName());
+		if(StringUtil.isNotBlank(field.getValue())){
+			out.append(" = ").append(field.getValue());
+		}
+	}
+	
+	/**
+	 * Renders a method (without a line separator after its closing brace, or its semicolon if it's abstract)
+	 *
+	 * @param method The {@link JavaMethod} to render
+	 * @param depth The depth of the method ({@link #TOP} or {@link #IN_CLASS})
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private void renderMethod(JavaMethod method, int depth, StringBuilder out){
+		String indent = memberIndent[depth];
+		renderAnnotations(method.getAnnotations(), indent, out);
+		
+		// Declaration
+		int declarationStart = out.length();
+		out.append(indent).append(method.getVisibility().getText());
+		if(method.isAbstract()){
+			out.append(" abstract");
+		}
+		out.append(' ').append(method.getReturnType());
+		if(StringUtil.isNotBlank(method.getName())){
+			out.append(' ').append(method.getName());
+		}
+		out.append('(');
+		int parametersStart = out.length();
+		int parameterCount = method.getParameterCount();
+		if(parameterCount != 0){
+			for(int i = 0; i < parameterCount; i++){
+				if(i > 0){
+					out.append(", ");
+				}
+				out.append(method.getParameterType(i)).append(' ').append(method.getParameterName(i));
+			}
+			// Put each parameter on its own line if the declaration is too long
+			if(wrapWidth > 0 && declarationLength(method, out.length() - declarationStart) > wrapWidth){
+				out.setLength(parametersStart);
+				for(int i = 0; i < parameterCount; i++){
+					if(i > 0){
+						out.append(',');
+					}
+					out.append(wrappedParameter[depth])
+							.append(method.getParameterType(i)).append(' ').append(method.getParameterName(i));
+				}
+			}
+		}
+		out.append(')');
+		List<String> throwTypes = method.getThrowTypes();
+		if(ListUtil.isNotBlank(throwTypes)){
+			out.append(" throws ");
+			for(int i = 0; i < throwTypes.size(); i++){
+				if(i > 0){
+					out.append(", ");
+				}
+				out.append(throwTypes.get(i));
+			}
+		}
+		
+		// Abstract methods end at the declaration
+		if(method.isAbstract()){
+			out.append(';');
+			return;
+		}
+		out.append(methodOpen[depth]).append(newline);
+		
+		// Body
+		List<String> lines = method.getLines();
+		if(ListUtil.isNotBlank(lines)){
+			for(String line: lines){
+				if(line.isEmpty()){
+					out.append(emptyBodyLine[depth]);
+				}else{
+					out.append(bodyIndent[depth]).append(line);
+				}
+				out.append(newline);
+			}
+		}
+		out.append(indent).append('}');
+	}
+	
+	/**
+	 * @param method The {@link JavaMethod} being rendered
+	 * @param uptoParameters The length of its declaration through the parameters
+	 * @return The length of the whole first line of the declaration, if it weren't wrapped
+	 */
+	private int declarationLength(JavaMethod method, int uptoParameters){
+		int length = uptoParameters + 1;
+		List<String> throwTypes = method.getThrowTypes();
+		if(ListUtil.isNotBlank(throwTypes)){
+			length += " throws ".length() + 2 * (throwTypes.size() - 1);
+			for(String throwType: throwTypes){
+				length += throwType.length();
+			}
+		}
+		if(method.isAbstract()){
+			length++;
+		}else if(style.getBracePlacement() != BracePlacement.NEXT_LINE){
+			length += methodOpen[IN_CLASS].length();
+		}
+		return length;
+	}
+	
+	/**
+	 * Renders annotations, each on its own line
+	 *
+	 * @param annotations The {@link JavaAnnotation annotations} to render
+	 * @param indent The indentation to put before each annotation
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private void renderAnnotations(List<JavaAnnotation> annotations, String indent, StringBuilder out){
+		if(ListUtil.isNotBlank(annotations)){
+			for(JavaAnnotation annotation: annotations){
+				out.append(indent).append('@').append(annotation.getName()).append(newline);
+			}
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.github.tadukoo.parsing.code.java.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Builder Validation Event is a JDK Flight Recorder event emitted when a model builder checks its parameters for
+ * errors. It's disabled by default - use the {@link JavaCodeEvents#SETTINGS_RESOURCE Tadukoo Java settings
+ * profile} to turn it on.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+@Name(BuilderValidationEvent.NAME)
+@Label("Java Builder Validation")
+@Category({"Tadukoo", "Java Code"})
+@Description("Validation of the parameters of a Java model builder")
+@StackTrace(false)
+@Enabled(false)
+public class BuilderValidationEvent extends jdk.jfr.Event{
+	/** The name of the event, as used in settings profiles */
+	public static final String NAME = "com.github.tadukoo.parsing.code.java.BuilderValidation";
+	
+	/** The simple name of the model type being built (e.g. JavaClass) */
+	@Label("Model Type")
+	private String modelType;
+	/** The name of the model being built, if it has one */
+	@Label("Model Name")
+	private String modelName;
+	/** The number of errors that were found */
+	@Label("Error Count")
+	private int errorCount;
+	
+	/**
+	 * @param modelType The simple name of the model type being built (e.g. JavaClass)
+	 */
+	public void setModelType(String modelType){
+		this.modelType = modelType;
+	}
+	
+	/**
+	 * @param modelName The name of the model being built, if it has one
+	 */
+	public void setModelName(String modelName){
+		this.modelName = modelName;
+	}
+	
+	/**
+	 * @param errorCount The number of errors that were found
+	 */
+	public void setErrorCount(int errorCount){
+		this.errorCount = errorCount;
+	}
+}
@@ -0,0 +1,74 @@
+package com.github.tadukoo.parsing.code.java.jfr;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Class Parse Event is a JDK Flight Recorder event emitted when source is parsed (or reparsed after edits) into a
+ * {@link JavaClass}. It's disabled by default - use the {@link JavaCodeEvents#SETTINGS_RESOURCE Tadukoo Java
+ * settings profile} to turn it on.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+@Name(ClassParseEvent.NAME)
+@Label("Java Class Parse")
+@Category({"Tadukoo", "Java Code"})
+@Description("Parsing (or reparsing) of source code into a JavaClass")
+@StackTrace(false)
+@Enabled(false)
+public class ClassParseEvent extends jdk.jfr.Event{
+	/** The name of the event, as used in settings profiles */
+	public static final String NAME = "com.github.tadukoo.parsing.code.java.ClassParse";
+	
+	/** The fully qualified name of the class */
+	@Label("Class Name")
+	private String className;
+	/** The number of characters in the source */
+	@Label("Source Size")
+	@Description("The number of characters in the source")
+	private int sourceSize;
+	/** The number of fields and methods in the class */
+	@Label("Member Count")
+	private int memberCount;
+	/** The number of fields and methods that were parsed (only the ones touched by the edits for a reparse) */
+	@Label("Parsed Member Count")
+	@Description("The number of fields and methods that were parsed (only the ones touched by the edits for a " +
+			"reparse)")
+	private int parsedMemberCount;
+	
+	/**
+	 * @param className The fully qualified name of the class
+	 */
+	public void setClassName(String className){
+		this.className = className;
+	}
+	
+	/**
+	 * @param sourceSize The number of characters in the source
+	 */
+	public void setSourceSize(int sourceSize){
+		this.sourceSize = sourceSize;
+	}
+	
+	/**
+	 * @param memberCount The number of fields and methods in the class
+	 */
+	public void setMemberCount(int memberCount){
+		this.memberCount = memberCount;
+	}
+	
+	/**
+	 * @param parsedMemberCount The number of fields and methods that were parsed (only the ones touched by the
+	 * edits for a reparse)
+	 */
+	public void setParsedMemberCount(int parsedMemberCount){
+		this.parsedMemberCount = parsedMemberCount;
+	}
+}
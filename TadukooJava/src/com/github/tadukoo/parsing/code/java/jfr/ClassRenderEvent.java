@@ -0,0 +1,70 @@
+package com.github.tadukoo.parsing.code.java.jfr;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Class Render Event is a JDK Flight Recorder event emitted when a {@link JavaClass} is rendered. It's disabled
+ * by default - use the {@link JavaCodeEvents#SETTINGS_RESOURCE Tadukoo Java settings profile} to turn it on.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+@Name(ClassRenderEvent.NAME)
+@Label("Java Class Render")
+@Category({"Tadukoo", "Java Code"})
+@Description("Rendering of a JavaClass to source code")
+@StackTrace(false)
+@Enabled(false)
+public class ClassRenderEvent extends jdk.jfr.Event{
+	/** The name of the event, as used in settings profiles */
+	public static final String NAME = "com.github.tadukoo.parsing.code.java.ClassRender";
+	
+	/** The fully qualified name of the class */
+	@Label("Class Name")
+	private String className;
+	/** The number of fields on the class */
+	@Label("Field Count")
+	private int fieldCount;
+	/** The number of methods in the class */
+	@Label("Method Count")
+	private int methodCount;
+	/** The number of characters that were rendered */
+	@Label("Output Size")
+	@Description("The number of characters that were rendered")
+	private int outputSize;
+	
+	/**
+	 * @param className The fully qualified name of the class
+	 */
+	public void setClassName(String className){
+		this.className = className;
+	}
+	
+	/**
+	 * @param fieldCount The number of fields on the class
+	 */
+	public void setFieldCount(int fieldCount){
+		this.fieldCount = fieldCount;
+	}
+	
+	/**
+	 * @param methodCount The number of methods in the class
+	 */
+	public void setMethodCount(int methodCount){
+		this.methodCount = methodCount;
+	}
+	
+	/**
+	 * @param outputSize The number of characters that were rendered
+	 */
+	public void setOutputSize(int outputSize){
+		this.outputSize = outputSize;
+	}
+}
@@ -0,0 +1,64 @@
+package com.github.tadukoo.parsing.code.java.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Java Code Events provides access to the JDK Flight Recorder settings profile for the Tadukoo Java events
+ * ({@link ClassRenderEvent}, {@link MethodRenderEvent}, {@link ClassParseEvent}, and
+ * {@link BuilderValidationEvent}). All of the events are disabled by default, so they cost essentially nothing
+ * unless a recording enables them.
+ * <br><br>
+ * The settings profile is shipped at {@link #SETTINGS_RESOURCE} - it can be copied out of the jar and passed to
+ * {@code -XX:StartFlightRecording:settings=...} or {@code jcmd <pid> JFR.start settings=...}, or used in-process
+ * through {@link #getConfiguration()} and {@link #enable(Recording, Duration)}. The profile leaves
+ * {@link BuilderValidationEvent} off, as it's recorded for every model built - {@link #enable(Recording, Duration)}
+ * turns it on along with the others.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class JavaCodeEvents{
+	/** The classpath resource containing the Tadukoo Java settings profile */
+	public static final String SETTINGS_RESOURCE = "/com/github/tadukoo/parsing/code/java/jfr/TadukooJava.jfc";
+	
+	// Not allowed to create Java Code Events
+	private JavaCodeEvents(){ }
+	
+	/**
+	 * @return The {@link Configuration} of the Tadukoo Java settings profile
+	 * @throws IOException If the profile can't be read
+	 * @throws ParseException If the profile can't be parsed
+	 */
+	public static Configuration getConfiguration() throws IOException, ParseException{
+		InputStream stream = JavaCodeEvents.class.getResourceAsStream(SETTINGS_RESOURCE);
+		if(stream == null){
+			throw new IOException("Missing settings profile: " + SETTINGS_RESOURCE);
+		}
+		try(Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)){
+			return Configuration.create(reader);
+		}
+	}
+	
+	/**
+	 * Enables all the Tadukoo Java events on the given recording, on top of whatever settings it already has
+	 *
+	 * @param recording The {@link Recording} to enable the events on
+	 * @param threshold Events that take less than this aren't recorded
+	 */
+	public static void enable(Recording recording, Duration threshold){
+		recording.enable(ClassRenderEvent.class).withThreshold(threshold).withoutStackTrace();
+		recording.enable(MethodRenderEvent.class).withThreshold(threshold).withoutStackTrace();
+		recording.enable(ClassParseEvent.class).withThreshold(threshold).withoutStackTrace();
+		recording.enable(BuilderValidationEvent.class).withThreshold(threshold).withoutStackTrace();
+	}
+}
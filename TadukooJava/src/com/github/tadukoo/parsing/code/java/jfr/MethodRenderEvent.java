@@ -0,0 +1,80 @@
+package com.github.tadukoo.parsing.code.java.jfr;
+
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Method Render Event is a JDK Flight Recorder event emitted when a {@link JavaMethod} is rendered. It's disabled
+ * by default - use the {@link JavaCodeEvents#SETTINGS_RESOURCE Tadukoo Java settings profile} to turn it on.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+@Name(MethodRenderEvent.NAME)
+@Label("Java Method Render")
+@Category({"Tadukoo", "Java Code"})
+@Description("Rendering of a JavaMethod to source code")
+@StackTrace(false)
+@Enabled(false)
+public class MethodRenderEvent extends jdk.jfr.Event{
+	/** The name of the event, as used in settings profiles */
+	public static final String NAME = "com.github.tadukoo.parsing.code.java.MethodRender";
+	
+	/** The name of the method (blank for constructors) */
+	@Label("Method Name")
+	private String methodName;
+	/** The return type of the method */
+	@Label("Return Type")
+	private String returnType;
+	/** The number of parameters of the method */
+	@Label("Parameter Count")
+	private int parameterCount;
+	/** The number of lines of code in the method */
+	@Label("Line Count")
+	private int lineCount;
+	/** The number of characters that were rendered */
+	@Label("Output Size")
+	@Description("The number of characters that were rendered")
+	private int outputSize;
+	
+	/**
+	 * @param methodName The name of the method (blank for constructors)
+	 */
+	public void setMethodName(String methodName){
+		this.methodName = methodName;
+	}
+	
+	/**
+	 * @param returnType The return type of the method
+	 */
+	public void setReturnType(String returnType){
+		this.returnType = returnType;
+	}
+	
+	/**
+	 * @param parameterCount The number of parameters of the method
+	 */
+	public void setParameterCount(int parameterCount){
+		this.parameterCount = parameterCount;
+	}
+	
+	/**
+	 * @param lineCount The number of lines of code in the method
+	 */
+	public void setLineCount(int lineCount){
+		this.lineCount = lineCount;
+	}
+	
+	/**
+	 * @param outputSize The number of characters that were rendered
+	 */
+	public void setOutputSize(int outputSize){
+		this.outputSize = outputSize;
+	}
+}
@@ -0,0 +1,393 @@
+package com.github.tadukoo.parsing.code.java.memory;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.util.StringUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Budgeted Model Store holds {@link JavaClass classes} within a heap budget, using their
+ * {@link JavaClass#retainedSizeEstimate() retained size estimates}. Once adding a class would take the store over
+ * its budget, its {@link OverflowPolicy} decides what happens: the class is either refused, or spilled to a file
+ * (in the {@link ModelCodec binary form}) and read back each time it's needed. Either way, large generation runs
+ * slow down or stop adding models instead of running out of memory.
+ * <br><br>
+ * Classes keep the order they were added in. The spill file is deleted when the store is {@link #close() closed}.
+ * The store is safe to use from multiple threads.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class BudgetedModelStore implements Iterable<JavaClass>, AutoCloseable{
+	
+	/**
+	 * Budgeted Model Store Builder is used to build a new {@link BudgetedModelStore}. It contains the following
+	 * parameters:
+	 *
+	 * <table>
+	 *     <caption>Budgeted Model Store Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>maxBytes</td>
+	 *         <td>The estimated number of bytes of heap the store may retain</td>
+	 *         <td>A quarter of the maximum heap size</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>overflowPolicy</td>
+	 *         <td>What to do with a class that would take the store over its budget</td>
+	 *         <td>{@link OverflowPolicy#SPILL}</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>spillDirectory</td>
+	 *         <td>The directory to create the spill file in</td>
+	 *         <td>The system's temporary directory</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static class BudgetedModelStoreBuilder{
+		/** The estimated number of bytes of heap the store may retain */
+		private long maxBytes = Runtime.getRuntime().maxMemory() / 4;
+		/** What to do with a class that would take the store over its budget */
+		private OverflowPolicy overflowPolicy = OverflowPolicy.SPILL;
+		/** The directory to create the spill file in */
+		private Path spillDirectory = Paths.get(System.getProperty("java.io.tmpdir"));
+		
+		// Can't create outside of Budgeted Model Store
+		private BudgetedModelStoreBuilder(){ }
+		
+		/**
+		 * @param maxBytes The estimated number of bytes of heap the store may retain
+		 * @return this, to continue building
+		 */
+		public BudgetedModelStoreBuilder maxBytes(long maxBytes){
+			this.maxBytes = maxBytes;
+			return this;
+		}
+		
+		/**
+		 * @param overflowPolicy What to do with a class that would take the store over its budget
+		 * @return this, to continue building
+		 */
+		public BudgetedModelStoreBuilder overflowPolicy(OverflowPolicy overflowPolicy){
+			this.overflowPolicy = overflowPolicy;
+			return this;
+		}
+		
+		/**
+		 * @param spillDirectory The directory to create the spill file in
+		 * @return this, to continue building
+		 */
+		public BudgetedModelStoreBuilder spillDirectory(Path spillDirectory){
+			this.spillDirectory = spillDirectory;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters
+		 *
+		 * @throws IllegalArgumentException if anything is wrong
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			if(maxBytes <= 0){
+				errors.add("maxBytes must be positive!");
+			}
+			if(overflowPolicy == null){
+				errors.add("Must specify overflowPolicy!");
+			}
+			if(overflowPolicy == OverflowPolicy.SPILL && spillDirectory == null){
+				errors.add("Must specify spillDirectory to spill!");
+			}
+			
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters, then builds a new {@link BudgetedModelStore}
+		 *
+		 * @return A newly built {@link BudgetedModelStore}
+		 * @throws IllegalArgumentException if anything is wrong with the current parameters
+		 */
+		public BudgetedModelStore build(){
+			checkForErrors();
+			
+			return new BudgetedModelStore(maxBytes, overflowPolicy, spillDirectory);
+		}
+	}
+	
+	/**
+	 * A class in the store, either held in memory or spilled to the spill file
+	 */
+	private static class Entry{
+		/** The class, if it's held in memory */
+		private final JavaClass javaClass;
+		/** Where the class starts in the spill file, if it was spilled */
+		private final long offset;
+		/** The number of bytes of the class in the spill file, if it was spilled */
+		private final int length;
+		
+		/**
+		 * @param javaClass The class, if it's held in memory
+		 * @param offset Where the class starts in the spill file, if it was spilled
+		 * @param length The number of bytes of the class in the spill file, if it was spilled
+		 */
+		private Entry(JavaClass javaClass, long offset, int length){
+			this.javaClass = javaClass;
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+	
+	/** The estimated number of bytes the store retains for each class, on top of the class itself */
+	private static final long ENTRY_SIZE = RetainedSize.shallow(1, 12) + RetainedSize.REFERENCE;
+	
+	/** The estimated number of bytes of heap the store may retain */
+	private final long maxBytes;
+	/** What to do with a class that would take the store over its budget */
+	private final OverflowPolicy overflowPolicy;
+	/** The directory to create the spill file in */
+	private final Path spillDirectory;
+	/** The classes in the store, in the order they were added */
+	private final List<Entry> entries = new ArrayList<>();
+	/** The estimated number of bytes of heap the store retains */
+	private long retainedBytes = 0;
+	/** The number of classes that were spilled */
+	private int spilledCount = 0;
+	/** The spill file (null until something is spilled) */
+	private Path spillFile = null;
+	/** The channel to the spill file (null until something is spilled) */
+	private FileChannel spillChannel = null;
+	/** The number of bytes written to the spill file */
+	private long spilledBytes = 0;
+	/** Whether the store has been closed */
+	private boolean closed = false;
+	
+	/**
+	 * Constructs a new Budgeted Model Store with the given parameters
+	 *
+	 * @param maxBytes The estimated number of bytes of heap the store may retain
+	 * @param overflowPolicy What to do with a class that would take the store over its budget
+	 * @param spillDirectory The directory to create the spill file in
+	 */
+	private BudgetedModelStore(long maxBytes, OverflowPolicy overflowPolicy, Path spillDirectory){
+		this.maxBytes = maxBytes;
+		this.overflowPolicy = overflowPolicy;
+		this.spillDirectory = spillDirectory;
+	}
+	
+	/**
+	 * @return A new {@link BudgetedModelStoreBuilder} to use to build a {@link BudgetedModelStore}
+	 */
+	public static BudgetedModelStoreBuilder builder(){
+		return new BudgetedModelStoreBuilder();
+	}
+	
+	/**
+	 * @return The estimated number of bytes of heap the store may retain
+	 */
+	public long getMaxBytes(){
+		return maxBytes;
+	}
+	
+	/**
+	 * @return What the store does with a class that would take it over its budget
+	 */
+	public OverflowPolicy getOverflowPolicy(){
+		return overflowPolicy;
+	}
+	
+	/**
+	 * @return The estimated number of bytes of heap the store retains
+	 */
+	public synchronized long getRetainedBytes(){
+		return retainedBytes;
+	}
+	
+	/**
+	 * @return The number of classes in the store (including spilled ones)
+	 */
+	public synchronized int size(){
+		return entries.size();
+	}
+	
+	/**
+	 * @return The number of classes that were spilled
+	 */
+	public synchronized int getSpilledCount(){
+		return spilledCount;
+	}
+	
+	/**
+	 * @return The number of bytes written to the spill file
+	 */
+	public synchronized long getSpilledBytes(){
+		return spilledBytes;
+	}
+	
+	/**
+	 * Adds a class to the store, keeping it in memory if it fits in the budget, otherwise refusing or spilling it
+	 *
+	 * @param javaClass The {@link JavaClass} to add
+	 * @return true if the class was added (in memory or spilled), false if it was refused
+	 * @throws IllegalStateException If the store is closed
+	 * @throws UncheckedIOException If spilling the class fails
+	 */
+	public synchronized boolean add(JavaClass javaClass){
+		checkOpen();
+		long size = javaClass.retainedSizeEstimate() + ENTRY_SIZE;
+		if(retainedBytes + size <= maxBytes){
+			entries.add(new Entry(javaClass, -1, 0));
+			retainedBytes += size;
+			return true;
+		}else if(overflowPolicy == OverflowPolicy.REFUSE || retainedBytes + ENTRY_SIZE > maxBytes){
+			// Not even room to remember where a spilled class is
+			return false;
+		}
+		
+		byte[] bytes = ModelCodec.encode(javaClass);
+		try{
+			if(spillChannel == null){
+				spillFile = Files.createTempFile(spillDirectory, "tadukoo-models", ".bin");
+				spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			}
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			long position = spilledBytes;
+			while(buffer.hasRemaining()){
+				position += spillChannel.write(buffer, position);
+			}
+		}catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+		entries.add(new Entry(null, spilledBytes, bytes.length));
+		spilledBytes += bytes.length;
+		spilledCount++;
+		retainedBytes += ENTRY_SIZE;
+		return true;
+	}
+	
+	/**
+	 * @param index The index of the class, in the order it was added
+	 * @return The class at the given index (read back from the spill file if it was spilled)
+	 * @throws IndexOutOfBoundsException If there's no class at the index
+	 * @throws IllegalStateException If the store is closed
+	 * @throws UncheckedIOException If reading a spilled class fails
+	 */
+	public JavaClass get(int index){
+		Entry entry;
+		FileChannel channel;
+		synchronized(this){
+			checkOpen();
+			entry = entries.get(index);
+			channel = spillChannel;
+		}
+		if(entry.javaClass != null){
+			return entry.javaClass;
+		}
+		
+		// Positional reads don't need the lock
+		ByteBuffer buffer = ByteBuffer.allocate(entry.length);
+		try{
+			long position = entry.offset;
+			while(buffer.hasRemaining()){
+				int read = channel.read(buffer, position);
+				if(read < 0){
+					throw new IOException("Spill file ended early");
+				}
+				position += read;
+			}
+		}catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+		return ModelCodec.decode(buffer.array());
+	}
+	
+	/**
+	 * @param index The index of the class, in the order it was added
+	 * @return Whether the class at the given index was spilled
+	 * @throws IndexOutOfBoundsException If there's no class at the index
+	 */
+	public synchronized boolean isSpilled(int index){
+		return entries.get(index).javaClass == null;
+	}
+	
+	/**
+	 * @return An iterator over the classes in the order they were added, reading spilled ones back as it gets to
+	 * them
+	 */
+	@Override
+	public Iterator<JavaClass> iterator(){
+		return new Iterator<>(){
+			/** The index of the next class */
+			private int index = 0;
+			
+			/** {@inheritDoc} */
+			@Override
+			public boolean hasNext(){
+				return index < size();
+			}
+			
+			/** {@inheritDoc} */
+			@Override
+			public JavaClass next(){
+				if(!hasNext()){
+					throw new NoSuchElementException();
+				}
+				return get(index++);
+			}
+		};
+	}
+	
+	/**
+	 * Drops all the classes and deletes the spill file
+	 *
+	 * @throws IOException If deleting the spill file fails
+	 */
+	@Override
+	public synchronized void close() throws IOException{
+		if(closed){
+			return;
+		}
+		closed = true;
+		entries.clear();
+		retainedBytes = 0;
+		if(spillChannel != null){
+			try{
+				spillChannel.close();
+			}finally{
+				Files.deleteIfExists(spillFile);
+			}
+		}
+	}
+	
+	/**
+	 * @throws IllegalStateException If the store is closed
+	 */
+	private void checkOpen(){
+		if(closed){
+			throw new IllegalStateException("Budgeted Model Store is closed!");
+		}
+	}
+}
@@ -0,0 +1,340 @@
+package com.github.tadukoo.parsing.code.java.memory;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.Visibility;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model Codec writes {@link JavaClass classes} to a compact binary form and reads them back, keeping everything
+ * the models hold (including which members are {@link com.github.tadukoo.parsing.code.java.SynthesizedMembers
+ * synthesized}), so a decoded class is equal to the one that was encoded. Strings are written as UTF-8 with their
+ * length in bytes (or -1 for null), lists with their size (or -1 for null), and {@link Visibility visibilities} by
+ * ordinal, all after a format version byte. Classes written before abstract classes and methods could be modelled
+ * (format version 1) can still be read.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class ModelCodec{
+	/** The version of the format written */
+	private static final byte VERSION = 2;
+	/** The version of the format written before abstract classes and methods, which can still be read */
+	private static final byte VERSION_WITHOUT_ABSTRACT = 1;
+	/** The {@link Visibility visibilities}, by ordinal */
+	private static final Visibility[] VISIBILITIES = Visibility.values();
+	
+	// Not allowed to create Model Codec
+	private ModelCodec(){ }
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to encode
+	 * @return The encoded class
+	 */
+	public static byte[] encode(JavaClass javaClass){
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try(DataOutputStream out = new DataOutputStream(bytes)){
+			out.writeByte(VERSION);
+			writeString(out, javaClass.getPackageName());
+			writeStrings(out, javaClass.getImports());
+			writeStrings(out, javaClass.getStaticImports());
+			writeAnnotations(out, javaClass.getAnnotations());
+			out.writeByte(javaClass.getVisibility().ordinal());
+			out.writeBoolean(javaClass.isAbstract());
+			writeString(out, javaClass.getClassName());
+			writeString(out, javaClass.getSuperClassName());
+			writeFields(out, javaClass.getFields());
+			writeMethods(out, javaClass.getMethods());
+			out.writeBoolean(javaClass.generatesConstructor());
+			out.writeBoolean(javaClass.generatesEquals());
+			out.writeBoolean(javaClass.generatesHashCode());
+			out.writeBoolean(javaClass.generatesToString());
+		}catch(IOException e){
+			// Can't happen when writing to memory
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+	
+	/**
+	 * @param bytes A class encoded by {@link #encode(JavaClass)}
+	 * @return The decoded {@link JavaClass}
+	 * @throws IllegalArgumentException If the bytes aren't an encoded class
+	 */
+	public static JavaClass decode(byte[] bytes){
+		try(DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))){
+			byte version = in.readByte();
+			if(version != VERSION && version != VERSION_WITHOUT_ABSTRACT){
+				throw new IllegalArgumentException("Unknown model format version: " + version);
+			}
+			boolean hasAbstract = version != VERSION_WITHOUT_ABSTRACT;
+			JavaClass.JavaClassBuilder builder = JavaClass.builder()
+					.packageName(readString(in));
+			List<String> imports = readStrings(in);
+			if(imports != null){
+				builder.imports(imports);
+			}
+			List<String> staticImports = readStrings(in);
+			if(staticImports != null){
+				builder.staticImports(staticImports);
+			}
+			List<JavaAnnotation> annotations = readAnnotations(in);
+			if(annotations != null){
+				builder.annotations(annotations);
+			}
+			builder.visibility(readVisibility(in))
+					.isAbstract(hasAbstract && in.readBoolean())
+					.className(readString(in))
+					.superClassName(readString(in));
+			List<JavaField> fields = readFields(in);
+			if(fields != null){
+				builder.fields(fields);
+			}
+			List<JavaMethod> methods = readMethods(in, hasAbstract);
+			if(methods != null){
+				builder.methods(methods);
+			}
+			return builder
+					.generateConstructor(in.readBoolean())
+					.generateEquals(in.readBoolean())
+					.generateHashCode(in.readBoolean())
+					.generateToString(in.readBoolean())
+					.build();
+		}catch(IOException e){
+			throw new IllegalArgumentException("Truncated or corrupt model", e);
+		}
+	}
+	
+	/**
+	 * @param out The stream to write to
+	 * @param string The String to write (may be null)
+	 * @throws IOException If writing fails
+	 */
+	private static void writeString(DataOutputStream out, String string) throws IOException{
+		if(string == null){
+			out.writeInt(-1);
+		}else{
+			byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+	
+	/**
+	 * @param out The stream to write to
+	 * @param strings The Strings to write (may be null)
+	 * @throws IOException If writing fails
+	 */
+	private static void writeStrings(DataOutputStream out, List<String> strings) throws IOException{
+		out.writeInt(strings == null?-1:strings.size());
+		if(strings != null){
+			for(String string: strings){
+				writeString(out, string);
+			}
+		}
+	}
+	
+	/**
+	 * @param out The stream to write to
+	 * @param annotations The {@link JavaAnnotation annotations} to write (may be null)
+	 * @throws IOException If writing fails
+	 */
+	private static void writeAnnotations(DataOutputStream out, List<JavaAnnotation> annotations) throws IOException{
+		out.writeInt(annotations == null?-1:annotations.size());
+		if(annotations != null){
+			for(JavaAnnotation annotation: annotations){
+				writeString(out, annotation.getName());
+			}
+		}
+	}
+	
+	/**
+	 * @param out The stream to write to
+	 * @param fields The {@link JavaField fields} to write (may be null)
+	 * @throws IOException If writing fails
+	 */
+	private static void writeFields(DataOutputStream out, List<JavaField> fields) throws IOException{
+		out.writeInt(fields == null?-1:fields.size());
+		if(fields != null){
+			for(JavaField field: fields){
+				writeAnnotations(out, field.getAnnotations());
+				out.writeByte(field.getVisibility().ordinal());
+				out.writeBoolean(field.isFinal());
+				writeString(out, field.getType());
+				writeString(out, field.getName());
+				writeString(out, field.getValue());
+				out.writeBoolean(field.generatesGetter());
+				out.writeBoolean(field.generatesSetter());
+			}
+		}
+	}
+	
+	/**
+	 * @param out The stream to write to
+	 * @param methods The {@link JavaMethod methods} to write (may be null)
+	 * @throws IOException If writing fails
+	 */
+	private static void writeMethods(DataOutputStream out, List<JavaMethod> methods) throws IOException{
+		out.writeInt(methods == null?-1:methods.size());
+		if(methods != null){
+			for(JavaMethod method: methods){
+				writeAnnotations(out, method.getAnnotations());
+				out.writeByte(method.getVisibility().ordinal());
+				out.writeBoolean(method.isAbstract());
+				writeString(out, method.getReturnType());
+				writeString(out, method.getName());
+				out.writeInt(method.getParameterCount());
+				for(int j = 0; j < method.getParameterCount(); j++){
+					writeString(out, method.getParameterType(j));
+					writeString(out, method.getParameterName(j));
+				}
+				writeStrings(out, method.getThrowTypes());
+				writeStrings(out, method.getLines());
+			}
+		}
+	}
+	
+	/**
+	 * @param in The stream to read from
+	 * @return The String read (may be null)
+	 * @throws IOException If reading fails
+	 */
+	private static String readString(DataInputStream in) throws IOException{
+		int length = in.readInt();
+		if(length < 0){
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * @param in The stream to read from
+	 * @return The Strings read (may be null)
+	 * @throws IOException If reading fails
+	 */
+	private static List<String> readStrings(DataInputStream in) throws IOException{
+		int size = in.readInt();
+		if(size < 0){
+			return null;
+		}
+		List<String> strings = new ArrayList<>(size);
+		for(int i = 0; i < size; i++){
+			strings.add(readString(in));
+		}
+		return strings;
+	}
+	
+	/**
+	 * @param in The stream to read from
+	 * @return The {@link Visibility} read
+	 * @throws IOException If reading fails
+	 */
+	private static Visibility readVisibility(DataInputStream in) throws IOException{
+		int ordinal = in.readUnsignedByte();
+		if(ordinal >= VISIBILITIES.length){
+			throw new IOException("Unknown visibility: " + ordinal);
+		}
+		return VISIBILITIES[ordinal];
+	}
+	
+	/**
+	 * @param in The stream to read from
+	 * @return The {@link JavaAnnotation annotations} read (may be null)
+	 * @throws IOException If reading fails
+	 */
+	private static List<JavaAnnotation> readAnnotations(DataInputStream in) throws IOException{
+		int size = in.readInt();
+		if(size < 0){
+			return null;
+		}
+		List<JavaAnnotation> annotations = new ArrayList<>(size);
+		for(int i = 0; i < size; i++){
+			annotations.add(JavaAnnotation.builder().name(readString(in)).build());
+		}
+		return annotations;
+	}
+	
+	/**
+	 * @param in The stream to read from
+	 * @return The {@link JavaField fields} read (may be null)
+	 * @throws IOException If reading fails
+	 */
+	private static List<JavaField> readFields(DataInputStream in) throws IOException{
+		int size = in.readInt();
+		if(size < 0){
+			return null;
+		}
+		List<JavaField> fields = new ArrayList<>(size);
+		for(int i = 0; i < size; i++){
+			JavaField.JavaFieldBuilder field = JavaField.builder();
+			List<JavaAnnotation> annotations = readAnnotations(in);
+			if(annotations != null){
+				field.annotations(annotations);
+			}
+			fields.add(field
+					.visibility(readVisibility(in))
+					.isFinal(in.readBoolean())
+					.type(readString(in))
+					.name(readString(in))
+					.value(readString(in))
+					.generateGetter(in.readBoolean())
+					.generateSetter(in.readBoolean())
+					.build());
+		}
+		return fields;
+	}
+	
+	/**
+	 * @param in The stream to read from
+	 * @param hasAbstract Whether the format says whether each method is abstract
+	 * @return The {@link JavaMethod methods} read (may be null)
+	 * @throws IOException If reading fails
+	 */
+	private static List<JavaMethod> readMethods(DataInputStream in, boolean hasAbstract) throws IOException{
+		int size = in.readInt();
+		if(size < 0){
+			return null;
+		}
+		List<JavaMethod> methods = new ArrayList<>(size);
+		for(int i = 0; i < size; i++){
+			JavaMethod.JavaMethodBuilder method = JavaMethod.builder();
+			List<JavaAnnotation> annotations = readAnnotations(in);
+			if(annotations != null){
+				method.annotations(annotations);
+			}
+			method.visibility(readVisibility(in))
+					.isAbstract(hasAbstract && in.readBoolean())
+					.returnType(readString(in))
+					.name(readString(in));
+			// Older data may have -1 for no parameters
+			int parameterCount = in.readInt();
+			for(int j = 0; j < parameterCount; j++){
+				method.parameter(readString(in), readString(in));
+			}
+			List<String> throwTypes = readStrings(in);
+			if(throwTypes != null){
+				method.throwTypes(throwTypes);
+			}
+			List<String> lines = readStrings(in);
+			if(lines != null){
+				method.lines(lines);
+			}
+			methods.add(method.build());
+		}
+		return methods;
+	}
+}
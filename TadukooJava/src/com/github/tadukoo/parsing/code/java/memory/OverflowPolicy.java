@@ -0,0 +1,15 @@
+package com.github.tadukoo.parsing.code.java.memory;
+
+/**
+ * Overflow Policy is what a {@link BudgetedModelStore} does with a model that would take it over its heap budget
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public enum OverflowPolicy{
+	/** The model isn't added, and {@link BudgetedModelStore#add} returns false */
+	REFUSE,
+	/** The model is encoded and written to a spill file, to be read back when it's needed */
+	SPILL
+}
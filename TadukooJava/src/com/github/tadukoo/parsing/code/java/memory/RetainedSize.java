@@ -0,0 +1,120 @@
+package com.github.tadukoo.parsing.code.java.memory;
+
+import com.github.tadukoo.util.tuple.Pair;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Retained Size has the pieces the models use to estimate how many bytes of heap they retain, assuming a 64-bit JVM
+ * with compressed object pointers (the default for heaps under 32 GB) and compact strings. Each object is counted
+ * as if nothing else refers to it, so strings and members shared between models are counted for each of them, and
+ * the estimate errs on the high side.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class RetainedSize{
+	/** The number of bytes in the header of an object */
+	public static final int OBJECT_HEADER = 12;
+	/** The number of bytes in the header of an array (including its length) */
+	public static final int ARRAY_HEADER = 16;
+	/** The number of bytes in a reference */
+	public static final int REFERENCE = 4;
+	/** The number of bytes objects are aligned to */
+	public static final int ALIGNMENT = 8;
+	
+	/** The number of bytes in a String object, without its array */
+	private static final long STRING = shallow(1, 5);
+	/** The number of bytes in an ArrayList object, without its array */
+	private static final long ARRAY_LIST = shallow(1, 8);
+	/** The number of bytes in a Pair object, without what it holds */
+	private static final long PAIR = shallow(2, 0);
+	
+	// Not allowed to create Retained Size
+	private RetainedSize(){ }
+	
+	/**
+	 * @param size A number of bytes
+	 * @return The number of bytes rounded up to the {@link #ALIGNMENT}
+	 */
+	public static long align(long size){
+		return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+	}
+	
+	/**
+	 * @param references The number of references in the object
+	 * @param primitiveBytes The number of bytes of primitives in the object
+	 * @return The number of bytes the object itself takes
+	 */
+	public static long shallow(int references, int primitiveBytes){
+		return align(OBJECT_HEADER + (long) references * REFERENCE + primitiveBytes);
+	}
+	
+	/**
+	 * @param string The String to estimate (may be null)
+	 * @return The number of bytes the String retains
+	 */
+	public static long of(String string){
+		if(string == null){
+			return 0;
+		}
+		int length = string.length();
+		boolean latin1 = true;
+		for(int i = 0; i < length && latin1; i++){
+			latin1 = string.charAt(i) <= 0xFF;
+		}
+		return STRING + align(ARRAY_HEADER + (latin1?length:2L * length));
+	}
+	
+	/**
+	 * @param strings The Strings to estimate (may be null)
+	 * @return The number of bytes the list and its Strings retain
+	 */
+	public static long ofStrings(List<String> strings){
+		return of(strings, RetainedSize::of);
+	}
+	
+	/**
+	 * @param strings The array of Strings to estimate (may be null)
+	 * @return The number of bytes the array and its Strings retain
+	 */
+	public static long ofStringArray(String[] strings){
+		if(strings == null){
+			return 0;
+		}
+		long size = align(ARRAY_HEADER + (long) strings.length * REFERENCE);
+		for(String string: strings){
+			size += of(string);
+		}
+		return size;
+	}
+	
+	/**
+	 * @param pairs The Pairs of Strings to estimate (may be null)
+	 * @return The number of bytes the list, its Pairs, and their Strings retain
+	 */
+	public static long ofPairs(List<Pair<String, String>> pairs){
+		return of(pairs, pair -> PAIR + of(pair.getLeft()) + of(pair.getRight()));
+	}
+	
+	/**
+	 * @param list The list to estimate (may be null)
+	 * @param elementSize Estimates the number of bytes each (non-null) element retains
+	 * @param <T> The type of elements in the list
+	 * @return The number of bytes the list and its elements retain
+	 */
+	public static <T> long of(List<T> list, ToLongFunction<T> elementSize){
+		if(list == null){
+			return 0;
+		}
+		long size = ARRAY_LIST + align(ARRAY_HEADER + (long) list.size() * REFERENCE);
+		for(T element: list){
+			if(element != null){
+				size += elementSize.applyAsLong(element);
+			}
+		}
+		return size;
+	}
+}
@@ -0,0 +1,194 @@
+package com.github.tadukoo.parsing.code.java.metrics;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Aggregating Metrics Listener is a ready-made {@link JavaMetricsListener} that records everything it's told into
+ * {@link ConcurrentHistogram}s, which can be polled at any time (e.g. by a monitoring system). It keeps the
+ * following histograms:
+ * <ul>
+ *     <li>Build durations (in nanoseconds) for each {@link JavaModelType}</li>
+ *     <li>Render durations (in nanoseconds) for each {@link JavaModelType}</li>
+ *     <li>Rendered characters for each {@link JavaModelType}</li>
+ *     <li>Fields, methods, and total members per rendered {@link JavaClass}</li>
+ *     <li>Parse durations (in nanoseconds), and members parsed per parse</li>
+ * </ul>
+ * The count of any histogram is the number of times the matching event happened.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class AggregatingMetricsListener implements JavaMetricsListener{
+	/** Build durations (in nanoseconds) for each {@link JavaModelType} */
+	private final Map<JavaModelType, ConcurrentHistogram> buildDurations = createHistograms();
+	/** Render durations (in nanoseconds) for each {@link JavaModelType} */
+	private final Map<JavaModelType, ConcurrentHistogram> renderDurations = createHistograms();
+	/** Rendered characters for each {@link JavaModelType} */
+	private final Map<JavaModelType, ConcurrentHistogram> renderedCharacters = createHistograms();
+	/** Fields per rendered {@link JavaClass} */
+	private final ConcurrentHistogram fieldsPerClass = new ConcurrentHistogram();
+	/** Methods per rendered {@link JavaClass} */
+	private final ConcurrentHistogram methodsPerClass = new ConcurrentHistogram();
+	/** Fields and methods per rendered {@link JavaClass} */
+	private final ConcurrentHistogram membersPerClass = new ConcurrentHistogram();
+	/** Parse durations (in nanoseconds) */
+	private final ConcurrentHistogram parseDurations = new ConcurrentHistogram();
+	/** Fields and methods parsed per parse */
+	private final ConcurrentHistogram membersPerParse = new ConcurrentHistogram();
+	
+	/**
+	 * @return A map with a new {@link ConcurrentHistogram} for each {@link JavaModelType}
+	 */
+	private static Map<JavaModelType, ConcurrentHistogram> createHistograms(){
+		Map<JavaModelType, ConcurrentHistogram> histograms = new EnumMap<>(JavaModelType.class);
+		for(JavaModelType type: JavaModelType.values()){
+			histograms.put(type, new ConcurrentHistogram());
+		}
+		return histograms;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void onModelBuilt(JavaModelType type, long durationNanos){
+		buildDurations.get(type).record(durationNanos);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void onFieldRendered(JavaField field, long durationNanos, int characters){
+		recordRender(JavaModelType.FIELD, durationNanos, characters);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void onMethodRendered(JavaMethod method, long durationNanos, int characters){
+		recordRender(JavaModelType.METHOD, durationNanos, characters);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void onClassRendered(JavaClass clazz, long durationNanos, int characters){
+		recordRender(JavaModelType.CLASS, durationNanos, characters);
+		int fieldCount = clazz.getFields() == null?0:clazz.getFields().size();
+		int methodCount = clazz.getMethods() == null?0:clazz.getMethods().size();
+		fieldsPerClass.record(fieldCount);
+		methodsPerClass.record(methodCount);
+		membersPerClass.record(fieldCount + methodCount);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void onClassParsed(JavaClass clazz, long durationNanos, int characters, int parsedMembers){
+		parseDurations.record(durationNanos);
+		membersPerParse.record(parsedMembers);
+	}
+	
+	/**
+	 * Records a rendering of the given type
+	 *
+	 * @param type The {@link JavaModelType type} of model that was rendered
+	 * @param durationNanos How long the rendering took, in nanoseconds
+	 * @param characters The number of characters that were rendered
+	 */
+	private void recordRender(JavaModelType type, long durationNanos, int characters){
+		renderDurations.get(type).record(durationNanos);
+		renderedCharacters.get(type).record(characters);
+	}
+	
+	/**
+	 * @param type The {@link JavaModelType type} of model to grab the histogram for
+	 * @return The build durations (in nanoseconds) for the given type
+	 */
+	public ConcurrentHistogram getBuildDurations(JavaModelType type){
+		return buildDurations.get(type);
+	}
+	
+	/**
+	 * @param type The {@link JavaModelType type} of model to grab the histogram for
+	 * @return The render durations (in nanoseconds) for the given type
+	 */
+	public ConcurrentHistogram getRenderDurations(JavaModelType type){
+		return renderDurations.get(type);
+	}
+	
+	/**
+	 * @param type The {@link JavaModelType type} of model to grab the histogram for
+	 * @return The rendered characters for the given type
+	 */
+	public ConcurrentHistogram getRenderedCharacters(JavaModelType type){
+		return renderedCharacters.get(type);
+	}
+	
+	/**
+	 * @return The number of fields per rendered {@link JavaClass}
+	 */
+	public ConcurrentHistogram getFieldsPerClass(){
+		return fieldsPerClass;
+	}
+	
+	/**
+	 * @return The number of methods per rendered {@link JavaClass}
+	 */
+	public ConcurrentHistogram getMethodsPerClass(){
+		return methodsPerClass;
+	}
+	
+	/**
+	 * @return The number of fields and methods per rendered {@link JavaClass}
+	 */
+	public ConcurrentHistogram getMembersPerClass(){
+		return membersPerClass;
+	}
+	
+	/**
+	 * @return The parse durations (in nanoseconds)
+	 */
+	public ConcurrentHistogram getParseDurations(){
+		return parseDurations;
+	}
+	
+	/**
+	 * @return The number of fields and methods parsed per parse (only the ones touched by the edits for a reparse)
+	 */
+	public ConcurrentHistogram getMembersPerParse(){
+		return membersPerParse;
+	}
+	
+	/**
+	 * @param type The {@link JavaModelType type} of model to count
+	 * @return The number of models of the given type that were built
+	 */
+	public long getBuildCount(JavaModelType type){
+		return buildDurations.get(type).getCount();
+	}
+	
+	/**
+	 * @param type The {@link JavaModelType type} of model to count
+	 * @return The number of models of the given type that were rendered
+	 */
+	public long getRenderCount(JavaModelType type){
+		return renderDurations.get(type).getCount();
+	}
+	
+	/**
+	 * Clears all recorded metrics
+	 */
+	public void reset(){
+		for(JavaModelType type: JavaModelType.values()){
+			buildDurations.get(type).reset();
+			renderDurations.get(type).reset();
+			renderedCharacters.get(type).reset();
+		}
+		fieldsPerClass.reset();
+		methodsPerClass.reset();
+		membersPerClass.reset();
+		parseDurations.reset();
+		membersPerParse.reset();
+	}
+}
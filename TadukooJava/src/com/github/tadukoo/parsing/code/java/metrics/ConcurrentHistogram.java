@@ -0,0 +1,136 @@
+package com.github.tadukoo.parsing.code.java.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent Histogram records non-negative values into power-of-two buckets using {@link LongAdder}s, so it can
+ * be updated from many threads without contention and polled at any time. Bucket 0 holds zeroes, and bucket
+ * {@code i} holds values from {@code 2^(i-1)} up to {@code 2^i - 1}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class ConcurrentHistogram{
+	/** The number of buckets - one for zero and one for each bit of a long */
+	public static final int BUCKET_COUNT = 64;
+	
+	/** The number of values in each bucket */
+	private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+	/** The number of recorded values */
+	private final LongAdder count = new LongAdder();
+	/** The sum of the recorded values */
+	private final LongAdder sum = new LongAdder();
+	/** The largest recorded value */
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+	
+	/**
+	 * Creates a new empty Concurrent Histogram
+	 */
+	public ConcurrentHistogram(){
+		for(int i = 0; i < BUCKET_COUNT; i++){
+			buckets[i] = new LongAdder();
+		}
+	}
+	
+	/**
+	 * @param value The value to find the bucket for
+	 * @return The index of the bucket the given value goes in
+	 */
+	static int bucketIndex(long value){
+		return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(value));
+	}
+	
+	/**
+	 * Records the given value (negative values are recorded as 0)
+	 *
+	 * @param value The value to record
+	 */
+	public void record(long value){
+		long safeValue = Math.max(0, value);
+		buckets[bucketIndex(safeValue)].increment();
+		count.increment();
+		sum.add(safeValue);
+		max.accumulate(safeValue);
+	}
+	
+	/**
+	 * @return The number of recorded values
+	 */
+	public long getCount(){
+		return count.sum();
+	}
+	
+	/**
+	 * @return The sum of the recorded values
+	 */
+	public long getSum(){
+		return sum.sum();
+	}
+	
+	/**
+	 * @return The largest recorded value
+	 */
+	public long getMax(){
+		return max.get();
+	}
+	
+	/**
+	 * @return The mean of the recorded values, or 0 if there are none
+	 */
+	public double getMean(){
+		long valueCount = getCount();
+		return valueCount == 0?0:(double) getSum() / valueCount;
+	}
+	
+	/**
+	 * @return The number of values in each bucket
+	 */
+	public long[] getBucketCounts(){
+		long[] counts = new long[BUCKET_COUNT];
+		for(int i = 0; i < BUCKET_COUNT; i++){
+			counts[i] = buckets[i].sum();
+		}
+		return counts;
+	}
+	
+	/**
+	 * Estimates the value at the given percentile, using the upper bound of the bucket it falls in
+	 *
+	 * @param percentile The percentile to find, between 0 and 100
+	 * @return An upper bound of the value at the given percentile, or 0 if there are no values
+	 */
+	public long getPercentileUpperBound(double percentile){
+		long[] counts = getBucketCounts();
+		long total = 0;
+		for(long bucketCount: counts){
+			total += bucketCount;
+		}
+		if(total == 0){
+			return 0;
+		}
+		
+		long target = (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100.0);
+		long seen = 0;
+		for(int i = 0; i < BUCKET_COUNT; i++){
+			seen += counts[i];
+			if(seen >= target && counts[i] != 0){
+				return Math.min(getMax(), i == 0?0:(i >= 63?Long.MAX_VALUE:(1L << i) - 1));
+			}
+		}
+		return getMax();
+	}
+	
+	/**
+	 * Clears all recorded values
+	 */
+	public void reset(){
+		for(LongAdder bucket: buckets){
+			bucket.reset();
+		}
+		count.reset();
+		sum.reset();
+		max.reset();
+	}
+}
@@ -0,0 +1,38 @@
+package com.github.tadukoo.parsing.code.java.metrics;
+
+/**
+ * Java Metrics holds the {@link JavaMetricsListener} that the models report to. By default there is no listener,
+ * and the models don't do any timing at all - they only read the listener and check it against null.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class JavaMetrics{
+	/** The installed listener, or null when metrics are disabled */
+	private static volatile JavaMetricsListener listener = null;
+	
+	// Not allowed to create Java Metrics
+	private JavaMetrics(){ }
+	
+	/**
+	 * @return The installed {@link JavaMetricsListener}, or null when metrics are disabled
+	 */
+	public static JavaMetricsListener getListener(){
+		return listener;
+	}
+	
+	/**
+	 * @param newListener The {@link JavaMetricsListener} to report to (may be null to disable metrics)
+	 */
+	public static void setListener(JavaMetricsListener newListener){
+		listener = newListener;
+	}
+	
+	/**
+	 * @return Whether a {@link JavaMetricsListener} is installed or not
+	 */
+	public static boolean isEnabled(){
+		return listener != null;
+	}
+}
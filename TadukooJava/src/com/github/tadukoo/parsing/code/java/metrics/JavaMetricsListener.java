@@ -0,0 +1,69 @@
+package com.github.tadukoo.parsing.code.java.metrics;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+
+/**
+ * Java Metrics Listener is notified when models are built, rendered, and parsed, so that callers can see where time goes
+ * inside the library. All methods default to doing nothing, so implementations only need to override what they
+ * care about. A listener is only called once it's been {@link JavaMetrics#setListener installed} - when none is
+ * installed, the models skip timing altogether.
+ * <br><br>
+ * Listeners are called on whichever thread built, rendered, or parsed the model, so implementations must be thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public interface JavaMetricsListener{
+	
+	/**
+	 * Called after a builder has validated its parameters and built a model
+	 *
+	 * @param type The {@link JavaModelType type} of model that was built
+	 * @param durationNanos How long the build took, in nanoseconds
+	 */
+	default void onModelBuilt(JavaModelType type, long durationNanos){ }
+	
+	/**
+	 * Called after a {@link JavaField} has been rendered
+	 *
+	 * @param field The {@link JavaField} that was rendered
+	 * @param durationNanos How long the rendering took, in nanoseconds
+	 * @param characters The number of characters that were rendered
+	 */
+	default void onFieldRendered(JavaField field, long durationNanos, int characters){ }
+	
+	/**
+	 * Called after a {@link JavaMethod} has been rendered
+	 *
+	 * @param method The {@link JavaMethod} that was rendered
+	 * @param durationNanos How long the rendering took, in nanoseconds
+	 * @param characters The number of characters that were rendered
+	 */
+	default void onMethodRendered(JavaMethod method, long durationNanos, int characters){ }
+	
+	/**
+	 * Called after a {@link JavaClass} has been rendered. The duration includes rendering the fields and methods
+	 * of the class, which are reported separately as well.
+	 *
+	 * @param clazz The {@link JavaClass} that was rendered
+	 * @param durationNanos How long the rendering took, in nanoseconds
+	 * @param characters The number of characters that were rendered
+	 */
+	default void onClassRendered(JavaClass clazz, long durationNanos, int characters){ }
+	
+	/**
+	 * Called after source has been {@link com.github.tadukoo.parsing.code.java.parser.JavaClassParser#parse parsed}
+	 * (or reparsed after edits) into a {@link JavaClass}. The duration includes building the models, which are
+	 * reported separately as well.
+	 *
+	 * @param clazz The {@link JavaClass} that was parsed
+	 * @param durationNanos How long the parsing took, in nanoseconds
+	 * @param characters The number of characters in the source
+	 * @param parsedMembers The number of fields and methods that were parsed (all of them for a full parse, only
+	 * the ones touched by the edits for a reparse)
+	 */
+	default void onClassParsed(JavaClass clazz, long durationNanos, int characters, int parsedMembers){ }
+}
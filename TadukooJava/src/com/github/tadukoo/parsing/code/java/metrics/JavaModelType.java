@@ -0,0 +1,21 @@
+package com.github.tadukoo.parsing.code.java.metrics;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+
+/**
+ * Java Model Type represents the kinds of models that report to a {@link JavaMetricsListener}
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public enum JavaModelType{
+	/** Used for {@link JavaField fields} */
+	FIELD,
+	/** Used for {@link JavaMethod methods} */
+	METHOD,
+	/** Used for {@link JavaClass classes} */
+	CLASS
+}
@@ -0,0 +1,616 @@
+package com.github.tadukoo.parsing.code.java.parser;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.Visibility;
+import com.github.tadukoo.parsing.code.java.jfr.ClassParseEvent;
+import com.github.tadukoo.parsing.code.java.metrics.JavaMetrics;
+import com.github.tadukoo.parsing.code.java.metrics.JavaMetricsListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Java Class Parser reads Java source into a {@link JavaClass}. It understands the parts of Java that a
+ * {@link JavaClass} can hold: a package, imports and static imports, annotations, a (possibly abstract) class with
+ * an optional super class, fields (with visibility, final, and a value), and methods and constructors (with
+ * parameters, throw types, and the lines of their bodies, or no body if they're abstract). Comments between tokens are skipped. Anything else (like other modifiers
+ * or interfaces) can't be represented in the model and is reported as an error.
+ * <br><br>
+ * After a source file is edited, {@link #reparse(ParsedJavaClass, List)} parses only the members the edits touch,
+ * reusing every other {@link JavaField} and {@link JavaMethod} as-is, so the work done depends on the size of the
+ * edit rather than the size of the file.
+ * <br><br>
+ * Both report to the {@link JavaMetrics#getListener() metrics listener} and Flight Recorder (as a
+ * {@link ClassParseEvent}) if enabled, with how many members were actually parsed.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class JavaClassParser{
+	/** An empty array of members, used when a class has no fields or methods */
+	private static final Object[] NO_MEMBERS = new Object[0];
+	/** Modifiers that can't be represented in the model */
+	private static final Set<String> UNSUPPORTED_MODIFIERS = new HashSet<>(Arrays.asList(
+			"static", "synchronized", "native", "transient", "volatile", "strictfp", "default",
+			"sealed"));
+	
+	// Not allowed to create a Java Class Parser
+	private JavaClassParser(){ }
+	
+	/**
+	 * Parses the given source into a {@link JavaClass}
+	 *
+	 * @param source The Java source to parse
+	 * @return The {@link ParsedJavaClass} with the {@link JavaClass} and where its members were found
+	 * @throws IllegalArgumentException if the source can't be parsed, with the line and column of the problem
+	 */
+	public static ParsedJavaClass parse(String source){
+		JavaMetricsListener listener = JavaMetrics.getListener();
+		long start = listener != null?System.nanoTime():0L;
+		ClassParseEvent event = new ClassParseEvent();
+		event.begin();
+		
+		ParsedJavaClass parsed = parseSource(source);
+		return report(parsed, parsed.getMemberCount(), event, listener, start);
+	}
+	
+	/**
+	 * Parses the given source into a {@link JavaClass}, without reporting it
+	 *
+	 * @param source The Java source to parse
+	 * @return The {@link ParsedJavaClass} with the {@link JavaClass} and where its members were found
+	 * @throws IllegalArgumentException if the source can't be parsed, with the line and column of the problem
+	 */
+	private static ParsedJavaClass parseSource(String source){
+		JavaSourceScanner scanner = new JavaSourceScanner(source, 0, source.length());
+		JavaClass.JavaClassBuilder builder = JavaClass.builder();
+		
+		// Package Declaration
+		if(!scanner.acceptWord("package")){
+			throw scanner.error("Expected package declaration");
+		}
+		builder.packageName(scanner.qualifiedName("package name", false));
+		scanner.expect(';');
+		
+		// Import Statements
+		while(scanner.acceptWord("import")){
+			if(scanner.acceptWord("static")){
+				builder.staticImport(scanner.qualifiedName("static import", true));
+			}else{
+				builder.singleImport(scanner.qualifiedName("import", true));
+			}
+			scanner.expect(';');
+		}
+		
+		// Class Declaration
+		scanner.skipTrivia();
+		int classStart = scanner.getIndex();
+		builder.annotations(annotations(scanner));
+		boolean isAbstract = scanner.acceptWord("abstract");
+		builder.visibility(visibility(scanner));
+		isAbstract = abstractModifier(scanner, isAbstract);
+		builder.isAbstract(isAbstract);
+		if("final".equals(scanner.peekWord())){
+			throw scanner.error("Unsupported modifier 'final'");
+		}
+		if(!scanner.acceptWord("class")){
+			throw scanner.error("Expected class declaration");
+		}
+		builder.className(scanner.identifier("class name"));
+		if(scanner.acceptWord("extends")){
+			builder.superClassName(scanner.type("super class"));
+		}
+		scanner.expect('{');
+		int bodyStart = scanner.getIndex();
+		
+		// Fields and methods (the class is node 0 in the positions, so it goes first)
+		List<Object> members = new ArrayList<>();
+		List<Integer> starts = new ArrayList<>();
+		List<Integer> ends = new ArrayList<>();
+		starts.add(classStart);
+		ends.add(0);
+		while(scanner.peek() != '}'){
+			if(scanner.atEnd()){
+				throw scanner.error("Expected '}'");
+			}
+			starts.add(scanner.getIndex());
+			members.add(member(scanner, source, isAbstract));
+			ends.add(scanner.getIndex());
+		}
+		int bodyEnd = scanner.getIndex();
+		scanner.expect('}');
+		ends.set(SourcePositionTable.CLASS_NODE, scanner.getIndex());
+		if(!scanner.atEnd()){
+			throw scanner.error("Unexpected text after class");
+		}
+		
+		Object[] memberArray = members.toArray();
+		return new ParsedJavaClass(source, buildClass(builder, memberArray), bodyStart, bodyEnd,
+				memberArray, new SourcePositionTable(source, toIntArray(starts), toIntArray(ends)));
+	}
+	
+	/**
+	 * Applies the given edits to the source of a previous parse and parses the result. Only the members the edits
+	 * touch (and any new members the edits add between them) are parsed again - every other {@link JavaField} and
+	 * {@link JavaMethod} is reused by reference, with its position shifted past the edits. If an edit opens a comment
+	 * or literal that runs on past the members it touches, the members it runs into are parsed again too, so the
+	 * result is always the same as parsing the edited source from scratch. Edits to the package, imports, or class
+	 * declaration fall back to parsing the whole source.
+	 *
+	 * @param previous The previous {@link ParsedJavaClass} for the source
+	 * @param edits The {@link TextEdit edits} made to the previous source - their offsets are all in the previous
+	 * source, and they must not overlap
+	 * @return A new {@link ParsedJavaClass} for the edited source
+	 * @throws IllegalArgumentException if the edits are invalid or the edited source can't be parsed
+	 */
+	public static ParsedJavaClass reparse(ParsedJavaClass previous, List<TextEdit> edits){
+		if(edits.isEmpty()){
+			return previous;
+		}
+		JavaMetricsListener listener = JavaMetrics.getListener();
+		long start = listener != null?System.nanoTime():0L;
+		ClassParseEvent event = new ClassParseEvent();
+		event.begin();
+		String oldSource = previous.getSource();
+		
+		// Sort the edits and make sure they fit in the old source
+		TextEdit[] sorted = edits.toArray(new TextEdit[0]);
+		Arrays.sort(sorted, Comparator.comparingInt(TextEdit::getOffset));
+		int delta = 0;
+		int lastEnd = 0;
+		for(TextEdit edit: sorted){
+			if(edit.getOffset() < lastEnd || edit.getEnd() > oldSource.length()){
+				throw new IllegalArgumentException("Edits must be within the source and must not overlap!");
+			}
+			lastEnd = edit.getEnd();
+			delta += edit.getDelta();
+		}
+		
+		// Apply the edits
+		StringBuilder newSource = new StringBuilder(oldSource.length() + Math.max(delta, 0));
+		int copied = 0;
+		for(TextEdit edit: sorted){
+			newSource.append(oldSource, copied, edit.getOffset()).append(edit.getReplacement());
+			copied = edit.getEnd();
+		}
+		newSource.append(oldSource, copied, oldSource.length());
+		String source = newSource.toString();
+		
+		// Anything outside the class body changes the class itself, so parse it all again
+		int damageStart = sorted[0].getOffset();
+		int damageEnd = sorted[sorted.length - 1].getEnd();
+		if(damageStart < previous.getBodyStart() || damageEnd > previous.getBodyEnd()){
+			ParsedJavaClass reparsed = parseSource(source);
+			return report(reparsed, reparsed.getMemberCount(), event, listener, start);
+		}
+		
+		// Find the members touched by the edits - the region to parse runs between the untouched ones around them.
+		// Members are nodes 1 and up in the positions, with the class as node 0.
+		Object[] oldMembers = previous.members();
+		int[] oldStarts = previous.getPositions().starts();
+		int[] oldEnds = previous.getPositions().ends();
+		int first = firstEndingAtOrAfter(oldEnds, damageStart);
+		// A member's body lines are unindented by the indentation before it, so edits to that count as touching it
+		int indentationEnd = damageEnd;
+		while(indentationEnd < oldSource.length() &&
+				(oldSource.charAt(indentationEnd) == ' ' || oldSource.charAt(indentationEnd) == '\t')){
+			indentationEnd++;
+		}
+		int last = lastStartingAtOrBefore(oldStarts, indentationEnd);
+		int regionStart = first > 1?oldEnds[first - 1]:previous.getBodyStart();
+		
+		// Parse the region
+		List<Object> parsed = new ArrayList<>();
+		List<Integer> parsedStarts = new ArrayList<>();
+		List<Integer> parsedEnds = new ArrayList<>();
+		while(true){
+			int regionEnd = (last + 1 < oldStarts.length?oldStarts[last + 1]:previous.getBodyEnd()) + delta;
+			JavaSourceScanner scanner = new JavaSourceScanner(source, regionStart, regionEnd);
+			try{
+				while(!scanner.atEnd()){
+					parsedStarts.add(scanner.getIndex());
+					Object member = member(scanner, source, previous.getJavaClass().isAbstract());
+					// Keep the old instance if the member didn't actually change (e.g. only whitespace was edited)
+					int oldNode = first + parsed.size();
+					if(oldNode <= last && member.equals(oldMembers[oldNode - 1])){
+						member = oldMembers[oldNode - 1];
+					}
+					parsed.add(member);
+					parsedEnds.add(scanner.getIndex());
+				}
+				break;
+			}catch(IllegalArgumentException e){
+				// An edit that opens a comment or literal (or extends one past a line break) runs into the members
+				// after the region, so take in the members up to where it ends and parse again. If it never ends
+				// (or the source is just wrong), let a full parse decide.
+				int cutOffEnd = scanner.getCutOffEnd();
+				if(cutOffEnd == -1 || last + 1 == oldStarts.length){
+					ParsedJavaClass reparsed = parseSource(source);
+					return report(reparsed, reparsed.getMemberCount(), event, listener, start);
+				}
+				last = Math.max(last + 1, lastStartingAtOrBefore(oldStarts, cutOffEnd - delta));
+				parsed.clear();
+				parsedStarts.clear();
+				parsedEnds.clear();
+			}
+		}
+		
+		// Splice the parsed members in between the untouched ones
+		int after = oldStarts.length - last - 1;
+		int nodes = first + parsed.size() + after;
+		Object[] members = nodes == 1?NO_MEMBERS:new Object[nodes - 1];
+		int[] starts = new int[nodes];
+		int[] ends = new int[nodes];
+		System.arraycopy(oldMembers, 0, members, 0, first - 1);
+		System.arraycopy(oldStarts, 0, starts, 0, first);
+		System.arraycopy(oldEnds, 0, ends, 0, first);
+		ends[SourcePositionTable.CLASS_NODE] += delta;
+		for(int i = 0; i < parsed.size(); i++){
+			members[first - 1 + i] = parsed.get(i);
+			starts[first + i] = parsedStarts.get(i);
+			ends[first + i] = parsedEnds.get(i);
+		}
+		int node = first + parsed.size();
+		System.arraycopy(oldMembers, last, members, node - 1, after);
+		for(int i = 0; i < after; i++){
+			starts[node + i] = oldStarts[last + 1 + i] + delta;
+			ends[node + i] = oldEnds[last + 1 + i] + delta;
+		}
+		
+		JavaClass oldClass = previous.getJavaClass();
+		JavaClass.JavaClassBuilder builder = JavaClass.builder()
+				.packageName(oldClass.getPackageName())
+				.imports(oldClass.getImports())
+				.staticImports(oldClass.getStaticImports())
+				.annotations(oldClass.getAnnotations())
+				.visibility(oldClass.getVisibility())
+				.isAbstract(oldClass.isAbstract())
+				.className(oldClass.getClassName())
+				.superClassName(oldClass.getSuperClassName());
+		return report(new ParsedJavaClass(source, buildClass(builder, members), previous.getBodyStart(),
+				previous.getBodyEnd() + delta, members, new SourcePositionTable(source, starts, ends)),
+				parsed.size(), event, listener, start);
+	}
+	
+	/**
+	 * Reports a finished parse to Flight Recorder and the {@link JavaMetrics#getListener() metrics listener}
+	 *
+	 * @param parsed The {@link ParsedJavaClass} that was parsed
+	 * @param parsedMembers The number of members that were actually parsed
+	 * @param event The {@link ClassParseEvent} begun when the parse started
+	 * @param listener The {@link JavaMetricsListener} installed when the parse started (may be null)
+	 * @param start When the parse started, from {@link System#nanoTime()} (only if there's a listener)
+	 * @return The parsed class, to be returned
+	 */
+	private static ParsedJavaClass report(
+			ParsedJavaClass parsed, int parsedMembers, ClassParseEvent event, JavaMetricsListener listener,
+			long start){
+		JavaClass javaClass = parsed.getJavaClass();
+		int characters = parsed.getSource().length();
+		if(event.shouldCommit()){
+			event.setClassName(javaClass.getPackageName() + "." + javaClass.getClassName());
+			event.setSourceSize(characters);
+			event.setMemberCount(parsed.getMemberCount());
+			event.setParsedMemberCount(parsedMembers);
+			event.commit();
+		}
+		if(listener != null){
+			listener.onClassParsed(javaClass, System.nanoTime() - start, characters, parsedMembers);
+		}
+		return parsed;
+	}
+	
+	/**
+	 * Parses a single field or method, leaving the scanner just after its semicolon or closing brace
+	 *
+	 * @param scanner The {@link JavaSourceScanner} at the start of the member
+	 * @param source The whole source (used to find the indentation of method bodies)
+	 * @param classIsAbstract Whether the class the member is in is abstract (and so can have abstract methods)
+	 * @return The parsed {@link JavaField} or {@link JavaMethod}
+	 */
+	private static Object member(JavaSourceScanner scanner, String source, boolean classIsAbstract){
+		scanner.skipTrivia();
+		int start = scanner.getIndex();
+		List<JavaAnnotation> annotations = annotations(scanner);
+		scanner.skipTrivia();
+		int abstractStart = scanner.getIndex();
+		boolean isAbstract = scanner.acceptWord("abstract");
+		Visibility visibility = visibility(scanner);
+		if(!isAbstract){
+			scanner.skipTrivia();
+			abstractStart = scanner.getIndex();
+		}
+		isAbstract = abstractModifier(scanner, isAbstract);
+		if(isAbstract){
+			if(!classIsAbstract){
+				throw scanner.error("Only abstract classes can have abstract methods", abstractStart);
+			}
+			if(visibility == Visibility.PRIVATE){
+				throw scanner.error("Abstract methods can't be private", abstractStart);
+			}
+		}
+		boolean isFinal = !isAbstract && scanner.acceptWord("final");
+		if(isFinal){
+			rejectModifiers(scanner);
+		}
+		String type = scanner.type("type");
+		
+		// Constructors go straight to the parameters
+		String name = null;
+		if(scanner.peek() != '('){
+			name = scanner.identifier("name");
+		}
+		
+		// Fields
+		if(scanner.peek() != '('){
+			if(name == null){
+				throw scanner.error("Expected name");
+			}
+			if(isAbstract){
+				throw scanner.error("Fields can't be abstract", abstractStart);
+			}
+			String value = null;
+			if(scanner.accept('=')){
+				scanner.skipTrivia();
+				int valueStart = scanner.getIndex();
+				int valueEnd = scanner.skipToSemicolon();
+				value = source.substring(valueStart, valueEnd).trim();
+			}else{
+				scanner.expect(';');
+			}
+			return JavaField.builder()
+					.annotations(annotations)
+					.visibility(visibility)
+					.isFinal(isFinal)
+					.type(type)
+					.name(name)
+					.value(value)
+					.build();
+		}
+		if(isFinal){
+			throw scanner.error("Unsupported modifier 'final' on method");
+		}
+		
+		// Methods
+		if(isAbstract && name == null){
+			throw scanner.error("Constructors can't be abstract", abstractStart);
+		}
+		JavaMethod.JavaMethodBuilder method = JavaMethod.builder()
+				.annotations(annotations)
+				.visibility(visibility)
+				.isAbstract(isAbstract)
+				.returnType(type)
+				.name(name);
+		scanner.expect('(');
+		if(!scanner.accept(')')){
+			do{
+				String parameterType = scanner.type("parameter type");
+				method.parameter(parameterType, scanner.identifier("parameter name"));
+			}while(scanner.accept(','));
+			scanner.expect(')');
+		}
+		if(scanner.acceptWord("throws")){
+			do{
+				method.throwType(scanner.type("throw type"));
+			}while(scanner.accept(','));
+		}
+		if(isAbstract){
+			scanner.expect(';');
+			return method.build();
+		}
+		scanner.expect('{');
+		int bodyStart = scanner.getIndex();
+		int bodyEnd = scanner.skipBalanced('{', '}');
+		return method.lines(bodyLines(source, start, bodyStart, bodyEnd)).build();
+	}
+	
+	/**
+	 * Splits a method body into its lines, removing the indentation of the method and one more level (a tab or
+	 * up to 4 spaces), so that re-rendering the method indents them the same way again
+	 *
+	 * @param source The whole source
+	 * @param memberStart The offset where the method starts
+	 * @param bodyStart The offset just after the opening brace of the body
+	 * @param bodyEnd The offset of the closing brace of the body
+	 * @return The lines of the body
+	 */
+	private static List<String> bodyLines(String source, int memberStart, int bodyStart, int bodyEnd){
+		List<String> lines = new ArrayList<>();
+		String body = source.substring(bodyStart, bodyEnd);
+		if(body.indexOf('\n') == -1){
+			// Single-line body, like {return x;}
+			if(!body.trim().isEmpty()){
+				lines.add(body.trim());
+			}
+			return lines;
+		}
+		
+		String indent = indentation(source, memberStart);
+		String[] rawLines = body.split("\n", -1);
+		// The first line is the rest of the line with the opening brace, and the last is the indentation before
+		// the closing brace, so they're only kept if there's code on them
+		int from = rawLines[0].trim().isEmpty()?1:0;
+		int to = rawLines[rawLines.length - 1].trim().isEmpty()?rawLines.length - 1:rawLines.length;
+		for(int i = from; i < to; i++){
+			String line = rawLines[i];
+			if(line.endsWith("\r")){
+				line = line.substring(0, line.length() - 1);
+			}
+			if(i == 0){
+				lines.add(line.trim());
+				continue;
+			}
+			if(line.startsWith(indent)){
+				line = line.substring(indent.length());
+			}
+			if(line.startsWith("\t")){
+				line = line.substring(1);
+			}else{
+				int spaces = 0;
+				while(spaces < 4 && spaces < line.length() && line.charAt(spaces) == ' '){
+					spaces++;
+				}
+				line = line.substring(spaces);
+			}
+			lines.add(line);
+		}
+		return lines;
+	}
+	
+	/**
+	 * @param source The source
+	 * @param offset The offset of the first token on a line
+	 * @return The whitespace before the given offset on its line
+	 */
+	static String indentation(String source, int offset){
+		int lineStart = offset;
+		while(lineStart > 0 && source.charAt(lineStart - 1) != '\n' &&
+				Character.isWhitespace(source.charAt(lineStart - 1))){
+			lineStart--;
+		}
+		return source.substring(lineStart, offset);
+	}
+	
+	/**
+	 * @param scanner The {@link JavaSourceScanner} to read from
+	 * @return The {@link JavaAnnotation annotations} at the current offset (possibly none)
+	 */
+	private static List<JavaAnnotation> annotations(JavaSourceScanner scanner){
+		List<JavaAnnotation> annotations = new ArrayList<>();
+		while(scanner.accept('@')){
+			annotations.add(JavaAnnotation.builder().name(scanner.annotationName()).build());
+		}
+		return annotations;
+	}
+	
+	/**
+	 * Reads the visibility modifier (if any) and makes sure no modifiers the model can't hold come with it
+	 *
+	 * @param scanner The {@link JavaSourceScanner} to read from
+	 * @return The {@link Visibility} at the current offset ({@link Visibility#NONE} if there isn't one)
+	 */
+	private static Visibility visibility(JavaSourceScanner scanner){
+		rejectModifiers(scanner);
+		Visibility visibility = Visibility.NONE;
+		String word = scanner.peekWord();
+		Visibility found = word != null?Visibility.fromText(word):null;
+		if(found != null && found != Visibility.NONE){
+			scanner.acceptWord(word);
+			visibility = found;
+		}
+		rejectModifiers(scanner);
+		return visibility;
+	}
+	
+	/**
+	 * Reads the abstract modifier after the visibility (if it wasn't before it) and makes sure no modifiers the model
+	 * can't hold come after it
+	 *
+	 * @param scanner The {@link JavaSourceScanner} to read from
+	 * @param isAbstract Whether the abstract modifier was already found before the visibility
+	 * @return Whether the class or member is abstract
+	 */
+	private static boolean abstractModifier(JavaSourceScanner scanner, boolean isAbstract){
+		if(!isAbstract){
+			isAbstract = scanner.acceptWord("abstract");
+		}
+		if(isAbstract){
+			rejectModifiers(scanner);
+			if("final".equals(scanner.peekWord())){
+				throw scanner.error("Unsupported modifier 'final' with 'abstract'");
+			}
+		}
+		return isAbstract;
+	}
+	
+	/**
+	 * @param scanner The {@link JavaSourceScanner} to check
+	 * @throws IllegalArgumentException if the next word is a modifier that can't be represented in the model
+	 */
+	private static void rejectModifiers(JavaSourceScanner scanner){
+		String word = scanner.peekWord();
+		if(word != null && UNSUPPORTED_MODIFIERS.contains(word)){
+			throw scanner.error("Unsupported modifier '" + word + "'");
+		}
+	}
+	
+	/**
+	 * @param builder The {@link JavaClass.JavaClassBuilder} with the class declaration already set
+	 * @param members The {@link JavaField fields} and {@link JavaMethod methods} in source order
+	 * @return The built {@link JavaClass}
+	 */
+	private static JavaClass buildClass(JavaClass.JavaClassBuilder builder, Object[] members){
+		List<JavaField> fields = new ArrayList<>();
+		List<JavaMethod> methods = new ArrayList<>();
+		for(Object member: members){
+			if(member instanceof JavaField){
+				fields.add((JavaField) member);
+			}else{
+				methods.add((JavaMethod) member);
+			}
+		}
+		return builder.fields(fields).methods(methods).build();
+	}
+	
+	/**
+	 * Finds the first member that ends at or after the given offset
+	 *
+	 * @param ends The offsets just after each node ends (the class, then the members in order)
+	 * @param offset The offset to look for
+	 * @return The node of the first member ending at or after the offset (the number of nodes if none do)
+	 */
+	private static int firstEndingAtOrAfter(int[] ends, int offset){
+		int low = 1;
+		int high = ends.length;
+		while(low < high){
+			int mid = (low + high) >>> 1;
+			if(ends[mid] < offset){
+				low = mid + 1;
+			}else{
+				high = mid;
+			}
+		}
+		return low;
+	}
+	
+	/**
+	 * Finds the last member that starts at or before the given offset
+	 *
+	 * @param starts The offsets where each node starts (the class, then the members in order)
+	 * @param offset The offset to look for
+	 * @return The node of the last member starting at or before the offset (0 if none do)
+	 */
+	private static int lastStartingAtOrBefore(int[] starts, int offset){
+		int low = 1;
+		int high = starts.length;
+		while(low < high){
+			int mid = (low + high) >>> 1;
+			if(starts[mid] <= offset){
+				low = mid + 1;
+			}else{
+				high = mid;
+			}
+		}
+		return low - 1;
+	}
+	
+	/**
+	 * @param values The values to convert
+	 * @return An int array of the given values
+	 */
+	private static int[] toIntArray(List<Integer> values){
+		int[] array = new int[values.size()];
+		for(int i = 0; i < array.length; i++){
+			array[i] = values.get(i);
+		}
+		return array;
+	}
+}
@@ -0,0 +1,375 @@
+package com.github.tadukoo.parsing.code.java.parser;
+
+/**
+ * Java Source Scanner walks through a range of Java source, reading the tokens the {@link JavaClassParser} needs:
+ * identifiers, qualified names, types, and balanced blocks. Whitespace and comments are skipped between tokens, and
+ * string and character literals are skipped over as a whole inside blocks and values, so braces in them aren't
+ * counted.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+final class JavaSourceScanner{
+	/** The source being scanned */
+	private final String text;
+	/** The offset to stop scanning at */
+	private final int limit;
+	/** The current offset */
+	private int index;
+	/** Where the comment or literal that ran past the limit ends (-1 if none has, or if it never ends) */
+	private int cutOffEnd = -1;
+	
+	/**
+	 * Constructs a new Java Source Scanner over the given range of the source
+	 *
+	 * @param text The source being scanned
+	 * @param start The offset to start scanning at
+	 * @param limit The offset to stop scanning at
+	 */
+	JavaSourceScanner(String text, int start, int limit){
+		this.text = text;
+		this.index = start;
+		this.limit = limit;
+	}
+	
+	/**
+	 * @return The current offset
+	 */
+	int getIndex(){
+		return index;
+	}
+	
+	/**
+	 * @return Where the comment or literal that ran past the limit ends, or -1 if none has (or if it never ends).
+	 * Scanning stops with an error when this happens, since the rest of the range is part of the comment or literal.
+	 */
+	int getCutOffEnd(){
+		return cutOffEnd;
+	}
+	
+	/**
+	 * Skips any whitespace and comments at the current offset
+	 *
+	 * @throws IllegalArgumentException if a comment runs past the limit
+	 */
+	void skipTrivia(){
+		while(index < limit){
+			char c = text.charAt(index);
+			if(Character.isWhitespace(c)){
+				index++;
+			}else if(c == '/' && index + 1 < limit && text.charAt(index + 1) == '/'){
+				int end = text.indexOf('\n', index);
+				if(end == -1){
+					end = text.length();
+				}
+				if(end > limit){
+					cutOffEnd = end;
+					throw error("Unterminated comment");
+				}
+				index = end;
+			}else if(c == '/' && index + 1 < limit && text.charAt(index + 1) == '*'){
+				int end = text.indexOf("*/", index + 2);
+				if(end == -1 || end + 2 > limit){
+					cutOffEnd = end == -1?-1:end + 2;
+					throw error("Unterminated comment");
+				}
+				index = end + 2;
+			}else{
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * @return true if there's nothing but whitespace and comments left
+	 */
+	boolean atEnd(){
+		skipTrivia();
+		return index >= limit;
+	}
+	
+	/**
+	 * @return The next character after any whitespace and comments, or 0 if there's nothing left
+	 */
+	char peek(){
+		skipTrivia();
+		return index < limit?text.charAt(index):0;
+	}
+	
+	/**
+	 * @param c The character to look for
+	 * @return true (and moves past it) if the next character is the given one - otherwise the scanner isn't moved
+	 */
+	boolean accept(char c){
+		int save = index;
+		if(peek() == c && index < limit){
+			index++;
+			return true;
+		}
+		index = save;
+		return false;
+	}
+	
+	/**
+	 * @param c The character that must be next
+	 * @throws IllegalArgumentException if the next character isn't the given one
+	 */
+	void expect(char c){
+		if(!accept(c)){
+			throw error("Expected '" + c + "'");
+		}
+	}
+	
+	/**
+	 * @return The identifier or keyword at the current offset (without moving past it), or null if there isn't one
+	 */
+	String peekWord(){
+		skipTrivia();
+		int end = wordEnd(index);
+		return end == index?null:text.substring(index, end);
+	}
+	
+	/**
+	 * @param word The keyword to look for
+	 * @return true (and moves past it) if the next word is the given one - otherwise the scanner isn't moved
+	 */
+	boolean acceptWord(String word){
+		int save = index;
+		skipTrivia();
+		if(text.startsWith(word, index) && wordEnd(index) == index + word.length()){
+			index += word.length();
+			return true;
+		}
+		index = save;
+		return false;
+	}
+	
+	/**
+	 * @param what What the identifier is for (used in error messages)
+	 * @return The identifier at the current offset
+	 * @throws IllegalArgumentException if there's no identifier at the current offset
+	 */
+	String identifier(String what){
+		skipTrivia();
+		int end = wordEnd(index);
+		if(end == index){
+			throw error("Expected " + what);
+		}
+		String identifier = text.substring(index, end);
+		index = end;
+		return identifier;
+	}
+	
+	/**
+	 * @param what What the name is for (used in error messages)
+	 * @param allowStar Whether the name can end in .* (for on-demand imports)
+	 * @return The qualified name at the current offset, with any whitespace or comments inside it removed
+	 * @throws IllegalArgumentException if there's no qualified name at the current offset
+	 */
+	String qualifiedName(String what, boolean allowStar){
+		StringBuilder name = new StringBuilder(identifier(what));
+		while(accept('.')){
+			name.append('.');
+			if(allowStar && accept('*')){
+				name.append('*');
+				break;
+			}
+			name.append(identifier(what));
+		}
+		return name.toString();
+	}
+	
+	/**
+	 * Reads a type, including any type arguments, array brackets, and a trailing ... for varargs
+	 *
+	 * @param what What the type is for (used in error messages)
+	 * @return The type at the current offset, as written in the source
+	 * @throws IllegalArgumentException if there's no type at the current offset
+	 */
+	String type(String what){
+		skipTrivia();
+		int start = index;
+		identifier(what);
+		while(true){
+			int save = index;
+			if(accept('<')){
+				skipBalanced('<', '>');
+			}else if(accept('.')){
+				if(text.startsWith("..", index)){
+					index = save;
+					break;
+				}
+				identifier(what);
+			}else{
+				break;
+			}
+		}
+		while(accept('[')){
+			expect(']');
+		}
+		int end = index;
+		skipTrivia();
+		if(text.startsWith("...", index)){
+			index += 3;
+		}else{
+			index = end;
+		}
+		return text.substring(start, index);
+	}
+	
+	/**
+	 * Reads the name of an annotation (after the @), including any arguments in parentheses
+	 *
+	 * @return The name of the annotation, with its arguments as written in the source
+	 */
+	String annotationName(){
+		skipTrivia();
+		int start = index;
+		qualifiedName("annotation name", false);
+		if(accept('(')){
+			skipBalanced('(', ')');
+		}
+		return text.substring(start, index);
+	}
+	
+	/**
+	 * Skips to just after the character that closes the block that was just opened. Nested blocks, string and
+	 * character literals, and comments are skipped over as a whole.
+	 *
+	 * @param open The character that opened the block
+	 * @param close The character that closes the block
+	 * @return The offset of the closing character
+	 * @throws IllegalArgumentException if the block is never closed
+	 */
+	int skipBalanced(char open, char close){
+		int depth = 1;
+		while(index < limit){
+			char c = text.charAt(index);
+			if(c == '"' || c == '\''){
+				skipLiteral(c);
+				continue;
+			}else if(c == '/' && index + 1 < limit &&
+					(text.charAt(index + 1) == '/' || text.charAt(index + 1) == '*')){
+				skipTrivia();
+				continue;
+			}else if(c == open){
+				depth++;
+			}else if(c == close && --depth == 0){
+				return index++;
+			}
+			index++;
+		}
+		throw error("Expected '" + close + "'");
+	}
+	
+	/**
+	 * Skips to the semicolon that ends the current statement, skipping over any blocks on the way
+	 *
+	 * @return The offset of the semicolon (the scanner is left just after it)
+	 * @throws IllegalArgumentException if there's no semicolon
+	 */
+	int skipToSemicolon(){
+		while(index < limit){
+			char c = text.charAt(index);
+			if(c == '"' || c == '\''){
+				skipLiteral(c);
+				continue;
+			}else if(c == '/' && index + 1 < limit &&
+					(text.charAt(index + 1) == '/' || text.charAt(index + 1) == '*')){
+				skipTrivia();
+				continue;
+			}
+			index++;
+			if(c == ';'){
+				return index - 1;
+			}else if(c == '('){
+				skipBalanced('(', ')');
+			}else if(c == '['){
+				skipBalanced('[', ']');
+			}else if(c == '{'){
+				skipBalanced('{', '}');
+			}
+		}
+		throw error("Expected ';'");
+	}
+	
+	/**
+	 * Skips a string, text block, or character literal starting at the current offset
+	 *
+	 * @param quote The quote character that starts the literal
+	 */
+	private void skipLiteral(char quote){
+		if(quote == '"' && text.startsWith("\"\"\"", index)){
+			int end = text.indexOf("\"\"\"", index + 3);
+			while(end != -1 && text.charAt(end - 1) == '\\'){
+				end = text.indexOf("\"\"\"", end + 1);
+			}
+			if(end == -1 || end + 3 > limit){
+				cutOffEnd = end == -1?-1:end + 3;
+				throw error("Unterminated text block");
+			}
+			index = end + 3;
+			return;
+		}
+		index++;
+		while(index < limit){
+			char c = text.charAt(index++);
+			if(c == '\\'){
+				index++;
+			}else if(c == quote){
+				return;
+			}else if(c == '\n'){
+				break;
+			}
+		}
+		if(index >= limit && limit < text.length()){
+			// The literal can't go past the end of its line
+			int end = text.indexOf('\n', limit);
+			cutOffEnd = end == -1?text.length():end;
+		}
+		throw error("Unterminated literal");
+	}
+	
+	/**
+	 * @param start The offset to start at
+	 * @return The offset just after the identifier or keyword starting at the given offset (the given offset if
+	 * there isn't one there)
+	 */
+	private int wordEnd(int start){
+		if(start >= limit || !Character.isJavaIdentifierStart(text.charAt(start))){
+			return start;
+		}
+		int end = start + 1;
+		while(end < limit && Character.isJavaIdentifierPart(text.charAt(end))){
+			end++;
+		}
+		return end;
+	}
+	
+	/**
+	 * @param message The description of the problem
+	 * @return An exception describing the problem at the current offset, with its line and column
+	 */
+	IllegalArgumentException error(String message){
+		return error(message, index);
+	}
+	
+	/**
+	 * @param message The description of the problem
+	 * @param offset The offset of the problem
+	 * @return An exception describing the problem at the given offset, with its line and column
+	 */
+	IllegalArgumentException error(String message, int offset){
+		int line = 1;
+		int lineStart = 0;
+		int end = Math.min(offset, text.length());
+		for(int i = 0; i < end; i++){
+			if(text.charAt(i) == '\n'){
+				line++;
+				lineStart = i + 1;
+			}
+		}
+		return new IllegalArgumentException(message + " at line " + line + ", column " + (end - lineStart + 1));
+	}
+}
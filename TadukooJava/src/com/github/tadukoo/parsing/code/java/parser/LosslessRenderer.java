@@ -0,0 +1,343 @@
+package com.github.tadukoo.parsing.code.java.parser;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.SynthesizedMembers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lossless Renderer writes out a modified {@link JavaClass} by splicing it into the source it was
+ * {@link JavaClassParser parsed} from, instead of rendering it from scratch with {@link JavaClass#toString()}.
+ * Members that didn't change are copied from the original source as-is, along with the whitespace and comments
+ * before them, so only the members that were added or replaced are rendered. Formatting and comments are kept,
+ * and a diff of the output only shows the members that actually changed.
+ * <br><br>
+ * Members are matched up by {@link Object#equals(Object) equality} (so rebuilding an identical member still keeps
+ * its original text). A member that's missing from the modified class is removed along with the comments before
+ * it, a member in the place of one that's missing replaces it (keeping the comments before it), and new members
+ * go after the member before them of the same kind. The package, imports, and class declaration are only rendered
+ * again if any of them changed. {@link SynthesizedMembers Synthesized members} of the modified class are
+ * {@link SynthesizedMembers#expand expanded} into ordinary methods first, since the source has them written out.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class LosslessRenderer{
+	/** The indentation to use when there's no member to copy it from */
+	private static final String DEFAULT_INDENT = "\t";
+	
+	// Not allowed to create a Lossless Renderer
+	private LosslessRenderer(){ }
+	
+	/**
+	 * Renders the given modified {@link JavaClass} into the source of the original parse
+	 *
+	 * @param original The {@link ParsedJavaClass} the modified class was made from
+	 * @param modified The modified {@link JavaClass}
+	 * @return A {@link ParsedJavaClass} with the new source, the modified class, and where its members are in the
+	 * new source
+	 */
+	public static ParsedJavaClass render(ParsedJavaClass original, JavaClass modified){
+		modified = SynthesizedMembers.expand(modified);
+		String source = original.getSource();
+		Object[] oldMembers = original.members();
+		SourcePositionTable oldPositions = original.getPositions();
+		
+		// Work out what happens to each old member, and where new ones go
+		Plan plan = new Plan(oldMembers.length);
+		align(plan, oldMembers, JavaField.class, modified.getFields());
+		align(plan, oldMembers, JavaMethod.class, modified.getMethods());
+		
+		// Package, imports, and class declaration
+		StringBuilder out = new StringBuilder(source.length() + 256);
+		int classStart;
+		if(sameDeclaration(original.getJavaClass(), modified)){
+			out.append(source, 0, original.getBodyStart());
+			classStart = oldPositions.getStart(SourcePositionTable.CLASS_NODE);
+		}else{
+			ParsedJavaClass declaration = JavaClassParser.parse(JavaClass.builder()
+					.packageName(modified.getPackageName())
+					.imports(modified.getImports())
+					.staticImports(modified.getStaticImports())
+					.annotations(modified.getAnnotations())
+					.visibility(modified.getVisibility())
+					.isAbstract(modified.isAbstract())
+					.className(modified.getClassName())
+					.superClassName(modified.getSuperClassName())
+					.build().toString());
+			out.append(declaration.getSource(), 0, declaration.getBodyStart());
+			classStart = declaration.getPositions().getStart(SourcePositionTable.CLASS_NODE);
+		}
+		int bodyStart = out.length();
+		
+		// Members
+		List<Object> members = new ArrayList<>();
+		List<Integer> starts = new ArrayList<>();
+		List<Integer> ends = new ArrayList<>();
+		starts.add(classStart);
+		ends.add(0);
+		String lastIndent = oldMembers.length == 0?DEFAULT_INDENT:
+				JavaClassParser.indentation(source, oldPositions.getStart(1));
+		insert(out, plan.atBodyStart, lastIndent, members, starts, ends);
+		int copied = original.getBodyStart();
+		for(int i = 0; i < oldMembers.length; i++){
+			int start = oldPositions.getStart(i + 1);
+			int end = oldPositions.getEnd(i + 1);
+			String indent = JavaClassParser.indentation(source, start);
+			insert(out, plan.before.get(i), indent, members, starts, ends);
+			
+			Object member = plan.replacements[i];
+			if(member != null){
+				// Keep the whitespace and comments before the member
+				out.append(source, copied, start);
+				starts.add(out.length());
+				if(member == oldMembers[i] || member.equals(oldMembers[i])){
+					out.append(source, start, end);
+				}else{
+					appendRendered(out, member, indent);
+				}
+				members.add(member);
+				ends.add(out.length());
+			}
+			copied = end;
+			lastIndent = indent;
+			if(member != null && plan.after.get(i) != null){
+				// Keep a comment at the end of the member's line with the member, before any new members
+				copied = lineTailEnd(source, end);
+				out.append(source, end, copied);
+			}
+			insert(out, plan.after.get(i), indent, members, starts, ends);
+		}
+		insert(out, plan.atBodyEnd, lastIndent, members, starts, ends);
+		
+		// Closing brace and anything after it
+		int shift = out.length() - copied;
+		out.append(source, copied, source.length());
+		ends.set(SourcePositionTable.CLASS_NODE, oldPositions.getEnd(SourcePositionTable.CLASS_NODE) + shift);
+		String newSource = out.toString();
+		
+		int[] startArray = new int[starts.size()];
+		int[] endArray = new int[ends.size()];
+		for(int i = 0; i < startArray.length; i++){
+			startArray[i] = starts.get(i);
+			endArray[i] = ends.get(i);
+		}
+		return new ParsedJavaClass(newSource, modified, bodyStart, original.getBodyEnd() + shift,
+				members.toArray(), new SourcePositionTable(newSource, startArray, endArray));
+	}
+	
+	/**
+	 * Lines up the old members of one kind with the new members of that kind, filling in the plan
+	 *
+	 * @param plan The {@link Plan} to fill in
+	 * @param oldMembers All the old members in source order
+	 * @param kind The kind of member to line up ({@link JavaField} or {@link JavaMethod})
+	 * @param newMembers The new members of that kind, in order
+	 */
+	private static void align(Plan plan, Object[] oldMembers, Class<?> kind, List<?> newMembers){
+		// Indices (in the old members) of the old members of this kind
+		List<Integer> oldIndices = new ArrayList<>();
+		Map<Object, Integer> lastOld = new HashMap<>();
+		for(int i = 0; i < oldMembers.length; i++){
+			if(kind.isInstance(oldMembers[i])){
+				lastOld.put(oldMembers[i], oldIndices.size());
+				oldIndices.add(i);
+			}
+		}
+		Map<Object, Integer> lastNew = new HashMap<>();
+		for(int j = 0; j < newMembers.size(); j++){
+			lastNew.put(newMembers.get(j), j);
+		}
+		
+		int i = 0;
+		int j = 0;
+		int anchor = -1;
+		while(j < newMembers.size()){
+			Object newMember = newMembers.get(j);
+			if(i < oldIndices.size()){
+				Object oldMember = oldMembers[oldIndices.get(i)];
+				if(Objects.equals(oldMember, newMember)){
+					// Unchanged
+					anchor = oldIndices.get(i);
+					plan.replacements[anchor] = newMember;
+					i++;
+					j++;
+				}else if(lastOld.getOrDefault(newMember, -1) > i){
+					// The new member is further on, so this old one was removed
+					i++;
+				}else if(lastNew.getOrDefault(oldMember, -1) > j){
+					// The old member is further on, so this new one was added
+					plan.insert(anchor, oldIndices.get(0), kind, newMember);
+					j++;
+				}else{
+					// The new member takes the old one's place
+					anchor = oldIndices.get(i);
+					plan.replacements[anchor] = newMember;
+					i++;
+					j++;
+				}
+			}else{
+				plan.insert(anchor, oldIndices.isEmpty()?-1:oldIndices.get(0), kind, newMember);
+				j++;
+			}
+		}
+	}
+	
+	/**
+	 * Appends new members, each on its own line after the text so far (methods get a blank line before them)
+	 *
+	 * @param out The output so far
+	 * @param newMembers The new {@link JavaField fields} and {@link JavaMethod methods} to add (may be null)
+	 * @param indent The indentation to use
+	 * @param members The members of the output, in order
+	 * @param starts The offsets where each node of the output starts
+	 * @param ends The offsets just after each node of the output ends
+	 */
+	private static void insert(
+			StringBuilder out, List<Object> newMembers, String indent,
+			List<Object> members, List<Integer> starts, List<Integer> ends){
+		if(newMembers == null){
+			return;
+		}
+		for(Object member: newMembers){
+			out.append('\n');
+			if(member instanceof JavaMethod){
+				out.append(indent).append('\n');
+			}
+			out.append(indent);
+			starts.add(out.length());
+			appendRendered(out, member, indent);
+			members.add(member);
+			ends.add(out.length());
+		}
+	}
+	
+	/**
+	 * Appends a rendered member, indenting every line after the first (the first line follows text that's already
+	 * indented)
+	 *
+	 * @param out The output so far
+	 * @param member The {@link JavaField} or {@link JavaMethod} to render
+	 * @param indent The indentation to use
+	 */
+	private static void appendRendered(StringBuilder out, Object member, String indent){
+		String rendered = member.toString();
+		int lineStart = 0;
+		int newline;
+		while((newline = rendered.indexOf('\n', lineStart)) != -1){
+			out.append(rendered, lineStart, newline + 1).append(indent);
+			lineStart = newline + 1;
+		}
+		out.append(rendered, lineStart, rendered.length());
+		if(member instanceof JavaField){
+			out.append(';');
+		}
+	}
+	
+	/**
+	 * @param source The source
+	 * @param offset The offset just after a member
+	 * @return The offset of the end of the member's line if there's only whitespace or a line comment after it,
+	 * or the given offset if there's something else on the line
+	 */
+	private static int lineTailEnd(String source, int offset){
+		int index = offset;
+		while(index < source.length() && (source.charAt(index) == ' ' || source.charAt(index) == '\t')){
+			index++;
+		}
+		if(source.startsWith("//", index)){
+			int newline = source.indexOf('\n', index);
+			index = newline == -1?source.length():newline;
+		}
+		if(index < source.length() && source.charAt(index) == '\r'){
+			return index;
+		}
+		return index == source.length() || source.charAt(index) == '\n'?index:offset;
+	}
+	
+	/**
+	 * @param original The original {@link JavaClass}
+	 * @param modified The modified {@link JavaClass}
+	 * @return Whether the package, imports, and class declaration are the same in both
+	 */
+	private static boolean sameDeclaration(JavaClass original, JavaClass modified){
+		return Objects.equals(original.getPackageName(), modified.getPackageName()) &&
+				Objects.equals(original.getImports(), modified.getImports()) &&
+				Objects.equals(original.getStaticImports(), modified.getStaticImports()) &&
+				Objects.equals(original.getAnnotations(), modified.getAnnotations()) &&
+				original.getVisibility() == modified.getVisibility() &&
+				original.isAbstract() == modified.isAbstract() &&
+				Objects.equals(original.getClassName(), modified.getClassName()) &&
+				Objects.equals(original.getSuperClassName(), modified.getSuperClassName());
+	}
+	
+	/**
+	 * Plan is what {@link #align} works out: which new member (if any) takes the place of each old member, and
+	 * where new members go
+	 */
+	private static class Plan{
+		/** The new member for each old member's place (null if the old member was removed) */
+		private final Object[] replacements;
+		/** New members to add after each old member */
+		private final List<List<Object>> after;
+		/** New members to add before each old member */
+		private final List<List<Object>> before;
+		/** New fields to add at the start of the class body */
+		private List<Object> atBodyStart;
+		/** New methods to add at the end of the class body */
+		private List<Object> atBodyEnd;
+		
+		/**
+		 * @param oldCount The number of old members
+		 */
+		private Plan(int oldCount){
+			replacements = new Object[oldCount];
+			after = new ArrayList<>(oldCount);
+			before = new ArrayList<>(oldCount);
+			for(int i = 0; i < oldCount; i++){
+				after.add(null);
+				before.add(null);
+			}
+		}
+		
+		/**
+		 * Adds a new member to the plan
+		 *
+		 * @param anchor The old member the new one goes after (-1 if it comes before all of its kind)
+		 * @param firstOfKind The first old member of the same kind (-1 if there are none)
+		 * @param kind The kind of member ({@link JavaField} or {@link JavaMethod})
+		 * @param member The new member
+		 */
+		private void insert(int anchor, int firstOfKind, Class<?> kind, Object member){
+			if(anchor != -1){
+				after.set(anchor, add(after.get(anchor), member));
+			}else if(firstOfKind != -1){
+				before.set(firstOfKind, add(before.get(firstOfKind), member));
+			}else if(kind == JavaField.class){
+				atBodyStart = add(atBodyStart, member);
+			}else{
+				atBodyEnd = add(atBodyEnd, member);
+			}
+		}
+		
+		/**
+		 * @param list The list to add to (may be null)
+		 * @param member The member to add
+		 * @return The list with the member added (a new list if it was null)
+		 */
+		private static List<Object> add(List<Object> list, Object member){
+			if(list == null){
+				list = new ArrayList<>();
+			}
+			list.add(member);
+			return list;
+		}
+	}
+}
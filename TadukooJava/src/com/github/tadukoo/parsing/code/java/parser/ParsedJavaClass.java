@@ -0,0 +1,173 @@
+package com.github.tadukoo.parsing.code.java.parser;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+
+/**
+ * Parsed Java Class is the result of {@link JavaClassParser parsing} a source file: the {@link JavaClass} it was
+ * parsed into, the source it came from, and where each member was found in that source. The members are kept in
+ * the order they appear in the source (which can mix {@link JavaField fields} and {@link JavaMethod methods}),
+ * and that's what lets {@link JavaClassParser#reparse(ParsedJavaClass, java.util.List) reparsing} find the members
+ * touched by an edit. The positions are kept in a {@link SourcePositionTable}, where the class is node 0 and
+ * member {@code i} is node {@code i + 1}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class ParsedJavaClass{
+	/** The source that was parsed */
+	private final String source;
+	/** The {@link JavaClass} that was parsed */
+	private final JavaClass javaClass;
+	/** The offset just after the opening brace of the class body */
+	private final int bodyStart;
+	/** The offset of the closing brace of the class body */
+	private final int bodyEnd;
+	/** The {@link JavaField fields} and {@link JavaMethod methods} in the order they appear in the source */
+	private final Object[] members;
+	/** The {@link SourcePositionTable} with where the class and each member are in the source */
+	private final SourcePositionTable positions;
+	
+	/**
+	 * Constructs a new Parsed Java Class with the given parameters
+	 *
+	 * @param source The source that was parsed
+	 * @param javaClass The {@link JavaClass} that was parsed
+	 * @param bodyStart The offset just after the opening brace of the class body
+	 * @param bodyEnd The offset of the closing brace of the class body
+	 * @param members The {@link JavaField fields} and {@link JavaMethod methods} in the order they appear in the source
+	 * @param positions The {@link SourcePositionTable} with where the class and each member are in the source
+	 */
+	ParsedJavaClass(
+			String source, JavaClass javaClass, int bodyStart, int bodyEnd,
+			Object[] members, SourcePositionTable positions){
+		this.source = source;
+		this.javaClass = javaClass;
+		this.bodyStart = bodyStart;
+		this.bodyEnd = bodyEnd;
+		this.members = members;
+		this.positions = positions;
+	}
+	
+	/**
+	 * @return The source that was parsed
+	 */
+	public String getSource(){
+		return source;
+	}
+	
+	/**
+	 * @return The {@link JavaClass} that was parsed
+	 */
+	public JavaClass getJavaClass(){
+		return javaClass;
+	}
+	
+	/**
+	 * @return The offset just after the opening brace of the class body
+	 */
+	public int getBodyStart(){
+		return bodyStart;
+	}
+	
+	/**
+	 * @return The offset of the closing brace of the class body
+	 */
+	public int getBodyEnd(){
+		return bodyEnd;
+	}
+	
+	/**
+	 * @return The number of {@link JavaField fields} and {@link JavaMethod methods} in the class
+	 */
+	public int getMemberCount(){
+		return members.length;
+	}
+	
+	/**
+	 * @param index The index of the member (in source order)
+	 * @return The {@link JavaField} or {@link JavaMethod} at the given index
+	 */
+	public Object getMember(int index){
+		return members[index];
+	}
+	
+	/**
+	 * @param index The index of the member (in source order)
+	 * @return The offset where the member starts (at its first annotation or modifier)
+	 */
+	public int getMemberStart(int index){
+		return positions.getStart(index + 1);
+	}
+	
+	/**
+	 * @param index The index of the member (in source order)
+	 * @return The offset just after the member ends (after its semicolon or closing brace)
+	 */
+	public int getMemberEnd(int index){
+		return positions.getEnd(index + 1);
+	}
+	
+	/**
+	 * @param index The index of the member (in source order)
+	 * @return The original text of the member, as written in the source
+	 */
+	public String getMemberText(int index){
+		return source.substring(getMemberStart(index), getMemberEnd(index));
+	}
+	
+	/**
+	 * @param index The index of the member (in source order)
+	 * @return The whitespace and comments between the member and the one before it (or the opening brace of the
+	 * class for the first member)
+	 */
+	public String getLeadingTrivia(int index){
+		return source.substring(index == 0?bodyStart:getMemberEnd(index - 1), getMemberStart(index));
+	}
+	
+	/**
+	 * @return The {@link SourcePositionTable} with where the class and each member are in the source
+	 */
+	public SourcePositionTable getPositions(){
+		return positions;
+	}
+	
+	/**
+	 * @param model The {@link JavaClass}, {@link JavaField}, or {@link JavaMethod} to look for
+	 * @return The node id of the given model in the {@link #getPositions() position table}, or -1 if it's not
+	 * part of this class
+	 */
+	public int getNodeId(Object model){
+		if(model == javaClass){
+			return SourcePositionTable.CLASS_NODE;
+		}
+		for(int i = 0; i < members.length; i++){
+			if(members[i] == model){
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * @param offset The offset in the source
+	 * @return The {@link JavaField} or {@link JavaMethod} containing the offset, the {@link JavaClass} if it's
+	 * between members, or null if it's outside the class
+	 */
+	public Object getNodeAt(int offset){
+		int node = positions.findNode(offset);
+		if(node == -1){
+			return null;
+		}
+		return node == SourcePositionTable.CLASS_NODE?javaClass:members[node - 1];
+	}
+	
+	/**
+	 * @return The {@link JavaField fields} and {@link JavaMethod methods} in the order they appear in the source
+	 */
+	Object[] members(){
+		return members;
+	}
+}
@@ -0,0 +1,303 @@
+package com.github.tadukoo.parsing.code.java.parser;
+
+import com.github.tadukoo.parsing.code.java.zip.MappedZipEntry;
+import com.github.tadukoo.parsing.code.java.zip.MappedZipFile;
+import com.github.tadukoo.util.StringUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Source Archive Loader parses the Java sources in a zip or jar (like a {@code -sources.jar}) into
+ * {@link ParsedJavaClass classes} without extracting anything to disk. The archive is read through a
+ * {@link MappedZipFile}, and each entry's bytes are decoded straight into a string for the
+ * {@link JavaClassParser}, with entries parsed in parallel on a {@link ForkJoinPool}.
+ * <br><br>
+ * The entry filter is checked against entry names before anything is read, so entries it rejects are never
+ * inflated. Only {@code .java} entries are considered (module-info and package-info are skipped). Entries that
+ * can't be parsed don't stop the load - their errors are collected in the {@link SourceArchiveResult}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class SourceArchiveLoader{
+	
+	/**
+	 * Source Archive Loader Builder is used to build a new {@link SourceArchiveLoader}. It contains the following
+	 * parameters:
+	 *
+	 * <table>
+	 *     <caption>Source Archive Loader Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>entryFilter</td>
+	 *         <td>Decides which entries to parse, by entry name (e.g. com/example/Test.java)</td>
+	 *         <td>Accepts every entry</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>charset</td>
+	 *         <td>The {@link Charset} the sources are encoded in</td>
+	 *         <td>{@link StandardCharsets#UTF_8}</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>pool</td>
+	 *         <td>The {@link ForkJoinPool} to parse entries on</td>
+	 *         <td>{@link ForkJoinPool#commonPool()}</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static class SourceArchiveLoaderBuilder{
+		/** Decides which entries to parse, by entry name */
+		private Predicate<String> entryFilter = name -> true;
+		/** The {@link Charset} the sources are encoded in */
+		private Charset charset = StandardCharsets.UTF_8;
+		/** The {@link ForkJoinPool} to parse entries on */
+		private ForkJoinPool pool = ForkJoinPool.commonPool();
+		
+		// Can't create outside of SourceArchiveLoader
+		private SourceArchiveLoaderBuilder(){ }
+		
+		/**
+		 * @param entryFilter Decides which entries to parse, by entry name (e.g. com/example/Test.java)
+		 * @return this, to continue building
+		 */
+		public SourceArchiveLoaderBuilder entryFilter(Predicate<String> entryFilter){
+			this.entryFilter = entryFilter;
+			return this;
+		}
+		
+		/**
+		 * @param charset The {@link Charset} the sources are encoded in
+		 * @return this, to continue building
+		 */
+		public SourceArchiveLoaderBuilder charset(Charset charset){
+			this.charset = charset;
+			return this;
+		}
+		
+		/**
+		 * @param pool The {@link ForkJoinPool} to parse entries on
+		 * @return this, to continue building
+		 */
+		public SourceArchiveLoaderBuilder pool(ForkJoinPool pool){
+			this.pool = pool;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters
+		 *
+		 * @throws IllegalArgumentException if anything is wrong
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			if(entryFilter == null){
+				errors.add("Must specify entryFilter!");
+			}
+			if(charset == null){
+				errors.add("Must specify charset!");
+			}
+			if(pool == null){
+				errors.add("Must specify pool!");
+			}
+			
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters, then builds a new {@link SourceArchiveLoader}
+		 *
+		 * @return A newly built {@link SourceArchiveLoader}
+		 * @throws IllegalArgumentException if anything is wrong with the current parameters
+		 */
+		public SourceArchiveLoader build(){
+			checkForErrors();
+			
+			return new SourceArchiveLoader(entryFilter, charset, pool);
+		}
+	}
+	
+	/**
+	 * The outcome of parsing a single entry: either the class that was parsed or the error that stopped it
+	 */
+	private static class Outcome{
+		/** The {@link ParsedJavaClass} that was parsed, or null if it couldn't be */
+		private final ParsedJavaClass parsedClass;
+		/** The error that stopped the parse, or null if it succeeded */
+		private final String error;
+		
+		/**
+		 * Creates a new Outcome
+		 *
+		 * @param parsedClass The {@link ParsedJavaClass} that was parsed, or null if it couldn't be
+		 * @param error The error that stopped the parse, or null if it succeeded
+		 */
+		private Outcome(ParsedJavaClass parsedClass, String error){
+			this.parsedClass = parsedClass;
+			this.error = error;
+		}
+	}
+	
+	/** Decides which entries to parse, by entry name */
+	private final Predicate<String> entryFilter;
+	/** The {@link Charset} the sources are encoded in */
+	private final Charset charset;
+	/** The {@link ForkJoinPool} to parse entries on */
+	private final ForkJoinPool pool;
+	
+	/**
+	 * Constructs a new Source Archive Loader with the given parameters
+	 *
+	 * @param entryFilter Decides which entries to parse, by entry name
+	 * @param charset The {@link Charset} the sources are encoded in
+	 * @param pool The {@link ForkJoinPool} to parse entries on
+	 */
+	private SourceArchiveLoader(Predicate<String> entryFilter, Charset charset, ForkJoinPool pool){
+		this.entryFilter = entryFilter;
+		this.charset = charset;
+		this.pool = pool;
+	}
+	
+	/**
+	 * @return A new {@link SourceArchiveLoaderBuilder} to use to build a {@link SourceArchiveLoader}
+	 */
+	public static SourceArchiveLoaderBuilder builder(){
+		return new SourceArchiveLoaderBuilder();
+	}
+	
+	/**
+	 * @param prefix The package path prefix to accept (e.g. com/example/)
+	 * @return An entry filter that only accepts entries whose names start with the given prefix
+	 */
+	public static Predicate<String> packagePrefix(String prefix){
+		return name -> name.startsWith(prefix);
+	}
+	
+	/**
+	 * @return The {@link Charset} the sources are encoded in
+	 */
+	public Charset getCharset(){
+		return charset;
+	}
+	
+	/**
+	 * @return The {@link ForkJoinPool} entries are parsed on
+	 */
+	public ForkJoinPool getPool(){
+		return pool;
+	}
+	
+	/**
+	 * @param name The name of an archive entry
+	 * @return Whether the entry is a source file to parse or not
+	 */
+	private boolean isSourceEntry(String name){
+		return name.endsWith(".java") && !name.endsWith("module-info.java") &&
+				!name.endsWith("package-info.java") && entryFilter.test(name);
+	}
+	
+	/**
+	 * Loads and parses the sources in the given archive
+	 *
+	 * @param archive The path of the zip or jar to load
+	 * @return A {@link SourceArchiveResult} with the parsed classes and any errors
+	 * @throws IOException If the archive or any of its entries can't be read
+	 */
+	public SourceArchiveResult load(Path archive) throws IOException{
+		try(MappedZipFile zip = MappedZipFile.open(archive)){
+			List<MappedZipEntry> entries = zip.getEntries().stream()
+					.filter(entry -> !entry.isDirectory() && isSourceEntry(entry.getName()))
+					.collect(Collectors.toList());
+			
+			// Parallel streams run on the pool they're started from
+			List<Outcome> outcomes;
+			try{
+				outcomes = pool.submit(() -> entries.parallelStream()
+						.map(entry -> parseEntry(zip, entry))
+						.collect(Collectors.toList())).get();
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while loading " + archive, e);
+			}catch(ExecutionException e){
+				if(e.getCause() instanceof UncheckedIOException){
+					throw ((UncheckedIOException) e.getCause()).getCause();
+				}else if(e.getCause() instanceof RuntimeException){
+					throw (RuntimeException) e.getCause();
+				}
+				throw new IOException("Failed to load " + archive, e.getCause());
+			}
+			
+			Map<String, ParsedJavaClass> classes = new LinkedHashMap<>();
+			Map<String, String> errors = new LinkedHashMap<>();
+			for(int i = 0; i < entries.size(); i++){
+				Outcome outcome = outcomes.get(i);
+				if(outcome.parsedClass != null){
+					classes.put(entries.get(i).getName(), outcome.parsedClass);
+				}else{
+					errors.put(entries.get(i).getName(), outcome.error);
+				}
+			}
+			return new SourceArchiveResult(archive, classes, errors);
+		}
+	}
+	
+	/**
+	 * Reads and parses a single entry
+	 *
+	 * @param zip The {@link MappedZipFile} to read from
+	 * @param entry The {@link MappedZipEntry} to parse
+	 * @return The {@link Outcome} of parsing the entry
+	 * @throws UncheckedIOException If the entry can't be read
+	 */
+	private Outcome parseEntry(MappedZipFile zip, MappedZipEntry entry){
+		String source;
+		try{
+			source = decode(zip.read(entry));
+		}catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+		try{
+			return new Outcome(JavaClassParser.parse(source), null);
+		}catch(IllegalArgumentException e){
+			return new Outcome(null, e.getMessage());
+		}
+	}
+	
+	/**
+	 * @param data The bytes of a source file
+	 * @return The source, without a byte order mark if it started with one
+	 */
+	private String decode(ByteBuffer data){
+		String source;
+		if(data.hasArray()){
+			source = new String(data.array(), data.arrayOffset() + data.position(), data.remaining(), charset);
+		}else{
+			source = charset.decode(data).toString();
+		}
+		return !source.isEmpty() && source.charAt(0) == '\uFEFF'?source.substring(1):source;
+	}
+}
@@ -0,0 +1,79 @@
+package com.github.tadukoo.parsing.code.java.parser;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Source Archive Result holds what the {@link SourceArchiveLoader} got out of a source archive: the
+ * {@link ParsedJavaClass classes} it parsed and the errors for any entries it couldn't parse, both keyed by entry
+ * name in the order of the archive's central directory
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class SourceArchiveResult{
+	/** The path of the archive that was loaded */
+	private final Path archive;
+	/** The {@link ParsedJavaClass classes} that were parsed, keyed by entry name */
+	private final Map<String, ParsedJavaClass> classes;
+	/** The errors for entries that couldn't be parsed, keyed by entry name */
+	private final Map<String, String> errors;
+	
+	/**
+	 * Constructs a new Source Archive Result with the given parameters
+	 *
+	 * @param archive The path of the archive that was loaded
+	 * @param classes The {@link ParsedJavaClass classes} that were parsed, keyed by entry name
+	 * @param errors The errors for entries that couldn't be parsed, keyed by entry name
+	 */
+	SourceArchiveResult(Path archive, Map<String, ParsedJavaClass> classes, Map<String, String> errors){
+		this.archive = archive;
+		this.classes = Collections.unmodifiableMap(classes);
+		this.errors = Collections.unmodifiableMap(errors);
+	}
+	
+	/**
+	 * @return The path of the archive that was loaded
+	 */
+	public Path getArchive(){
+		return archive;
+	}
+	
+	/**
+	 * @return The {@link ParsedJavaClass classes} that were parsed, keyed by entry name
+	 */
+	public Map<String, ParsedJavaClass> getClasses(){
+		return classes;
+	}
+	
+	/**
+	 * @return The {@link JavaClass models} of the classes that were parsed
+	 */
+	public List<JavaClass> getJavaClasses(){
+		List<JavaClass> javaClasses = new ArrayList<>(classes.size());
+		for(ParsedJavaClass parsedClass: classes.values()){
+			javaClasses.add(parsedClass.getJavaClass());
+		}
+		return javaClasses;
+	}
+	
+	/**
+	 * @return The errors for entries that couldn't be parsed, keyed by entry name
+	 */
+	public Map<String, String> getErrors(){
+		return errors;
+	}
+	
+	/**
+	 * @return The number of entries that were parsed, successfully or not
+	 */
+	public int getEntryCount(){
+		return classes.size() + errors.size();
+	}
+}
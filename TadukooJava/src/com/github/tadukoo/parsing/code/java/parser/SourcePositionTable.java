@@ -0,0 +1,203 @@
+package com.github.tadukoo.parsing.code.java.parser;
+
+/**
+ * Source Position Table records where each node of a {@link ParsedJavaClass} came from in its source, using only
+ * int arrays: a start and end offset for each node id, plus an index of where each line starts, which is built the
+ * first time a line or column is asked for. Node {@link #CLASS_NODE 0} is the class declaration (from its first
+ * annotation or modifier through its closing brace), and nodes 1 and up are the fields and methods in the order
+ * they appear in the source.
+ * <br><br>
+ * Lines and columns are both 1-based, and columns count characters (so a tab is 1 column).
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class SourcePositionTable{
+	/** The node id of the class declaration */
+	public static final int CLASS_NODE = 0;
+	
+	/** The source the positions are in */
+	private final String source;
+	/** The offset where each node starts */
+	private final int[] starts;
+	/** The offset just after each node ends */
+	private final int[] ends;
+	/** The offset where each line starts - built the first time it's needed */
+	private volatile int[] lineStarts;
+	
+	/**
+	 * Constructs a new Source Position Table with the given parameters
+	 *
+	 * @param source The source the positions are in
+	 * @param starts The offset where each node starts (the class first, then the members in order)
+	 * @param ends The offset just after each node ends (the class first, then the members in order)
+	 */
+	SourcePositionTable(String source, int[] starts, int[] ends){
+		this.source = source;
+		this.starts = starts;
+		this.ends = ends;
+	}
+	
+	/**
+	 * @return The number of nodes in the table (the class plus its members)
+	 */
+	public int getNodeCount(){
+		return starts.length;
+	}
+	
+	/**
+	 * @param node The id of the node
+	 * @return The offset where the node starts
+	 */
+	public int getStart(int node){
+		return starts[node];
+	}
+	
+	/**
+	 * @param node The id of the node
+	 * @return The offset just after the node ends
+	 */
+	public int getEnd(int node){
+		return ends[node];
+	}
+	
+	/**
+	 * @param node The id of the node
+	 * @return The line the node starts on
+	 */
+	public int getStartLine(int node){
+		return getLine(starts[node]);
+	}
+	
+	/**
+	 * @param node The id of the node
+	 * @return The column the node starts at
+	 */
+	public int getStartColumn(int node){
+		return getColumn(starts[node]);
+	}
+	
+	/**
+	 * @param node The id of the node
+	 * @return The line the node ends on (the line of its last character)
+	 */
+	public int getEndLine(int node){
+		return getLine(Math.max(ends[node] - 1, starts[node]));
+	}
+	
+	/**
+	 * @param node The id of the node
+	 * @return The column of the last character of the node
+	 */
+	public int getEndColumn(int node){
+		return getColumn(Math.max(ends[node] - 1, starts[node]));
+	}
+	
+	/**
+	 * Finds the innermost node containing the given offset
+	 *
+	 * @param offset The offset in the source
+	 * @return The id of the member containing the offset, or {@link #CLASS_NODE} if it's in the class but not in a
+	 * member, or -1 if it's outside the class
+	 */
+	public int findNode(int offset){
+		// Members are in order and don't overlap, so binary search for the last one starting at or before offset
+		int low = 1;
+		int high = starts.length;
+		while(low < high){
+			int mid = (low + high) >>> 1;
+			if(starts[mid] <= offset){
+				low = mid + 1;
+			}else{
+				high = mid;
+			}
+		}
+		int member = low - 1;
+		if(member >= 1 && offset < ends[member]){
+			return member;
+		}
+		return offset >= starts[CLASS_NODE] && offset < ends[CLASS_NODE]?CLASS_NODE:-1;
+	}
+	
+	/**
+	 * @return The number of lines in the source
+	 */
+	public int getLineCount(){
+		return lineStarts().length;
+	}
+	
+	/**
+	 * @param line The line number (1-based)
+	 * @return The offset where the line starts
+	 */
+	public int getLineStart(int line){
+		return lineStarts()[line - 1];
+	}
+	
+	/**
+	 * @param offset The offset in the source
+	 * @return The line the offset is on (1-based)
+	 */
+	public int getLine(int offset){
+		int[] lines = lineStarts();
+		int low = 0;
+		int high = lines.length;
+		while(low < high){
+			int mid = (low + high) >>> 1;
+			if(lines[mid] <= offset){
+				low = mid + 1;
+			}else{
+				high = mid;
+			}
+		}
+		return low;
+	}
+	
+	/**
+	 * @param offset The offset in the source
+	 * @return The column of the offset in its line (1-based)
+	 */
+	public int getColumn(int offset){
+		return offset - getLineStart(getLine(offset)) + 1;
+	}
+	
+	/**
+	 * @return The offset where each node starts (used in reparsing)
+	 */
+	int[] starts(){
+		return starts;
+	}
+	
+	/**
+	 * @return The offset just after each node ends (used in reparsing)
+	 */
+	int[] ends(){
+		return ends;
+	}
+	
+	/**
+	 * @return The offset where each line starts, building the index if it hasn't been yet
+	 */
+	private int[] lineStarts(){
+		int[] lines = lineStarts;
+		if(lines == null){
+			int count = 1;
+			for(int i = 0; i < source.length(); i++){
+				if(source.charAt(i) == '\n'){
+					count++;
+				}
+			}
+			lines = new int[count];
+			int line = 1;
+			for(int i = 0; i < source.length(); i++){
+				if(source.charAt(i) == '\n'){
+					lines[line++] = i + 1;
+				}
+			}
+			// Racing threads build the same index, so it doesn't matter which one is kept
+			lineStarts = lines;
+		}
+		return lines;
+	}
+}
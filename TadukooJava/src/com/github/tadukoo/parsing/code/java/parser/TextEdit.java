@@ -0,0 +1,69 @@
+package com.github.tadukoo.parsing.code.java.parser;
+
+/**
+ * Text Edit is a single change to a source file: the text in a range of the old source is replaced with new text.
+ * An insert is an edit with a length of 0, and a delete is an edit with empty replacement text.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class TextEdit{
+	/** The offset in the old source where the edit starts */
+	private final int offset;
+	/** The number of characters of the old source that are replaced */
+	private final int length;
+	/** The text that replaces the old characters */
+	private final String replacement;
+	
+	/**
+	 * Constructs a new Text Edit with the given parameters
+	 *
+	 * @param offset The offset in the old source where the edit starts
+	 * @param length The number of characters of the old source that are replaced
+	 * @param replacement The text that replaces the old characters
+	 */
+	public TextEdit(int offset, int length, String replacement){
+		if(offset < 0 || length < 0){
+			throw new IllegalArgumentException("offset and length must not be negative!");
+		}
+		this.offset = offset;
+		this.length = length;
+		this.replacement = replacement == null?"":replacement;
+	}
+	
+	/**
+	 * @return The offset in the old source where the edit starts
+	 */
+	public int getOffset(){
+		return offset;
+	}
+	
+	/**
+	 * @return The number of characters of the old source that are replaced
+	 */
+	public int getLength(){
+		return length;
+	}
+	
+	/**
+	 * @return The offset in the old source just after the replaced characters
+	 */
+	public int getEnd(){
+		return offset + length;
+	}
+	
+	/**
+	 * @return The text that replaces the old characters
+	 */
+	public String getReplacement(){
+		return replacement;
+	}
+	
+	/**
+	 * @return The change in the length of the source caused by this edit
+	 */
+	public int getDelta(){
+		return replacement.length() - length;
+	}
+}
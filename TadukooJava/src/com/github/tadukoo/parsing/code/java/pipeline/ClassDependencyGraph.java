@@ -0,0 +1,437 @@
+package com.github.tadukoo.parsing.code.java.pipeline;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.TypeRef;
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.StringUtil;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Class Dependency Graph holds the classes to generate along with what each one depends on, so a
+ * {@link DependencyScheduler} can generate each class after the ones it needs. Classes are either given as
+ * {@link JavaClass models}, which depend on whichever other classes in the graph they extend or import, or as
+ * factories, which declare their dependencies and are given the generated models of them.
+ * <br><br>
+ * Classes are grouped into {@link #getLevels() levels}: the first level depends on nothing in the graph, and each
+ * later level only depends on levels before it. Building a graph with a dependency cycle fails.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class ClassDependencyGraph{
+	
+	/**
+	 * Class Dependency Graph Builder is used to build a new {@link ClassDependencyGraph}. It contains the following
+	 * parameters:
+	 *
+	 * <table>
+	 *     <caption>Class Dependency Graph Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>javaClasses</td>
+	 *         <td>Already built {@link JavaClass classes}, depending on the classes in the graph they extend or
+	 *         import</td>
+	 *         <td rowspan="2">At least one class or factory is required</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>factories</td>
+	 *         <td>Classes to generate by fully qualified name, along with the names of the classes in the graph
+	 *         they depend on and a function to generate them from the generated models of those classes</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static class ClassDependencyGraphBuilder{
+		/** The classes in the graph, by fully qualified name, in the order they were added */
+		private final Map<String, Node> nodes = new LinkedHashMap<>();
+		/** The names of classes added more than once */
+		private final Set<String> duplicates = new LinkedHashSet<>();
+		
+		// Can't create outside of Class Dependency Graph
+		private ClassDependencyGraphBuilder(){ }
+		
+		/**
+		 * @param node The class to add
+		 */
+		private void add(Node node){
+			if(nodes.putIfAbsent(node.qualifiedName, node) != null){
+				duplicates.add(node.qualifiedName);
+			}
+		}
+		
+		/**
+		 * @param javaClasses Already built {@link JavaClass classes}, depending on the classes in the graph they
+		 * extend or import
+		 * @return this, to continue building
+		 */
+		public ClassDependencyGraphBuilder javaClasses(Collection<JavaClass> javaClasses){
+			for(JavaClass javaClass: javaClasses){
+				javaClass(javaClass);
+			}
+			return this;
+		}
+		
+		/**
+		 * @param javaClass An already built {@link JavaClass}, depending on the classes in the graph it extends or
+		 * imports
+		 * @return this, to continue building
+		 */
+		public ClassDependencyGraphBuilder javaClass(JavaClass javaClass){
+			add(new Node(javaClass.getPackageName() + "." + javaClass.getClassName(), javaClass, null,
+					new ArrayList<>()));
+			return this;
+		}
+		
+		/**
+		 * @param qualifiedName The fully qualified name of the class to generate
+		 * @param dependencies The fully qualified names of the classes in the graph it depends on
+		 * @param factory Generates the class, given the generated classes it depends on by fully qualified name
+		 * @return this, to continue building
+		 */
+		public ClassDependencyGraphBuilder factory(
+				String qualifiedName, Collection<String> dependencies,
+				Function<Map<String, JavaClass>, JavaClass> factory){
+			add(new Node(qualifiedName, null, factory, new ArrayList<>(dependencies)));
+			return this;
+		}
+		
+		/**
+		 * @return Copies of the classes added, with the dependencies of each {@link JavaClass model} found
+		 */
+		private Map<String, Node> resolveNodes(){
+			Map<String, Node> resolved = new LinkedHashMap<>();
+			for(Node node: nodes.values()){
+				resolved.put(node.qualifiedName, new Node(node.qualifiedName, node.javaClass, node.factory,
+						node.javaClass != null?new ArrayList<>(modelDependencies(node.javaClass, nodes.keySet())):
+								new ArrayList<>(node.dependencies)));
+			}
+			return resolved;
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters
+		 *
+		 * @throws IllegalArgumentException if anything is wrong
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			if(nodes.isEmpty()){
+				errors.add("Must specify at least one class or factory!");
+			}
+			for(String duplicate: duplicates){
+				errors.add("Duplicate class " + duplicate + "!");
+			}
+			for(Node node: nodes.values()){
+				if(node.javaClass == null && node.factory == null){
+					errors.add("Must specify a factory for " + node.qualifiedName + "!");
+				}
+				for(String dependency: node.dependencies){
+					if(!nodes.containsKey(dependency)){
+						errors.add(node.qualifiedName + " depends on unknown class " + dependency + "!");
+					}
+				}
+			}
+			if(errors.isEmpty()){
+				List<String> cycle = findCycle(resolveNodes());
+				if(cycle != null){
+					errors.add("Dependency cycle: " + String.join(" -> ", cycle));
+				}
+			}
+			
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters, then builds a new {@link ClassDependencyGraph}
+		 *
+		 * @return A newly built {@link ClassDependencyGraph}
+		 * @throws IllegalArgumentException if anything is wrong with the current parameters (including a dependency
+		 * cycle)
+		 */
+		public ClassDependencyGraph build(){
+			checkForErrors();
+			
+			return new ClassDependencyGraph(resolveNodes());
+		}
+	}
+	
+	/**
+	 * A class in the graph
+	 */
+	private static class Node{
+		/** The fully qualified name of the class */
+		private final String qualifiedName;
+		/** The class, if it was already built */
+		private final JavaClass javaClass;
+		/** Generates the class, if it wasn't already built */
+		private final Function<Map<String, JavaClass>, JavaClass> factory;
+		/** The fully qualified names of the classes in the graph it depends on */
+		private final List<String> dependencies;
+		/** The fully qualified names of the classes in the graph that depend on it */
+		private final List<String> dependents = new ArrayList<>();
+		
+		/**
+		 * @param qualifiedName The fully qualified name of the class
+		 * @param javaClass The class, if it was already built
+		 * @param factory Generates the class, if it wasn't already built
+		 * @param dependencies The fully qualified names of the classes in the graph it depends on
+		 */
+		private Node(
+				String qualifiedName, JavaClass javaClass, Function<Map<String, JavaClass>, JavaClass> factory,
+				List<String> dependencies){
+			this.qualifiedName = qualifiedName;
+			this.javaClass = javaClass;
+			this.factory = factory;
+			this.dependencies = dependencies;
+		}
+	}
+	
+	/** The classes in the graph, by fully qualified name, in the order they were added */
+	private final Map<String, Node> nodes;
+	/** The fully qualified names of the classes in each level */
+	private final List<List<String>> levels;
+	
+	/**
+	 * Constructs a new Class Dependency Graph with the given classes
+	 *
+	 * @param nodes The classes in the graph, by fully qualified name, in the order they were added
+	 */
+	private ClassDependencyGraph(Map<String, Node> nodes){
+		this.nodes = nodes;
+		for(Node node: nodes.values()){
+			for(String dependency: node.dependencies){
+				nodes.get(dependency).dependents.add(node.qualifiedName);
+			}
+		}
+		
+		// Each class is a level after the last of its dependencies
+		Map<String, Integer> levelOf = new HashMap<>();
+		List<List<String>> levels = new ArrayList<>();
+		for(String qualifiedName: topologicalOrder(nodes)){
+			int level = 0;
+			for(String dependency: nodes.get(qualifiedName).dependencies){
+				level = Math.max(level, levelOf.get(dependency) + 1);
+			}
+			levelOf.put(qualifiedName, level);
+			if(level == levels.size()){
+				levels.add(new ArrayList<>());
+			}
+			levels.get(level).add(qualifiedName);
+		}
+		List<List<String>> unmodifiableLevels = new ArrayList<>();
+		for(List<String> level: levels){
+			unmodifiableLevels.add(Collections.unmodifiableList(level));
+		}
+		this.levels = Collections.unmodifiableList(unmodifiableLevels);
+	}
+	
+	/**
+	 * @return A new {@link ClassDependencyGraphBuilder} to use to build a {@link ClassDependencyGraph}
+	 */
+	public static ClassDependencyGraphBuilder builder(){
+		return new ClassDependencyGraphBuilder();
+	}
+	
+	/**
+	 * @param javaClass A {@link JavaClass}
+	 * @param qualifiedNames The fully qualified names of the classes in the graph
+	 * @return The fully qualified names of the classes in the graph the class extends or imports
+	 */
+	private static Set<String> modelDependencies(JavaClass javaClass, Set<String> qualifiedNames){
+		Set<String> dependencies = new LinkedHashSet<>();
+		TypeRef superClassRef = javaClass.getSuperClassRef();
+		if(superClassRef != null){
+			String superClassName = superClassRef.getName();
+			String samePackage = javaClass.getPackageName() + "." + superClassName;
+			if(superClassName.indexOf('.') != -1 && qualifiedNames.contains(superClassName)){
+				dependencies.add(superClassName);
+			}else if(qualifiedNames.contains(samePackage)){
+				dependencies.add(samePackage);
+			}
+		}
+		if(ListUtil.isNotBlank(javaClass.getImports())){
+			for(String singleImport: javaClass.getImports()){
+				if(qualifiedNames.contains(singleImport)){
+					dependencies.add(singleImport);
+				}
+			}
+		}
+		if(ListUtil.isNotBlank(javaClass.getStaticImports())){
+			for(String staticImport: javaClass.getStaticImports()){
+				// Static imports name a member of a class
+				int dot = staticImport.lastIndexOf('.');
+				if(dot != -1 && qualifiedNames.contains(staticImport.substring(0, dot))){
+					dependencies.add(staticImport.substring(0, dot));
+				}
+			}
+		}
+		dependencies.remove(javaClass.getPackageName() + "." + javaClass.getClassName());
+		return dependencies;
+	}
+	
+	/**
+	 * @param nodes The classes in the graph, by fully qualified name
+	 * @return The fully qualified names of the classes, with every class after the classes it depends on (or
+	 * missing the classes in or after a cycle)
+	 */
+	private static List<String> topologicalOrder(Map<String, Node> nodes){
+		Map<String, Integer> remaining = new HashMap<>();
+		Map<String, List<String>> dependents = new HashMap<>();
+		Deque<String> ready = new ArrayDeque<>();
+		for(Node node: nodes.values()){
+			remaining.put(node.qualifiedName, node.dependencies.size());
+			for(String dependency: node.dependencies){
+				dependents.computeIfAbsent(dependency, name -> new ArrayList<>()).add(node.qualifiedName);
+			}
+			if(node.dependencies.isEmpty()){
+				ready.add(node.qualifiedName);
+			}
+		}
+		List<String> order = new ArrayList<>();
+		while(!ready.isEmpty()){
+			String qualifiedName = ready.poll();
+			order.add(qualifiedName);
+			for(String dependent: dependents.getOrDefault(qualifiedName, Collections.emptyList())){
+				if(remaining.merge(dependent, -1, Integer::sum) == 0){
+					ready.add(dependent);
+				}
+			}
+		}
+		return order;
+	}
+	
+	/**
+	 * @param nodes The classes in the graph, by fully qualified name
+	 * @return The fully qualified names of the classes in a dependency cycle, starting and ending with the same
+	 * class, or null if there's no cycle
+	 */
+	private static List<String> findCycle(Map<String, Node> nodes){
+		List<String> order = topologicalOrder(nodes);
+		if(order.size() == nodes.size()){
+			return null;
+		}
+		
+		// Every class left over is in a cycle or depends on one, so following dependencies has to loop
+		Set<String> sorted = new HashSet<>(order);
+		String current = null;
+		for(String qualifiedName: nodes.keySet()){
+			if(!sorted.contains(qualifiedName)){
+				current = qualifiedName;
+				break;
+			}
+		}
+		List<String> path = new ArrayList<>();
+		Map<String, Integer> indexInPath = new HashMap<>();
+		while(!indexInPath.containsKey(current)){
+			indexInPath.put(current, path.size());
+			path.add(current);
+			for(String dependency: nodes.get(current).dependencies){
+				if(!sorted.contains(dependency)){
+					current = dependency;
+					break;
+				}
+			}
+		}
+		List<String> cycle = new ArrayList<>(path.subList(indexInPath.get(current), path.size()));
+		cycle.add(current);
+		return cycle;
+	}
+	
+	/**
+	 * @return The number of classes in the graph
+	 */
+	public int size(){
+		return nodes.size();
+	}
+	
+	/**
+	 * @return The fully qualified names of the classes in the graph, in the order they were added
+	 */
+	public Set<String> getQualifiedNames(){
+		return Collections.unmodifiableSet(nodes.keySet());
+	}
+	
+	/**
+	 * @param qualifiedName The fully qualified name of a class in the graph
+	 * @return The fully qualified names of the classes in the graph it depends on
+	 * @throws IllegalArgumentException If the class isn't in the graph
+	 */
+	public List<String> getDependencies(String qualifiedName){
+		return Collections.unmodifiableList(node(qualifiedName).dependencies);
+	}
+	
+	/**
+	 * @param qualifiedName The fully qualified name of a class in the graph
+	 * @return The fully qualified names of the classes in the graph that depend on it
+	 * @throws IllegalArgumentException If the class isn't in the graph
+	 */
+	public List<String> getDependents(String qualifiedName){
+		return Collections.unmodifiableList(node(qualifiedName).dependents);
+	}
+	
+	/**
+	 * @return The fully qualified names of the classes in each level, where each class is in the level after the
+	 * last of its dependencies
+	 */
+	public List<List<String>> getLevels(){
+		return levels;
+	}
+	
+	/**
+	 * Gets (or generates) a class in the graph
+	 *
+	 * @param qualifiedName The fully qualified name of the class
+	 * @param dependencies The generated classes it depends on, by fully qualified name
+	 * @return The class
+	 * @throws IllegalStateException If its factory generates a class with a different name
+	 */
+	JavaClass generate(String qualifiedName, Map<String, JavaClass> dependencies){
+		Node node = node(qualifiedName);
+		if(node.javaClass != null){
+			return node.javaClass;
+		}
+		JavaClass javaClass = node.factory.apply(Collections.unmodifiableMap(dependencies));
+		if(javaClass == null || !qualifiedName.equals(javaClass.getPackageName() + "." + javaClass.getClassName())){
+			throw new IllegalStateException("Factory for " + qualifiedName + " made " +
+					(javaClass == null?"null":javaClass.getPackageName() + "." + javaClass.getClassName()) + "!");
+		}
+		return javaClass;
+	}
+	
+	/**
+	 * @param qualifiedName The fully qualified name of a class in the graph
+	 * @return The node for the class
+	 * @throws IllegalArgumentException If the class isn't in the graph
+	 */
+	private Node node(String qualifiedName){
+		Node node = nodes.get(qualifiedName);
+		if(node == null){
+			throw new IllegalArgumentException(qualifiedName + " isn't in the graph!");
+		}
+		return node;
+	}
+}
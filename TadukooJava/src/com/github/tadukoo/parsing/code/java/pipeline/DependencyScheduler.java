@@ -0,0 +1,235 @@
+package com.github.tadukoo.parsing.code.java.pipeline;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.util.StringUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Dependency Scheduler generates, renders, and (optionally) writes the classes in a {@link ClassDependencyGraph}
+ * on an {@link Executor}, generating each class only once the classes it depends on have been generated.
+ * <br><br>
+ * Classes are scheduled by their own dependencies rather than in lock-step {@link ClassDependencyGraph#getLevels()
+ * levels}: a class starts as soon as the classes it needs are generated, and rendering and writing never hold
+ * anything up, so independent parts of the graph never wait on each other. If generating a class fails, the classes
+ * depending on it fail too, while the rest of the graph still finishes.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class DependencyScheduler{
+	
+	/**
+	 * Dependency Scheduler Builder is used to build a new {@link DependencyScheduler}. It contains the following
+	 * parameters:
+	 *
+	 * <table>
+	 *     <caption>Dependency Scheduler Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>executor</td>
+	 *         <td>The {@link Executor} to generate, render, and write on - it's not shut down by the scheduler</td>
+	 *         <td>{@link ForkJoinPool#commonPool()}</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>outputDirectory</td>
+	 *         <td>The source root to write the classes to (in directories for their packages)</td>
+	 *         <td>null (classes aren't written)</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static class DependencySchedulerBuilder{
+		/** The {@link Executor} to generate, render, and write on */
+		private Executor executor = ForkJoinPool.commonPool();
+		/** The source root to write the classes to */
+		private Path outputDirectory = null;
+		
+		// Can't create outside of Dependency Scheduler
+		private DependencySchedulerBuilder(){ }
+		
+		/**
+		 * @param executor The {@link Executor} to generate, render, and write on - it's not shut down by the
+		 * scheduler
+		 * @return this, to continue building
+		 */
+		public DependencySchedulerBuilder executor(Executor executor){
+			this.executor = executor;
+			return this;
+		}
+		
+		/**
+		 * @param outputDirectory The source root to write the classes to (in directories for their packages)
+		 * @return this, to continue building
+		 */
+		public DependencySchedulerBuilder outputDirectory(Path outputDirectory){
+			this.outputDirectory = outputDirectory;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters
+		 *
+		 * @throws IllegalArgumentException if anything is wrong
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			if(executor == null){
+				errors.add("Must specify executor!");
+			}
+			
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters, then builds a new {@link DependencyScheduler}
+		 *
+		 * @return A newly built {@link DependencyScheduler}
+		 * @throws IllegalArgumentException if anything is wrong with the current parameters
+		 */
+		public DependencyScheduler build(){
+			checkForErrors();
+			
+			return new DependencyScheduler(executor, outputDirectory);
+		}
+	}
+	
+	/** The {@link Executor} to generate, render, and write on */
+	private final Executor executor;
+	/** The source root to write the classes to (null if they aren't written) */
+	private final Path outputDirectory;
+	
+	/**
+	 * Constructs a new Dependency Scheduler with the given parameters
+	 *
+	 * @param executor The {@link Executor} to generate, render, and write on
+	 * @param outputDirectory The source root to write the classes to (null if they aren't written)
+	 */
+	private DependencyScheduler(Executor executor, Path outputDirectory){
+		this.executor = executor;
+		this.outputDirectory = outputDirectory;
+	}
+	
+	/**
+	 * @return A new {@link DependencySchedulerBuilder} to use to build a {@link DependencyScheduler}
+	 */
+	public static DependencySchedulerBuilder builder(){
+		return new DependencySchedulerBuilder();
+	}
+	
+	/**
+	 * @return The {@link Executor} classes are generated, rendered, and written on
+	 */
+	public Executor getExecutor(){
+		return executor;
+	}
+	
+	/**
+	 * @return The source root classes are written to (null if they aren't written)
+	 */
+	public Path getOutputDirectory(){
+		return outputDirectory;
+	}
+	
+	/**
+	 * Starts generating, rendering, and writing the classes in the graph
+	 *
+	 * @param graph The {@link ClassDependencyGraph} to generate
+	 * @return A future of the {@link RenderedJavaClass rendered classes}, in the order of the graph's levels, which
+	 * fails with the first failure once everything else is done
+	 */
+	public CompletableFuture<List<RenderedJavaClass>> schedule(ClassDependencyGraph graph){
+		Map<String, CompletableFuture<JavaClass>> generated = new HashMap<>();
+		List<CompletableFuture<RenderedJavaClass>> rendered = new ArrayList<>();
+		for(List<String> level: graph.getLevels()){
+			for(String qualifiedName: level){
+				// Levels are in order, so the dependencies are already scheduled
+				List<String> dependencies = graph.getDependencies(qualifiedName);
+				List<CompletableFuture<JavaClass>> dependencyFutures = new ArrayList<>();
+				for(String dependency: dependencies){
+					dependencyFutures.add(generated.get(dependency));
+				}
+				CompletableFuture<JavaClass> javaClass = CompletableFuture
+						.allOf(dependencyFutures.toArray(new CompletableFuture<?>[0]))
+						.thenApplyAsync(ignored -> {
+							Map<String, JavaClass> dependencyClasses = new HashMap<>();
+							for(int i = 0; i < dependencies.size(); i++){
+								dependencyClasses.put(dependencies.get(i), dependencyFutures.get(i).join());
+							}
+							return graph.generate(qualifiedName, dependencyClasses);
+						}, executor);
+				generated.put(qualifiedName, javaClass);
+				rendered.add(javaClass.thenApplyAsync(this::renderAndWrite, executor));
+			}
+		}
+		
+		return CompletableFuture.allOf(rendered.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+			List<RenderedJavaClass> results = new ArrayList<>(rendered.size());
+			for(CompletableFuture<RenderedJavaClass> result: rendered){
+				results.add(result.join());
+			}
+			return results;
+		});
+	}
+	
+	/**
+	 * Generates, renders, and writes the classes in the graph, waiting for them all to finish
+	 *
+	 * @param graph The {@link ClassDependencyGraph} to generate
+	 * @return The {@link RenderedJavaClass rendered classes}, in the order of the graph's levels
+	 * @throws UncheckedIOException If writing a class fails
+	 * @throws RuntimeException The first failure from generating a class
+	 */
+	public List<RenderedJavaClass> run(ClassDependencyGraph graph){
+		try{
+			return schedule(graph).join();
+		}catch(CompletionException e){
+			if(e.getCause() instanceof RuntimeException){
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("Failed to generate classes", e.getCause());
+		}
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to render and write
+	 * @return The {@link RenderedJavaClass rendered class}
+	 * @throws UncheckedIOException If writing the class fails
+	 */
+	private RenderedJavaClass renderAndWrite(JavaClass javaClass){
+		RenderedJavaClass rendered = RenderedJavaClass.render(javaClass);
+		if(outputDirectory != null){
+			Path file = outputDirectory.resolve(rendered.getRelativePath());
+			try{
+				Files.createDirectories(file.getParent());
+				Files.write(file, rendered.getSource().getBytes(StandardCharsets.UTF_8));
+			}catch(IOException e){
+				throw new UncheckedIOException(e);
+			}
+		}
+		return rendered;
+	}
+}
@@ -0,0 +1,377 @@
+package com.github.tadukoo.parsing.code.java.pipeline;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Java Class Render Processor is a {@link Flow.Processor} stage that subscribes to {@link JavaClass} models,
+ * renders them on an executor, and publishes the {@link RenderedJavaClass results} to a single downstream
+ * subscriber.
+ * <br><br>
+ * Backpressure is driven entirely by downstream demand: models are only requested from upstream when the
+ * downstream subscriber has asked for results, and never more than {@code maxInFlight} at a time. So at most
+ * {@code maxInFlight} models (and their renderings) are held by the processor, no matter how fast producers are.
+ * Results are published in the order rendering finishes, which may differ from the order models arrived in.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class JavaClassRenderProcessor implements Flow.Processor<JavaClass, RenderedJavaClass>{
+	
+	/**
+	 * Java Class Render Processor Builder is used to build a new {@link JavaClassRenderProcessor}. It contains the
+	 * following parameters:
+	 *
+	 * <table>
+	 *     <caption>Java Class Render Processor Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>executor</td>
+	 *         <td>The {@link Executor} to render on (e.g. a virtual thread executor) - it's not shut down by
+	 *         the processor</td>
+	 *         <td>A fixed pool with one daemon thread per available processor, shut down when the stream ends</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>maxInFlight</td>
+	 *         <td>The most models that may be requested, rendering, or waiting to be published at once</td>
+	 *         <td>Twice the number of available processors</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static class JavaClassRenderProcessorBuilder{
+		/** The {@link Executor} to render on */
+		private Executor executor = null;
+		/** The most models that may be requested, rendering, or waiting to be published at once */
+		private int maxInFlight = 2 * Runtime.getRuntime().availableProcessors();
+		
+		// Can't create outside of JavaClassRenderProcessor
+		private JavaClassRenderProcessorBuilder(){ }
+		
+		/**
+		 * @param executor The {@link Executor} to render on (e.g. a virtual thread executor) - it's not shut down
+		 * by the processor
+		 * @return this, to continue building
+		 */
+		public JavaClassRenderProcessorBuilder executor(Executor executor){
+			this.executor = executor;
+			return this;
+		}
+		
+		/**
+		 * @param maxInFlight The most models that may be requested, rendering, or waiting to be published at once
+		 * @return this, to continue building
+		 */
+		public JavaClassRenderProcessorBuilder maxInFlight(int maxInFlight){
+			this.maxInFlight = maxInFlight;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters
+		 *
+		 * @throws IllegalArgumentException if anything is wrong
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			if(maxInFlight <= 0){
+				errors.add("maxInFlight must be positive!");
+			}
+			
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters, then builds a new {@link JavaClassRenderProcessor}
+		 *
+		 * @return A newly built {@link JavaClassRenderProcessor}
+		 * @throws IllegalArgumentException if anything is wrong with the current parameters
+		 */
+		public JavaClassRenderProcessor build(){
+			checkForErrors();
+			
+			if(executor != null){
+				return new JavaClassRenderProcessor(executor, null, maxInFlight);
+			}
+			ExecutorService ownedExecutor = Executors.newFixedThreadPool(
+					Runtime.getRuntime().availableProcessors(), runnable -> {
+						Thread thread = new Thread(runnable, "tadukoo-java-render");
+						thread.setDaemon(true);
+						return thread;
+					});
+			return new JavaClassRenderProcessor(ownedExecutor, ownedExecutor, maxInFlight);
+		}
+	}
+	
+	/**
+	 * The {@link Flow.Subscription} given to the downstream subscriber
+	 */
+	private class DownstreamSubscription implements Flow.Subscription{
+		
+		/** {@inheritDoc} */
+		@Override
+		public void request(long n){
+			if(n <= 0){
+				fail(new IllegalArgumentException("Must request a positive number of items!"));
+				return;
+			}
+			demand.getAndUpdate(current -> current + n < 0?Long.MAX_VALUE:current + n);
+			drain();
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public void cancel(){
+			if(terminated.compareAndSet(false, true)){
+				Flow.Subscription subscription = upstream.get();
+				if(subscription != null){
+					subscription.cancel();
+				}
+				results.clear();
+				shutdown();
+			}
+		}
+	}
+	
+	/** The {@link Executor} to render on */
+	private final Executor executor;
+	/** The executor created by this processor, to shut down when the stream ends (null if not owned) */
+	private final ExecutorService ownedExecutor;
+	/** The most models that may be requested, rendering, or waiting to be published at once */
+	private final int maxInFlight;
+	
+	/** The subscription to the upstream publisher of models */
+	private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+	/** The downstream subscriber of results */
+	private final AtomicReference<Flow.Subscriber<? super RenderedJavaClass>> downstream = new AtomicReference<>();
+	/** The number of results the downstream subscriber has asked for but not received */
+	private final AtomicLong demand = new AtomicLong();
+	/** Rendered results waiting to be published */
+	private final Queue<RenderedJavaClass> results = new ConcurrentLinkedQueue<>();
+	/** The number of models received from upstream */
+	private final AtomicLong received = new AtomicLong();
+	/** Used so that only one thread publishes at a time */
+	private final AtomicInteger workInProgress = new AtomicInteger();
+	/** Whether the stream has ended (completed, failed, or cancelled) */
+	private final AtomicBoolean terminated = new AtomicBoolean();
+	/** Whether the upstream publisher has completed */
+	private volatile boolean upstreamDone = false;
+	/** The error to send downstream, if any */
+	private volatile Throwable error = null;
+	/** The number of models requested from upstream - only used while draining */
+	private long requested = 0;
+	/** The number of results published downstream - only used while draining */
+	private long emitted = 0;
+	
+	/**
+	 * Constructs a new Java Class Render Processor with the given parameters
+	 *
+	 * @param executor The {@link Executor} to render on
+	 * @param ownedExecutor The executor created by this processor, to shut down when the stream ends
+	 * (null if not owned)
+	 * @param maxInFlight The most models that may be requested, rendering, or waiting to be published at once
+	 */
+	private JavaClassRenderProcessor(Executor executor, ExecutorService ownedExecutor, int maxInFlight){
+		this.executor = executor;
+		this.ownedExecutor = ownedExecutor;
+		this.maxInFlight = maxInFlight;
+	}
+	
+	/**
+	 * @return A new {@link JavaClassRenderProcessorBuilder} to use to build a {@link JavaClassRenderProcessor}
+	 */
+	public static JavaClassRenderProcessorBuilder builder(){
+		return new JavaClassRenderProcessorBuilder();
+	}
+	
+	/**
+	 * @return The most models that may be requested, rendering, or waiting to be published at once
+	 */
+	public int getMaxInFlight(){
+		return maxInFlight;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void subscribe(Flow.Subscriber<? super RenderedJavaClass> subscriber){
+		if(!downstream.compareAndSet(null, subscriber)){
+			subscriber.onSubscribe(new Flow.Subscription(){
+				@Override
+				public void request(long n){ }
+				
+				@Override
+				public void cancel(){ }
+			});
+			subscriber.onError(new IllegalStateException("Only one subscriber is allowed!"));
+			return;
+		}
+		subscriber.onSubscribe(new DownstreamSubscription());
+		drain();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void onSubscribe(Flow.Subscription subscription){
+		if(!upstream.compareAndSet(null, subscription)){
+			subscription.cancel();
+			return;
+		}
+		if(terminated.get()){
+			subscription.cancel();
+			return;
+		}
+		drain();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void onNext(JavaClass javaClass){
+		received.incrementAndGet();
+		try{
+			executor.execute(() -> {
+				if(terminated.get()){
+					return;
+				}
+				try{
+					results.add(RenderedJavaClass.render(javaClass));
+				}catch(RuntimeException e){
+					fail(e);
+					return;
+				}
+				drain();
+			});
+		}catch(RejectedExecutionException e){
+			fail(e);
+		}
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void onError(Throwable throwable){
+		error = throwable;
+		upstreamDone = true;
+		drain();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void onComplete(){
+		upstreamDone = true;
+		drain();
+	}
+	
+	/**
+	 * Ends the stream with the given error, cancelling upstream
+	 *
+	 * @param throwable The error to send downstream
+	 */
+	private void fail(Throwable throwable){
+		error = throwable;
+		upstreamDone = true;
+		Flow.Subscription subscription = upstream.get();
+		if(subscription != null){
+			subscription.cancel();
+		}
+		drain();
+	}
+	
+	/**
+	 * Shuts down the executor if it was created by this processor
+	 */
+	private void shutdown(){
+		if(ownedExecutor != null){
+			ownedExecutor.shutdown();
+		}
+	}
+	
+	/**
+	 * Publishes as many results as the downstream subscriber wants, signals the end of the stream if everything's
+	 * been published, and requests more models from upstream to fill up to the allowed number in flight. Only one
+	 * thread drains at a time - other threads just tell it to go around again.
+	 */
+	private void drain(){
+		if(workInProgress.getAndIncrement() != 0){
+			return;
+		}
+		int missed = 1;
+		do{
+			Flow.Subscriber<? super RenderedJavaClass> subscriber = downstream.get();
+			if(subscriber != null && !terminated.get()){
+				// Errors are sent right away, without waiting for renders still in progress
+				Throwable failure = error;
+				if(failure != null){
+					terminate();
+					subscriber.onError(failure);
+				}else{
+					// Publish what we can
+					RenderedJavaClass result;
+					while(demand.get() > 0 && (result = results.poll()) != null){
+						emitted++;
+						demand.decrementAndGet();
+						subscriber.onNext(result);
+					}
+					
+					if(upstreamDone && emitted == received.get()){
+						terminate();
+						subscriber.onComplete();
+					}else if(!upstreamDone){
+						requestMore();
+					}
+				}
+			}
+			missed = workInProgress.addAndGet(-missed);
+		}while(missed != 0);
+	}
+	
+	/**
+	 * Requests more models from upstream, up to the downstream demand and the allowed number in flight
+	 */
+	private void requestMore(){
+		Flow.Subscription subscription = upstream.get();
+		if(subscription == null){
+			return;
+		}
+		long window = Math.min(maxInFlight, demand.get());
+		long outstanding = requested - emitted;
+		if(window > outstanding){
+			long toRequest = window - outstanding;
+			requested += toRequest;
+			subscription.request(toRequest);
+		}
+	}
+	
+	/**
+	 * Marks the stream as ended and shuts down the executor if it was created by this processor
+	 */
+	private void terminate(){
+		if(terminated.compareAndSet(false, true)){
+			results.clear();
+			shutdown();
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.github.tadukoo.parsing.code.java.pipeline;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+
+/**
+ * Rendered Java Class holds a {@link JavaClass} along with the source code it was rendered to
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class RenderedJavaClass{
+	/** The {@link JavaClass} that was rendered */
+	private final JavaClass javaClass;
+	/** The source code the class was rendered to */
+	private final String source;
+	
+	/**
+	 * Constructs a new Rendered Java Class with the given parameters
+	 *
+	 * @param javaClass The {@link JavaClass} that was rendered
+	 * @param source The source code the class was rendered to
+	 */
+	public RenderedJavaClass(JavaClass javaClass, String source){
+		this.javaClass = javaClass;
+		this.source = source;
+	}
+	
+	/**
+	 * Renders the given {@link JavaClass}
+	 *
+	 * @param javaClass The {@link JavaClass} to render
+	 * @return A new Rendered Java Class for the given class
+	 */
+	public static RenderedJavaClass render(JavaClass javaClass){
+		return new RenderedJavaClass(javaClass, javaClass.toString());
+	}
+	
+	/**
+	 * @return The {@link JavaClass} that was rendered
+	 */
+	public JavaClass getJavaClass(){
+		return javaClass;
+	}
+	
+	/**
+	 * @return The source code the class was rendered to
+	 */
+	public String getSource(){
+		return source;
+	}
+	
+	/**
+	 * @return The fully qualified name of the class (e.g. com.example.Test)
+	 */
+	public String getQualifiedName(){
+		return javaClass.getPackageName() + "." + javaClass.getClassName();
+	}
+	
+	/**
+	 * @return The path the source file belongs at, relative to a source root (e.g. com/example/Test.java)
+	 */
+	public String getRelativePath(){
+		return javaClass.getPackageName().replace('.', '/') + "/" + javaClass.getClassName() + ".java";
+	}
+}
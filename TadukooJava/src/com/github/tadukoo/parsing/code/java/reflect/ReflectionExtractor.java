@@ -0,0 +1,403 @@
+package com.github.tadukoo.parsing.code.java.reflect;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.Visibility;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reflection Extractor builds {@link JavaClass} models of already loaded classes, e.g. to generate wrappers or
+ * proxies for them. The model includes:
+ * <ul>
+ *     <li>The package, simple class name, {@link Visibility}, whether it's abstract, and generic super class</li>
+ *     <li>The instance fields, with their generic types and whether they're final</li>
+ *     <li>The constructors and instance methods, with whether they're abstract and generic parameter, return, and
+ *     throw types (but no lines, as there's no source to take them from)</li>
+ *     <li>Any {@link java.lang.annotation.RetentionPolicy#RUNTIME runtime-visible} annotations (by name only)</li>
+ *     <li>Imports for any types used from outside {@code java.lang} and the class's own package</li>
+ * </ul>
+ * Static, synthetic, and bridge members are left out, since the models can't represent them. Parameter names are
+ * only the real ones if the class was compiled with {@code -parameters} (otherwise they're {@code arg0}, etc.).
+ * Methods are sorted by name and then parameter types, so the models are the same from run to run.
+ * <br><br>
+ * Models are cached per class in a {@link ClassValue}, so repeated lookups are just a field read and the cache
+ * doesn't keep classes (or their class loaders) from being unloaded.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class ReflectionExtractor{
+	/** The cached {@link JavaClass models}, computed on first use for each class */
+	private static final ClassValue<JavaClass> MODELS = new ClassValue<>(){
+		@Override
+		protected JavaClass computeValue(Class<?> type){
+			return new Extraction(type).extract();
+		}
+	};
+	
+	// Not allowed to create a Reflection Extractor
+	private ReflectionExtractor(){ }
+	
+	/**
+	 * Grabs the {@link JavaClass} model of the given class, extracting it on first use
+	 *
+	 * @param type The class to get the model of
+	 * @return The {@link JavaClass} model of the class
+	 * @throws IllegalArgumentException if the class is a primitive, array, or anonymous class
+	 */
+	public static JavaClass extract(Class<?> type){
+		return MODELS.get(type);
+	}
+	
+	/**
+	 * Grabs the {@link JavaClass} models of all the given classes, extracting any that aren't cached yet in parallel
+	 *
+	 * @param types The classes to get the models of
+	 * @return The {@link JavaClass} models, in the same order as the classes were given
+	 * @throws IllegalArgumentException if any of the classes is a primitive, array, or anonymous class
+	 */
+	public static List<JavaClass> extractAll(Collection<Class<?>> types){
+		return types.parallelStream()
+				.map(MODELS::get)
+				.collect(Collectors.toList());
+	}
+	
+	/**
+	 * Grabs the {@link JavaClass} models of all top-level classes in the given package, as found by the given class
+	 * loader in directories or jar files on its class path. Classes are loaded (without initializing them) one at a
+	 * time, then extracted in parallel. Subpackages aren't included.
+	 *
+	 * @param classLoader The class loader to find and load the classes with
+	 * @param packageName The name of the package to extract (e.g. com.example)
+	 * @return The {@link JavaClass} models of the classes in the package, sorted by class name
+	 * @throws IOException If the class path can't be read
+	 * @throws ClassNotFoundException If a class that was found can't be loaded
+	 */
+	public static List<JavaClass> extractPackage(ClassLoader classLoader, String packageName)
+			throws IOException, ClassNotFoundException{
+		String path = packageName.replace('.', '/');
+		TreeSet<String> classNames = new TreeSet<>();
+		Enumeration<URL> locations = classLoader.getResources(path);
+		while(locations.hasMoreElements()){
+			findClassNames(locations.nextElement(), path, classNames);
+		}
+		
+		List<Class<?>> types = new ArrayList<>(classNames.size());
+		for(String className: classNames){
+			types.add(Class.forName(packageName + "." + className, false, classLoader));
+		}
+		return extractAll(types);
+	}
+	
+	/**
+	 * Adds the names of the top-level classes at the given location to the given set
+	 *
+	 * @param location The location of the package (a directory or a directory in a jar file)
+	 * @param path The path of the package (e.g. com/example)
+	 * @param classNames The set of simple class names to add to
+	 * @throws IOException If the location can't be read
+	 */
+	private static void findClassNames(URL location, String path, Collection<String> classNames)
+			throws IOException{
+		if("file".equals(location.getProtocol())){
+			Path directory;
+			try{
+				directory = Paths.get(location.toURI());
+			}catch(URISyntaxException e){
+				throw new IOException("Bad class path location " + location, e);
+			}
+			try(Stream<Path> files = Files.list(directory)){
+				files.map(file -> file.getFileName().toString())
+						.forEach(fileName -> addClassName(fileName, classNames));
+			}
+		}else if("jar".equals(location.getProtocol())){
+			URLConnection connection = location.openConnection();
+			if(connection instanceof JarURLConnection){
+				JarURLConnection jarConnection = (JarURLConnection) connection;
+				jarConnection.setUseCaches(false);
+				try(JarFile jar = jarConnection.getJarFile()){
+					String prefix = path + "/";
+					Enumeration<JarEntry> entries = jar.entries();
+					while(entries.hasMoreElements()){
+						String name = entries.nextElement().getName();
+						if(name.startsWith(prefix) && name.indexOf('/', prefix.length()) == -1){
+							addClassName(name.substring(prefix.length()), classNames);
+						}
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adds the class name for the given file name to the given set, if it's a top-level class file
+	 *
+	 * @param fileName The name of the file (e.g. Test.class)
+	 * @param classNames The set of simple class names to add to
+	 */
+	private static void addClassName(String fileName, Collection<String> classNames){
+		if(fileName.endsWith(".class") && fileName.indexOf('$') == -1 &&
+				!fileName.equals("package-info.class") && !fileName.equals("module-info.class")){
+			classNames.add(fileName.substring(0, fileName.length() - ".class".length()));
+		}
+	}
+	
+	/**
+	 * @param modifiers The modifiers of a class or member
+	 * @return The {@link Visibility} for the modifiers
+	 */
+	private static Visibility visibility(int modifiers){
+		if(Modifier.isPublic(modifiers)){
+			return Visibility.PUBLIC;
+		}else if(Modifier.isProtected(modifiers)){
+			return Visibility.PROTECTED;
+		}else if(Modifier.isPrivate(modifiers)){
+			return Visibility.PRIVATE;
+		}else{
+			return Visibility.NONE;
+		}
+	}
+	
+	/**
+	 * A single extraction of a class, which keeps track of the simple names used so far so it can decide what
+	 * needs to be imported (or fully qualified, when two types share a simple name)
+	 */
+	private static class Extraction{
+		/** The class being extracted */
+		private final Class<?> type;
+		/** The package of the class being extracted */
+		private final String packageName;
+		/** The top-level classes that have been referenced by their simple names */
+		private final Map<String, Class<?>> simpleNames = new HashMap<>();
+		/** The imports needed so far */
+		private final TreeSet<String> imports = new TreeSet<>();
+		
+		/**
+		 * Starts a new extraction of the given class
+		 *
+		 * @param type The class to extract
+		 */
+		private Extraction(Class<?> type){
+			if(type.isPrimitive() || type.isArray() || type.isAnonymousClass()){
+				throw new IllegalArgumentException("Can't extract a model of " + type.getName() +
+						": it's a primitive, array, or anonymous class!");
+			}
+			this.type = type;
+			packageName = type.getPackageName();
+			Class<?> topLevel = type;
+			while(topLevel.getDeclaringClass() != null){
+				topLevel = topLevel.getDeclaringClass();
+			}
+			simpleNames.put(topLevel.getSimpleName(), topLevel);
+			simpleNames.put(type.getSimpleName(), type);
+		}
+		
+		/**
+		 * @return The {@link JavaClass} model of the class
+		 */
+		private JavaClass extract(){
+			JavaClass.JavaClassBuilder builder = JavaClass.builder()
+					.packageName(packageName)
+					.annotations(annotations(type.getDeclaredAnnotations()))
+					.visibility(visibility(type.getModifiers()))
+					.isAbstract(Modifier.isAbstract(type.getModifiers()))
+					.className(type.getSimpleName());
+			
+			Type superClass = type.getGenericSuperclass();
+			if(superClass != null && superClass != Object.class){
+				builder.superClassName(typeName(superClass));
+			}
+			
+			for(Field field: type.getDeclaredFields()){
+				if(!field.isSynthetic() && !Modifier.isStatic(field.getModifiers())){
+					builder.field(JavaField.builder()
+							.annotations(annotations(field.getDeclaredAnnotations()))
+							.visibility(visibility(field.getModifiers()))
+							.isFinal(Modifier.isFinal(field.getModifiers()))
+							.type(typeName(field.getGenericType()))
+							.name(field.getName())
+							.build());
+				}
+			}
+			
+			Comparator<Executable> order = Comparator.comparing(Executable::getName)
+					.thenComparing(executable -> Arrays.toString(executable.getParameterTypes()));
+			Constructor<?>[] constructors = type.getDeclaredConstructors();
+			Arrays.sort(constructors, order);
+			for(Constructor<?> constructor: constructors){
+				if(!constructor.isSynthetic()){
+					builder.method(method(constructor, null, type.getSimpleName()));
+				}
+			}
+			Method[] methods = type.getDeclaredMethods();
+			Arrays.sort(methods, order);
+			for(Method method: methods){
+				if(!method.isSynthetic() && !method.isBridge() && !Modifier.isStatic(method.getModifiers())){
+					builder.method(method(method, method.getName(), typeName(method.getGenericReturnType())));
+				}
+			}
+			
+			// Imports are added last, as they're found while naming all the types
+			return builder.imports(new ArrayList<>(imports)).build();
+		}
+		
+		/**
+		 * @param executable The constructor or method to build the {@link JavaMethod} for
+		 * @param name The name of the method (null for constructors)
+		 * @param returnType The return type of the method (the class name for constructors)
+		 * @return The {@link JavaMethod} for the constructor or method
+		 */
+		private JavaMethod method(Executable executable, String name, String returnType){
+			JavaMethod.JavaMethodBuilder builder = JavaMethod.builder()
+					.annotations(annotations(executable.getDeclaredAnnotations()))
+					.visibility(visibility(executable.getModifiers()))
+					.isAbstract(Modifier.isAbstract(executable.getModifiers()))
+					.returnType(returnType)
+					.name(name);
+			
+			// Enum constructors take the name and ordinal first, and inner class constructors the outer instance
+			Parameter[] parameters = executable.getParameters();
+			int first = 0;
+			if(name == null){
+				if(type.isEnum()){
+					first = 2;
+				}else if(type.isMemberClass() && !Modifier.isStatic(type.getModifiers())){
+					first = 1;
+				}
+			}
+			for(int i = Math.min(first, parameters.length); i < parameters.length; i++){
+				String parameterType = typeName(parameters[i].getParameterizedType());
+				if(executable.isVarArgs() && i == parameters.length - 1 && parameterType.endsWith("[]")){
+					parameterType = parameterType.substring(0, parameterType.length() - 2) + "...";
+				}
+				builder.parameter(parameterType, parameters[i].getName());
+			}
+			for(Type throwType: executable.getGenericExceptionTypes()){
+				builder.throwType(typeName(throwType));
+			}
+			return builder.build();
+		}
+		
+		/**
+		 * @param annotations The annotations to build {@link JavaAnnotation JavaAnnotations} for
+		 * @return The {@link JavaAnnotation JavaAnnotations}
+		 */
+		private List<JavaAnnotation> annotations(Annotation[] annotations){
+			List<JavaAnnotation> javaAnnotations = new ArrayList<>(annotations.length);
+			for(Annotation annotation: annotations){
+				javaAnnotations.add(JavaAnnotation.builder().name(typeName(annotation.annotationType())).build());
+			}
+			return javaAnnotations;
+		}
+		
+		/**
+		 * @param type The type to name
+		 * @return The name of the type as it would be written in the source of the class
+		 */
+		private String typeName(Type type){
+			if(type instanceof Class){
+				Class<?> clazz = (Class<?>) type;
+				if(clazz.isArray()){
+					return typeName(clazz.getComponentType()) + "[]";
+				}
+				return clazz.isPrimitive()?clazz.getName():className(clazz);
+			}else if(type instanceof ParameterizedType){
+				ParameterizedType parameterized = (ParameterizedType) type;
+				Class<?> raw = (Class<?>) parameterized.getRawType();
+				Type owner = parameterized.getOwnerType();
+				StringBuilder name = new StringBuilder();
+				if(owner instanceof ParameterizedType){
+					name.append(typeName(owner)).append('.').append(raw.getSimpleName());
+				}else{
+					name.append(className(raw));
+				}
+				name.append('<');
+				Type[] arguments = parameterized.getActualTypeArguments();
+				for(int i = 0; i < arguments.length; i++){
+					if(i > 0){
+						name.append(", ");
+					}
+					name.append(typeName(arguments[i]));
+				}
+				return name.append('>').toString();
+			}else if(type instanceof GenericArrayType){
+				return typeName(((GenericArrayType) type).getGenericComponentType()) + "[]";
+			}else if(type instanceof TypeVariable){
+				return ((TypeVariable<?>) type).getName();
+			}else if(type instanceof WildcardType){
+				WildcardType wildcard = (WildcardType) type;
+				if(wildcard.getLowerBounds().length > 0){
+					return "? super " + typeName(wildcard.getLowerBounds()[0]);
+				}
+				Type[] upperBounds = wildcard.getUpperBounds();
+				if(upperBounds.length == 0 || upperBounds[0] == Object.class){
+					return "?";
+				}
+				return "? extends " + typeName(upperBounds[0]);
+			}
+			return type.getTypeName();
+		}
+		
+		/**
+		 * Names the given (non-array, non-primitive) class, adding an import for it if needed
+		 *
+		 * @param clazz The class to name
+		 * @return The name of the class as it would be written in the source of the class being extracted
+		 */
+		private String className(Class<?> clazz){
+			if(clazz.isMemberClass()){
+				return className(clazz.getDeclaringClass()) + "." + clazz.getSimpleName();
+			}else if(clazz.isAnonymousClass() || clazz.isLocalClass()){
+				return clazz.getName();
+			}
+			
+			String simpleName = clazz.getSimpleName();
+			Class<?> existing = simpleNames.putIfAbsent(simpleName, clazz);
+			if(existing != null && existing != clazz){
+				// Another type already has this simple name
+				return clazz.getName();
+			}
+			String classPackage = clazz.getPackageName();
+			if(!classPackage.equals("java.lang") && !classPackage.equals(packageName)){
+				imports.add(clazz.getName());
+			}
+			return simpleName;
+		}
+	}
+}
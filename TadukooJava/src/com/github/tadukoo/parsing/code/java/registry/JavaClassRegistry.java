@@ -0,0 +1,470 @@
+package com.github.tadukoo.parsing.code.java.registry;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.TypeRef;
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.StringUtil;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Java Class Registry holds {@link JavaClass classes} by fully qualified name (package name + "." + class name) for
+ * generators running on many threads, so they can look each other up (e.g. to
+ * {@link #getSuperClass(JavaClass) resolve a super class}).
+ * <ul>
+ *     <li>Lookups never lock: classes are kept in a {@link ConcurrentHashMap} of class names for each package,
+ *     keyed by the names the classes already hold, so each entry only costs a map node.</li>
+ *     <li>{@link #computeIfAbsent(String, String, Supplier) computeIfAbsent} generates each class only once, even
+ *     when several threads ask for it at the same time. The generator runs outside of any lock (unlike
+ *     {@link ConcurrentHashMap#computeIfAbsent}), so it can look up or generate other classes; threads asking for a
+ *     class that's being generated wait for it. A generator asking for its own class (directly, through other
+ *     classes it generates on the same thread, or through classes other threads are generating that wait on it)
+ *     fails instead of waiting forever.</li>
+ *     <li>{@link #getPackage(String) Package views} and {@link #snapshot() snapshots} only show classes that are
+ *     done being generated.</li>
+ * </ul>
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class JavaClassRegistry{
+	
+	/**
+	 * Java Class Registry Builder is used to build a new {@link JavaClassRegistry}. It contains the following
+	 * parameters:
+	 *
+	 * <table>
+	 *     <caption>Java Class Registry Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>expectedPackages</td>
+	 *         <td>The number of packages expected, to size the registry up front</td>
+	 *         <td>64</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>expectedClassesPerPackage</td>
+	 *         <td>The number of classes expected in each package, to size each package up front</td>
+	 *         <td>16</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static class JavaClassRegistryBuilder{
+		/** The number of packages expected, to size the registry up front */
+		private int expectedPackages = 64;
+		/** The number of classes expected in each package, to size each package up front */
+		private int expectedClassesPerPackage = 16;
+		
+		// Can't create outside of Java Class Registry
+		private JavaClassRegistryBuilder(){ }
+		
+		/**
+		 * @param expectedPackages The number of packages expected, to size the registry up front
+		 * @return this, to continue building
+		 */
+		public JavaClassRegistryBuilder expectedPackages(int expectedPackages){
+			this.expectedPackages = expectedPackages;
+			return this;
+		}
+		
+		/**
+		 * @param expectedClassesPerPackage The number of classes expected in each package, to size each package up
+		 * front
+		 * @return this, to continue building
+		 */
+		public JavaClassRegistryBuilder expectedClassesPerPackage(int expectedClassesPerPackage){
+			this.expectedClassesPerPackage = expectedClassesPerPackage;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters
+		 *
+		 * @throws IllegalArgumentException if anything is wrong
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			if(expectedPackages <= 0){
+				errors.add("expectedPackages must be positive!");
+			}
+			if(expectedClassesPerPackage <= 0){
+				errors.add("expectedClassesPerPackage must be positive!");
+			}
+			
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters, then builds a new {@link JavaClassRegistry}
+		 *
+		 * @return A newly built {@link JavaClassRegistry}
+		 * @throws IllegalArgumentException if anything is wrong with the current parameters
+		 */
+		public JavaClassRegistry build(){
+			checkForErrors();
+			
+			return new JavaClassRegistry(expectedPackages, expectedClassesPerPackage);
+		}
+	}
+	
+	/**
+	 * Stands in for a class while it's being generated
+	 */
+	private static class Pending{
+		/** The thread generating the class */
+		private final Thread owner = Thread.currentThread();
+		/** Counted down once the class is generated (or generating it failed) */
+		private final CountDownLatch done = new CountDownLatch(1);
+	}
+	
+	/**
+	 * A view of the classes in a package that are done being generated
+	 */
+	private class PackageView extends AbstractCollection<JavaClass>{
+		/** The name of the package */
+		private final String packageName;
+		
+		/**
+		 * @param packageName The name of the package
+		 */
+		private PackageView(String packageName){
+			this.packageName = packageName;
+		}
+		
+		/**
+		 * @return The classes (and {@link Pending placeholders}) in the package right now
+		 */
+		private Collection<Object> values(){
+			ConcurrentHashMap<String, Object> classes = packages.get(packageName);
+			return classes != null?classes.values():Collections.emptyList();
+		}
+		
+		/** {@inheritDoc} */
+		@Override
+		public Iterator<JavaClass> iterator(){
+			Iterator<Object> values = values().iterator();
+			return new Iterator<>(){
+				/** The next class, or null if it hasn't been found yet */
+				private JavaClass next = null;
+				
+				/** {@inheritDoc} */
+				@Override
+				public boolean hasNext(){
+					while(next == null && values.hasNext()){
+						Object value = values.next();
+						if(value instanceof JavaClass){
+							next = (JavaClass) value;
+						}
+					}
+					return next != null;
+				}
+				
+				/** {@inheritDoc} */
+				@Override
+				public JavaClass next(){
+					if(!hasNext()){
+						throw new NoSuchElementException();
+					}
+					JavaClass javaClass = next;
+					next = null;
+					return javaClass;
+				}
+			};
+		}
+		
+		/**
+		 * Counts the classes in the package, which takes time proportional to the size of the package
+		 *
+		 * @return The number of classes in the package that are done being generated
+		 */
+		@Override
+		public int size(){
+			int size = 0;
+			for(Object value: values()){
+				if(value instanceof JavaClass){
+					size++;
+				}
+			}
+			return size;
+		}
+	}
+	
+	/** The classes (and {@link Pending placeholders}) in each package, by package name, then class name */
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, Object>> packages;
+	/** The number of classes expected in each package, to size each package up front */
+	private final int expectedClassesPerPackage;
+	/** The number of classes that are done being generated */
+	private final LongAdder size = new LongAdder();
+	/** The {@link Pending placeholder} each thread is waiting on, to find threads that would wait on each other */
+	private final ConcurrentHashMap<Thread, Pending> waiting = new ConcurrentHashMap<>();
+	
+	/**
+	 * Constructs a new Java Class Registry with the given parameters
+	 *
+	 * @param expectedPackages The number of packages expected, to size the registry up front
+	 * @param expectedClassesPerPackage The number of classes expected in each package, to size each package up front
+	 */
+	private JavaClassRegistry(int expectedPackages, int expectedClassesPerPackage){
+		packages = new ConcurrentHashMap<>(expectedPackages);
+		this.expectedClassesPerPackage = expectedClassesPerPackage;
+	}
+	
+	/**
+	 * @return A new {@link JavaClassRegistryBuilder} to use to build a {@link JavaClassRegistry}
+	 */
+	public static JavaClassRegistryBuilder builder(){
+		return new JavaClassRegistryBuilder();
+	}
+	
+	/**
+	 * @param packageName The name of a package
+	 * @return The classes in the package, creating the map for it if needed
+	 */
+	private ConcurrentHashMap<String, Object> packageClasses(String packageName){
+		ConcurrentHashMap<String, Object> classes = packages.get(packageName);
+		return classes != null?classes:packages.computeIfAbsent(packageName,
+				name -> new ConcurrentHashMap<>(expectedClassesPerPackage));
+	}
+	
+	/**
+	 * Adds a class to the registry, unless one with the same name is already there (or being generated)
+	 *
+	 * @param javaClass The {@link JavaClass} to add
+	 * @return true if the class was added, false if one with the same name was already in the registry
+	 */
+	public boolean register(JavaClass javaClass){
+		if(packageClasses(javaClass.getPackageName()).putIfAbsent(javaClass.getClassName(), javaClass) == null){
+			size.increment();
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * @param qualifiedName The fully qualified name of a class
+	 * @return The class with the given name, or null if it isn't in the registry (or is still being generated)
+	 */
+	public JavaClass get(String qualifiedName){
+		int dot = qualifiedName.lastIndexOf('.');
+		return dot == -1?null:get(qualifiedName.substring(0, dot), qualifiedName.substring(dot + 1));
+	}
+	
+	/**
+	 * @param packageName The name of the package the class is in
+	 * @param className The name of the class
+	 * @return The class with the given name, or null if it isn't in the registry (or is still being generated)
+	 */
+	public JavaClass get(String packageName, String className){
+		ConcurrentHashMap<String, Object> classes = packages.get(packageName);
+		Object value = classes != null?classes.get(className):null;
+		return value instanceof JavaClass?(JavaClass) value:null;
+	}
+	
+	/**
+	 * @param qualifiedName The fully qualified name of the class
+	 * @param generator Generates the class if it isn't in the registry
+	 * @return The class with the given name
+	 * @see #computeIfAbsent(String, String, Supplier)
+	 */
+	public JavaClass computeIfAbsent(String qualifiedName, Supplier<JavaClass> generator){
+		int dot = qualifiedName.lastIndexOf('.');
+		if(dot == -1){
+			throw new IllegalArgumentException("Not a fully qualified name: " + qualifiedName);
+		}
+		return computeIfAbsent(qualifiedName.substring(0, dot), qualifiedName.substring(dot + 1), generator);
+	}
+	
+	/**
+	 * Gets the class with the given name, generating it if it isn't in the registry yet. Only one thread generates
+	 * each class - others asking for it at the same time wait for it. If generating it fails, the failure is thrown
+	 * to the generating thread and a waiting thread tries again.
+	 *
+	 * @param packageName The name of the package the class is in
+	 * @param className The name of the class
+	 * @param generator Generates the class if it isn't in the registry
+	 * @return The class with the given name
+	 * @throws IllegalStateException If the generator generates a class with a different name, if generating the
+	 * class needs the class itself (including through classes being generated on other threads, which would leave
+	 * the threads waiting on each other), or if the thread is interrupted while waiting for another thread to
+	 * generate it
+	 */
+	public JavaClass computeIfAbsent(String packageName, String className, Supplier<JavaClass> generator){
+		ConcurrentHashMap<String, Object> classes = packageClasses(packageName);
+		while(true){
+			Object value = classes.get(className);
+			if(value instanceof JavaClass){
+				return (JavaClass) value;
+			}
+			if(value == null){
+				Pending pending = new Pending();
+				value = classes.putIfAbsent(className, pending);
+				if(value == null){
+					return generate(classes, packageName, className, pending, generator);
+				}else if(value instanceof JavaClass){
+					return (JavaClass) value;
+				}
+			}
+			
+			// Another generator got there first
+			Pending pending = (Pending) value;
+			Thread thread = Thread.currentThread();
+			// Say what this thread waits on before checking, so of two threads about to wait on each other, at
+			// least one sees the other
+			waiting.put(thread, pending);
+			try{
+				if(waitsOn(pending, thread)){
+					throw new IllegalStateException("Generating " + packageName + "." + className + " needs itself!");
+				}
+				pending.done.await();
+			}catch(InterruptedException e){
+				thread.interrupt();
+				throw new IllegalStateException("Interrupted while waiting for " + packageName + "." + className, e);
+			}finally{
+				waiting.remove(thread);
+			}
+		}
+	}
+	
+	/**
+	 * Follows the threads generating the classes that threads are waiting on, starting from the given placeholder
+	 *
+	 * @param pending The {@link Pending placeholder} to start from
+	 * @param thread The thread to look for
+	 * @return Whether the given thread generates the class, or one its generator is (indirectly) waiting on
+	 */
+	private boolean waitsOn(Pending pending, Thread thread){
+		// Every thread in a chain is waiting, so a longer chain must loop without reaching the thread
+		for(int steps = waiting.size(); pending != null && pending.done.getCount() > 0 && steps >= 0; steps--){
+			if(pending.owner == thread){
+				return true;
+			}
+			pending = waiting.get(pending.owner);
+		}
+		return false;
+	}
+	
+	/**
+	 * Generates a class in place of its placeholder
+	 *
+	 * @param classes The classes in the package
+	 * @param packageName The name of the package the class is in
+	 * @param className The name of the class
+	 * @param pending The placeholder for the class
+	 * @param generator Generates the class
+	 * @return The generated class
+	 */
+	private JavaClass generate(
+			ConcurrentHashMap<String, Object> classes, String packageName, String className, Pending pending,
+			Supplier<JavaClass> generator){
+		boolean generated = false;
+		try{
+			JavaClass javaClass = generator.get();
+			if(javaClass == null || !packageName.equals(javaClass.getPackageName()) ||
+					!className.equals(javaClass.getClassName())){
+				throw new IllegalStateException("Generator for " + packageName + "." + className + " made " +
+						(javaClass == null?"null":javaClass.getPackageName() + "." + javaClass.getClassName()) + "!");
+			}
+			classes.replace(className, pending, javaClass);
+			size.increment();
+			generated = true;
+			return javaClass;
+		}finally{
+			if(!generated){
+				classes.remove(className, pending);
+			}
+			pending.done.countDown();
+		}
+	}
+	
+	/**
+	 * Finds the class the given class extends in the registry. A super class name without a package is looked for
+	 * in the class's package, then in its single-type imports.
+	 *
+	 * @param javaClass The {@link JavaClass} to find the super class of
+	 * @return The super class, or null if the class doesn't extend anything or its super class isn't in the
+	 * registry
+	 * @throws IllegalArgumentException If the super class name isn't a valid type
+	 */
+	public JavaClass getSuperClass(JavaClass javaClass){
+		TypeRef superClassRef = javaClass.getSuperClassRef();
+		if(superClassRef == null){
+			return null;
+		}
+		String superClassName = superClassRef.getName();
+		if(superClassName.indexOf('.') != -1){
+			return get(superClassName);
+		}
+		
+		JavaClass superClass = get(javaClass.getPackageName(), superClassName);
+		if(superClass == null && ListUtil.isNotBlank(javaClass.getImports())){
+			for(String singleImport: javaClass.getImports()){
+				if(singleImport.endsWith("." + superClassName)){
+					return get(singleImport);
+				}
+			}
+		}
+		return superClass;
+	}
+	
+	/**
+	 * @param packageName The name of a package
+	 * @return A live, unmodifiable view of the classes in the package that are done being generated
+	 */
+	public Collection<JavaClass> getPackage(String packageName){
+		return new PackageView(packageName);
+	}
+	
+	/**
+	 * @return A live, unmodifiable view of the names of the packages classes have been added to (or generated in)
+	 */
+	public Set<String> getPackageNames(){
+		return Collections.unmodifiableSet(packages.keySet());
+	}
+	
+	/**
+	 * @return The number of classes that are done being generated
+	 */
+	public long size(){
+		return size.sum();
+	}
+	
+	/**
+	 * Copies the classes in the registry without locking it. Every class that was done being generated before the
+	 * snapshot started is in it, along with any finished while it was being taken.
+	 *
+	 * @return A list of the classes in the registry, grouped by package
+	 */
+	public List<JavaClass> snapshot(){
+		List<JavaClass> snapshot = new ArrayList<>((int) Math.min(Integer.MAX_VALUE - 8, size.sum()));
+		for(ConcurrentHashMap<String, Object> classes: packages.values()){
+			for(Object value: classes.values()){
+				if(value instanceof JavaClass){
+					snapshot.add((JavaClass) value);
+				}
+			}
+		}
+		return snapshot;
+	}
+}
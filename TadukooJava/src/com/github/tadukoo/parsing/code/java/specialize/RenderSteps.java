@@ -0,0 +1,268 @@
+package com.github.tadukoo.parsing.code.java.specialize;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.SynthesizedMembers;
+import com.github.tadukoo.util.ListUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+/**
+ * Render Steps are the pieces a {@link SpecializedRenderer} fuses together for a shape. Each step appends one part
+ * of a class in the same format as {@link JavaClass#toString()}, and every decision a step would otherwise make
+ * (which member it's for, whether there's a value or a name, how many annotations there are) is bound into it as a
+ * constant when the renderer is built, so a step never checks a list for blankness or an optional value for null.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+final class RenderSteps{
+	/** The type of every finished step */
+	static final MethodType STEP_TYPE = MethodType.methodType(void.class, JavaClass.class, StringBuilder.class);
+	
+	/** Appends the package declaration */
+	static final MethodHandle PACKAGE;
+	/** Appends the imports */
+	static final MethodHandle IMPORTS;
+	/** Appends the imports of a class with synthesized members, which may need imports added */
+	static final MethodHandle SYNTHESIZED_IMPORTS;
+	/** Appends the static imports */
+	static final MethodHandle STATIC_IMPORTS;
+	/** Appends the class annotations and declaration - takes the number of annotations, whether there's a super
+	 * class, and whether the class is abstract first */
+	static final MethodHandle CLASS_DECLARATION;
+	/** Appends a field - takes the index, whether it's final, whether it has a value, and its annotation count */
+	static final MethodHandle FIELD;
+	/** Appends a method - takes the index, whether it has a name, parameters, throw types, and lines, whether it's
+	 * abstract, and its annotation count */
+	static final MethodHandle METHOD;
+	/** Appends the synthesized members - takes whether there's a blank line before them first */
+	static final MethodHandle SYNTHESIZED;
+	/** Appends a blank line */
+	static final MethodHandle BLANK_LINE;
+	/** Appends the closing brace */
+	static final MethodHandle CLOSE;
+	
+	static{
+		try{
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			PACKAGE = lookup.findStatic(RenderSteps.class, "appendPackage", STEP_TYPE);
+			IMPORTS = lookup.findStatic(RenderSteps.class, "appendImports", STEP_TYPE);
+			SYNTHESIZED_IMPORTS = lookup.findStatic(RenderSteps.class, "appendSynthesizedImports", STEP_TYPE);
+			STATIC_IMPORTS = lookup.findStatic(RenderSteps.class, "appendStaticImports", STEP_TYPE);
+			CLASS_DECLARATION = lookup.findStatic(RenderSteps.class, "appendClassDeclaration",
+					STEP_TYPE.insertParameterTypes(0, int.class, boolean.class, boolean.class));
+			FIELD = lookup.findStatic(RenderSteps.class, "appendField",
+					STEP_TYPE.insertParameterTypes(0, int.class, boolean.class, boolean.class, int.class));
+			METHOD = lookup.findStatic(RenderSteps.class, "appendMethod",
+					STEP_TYPE.insertParameterTypes(0, int.class, boolean.class, boolean.class, boolean.class,
+							boolean.class, boolean.class, int.class));
+			SYNTHESIZED = lookup.findStatic(RenderSteps.class, "appendSynthesized",
+					STEP_TYPE.insertParameterTypes(0, boolean.class));
+			BLANK_LINE = lookup.findStatic(RenderSteps.class, "appendBlankLine", STEP_TYPE);
+			CLOSE = lookup.findStatic(RenderSteps.class, "appendClose", STEP_TYPE);
+		}catch(NoSuchMethodException | IllegalAccessException e){
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
+	// Not allowed to create Render Steps
+	private RenderSteps(){ }
+	
+	/**
+	 * @param javaClass The {@link JavaClass} being rendered
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private static void appendPackage(JavaClass javaClass, StringBuilder out){
+		out.append("package ").append(javaClass.getPackageName()).append(";\n");
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} being rendered
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private static void appendImports(JavaClass javaClass, StringBuilder out){
+		out.append('\n');
+		for(String singleImport: javaClass.getImports()){
+			out.append("import ").append(singleImport).append(";\n");
+		}
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} being rendered
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private static void appendSynthesizedImports(JavaClass javaClass, StringBuilder out){
+		List<String> imports = javaClass.getImports();
+		List<String> missingImports = SynthesizedMembers.missingImports(javaClass);
+		if(ListUtil.isNotBlank(imports) || !missingImports.isEmpty()){
+			out.append('\n');
+			if(ListUtil.isNotBlank(imports)){
+				for(String singleImport: imports){
+					out.append("import ").append(singleImport).append(";\n");
+				}
+			}
+			for(String missingImport: missingImports){
+				out.append("import ").append(missingImport).append(";\n");
+			}
+		}
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} being rendered
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private static void appendStaticImports(JavaClass javaClass, StringBuilder out){
+		out.append('\n');
+		for(String staticImport: javaClass.getStaticImports()){
+			out.append("import static ").append(staticImport).append(";\n");
+		}
+	}
+	
+	/**
+	 * @param annotationCount The number of annotations on the class
+	 * @param hasSuperClass Whether the class has a super class
+	 * @param isAbstract Whether the class is abstract
+	 * @param javaClass The {@link JavaClass} being rendered
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private static void appendClassDeclaration(
+			int annotationCount, boolean hasSuperClass, boolean isAbstract, JavaClass javaClass, StringBuilder out){
+		out.append('\n');
+		appendAnnotations(javaClass.getAnnotations(), annotationCount, "", out);
+		out.append(javaClass.getVisibility().getText());
+		if(isAbstract){
+			out.append(" abstract");
+		}
+		out.append(" class ").append(javaClass.getClassName());
+		if(hasSuperClass){
+			out.append(" extends ").append(javaClass.getSuperClassName());
+		}
+		out.append("{\n\t\n");
+	}
+	
+	/**
+	 * @param index The index of the field
+	 * @param isFinal Whether the field is final
+	 * @param hasValue Whether the field has a value
+	 * @param annotationCount The number of annotations on the field
+	 * @param javaClass The {@link JavaClass} being rendered
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private static void appendField(
+			int index, boolean isFinal, boolean hasValue, int annotationCount,
+			JavaClass javaClass, StringBuilder out){
+		JavaField field = javaClass.getFields().get(index);
+		appendAnnotations(field.getAnnotations(), annotationCount, "\t", out);
+		out.append('\t').append(field.getVisibility().getText());
+		if(isFinal){
+			out.append(" final");
+		}
+		out.append(' ').append(field.getType()).append(' ').append(field.getName());
+		if(hasValue){
+			out.append(" = ").append(field.getValue());
+		}
+		out.append(";\n");
+	}
+	
+	/**
+	 * @param index The index of the method
+	 * @param hasName Whether the method has a name (it's a constructor if not)
+	 * @param hasParameters Whether the method has parameters
+	 * @param hasThrows Whether the method has throw types
+	 * @param hasLines Whether the method has lines
+	 * @param isAbstract Whether the method is abstract
+	 * @param annotationCount The number of annotations on the method
+	 * @param javaClass The {@link JavaClass} being rendered
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private static void appendMethod(
+			int index, boolean hasName, boolean hasParameters, boolean hasThrows, boolean hasLines,
+			boolean isAbstract, int annotationCount, JavaClass javaClass, StringBuilder out){
+		JavaMethod method = javaClass.getMethods().get(index);
+		appendAnnotations(method.getAnnotations(), annotationCount, "\t", out);
+		out.append('\t').append(method.getVisibility().getText());
+		if(isAbstract){
+			out.append(" abstract");
+		}
+		out.append(' ').append(method.getReturnType());
+		if(hasName){
+			out.append(' ').append(method.getName());
+		}
+		out.append('(');
+		if(hasParameters){
+			for(int i = 0; i < method.getParameterCount(); i++){
+				if(i > 0){
+					out.append(", ");
+				}
+				out.append(method.getParameterType(i)).append(' ').append(method.getParameterName(i));
+			}
+		}
+		out.append(')');
+		if(hasThrows){
+			List<String> throwTypes = method.getThrowTypes();
+			out.append(" throws ");
+			for(int i = 0; i < throwTypes.size(); i++){
+				if(i > 0){
+					out.append(", ");
+				}
+				out.append(throwTypes.get(i));
+			}
+		}
+		if(isAbstract){
+			out.append(";\n");
+			return;
+		}
+		out.append("{\n");
+		if(hasLines){
+			for(String line: method.getLines()){
+				out.append("\t\t").append(line).append('\n');
+			}
+		}
+		out.append("\t}\n");
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} being rendered
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private static void appendBlankLine(JavaClass javaClass, StringBuilder out){
+		out.append("\t\n");
+	}
+	
+	/**
+	 * @param separateFirst Whether there's a blank line before the synthesized members
+	 * @param javaClass The {@link JavaClass} being rendered
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private static void appendSynthesized(boolean separateFirst, JavaClass javaClass, StringBuilder out){
+		SynthesizedMembers.render(javaClass, SynthesizedMembers.Layout.DEFAULT, separateFirst, out);
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} being rendered
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private static void appendClose(JavaClass javaClass, StringBuilder out){
+		out.append("}\n");
+	}
+	
+	/**
+	 * @param annotations The {@link JavaAnnotation annotations} to append
+	 * @param count The number of annotations
+	 * @param indent The indentation to put before each annotation
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	private static void appendAnnotations(
+			List<JavaAnnotation> annotations, int count, String indent, StringBuilder out){
+		for(int i = 0; i < count; i++){
+			out.append(indent).append('@').append(annotations.get(i).getName()).append('\n');
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package com.github.tadukoo.parsing.code.java.specialize;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.SynthesizedMembers;
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.StringUtil;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Shape Key describes the shape of a {@link JavaClass}: everything that decides which parts get rendered (which
+ * lists are empty, which optional values are there, how many annotations each part has), but none of the names,
+ * types, or lines themselves. Two classes with the same shape can be rendered by the same
+ * {@link SpecializedRenderer specialized renderer}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+final class ShapeKey{
+	/** Index of the imports flag in the codes */
+	static final int IMPORTS = 0;
+	/** Index of the static imports flag in the codes */
+	static final int STATIC_IMPORTS = 1;
+	/** Index of the number of class annotations in the codes */
+	static final int ANNOTATIONS = 2;
+	/** Index of the super class flag in the codes */
+	static final int SUPER_CLASS = 3;
+	/** Index of the number of fields in the codes */
+	static final int FIELD_COUNT = 4;
+	/** Index of the number of methods in the codes */
+	static final int METHOD_COUNT = 5;
+	/** Index of the synthesized members flag in the codes */
+	static final int SYNTHESIZED = 6;
+	/** Index of the abstract class flag in the codes */
+	static final int ABSTRACT = 7;
+	/** Index of the first field or method code in the codes */
+	static final int MEMBERS = 8;
+	
+	/** Flag in a member code for a final field or a method with a name */
+	static final int FLAG_FINAL_OR_NAMED = 1;
+	/** Flag in a member code for a field with a value or a method with parameters */
+	static final int FLAG_VALUE_OR_PARAMETERS = 1 << 1;
+	/** Flag in a member code for a method with throw types */
+	static final int FLAG_THROWS = 1 << 2;
+	/** Flag in a member code for a method with lines */
+	static final int FLAG_LINES = 1 << 3;
+	/** Flag in a member code for an abstract method */
+	static final int FLAG_ABSTRACT = 1 << 4;
+	/** The shift for the number of annotations in a member code */
+	static final int ANNOTATION_SHIFT = 5;
+	
+	/** The codes making up the shape */
+	private final int[] codes;
+	/** The hash code of the codes */
+	private final int hash;
+	
+	/**
+	 * @param codes The codes making up the shape
+	 */
+	private ShapeKey(int[] codes){
+		this.codes = codes;
+		this.hash = Arrays.hashCode(codes);
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to get the shape of
+	 * @return The shape of the given class
+	 */
+	static ShapeKey of(JavaClass javaClass){
+		List<JavaField> fields = javaClass.getFields();
+		List<JavaMethod> methods = javaClass.getMethods();
+		int fieldCount = ListUtil.isNotBlank(fields)?fields.size():0;
+		int methodCount = ListUtil.isNotBlank(methods)?methods.size():0;
+		
+		int[] codes = new int[MEMBERS + fieldCount + methodCount];
+		codes[IMPORTS] = ListUtil.isNotBlank(javaClass.getImports())?1:0;
+		codes[STATIC_IMPORTS] = ListUtil.isNotBlank(javaClass.getStaticImports())?1:0;
+		codes[ANNOTATIONS] = count(javaClass.getAnnotations());
+		codes[SUPER_CLASS] = StringUtil.isNotBlank(javaClass.getSuperClassName())?1:0;
+		codes[FIELD_COUNT] = fieldCount;
+		codes[METHOD_COUNT] = methodCount;
+		codes[SYNTHESIZED] = SynthesizedMembers.count(javaClass) > 0?1:0;
+		codes[ABSTRACT] = javaClass.isAbstract()?1:0;
+		for(int i = 0; i < fieldCount; i++){
+			JavaField field = fields.get(i);
+			codes[MEMBERS + i] = (field.isFinal()?FLAG_FINAL_OR_NAMED:0) |
+					(StringUtil.isNotBlank(field.getValue())?FLAG_VALUE_OR_PARAMETERS:0) |
+					(count(field.getAnnotations()) << ANNOTATION_SHIFT);
+		}
+		for(int i = 0; i < methodCount; i++){
+			JavaMethod method = methods.get(i);
+			codes[MEMBERS + fieldCount + i] = (StringUtil.isNotBlank(method.getName())?FLAG_FINAL_OR_NAMED:0) |
+					(method.getParameterCount() != 0?FLAG_VALUE_OR_PARAMETERS:0) |
+					(ListUtil.isNotBlank(method.getThrowTypes())?FLAG_THROWS:0) |
+					(ListUtil.isNotBlank(method.getLines())?FLAG_LINES:0) |
+					(method.isAbstract()?FLAG_ABSTRACT:0) |
+					(count(method.getAnnotations()) << ANNOTATION_SHIFT);
+		}
+		return new ShapeKey(codes);
+	}
+	
+	/**
+	 * @param list The list to count (may be null)
+	 * @return The size of the list, or 0 if it's null
+	 */
+	private static int count(List<?> list){
+		return list == null?0:list.size();
+	}
+	
+	/**
+	 * @param index The index of the code
+	 * @return The code at the given index
+	 */
+	int get(int index){
+		return codes[index];
+	}
+	
+	/**
+	 * @param otherKey The object to compare against
+	 * @return true if the given object is a Shape Key for the same shape
+	 */
+	@Override
+	public boolean equals(Object otherKey){
+		return this == otherKey ||
+				(otherKey instanceof ShapeKey && Arrays.equals(codes, ((ShapeKey) otherKey).codes));
+	}
+	
+	/**
+	 * @return A hash code based on the shape
+	 */
+	@Override
+	public int hashCode(){
+		return hash;
+	}
+}
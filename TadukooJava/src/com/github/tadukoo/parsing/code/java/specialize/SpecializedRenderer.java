@@ -0,0 +1,286 @@
+package com.github.tadukoo.parsing.code.java.specialize;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.jfr.ClassRenderEvent;
+import com.github.tadukoo.parsing.code.java.metrics.JavaMetrics;
+import com.github.tadukoo.parsing.code.java.metrics.JavaMetricsListener;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Specialized Renderer renders {@link JavaClass classes} with a renderer built for each
+ * {@link ShapeKey shape} of class it sees. A shape is everything that decides which parts get rendered (which lists
+ * are empty, which optional values are there, how many annotations there are), so a batch of similar classes - like
+ * DTOs with the same fields and getters - all share one renderer. The renderer for a shape is a chain of
+ * {@link RenderSteps render steps} with those decisions bound in as constants, fused together with
+ * {@link MethodHandles#foldArguments(MethodHandle, MethodHandle)} into a single {@link MethodHandle}, so rendering a
+ * class of a known shape runs straight through without checking any of them again.
+ * <br><br>
+ * The output is exactly the same as {@link JavaClass#toString()}, but the render cache is skipped. Each class is
+ * reported to the {@link JavaMetrics#getListener() metrics listener} and Flight Recorder (as a
+ * {@link ClassRenderEvent}) like {@link JavaClass#toString()} does, though its fields and methods aren't reported
+ * separately, as they're rendered by the fused steps rather than their toString methods. Renderers are cached up to
+ * a maximum number of shapes, and classes of any other shape are rendered with {@link JavaClass#toString()}. A
+ * Specialized Renderer is thread-safe.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class SpecializedRenderer{
+	
+	/**
+	 * Specialized Renderer Builder is used to build a new {@link SpecializedRenderer}. It contains the following
+	 * parameters:
+	 *
+	 * <table>
+	 *     <caption>Specialized Renderer Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>maxShapes</td>
+	 *         <td>The most shapes to build renderers for</td>
+	 *         <td>256</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static class SpecializedRendererBuilder{
+		/** The most shapes to build renderers for */
+		private int maxShapes = 256;
+		
+		// Can't create outside of Specialized Renderer
+		private SpecializedRendererBuilder(){ }
+		
+		/**
+		 * @param maxShapes The most shapes to build renderers for
+		 * @return this, to continue building
+		 */
+		public SpecializedRendererBuilder maxShapes(int maxShapes){
+			this.maxShapes = maxShapes;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters
+		 *
+		 * @throws IllegalArgumentException if anything is wrong
+		 */
+		private void checkForErrors(){
+			if(maxShapes <= 0){
+				throw new IllegalArgumentException("maxShapes must be positive!");
+			}
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters, then builds a new {@link SpecializedRenderer}
+		 *
+		 * @return A newly built {@link SpecializedRenderer}
+		 * @throws IllegalArgumentException if anything is wrong with the current parameters
+		 */
+		public SpecializedRenderer build(){
+			checkForErrors();
+			
+			return new SpecializedRenderer(maxShapes);
+		}
+	}
+	
+	/** The most steps fused into one chain - longer renderers are fused as a tree of chains to keep them shallow */
+	private static final int MAX_CHAIN = 32;
+	
+	/** The most shapes to build renderers for */
+	private final int maxShapes;
+	/** The renderers built so far, by shape */
+	private final ConcurrentMap<ShapeKey, MethodHandle> renderers = new ConcurrentHashMap<>();
+	
+	/**
+	 * Constructs a new Specialized Renderer with the given parameters
+	 *
+	 * @param maxShapes The most shapes to build renderers for
+	 */
+	private SpecializedRenderer(int maxShapes){
+		this.maxShapes = maxShapes;
+	}
+	
+	/**
+	 * @return A new {@link SpecializedRendererBuilder} to use to build a {@link SpecializedRenderer}
+	 */
+	public static SpecializedRendererBuilder builder(){
+		return new SpecializedRendererBuilder();
+	}
+	
+	/**
+	 * @return The most shapes to build renderers for
+	 */
+	public int getMaxShapes(){
+		return maxShapes;
+	}
+	
+	/**
+	 * @return The number of shapes renderers have been built for
+	 */
+	public int getShapeCount(){
+		return renderers.size();
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to render
+	 * @return The rendered class, the same as {@link JavaClass#toString()}
+	 */
+	public String render(JavaClass javaClass){
+		StringBuilder out = new StringBuilder(1024);
+		render(javaClass, out);
+		return out.toString();
+	}
+	
+	/**
+	 * Renders the given class, the same as {@link JavaClass#toString()}
+	 *
+	 * @param javaClass The {@link JavaClass} to render
+	 * @param out The {@link StringBuilder} to render to
+	 */
+	public void render(JavaClass javaClass, StringBuilder out){
+		MethodHandle renderer = rendererFor(javaClass);
+		if(renderer == null){
+			// toString reports the rendering itself
+			out.append(javaClass);
+			return;
+		}
+		JavaMetricsListener listener = JavaMetrics.getListener();
+		long start = listener != null?System.nanoTime():0L;
+		ClassRenderEvent event = new ClassRenderEvent();
+		event.begin();
+		int startLength = out.length();
+		
+		try{
+			renderer.invokeExact(javaClass, out);
+		}catch(RuntimeException | Error e){
+			throw e;
+		}catch(Throwable t){
+			// The steps don't throw checked exceptions
+			throw new IllegalStateException(t);
+		}
+		
+		int characters = out.length() - startLength;
+		if(event.shouldCommit()){
+			event.setClassName(javaClass.getPackageName() + "." + javaClass.getClassName());
+			event.setFieldCount(javaClass.getFields() == null?0:javaClass.getFields().size());
+			event.setMethodCount(javaClass.getMethods() == null?0:javaClass.getMethods().size());
+			event.setOutputSize(characters);
+			event.commit();
+		}
+		if(listener != null){
+			listener.onClassRendered(javaClass, System.nanoTime() - start, characters);
+		}
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to get the renderer for
+	 * @return The renderer for the shape of the class, or null if there's no renderer for it and the maximum number
+	 * of shapes has been reached
+	 */
+	private MethodHandle rendererFor(JavaClass javaClass){
+		ShapeKey shape = ShapeKey.of(javaClass);
+		MethodHandle renderer = renderers.get(shape);
+		if(renderer == null){
+			if(renderers.size() >= maxShapes){
+				return null;
+			}
+			renderer = renderers.computeIfAbsent(shape, SpecializedRenderer::buildRenderer);
+		}
+		return renderer;
+	}
+	
+	/**
+	 * Builds the renderer for a shape
+	 *
+	 * @param shape The {@link ShapeKey shape} to build the renderer for
+	 * @return The fused renderer, taking a {@link JavaClass} and a {@link StringBuilder}
+	 */
+	private static MethodHandle buildRenderer(ShapeKey shape){
+		List<MethodHandle> steps = new ArrayList<>();
+		
+		// Package, imports, and class declaration
+		steps.add(RenderSteps.PACKAGE);
+		boolean synthesized = shape.get(ShapeKey.SYNTHESIZED) != 0;
+		if(synthesized){
+			// Whether there are imports depends on the field types, so it's checked when rendering
+			steps.add(RenderSteps.SYNTHESIZED_IMPORTS);
+		}else if(shape.get(ShapeKey.IMPORTS) != 0){
+			steps.add(RenderSteps.IMPORTS);
+		}
+		if(shape.get(ShapeKey.STATIC_IMPORTS) != 0){
+			steps.add(RenderSteps.STATIC_IMPORTS);
+		}
+		steps.add(MethodHandles.insertArguments(RenderSteps.CLASS_DECLARATION, 0,
+				shape.get(ShapeKey.ANNOTATIONS), shape.get(ShapeKey.SUPER_CLASS) != 0,
+				shape.get(ShapeKey.ABSTRACT) != 0));
+		
+		// Fields
+		int fieldCount = shape.get(ShapeKey.FIELD_COUNT);
+		for(int i = 0; i < fieldCount; i++){
+			int code = shape.get(ShapeKey.MEMBERS + i);
+			steps.add(MethodHandles.insertArguments(RenderSteps.FIELD, 0, i,
+					(code & ShapeKey.FLAG_FINAL_OR_NAMED) != 0,
+					(code & ShapeKey.FLAG_VALUE_OR_PARAMETERS) != 0,
+					code >>> ShapeKey.ANNOTATION_SHIFT));
+		}
+		
+		// Methods, with blank lines between them and the fields
+		int methodCount = shape.get(ShapeKey.METHOD_COUNT);
+		for(int i = 0; i < methodCount; i++){
+			if(i > 0 || fieldCount > 0){
+				steps.add(RenderSteps.BLANK_LINE);
+			}
+			int code = shape.get(ShapeKey.MEMBERS + fieldCount + i);
+			steps.add(MethodHandles.insertArguments(RenderSteps.METHOD, 0, i,
+					(code & ShapeKey.FLAG_FINAL_OR_NAMED) != 0,
+					(code & ShapeKey.FLAG_VALUE_OR_PARAMETERS) != 0,
+					(code & ShapeKey.FLAG_THROWS) != 0,
+					(code & ShapeKey.FLAG_LINES) != 0,
+					(code & ShapeKey.FLAG_ABSTRACT) != 0,
+					code >>> ShapeKey.ANNOTATION_SHIFT));
+		}
+		
+		// Synthesized methods, straight after the explicit ones
+		if(synthesized){
+			steps.add(MethodHandles.insertArguments(RenderSteps.SYNTHESIZED, 0, fieldCount > 0 || methodCount > 0));
+		}
+		
+		steps.add(RenderSteps.CLOSE);
+		return fuse(steps);
+	}
+	
+	/**
+	 * Fuses steps into a single handle that runs them in order. Long lists are fused in chains of at most
+	 * {@link #MAX_CHAIN} steps, which are then fused in turn, so the call depth only grows logarithmically.
+	 *
+	 * @param steps The steps to fuse (at least one)
+	 * @return A single handle that runs all the steps in order
+	 */
+	private static MethodHandle fuse(List<MethodHandle> steps){
+		if(steps.size() > MAX_CHAIN){
+			List<MethodHandle> chains = new ArrayList<>();
+			for(int start = 0; start < steps.size(); start += MAX_CHAIN){
+				chains.add(fuse(steps.subList(start, Math.min(start + MAX_CHAIN, steps.size()))));
+			}
+			return fuse(chains);
+		}
+		MethodHandle fused = steps.get(steps.size() - 1);
+		for(int i = steps.size() - 2; i >= 0; i--){
+			fused = MethodHandles.foldArguments(fused, steps.get(i));
+		}
+		return fused;
+	}
+}
@@ -0,0 +1,191 @@
+package com.github.tadukoo.parsing.code.java.split;
+
+/**
+ * Body Scanner reads the lines of a method body one at a time, handing each token to a {@link TokenSink} and
+ * keeping track of how deeply nested in braces, parentheses, and brackets it is. Comments are skipped, and block
+ * comments and text blocks can run across lines.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+final class BodyScanner{
+	/** Kind of token for a name that isn't followed by an opening parenthesis (including keywords) */
+	static final int IDENTIFIER = 0;
+	/** Kind of token for a name followed by an opening parenthesis */
+	static final int CALL = 1;
+	/** Kind of token for a string literal or text block (the text is its contents) */
+	static final int STRING = 2;
+	/** Kind of token for a number literal */
+	static final int NUMBER = 3;
+	/** Kind of token for a character literal */
+	static final int CHARACTER = 4;
+	/** Kind of token for an operator */
+	static final int OPERATOR = 5;
+	
+	/**
+	 * Token Sink receives the tokens of the lines being scanned
+	 */
+	interface TokenSink{
+		
+		/**
+		 * @param kind The kind of token ({@link #IDENTIFIER}, {@link #CALL}, {@link #STRING}, {@link #NUMBER},
+		 * {@link #CHARACTER}, or {@link #OPERATOR})
+		 * @param text The text of the token
+		 */
+		void token(int kind, String text);
+	}
+	
+	/** A {@link TokenSink} that ignores every token */
+	static final TokenSink IGNORE = (kind, text) -> { };
+	
+	/** How many braces are open */
+	private int braceDepth = 0;
+	/** How many parentheses and brackets are open */
+	private int parenDepth = 0;
+	/** Whether a block comment is still open at the end of the last line */
+	private boolean inBlockComment = false;
+	/** Whether a text block is still open at the end of the last line */
+	private boolean inTextBlock = false;
+	
+	/**
+	 * @return Whether the end of the last line was outside of every brace, parenthesis, bracket, block comment, and
+	 * text block
+	 */
+	boolean atTopLevel(){
+		return braceDepth <= 0 && parenDepth <= 0 && !inBlockComment && !inTextBlock;
+	}
+	
+	/**
+	 * Scans the next line
+	 *
+	 * @param line The line to scan
+	 * @param sink The {@link TokenSink} to hand the tokens to
+	 */
+	void scan(String line, TokenSink sink){
+		int length = line.length();
+		int index = 0;
+		while(index < length){
+			if(inBlockComment){
+				int end = line.indexOf("*/", index);
+				if(end == -1){
+					return;
+				}
+				inBlockComment = false;
+				index = end + 2;
+				continue;
+			}
+			if(inTextBlock){
+				int end = line.indexOf("\"\"\"", index);
+				if(end == -1){
+					return;
+				}
+				inTextBlock = false;
+				index = end + 3;
+				continue;
+			}
+			
+			char c = line.charAt(index);
+			if(Character.isWhitespace(c)){
+				index++;
+			}else if(c == '/' && line.startsWith("//", index)){
+				return;
+			}else if(c == '/' && line.startsWith("/*", index)){
+				inBlockComment = true;
+				index += 2;
+			}else if(line.startsWith("\"\"\"", index)){
+				sink.token(STRING, line.substring(index + 3));
+				inTextBlock = true;
+				index += 3;
+			}else if(c == '"' || c == '\''){
+				int end = endOfLiteral(line, index, c);
+				sink.token(c == '"'?STRING:CHARACTER, line.substring(index + 1, Math.max(index + 1, end - 1)));
+				index = end;
+			}else if(Character.isDigit(c) ||
+					(c == '.' && index + 1 < length && Character.isDigit(line.charAt(index + 1)))){
+				boolean hex = line.startsWith("0x", index) || line.startsWith("0X", index);
+				int end = index + 1;
+				while(end < length && (Character.isLetterOrDigit(line.charAt(end)) || line.charAt(end) == '.' ||
+						line.charAt(end) == '_' ||
+						(!hex && isSign(line.charAt(end)) && isExponent(line.charAt(end - 1))))){
+					end++;
+				}
+				sink.token(NUMBER, line.substring(index, end));
+				index = end;
+			}else if(Character.isJavaIdentifierStart(c)){
+				int end = index + 1;
+				while(end < length && Character.isJavaIdentifierPart(line.charAt(end))){
+					end++;
+				}
+				int next = end;
+				while(next < length && Character.isWhitespace(line.charAt(next))){
+					next++;
+				}
+				sink.token(next < length && line.charAt(next) == '('?CALL:IDENTIFIER, line.substring(index, end));
+				index = end;
+			}else{
+				switch(c){
+					case '{':
+						braceDepth++;
+						break;
+					case '}':
+						braceDepth--;
+						break;
+					case '(':
+					case '[':
+						parenDepth++;
+						break;
+					case ')':
+					case ']':
+						parenDepth--;
+						break;
+					case ';':
+					case ',':
+					case '.':
+					case '@':
+						break;
+					default:
+						sink.token(OPERATOR, String.valueOf(c));
+				}
+				index++;
+			}
+		}
+	}
+	
+	/**
+	 * @param line The line the literal is in
+	 * @param start The offset of the opening quote
+	 * @param quote The quote character
+	 * @return The offset just past the closing quote (or the end of the line if it isn't closed)
+	 */
+	private static int endOfLiteral(String line, int start, char quote){
+		int index = start + 1;
+		while(index < line.length()){
+			char c = line.charAt(index);
+			if(c == '\\'){
+				index += 2;
+			}else if(c == quote){
+				return index + 1;
+			}else{
+				index++;
+			}
+		}
+		return line.length();
+	}
+	
+	/**
+	 * @param c The character to check
+	 * @return Whether the character is a sign that can follow an exponent
+	 */
+	private static boolean isSign(char c){
+		return c == '+' || c == '-';
+	}
+	
+	/**
+	 * @param c The character to check
+	 * @return Whether the character starts the exponent of a decimal number
+	 */
+	private static boolean isExponent(char c){
+		return c == 'e' || c == 'E';
+	}
+}
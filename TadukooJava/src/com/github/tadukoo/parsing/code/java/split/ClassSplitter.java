@@ -0,0 +1,821 @@
+package com.github.tadukoo.parsing.code.java.split;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.SynthesizedMembers;
+import com.github.tadukoo.parsing.code.java.Visibility;
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.StringUtil;
+import com.github.tadukoo.util.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Class Splitter keeps generated {@link JavaClass classes} under the JVM's class file limits, using the estimates of
+ * the {@link JvmLimitEstimator}:
+ * <ul>
+ *     <li>A method whose code is estimated to be over the code size budget is split between statements into a
+ *     chain of private helper methods ({@code loadPart2}, {@code loadPart3}, ...), each one calling the next as its
+ *     last statement (returning its result if the method returns something). The method's parameters are passed
+ *     down the chain, along with any local variables declared (outside of any block) in the parts before.</li>
+ *     <li>A class whose constant pool is estimated to be over the constant pool budget is split into a chain of
+ *     part-classes in the same package: the main class keeps the original name, annotations, and constructors and
+ *     extends {@code NamePart2}, which extends {@code NamePart3}, and so on, with the last part extending the
+ *     original super class and holding the fields. Methods are spread over the chain in order. The parts are
+ *     abstract, with abstract stubs for the methods above them that they call, and get a protected constructor for
+ *     each constructor of the main class, which passes its parameters down the chain to the super constructor call
+ *     it made. Private fields and methods become package-private so the parts can use them.</li>
+ * </ul>
+ * A method can't be split if it declares a local variable with {@code var} or several variables in one statement
+ * before the point it would be split at, or if it's a constructor of a class with final fields it needs to assign -
+ * those are left whole and reported in {@link SplitResult#getOversizedMethods()}. Classes are split (and
+ * {@link SplitResult#render() rendered}) in parallel on a {@link ForkJoinPool}.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class ClassSplitter{
+	
+	/**
+	 * Class Splitter Builder is used to build a new {@link ClassSplitter}. It contains the following parameters:
+	 *
+	 * <table>
+	 *     <caption>Class Splitter Parameters</caption>
+	 *     <tr>
+	 *         <th>Parameter</th>
+	 *         <th>Description</th>
+	 *         <th>Default or Required</th>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>maxCodeSize</td>
+	 *         <td>The most bytes of code a method is estimated to have before it's split</td>
+	 *         <td>{@link #DEFAULT_MAX_CODE_SIZE}</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>maxConstantPoolSize</td>
+	 *         <td>The most constant pool entries a class is estimated to have before it's split</td>
+	 *         <td>{@link #DEFAULT_MAX_CONSTANT_POOL_SIZE}</td>
+	 *     </tr>
+	 *     <tr>
+	 *         <td>pool</td>
+	 *         <td>The {@link ForkJoinPool} to split and render classes on</td>
+	 *         <td>{@link ForkJoinPool#commonPool()}</td>
+	 *     </tr>
+	 * </table>
+	 *
+	 * @author Logan Ferree (Tadukoo)
+	 * @version Alpha v.0.3.3
+	 * @since Alpha v.0.3.3
+	 */
+	public static class ClassSplitterBuilder{
+		/** The most bytes of code a method is estimated to have before it's split */
+		private int maxCodeSize = DEFAULT_MAX_CODE_SIZE;
+		/** The most constant pool entries a class is estimated to have before it's split */
+		private int maxConstantPoolSize = DEFAULT_MAX_CONSTANT_POOL_SIZE;
+		/** The {@link ForkJoinPool} to split and render classes on */
+		private ForkJoinPool pool = ForkJoinPool.commonPool();
+		
+		// Can't create outside of Class Splitter
+		private ClassSplitterBuilder(){ }
+		
+		/**
+		 * @param maxCodeSize The most bytes of code a method is estimated to have before it's split
+		 * @return this, to continue building
+		 */
+		public ClassSplitterBuilder maxCodeSize(int maxCodeSize){
+			this.maxCodeSize = maxCodeSize;
+			return this;
+		}
+		
+		/**
+		 * @param maxConstantPoolSize The most constant pool entries a class is estimated to have before it's split
+		 * @return this, to continue building
+		 */
+		public ClassSplitterBuilder maxConstantPoolSize(int maxConstantPoolSize){
+			this.maxConstantPoolSize = maxConstantPoolSize;
+			return this;
+		}
+		
+		/**
+		 * @param pool The {@link ForkJoinPool} to split and render classes on
+		 * @return this, to continue building
+		 */
+		public ClassSplitterBuilder pool(ForkJoinPool pool){
+			this.pool = pool;
+			return this;
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters
+		 *
+		 * @throws IllegalArgumentException if anything is wrong
+		 */
+		private void checkForErrors(){
+			List<String> errors = new ArrayList<>();
+			
+			if(maxCodeSize <= 0 || maxCodeSize > JvmLimitEstimator.MAX_CODE_SIZE){
+				errors.add("maxCodeSize must be between 1 and " + JvmLimitEstimator.MAX_CODE_SIZE + "!");
+			}
+			if(maxConstantPoolSize <= 0 || maxConstantPoolSize > JvmLimitEstimator.MAX_CONSTANT_POOL_SIZE){
+				errors.add("maxConstantPoolSize must be between 1 and " +
+						JvmLimitEstimator.MAX_CONSTANT_POOL_SIZE + "!");
+			}
+			if(pool == null){
+				errors.add("Must specify pool!");
+			}
+			
+			if(!errors.isEmpty()){
+				throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
+			}
+		}
+		
+		/**
+		 * Checks for any errors in the current parameters, then builds a new {@link ClassSplitter}
+		 *
+		 * @return A newly built {@link ClassSplitter}
+		 * @throws IllegalArgumentException if anything is wrong with the current parameters
+		 */
+		public ClassSplitter build(){
+			checkForErrors();
+			
+			return new ClassSplitter(maxCodeSize, maxConstantPoolSize, pool);
+		}
+	}
+	
+	/**
+	 * A part-class being filled while splitting a class
+	 */
+	private static class Part{
+		/** The estimate of the part's constant pool */
+		private final ConstantPoolEstimate estimate;
+		/** The methods in the part, in order */
+		private final List<JavaMethod> methods = new ArrayList<>();
+		/** Whether anything has been put in the part yet */
+		private boolean hasMembers = false;
+		
+		/**
+		 * @param javaClass The {@link JavaClass} being split
+		 */
+		private Part(JavaClass javaClass){
+			estimate = new ConstantPoolEstimate(javaClass.getClassName(), javaClass.getSuperClassName());
+		}
+	}
+	
+	/** The default most bytes of code a method is estimated to have before it's split, leaving room for the
+	 * estimate being off */
+	public static final int DEFAULT_MAX_CODE_SIZE = 48 * 1024;
+	/** The default most constant pool entries a class is estimated to have before it's split, leaving room for the
+	 * estimate being off */
+	public static final int DEFAULT_MAX_CONSTANT_POOL_SIZE = 48 * 1024;
+	
+	/** The code size set aside in each part of a split method for calling the next part */
+	private static final int CALL_SIZE = 16;
+	/** Matches the start of a statement that declares a local variable, capturing the type, the name, and what
+	 * follows the name */
+	private static final Pattern LOCAL_VARIABLE = Pattern.compile(
+			"^(?:final\\s+)?([A-Za-z_$][\\w$.]*(?:\\s*<.*>)?(?:\\s*\\[\\s*])*)\\s+([A-Za-z_$][\\w$]*)\\s*(=(?!=)|;|,)");
+	/** Matches another variable after a comma in a declaration */
+	private static final Pattern ANOTHER_VARIABLE = Pattern.compile("\\G,\\s*[A-Za-z_$][\\w$]*\\s*(=(?!=)|;|,)");
+	/** Words that can start a statement like a type would, without it declaring a variable */
+	private static final Set<String> STATEMENT_KEYWORDS = new HashSet<>(Arrays.asList(
+			"return", "throw", "new", "else", "case", "yield", "assert", "break", "continue", "do", "try",
+			"synchronized", "this", "super", "goto"));
+	/** Matches a call to a method of the same class: a plain call, a call on {@code this}, or a method reference */
+	private static final Pattern CALLED_NAME = Pattern.compile(
+			"(?<![\\w$.])([A-Za-z_$][\\w$]*)\\s*\\(|\\bthis\\s*\\.\\s*([A-Za-z_$][\\w$]*)\\s*\\(|" +
+			"::\\s*([A-Za-z_$][\\w$]*)");
+	/** Matches the start of a call to a super constructor or another constructor of the class */
+	private static final Pattern CONSTRUCTOR_CALL = Pattern.compile("(?:super|this)\\s*\\(");
+	/** Words that continue the statement before them */
+	private static final Set<String> CONTINUATIONS = new HashSet<>(Arrays.asList(
+			"else", "catch", "finally", "while"));
+	
+	/** The most bytes of code a method is estimated to have before it's split */
+	private final int maxCodeSize;
+	/** The most constant pool entries a class is estimated to have before it's split */
+	private final int maxConstantPoolSize;
+	/** The {@link ForkJoinPool} to split and render classes on */
+	private final ForkJoinPool pool;
+	
+	/**
+	 * Constructs a new Class Splitter with the given parameters
+	 *
+	 * @param maxCodeSize The most bytes of code a method is estimated to have before it's split
+	 * @param maxConstantPoolSize The most constant pool entries a class is estimated to have before it's split
+	 * @param pool The {@link ForkJoinPool} to split and render classes on
+	 */
+	private ClassSplitter(int maxCodeSize, int maxConstantPoolSize, ForkJoinPool pool){
+		this.maxCodeSize = maxCodeSize;
+		this.maxConstantPoolSize = maxConstantPoolSize;
+		this.pool = pool;
+	}
+	
+	/**
+	 * @return A new {@link ClassSplitterBuilder} to use to build a {@link ClassSplitter}
+	 */
+	public static ClassSplitterBuilder builder(){
+		return new ClassSplitterBuilder();
+	}
+	
+	/**
+	 * @return The most bytes of code a method is estimated to have before it's split
+	 */
+	public int getMaxCodeSize(){
+		return maxCodeSize;
+	}
+	
+	/**
+	 * @return The most constant pool entries a class is estimated to have before it's split
+	 */
+	public int getMaxConstantPoolSize(){
+		return maxConstantPoolSize;
+	}
+	
+	/**
+	 * @return The {@link ForkJoinPool} classes are split and rendered on
+	 */
+	public ForkJoinPool getPool(){
+		return pool;
+	}
+	
+	/**
+	 * Splits all the given classes in parallel
+	 *
+	 * @param javaClasses The {@link JavaClass classes} to split
+	 * @return A {@link SplitResult} for each class, in the same order
+	 * @throws IllegalStateException If splitting is interrupted
+	 */
+	public List<SplitResult> splitAll(Collection<JavaClass> javaClasses){
+		try{
+			// Parallel streams run on the pool they're started from
+			return pool.submit(() -> javaClasses.parallelStream()
+					.map(this::split)
+					.collect(Collectors.toList())).get();
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while splitting classes", e);
+		}catch(ExecutionException e){
+			if(e.getCause() instanceof RuntimeException){
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("Failed to split classes", e.getCause());
+		}
+	}
+	
+	/**
+	 * Splits the given class if it's estimated to be over either budget. {@link SynthesizedMembers Synthesized
+	 * members} are expanded first if anything needs to be split.
+	 *
+	 * @param javaClass The {@link JavaClass} to split
+	 * @return A {@link SplitResult} with the class (or classes) to generate
+	 */
+	public SplitResult split(JavaClass javaClass){
+		JavaClass expanded = SynthesizedMembers.expand(javaClass);
+		List<JavaField> fields = ListUtil.isNotBlank(expanded.getFields())?expanded.getFields():new ArrayList<>();
+		List<JavaMethod> methods = ListUtil.isNotBlank(expanded.getMethods())?
+				expanded.getMethods():new ArrayList<>();
+		
+		// Split any methods that are too big, keeping each with its helpers
+		Set<String> methodNames = new HashSet<>();
+		for(JavaMethod method: methods){
+			methodNames.add(method.getName());
+		}
+		boolean assignsFinalFields = false;
+		for(JavaField field: fields){
+			if(field.isFinal() && StringUtil.isBlank(field.getValue())){
+				assignsFinalFields = true;
+			}
+		}
+		List<List<JavaMethod>> units = new ArrayList<>();
+		List<JavaMethod> oversizedMethods = new ArrayList<>();
+		boolean methodsSplit = false;
+		for(JavaMethod method: methods){
+			if(JvmLimitEstimator.estimateCodeSize(method) <= maxCodeSize){
+				units.add(Collections.singletonList(method));
+				continue;
+			}
+			List<JavaMethod> unit = method.getName() == null && assignsFinalFields?
+					null:splitMethod(method, methodNames);
+			if(unit == null){
+				units.add(Collections.singletonList(method));
+				oversizedMethods.add(method);
+			}else{
+				units.add(unit);
+				methodsSplit = true;
+				for(JavaMethod part: unit){
+					if(JvmLimitEstimator.estimateCodeSize(part) > maxCodeSize){
+						oversizedMethods.add(part);
+					}
+				}
+			}
+		}
+		
+		// Split the class if its constant pool is too big
+		Set<String> fieldNames = new HashSet<>();
+		for(JavaField field: fields){
+			fieldNames.add(field.getName());
+		}
+		List<Map<String, Integer>> unitEntries = new ArrayList<>();
+		ConstantPoolEstimate estimate = new ConstantPoolEstimate(expanded.getClassName(),
+				expanded.getSuperClassName());
+		estimate.addFields(fields);
+		for(List<JavaMethod> unit: units){
+			Map<String, Integer> entries = new HashMap<>();
+			for(JavaMethod method: unit){
+				entries.putAll(ConstantPoolEstimate.entriesOf(method, fieldNames));
+			}
+			unitEntries.add(entries);
+			estimate.addAll(entries);
+		}
+		List<JavaClass> classes = new ArrayList<>();
+		if(estimate.size() > maxConstantPoolSize && !units.isEmpty()){
+			classes.addAll(splitClass(expanded, fields, units, unitEntries));
+		}else if(methodsSplit){
+			List<JavaMethod> allMethods = new ArrayList<>();
+			for(List<JavaMethod> unit: units){
+				allMethods.addAll(unit);
+			}
+			classes.add(copyClass(expanded, expanded.getClassName(), expanded.getSuperClassName(), true,
+					fields, allMethods));
+		}else{
+			classes.add(javaClass);
+		}
+		return new SplitResult(javaClass, classes, oversizedMethods, pool);
+	}
+	
+	/**
+	 * Splits an oversized method into a chain of helper methods
+	 *
+	 * @param method The {@link JavaMethod} to split
+	 * @param methodNames The names of the methods in the class, which new helper names are added to
+	 * @return The method followed by its helpers, or null if it can't be split
+	 */
+	private List<JavaMethod> splitMethod(JavaMethod method, Set<String> methodNames){
+		List<String> lines = method.getLines();
+		int lineCount = lines.size();
+		
+		// Work out where statements start, what they cost, and which declare local variables
+		int[] lineSizes = new int[lineCount];
+		boolean[] canSplitBefore = new boolean[lineCount];
+		List<Pair<Integer, Pair<String, String>>> locals = new ArrayList<>();
+		int splitLimit = lineCount;
+		BodyScanner scanner = new BodyScanner();
+		String previous = "";
+		for(int i = 0; i < lineCount; i++){
+			String trimmed = lines.get(i).trim();
+			boolean statementStart = i == 0 || (scanner.atTopLevel() &&
+					(previous.endsWith(";") || previous.endsWith("}")) && !continuesStatement(trimmed));
+			canSplitBefore[i] = i > 0 && statementStart && i <= splitLimit;
+			if(statementStart && i < splitLimit){
+				Matcher local = LOCAL_VARIABLE.matcher(trimmed);
+				if(local.find() && !STATEMENT_KEYWORDS.contains(local.group(1))){
+					if("var".equals(local.group(1)) || ",".equals(local.group(3)) ||
+							declaresMore(trimmed, local.end())){
+						// Can't pass this one on, so the method can't be split after it
+						splitLimit = i;
+					}else{
+						locals.add(Pair.of(i, Pair.of(local.group(1), local.group(2))));
+					}
+				}
+			}
+			lineSizes[i] = JvmLimitEstimator.estimateLine(scanner, lines.get(i));
+			if(!trimmed.isEmpty() && !trimmed.startsWith("//")){
+				previous = trimmed;
+			}
+		}
+		
+		// Fill each part up to the budget, splitting at the last statement start that fits
+		int parameterCount = method.getParameterCount();
+		int budget = maxCodeSize - CALL_SIZE - 2 * (locals.size() + parameterCount);
+		List<Integer> starts = new ArrayList<>();
+		starts.add(0);
+		int size = 1;
+		int lastSplit = -1;
+		int sizeBeforeSplit = 0;
+		for(int i = 0; i < lineCount; i++){
+			if(canSplitBefore[i] && i > starts.get(starts.size() - 1)){
+				lastSplit = i;
+				sizeBeforeSplit = size;
+			}
+			size += lineSizes[i];
+			if(size > budget && lastSplit > starts.get(starts.size() - 1)){
+				starts.add(lastSplit);
+				size = 1 + size - sizeBeforeSplit;
+				lastSplit = -1;
+			}
+		}
+		if(starts.size() == 1){
+			return null;
+		}
+		starts.add(lineCount);
+		
+		// Name the helpers
+		String baseName = method.getName() == null?"init":method.getName();
+		List<String> names = new ArrayList<>();
+		names.add(method.getName());
+		int suffix = 2;
+		for(int part = 1; part < starts.size() - 1; part++){
+			while(methodNames.contains(baseName + "Part" + suffix)){
+				suffix++;
+			}
+			names.add(baseName + "Part" + suffix);
+			methodNames.add(baseName + "Part" + suffix);
+		}
+		
+		// Build the chain
+		boolean returnsValue = method.getName() != null && !"void".equals(method.getReturnType());
+		List<Pair<String, String>> parameters = method.getParameters();
+		List<JavaMethod> chain = new ArrayList<>();
+		for(int part = 0; part < starts.size() - 1; part++){
+			List<String> partLines = new ArrayList<>(lines.subList(starts.get(part), starts.get(part + 1)));
+			if(part < starts.size() - 2){
+				StringBuilder call = new StringBuilder(returnsValue?"return ":"").append(names.get(part + 1))
+						.append('(');
+				List<Pair<String, String>> nextParameters = partParameters(parameters, locals, starts.get(part + 1));
+				for(int i = 0; i < nextParameters.size(); i++){
+					call.append(i > 0?", ":"").append(nextParameters.get(i).getRight());
+				}
+				partLines.add(call.append(");").toString());
+			}
+			if(part == 0){
+				chain.add(JavaMethod.builder()
+						.annotations(method.getAnnotations())
+						.visibility(method.getVisibility())
+						.returnType(method.getReturnType())
+						.name(method.getName())
+						.parameters(parameters)
+						.throwTypes(method.getThrowTypes())
+						.lines(partLines)
+						.build());
+			}else{
+				chain.add(JavaMethod.builder()
+						.visibility(Visibility.PRIVATE)
+						.returnType(method.getName() == null?"void":method.getReturnType())
+						.name(names.get(part))
+						.parameters(partParameters(parameters, locals, starts.get(part)))
+						.throwTypes(method.getThrowTypes())
+						.lines(partLines)
+						.build());
+			}
+		}
+		return chain;
+	}
+	
+	/**
+	 * @param trimmed A trimmed line
+	 * @return Whether the line continues the statement before it rather than starting a new one
+	 */
+	private static boolean continuesStatement(String trimmed){
+		if(trimmed.isEmpty()){
+			return false;
+		}
+		if(".+-*/%&|^?:=<>".indexOf(trimmed.charAt(0)) != -1){
+			return true;
+		}
+		int end = 0;
+		while(end < trimmed.length() && Character.isJavaIdentifierPart(trimmed.charAt(end))){
+			end++;
+		}
+		return CONTINUATIONS.contains(trimmed.substring(0, end));
+	}
+	
+	/**
+	 * @param statement A statement declaring a local variable
+	 * @param start The offset just past the first variable's name and what follows it
+	 * @return Whether the statement declares another variable after a comma
+	 */
+	private static boolean declaresMore(String statement, int start){
+		int depth = 0;
+		for(int i = start; i < statement.length(); i++){
+			char c = statement.charAt(i);
+			if(c == '"' || c == '\''){
+				// Skip over the literal
+				for(i++; i < statement.length() && statement.charAt(i) != c; i++){
+					if(statement.charAt(i) == '\\'){
+						i++;
+					}
+				}
+			}else if(c == '(' || c == '[' || c == '{'){
+				depth++;
+			}else if(c == ')' || c == ']' || c == '}'){
+				depth--;
+			}else if(c == ',' && depth == 0){
+				Matcher another = ANOTHER_VARIABLE.matcher(statement);
+				if(another.find(i) && another.start() == i){
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * @param parameters The parameters of the method being split
+	 * @param locals The local variables declared in the method, with the lines they're declared on
+	 * @param start The line the part starts at
+	 * @return The parameters of the part: the method's parameters and the local variables declared before it
+	 */
+	private static List<Pair<String, String>> partParameters(
+			List<Pair<String, String>> parameters, List<Pair<Integer, Pair<String, String>>> locals, int start){
+		List<Pair<String, String>> partParameters = new ArrayList<>(parameters);
+		for(Pair<Integer, Pair<String, String>> local: locals){
+			if(local.getLeft() < start){
+				partParameters.add(local.getRight());
+			}
+		}
+		return partParameters;
+	}
+	
+	/**
+	 * Splits a class with too many constants into a chain of part-classes
+	 *
+	 * @param javaClass The {@link JavaClass} being split
+	 * @param fields The {@link JavaField fields} of the class
+	 * @param units The methods of the class, each with any helpers it was split into
+	 * @param unitEntries The constant pool entries of each unit
+	 * @return The part-classes, starting with the main class
+	 */
+	private List<JavaClass> splitClass(
+			JavaClass javaClass, List<JavaField> fields, List<List<JavaMethod>> units,
+			List<Map<String, Integer>> unitEntries){
+		// Fill the parts from the bottom of the chain up, starting with the fields, so methods end up in the same
+		// order; the constructors all stay in the main class
+		List<Part> parts = new ArrayList<>();
+		Part current = new Part(javaClass);
+		current.estimate.addFields(fields);
+		current.hasMembers = !fields.isEmpty();
+		List<Integer> constructors = new ArrayList<>();
+		for(int i = units.size() - 1; i >= 0; i--){
+			if(units.get(i).get(0).getName() == null){
+				constructors.add(0, i);
+				continue;
+			}
+			current = addUnit(parts, current, units.get(i), unitEntries.get(i), javaClass);
+		}
+		if(!constructors.isEmpty()){
+			// All the constructors have to go in the main class, so they're priced together
+			Map<String, Integer> constructorEntries = new HashMap<>();
+			List<JavaMethod> constructorMethods = new ArrayList<>();
+			for(int i: constructors){
+				constructorEntries.putAll(unitEntries.get(i));
+				constructorMethods.addAll(units.get(i));
+			}
+			current = addUnit(parts, current, constructorMethods, constructorEntries, javaClass);
+		}
+		parts.add(current);
+		int partCount = parts.size();
+		
+		// A part can only see the methods below it, so it gets abstract stubs for the methods above it that it calls
+		Map<String, List<JavaMethod>> methodsAbove = new HashMap<>();
+		for(int i = partCount - 1; i > 0; i--){
+			for(JavaMethod method: parts.get(i).methods){
+				if(method.getName() != null && method.getVisibility() != Visibility.PRIVATE){
+					methodsAbove.computeIfAbsent(method.getName(), name -> new ArrayList<>()).add(method);
+				}
+			}
+			Set<String> called = new HashSet<>();
+			for(JavaMethod method: parts.get(i - 1).methods){
+				for(String line: method.getLines()){
+					addCalledNames(line, called);
+				}
+			}
+			if(i == 1){
+				for(JavaField field: fields){
+					addCalledNames(field.getValue(), called);
+				}
+			}
+			for(String name: called){
+				for(JavaMethod method: methodsAbove.getOrDefault(name, Collections.emptyList())){
+					parts.get(i - 1).methods.add(JavaMethod.builder()
+							.isAbstract()
+							.visibility(method.getVisibility())
+							.returnType(method.getReturnType())
+							.name(method.getName())
+							.parameters(method.getParameters())
+							.throwTypes(method.getThrowTypes())
+							.build());
+				}
+			}
+		}
+		
+		// Constructors aren't inherited either, so each one that doesn't call another constructor of the class gets
+		// one with the same parameters in every part below, passing them down to its super constructor call
+		List<JavaMethod> mainMethods = parts.get(partCount - 1).methods;
+		for(int i = 0; i < mainMethods.size(); i++){
+			JavaMethod constructor = mainMethods.get(i);
+			if(constructor.getName() != null){
+				continue;
+			}
+			List<String> lines = constructor.getLines();
+			int[] callEnd = constructorCallEnd(lines);
+			List<String> superCall = new ArrayList<>();
+			List<String> rest = new ArrayList<>(lines);
+			if(callEnd != null){
+				if(lines.get(callEnd[0]).trim().startsWith("this")){
+					continue;
+				}
+				superCall.addAll(lines.subList(0, callEnd[1]));
+				rest = new ArrayList<>(lines.subList(callEnd[1], lines.size()));
+				// Keep anything after the call on its last line
+				String lastLine = superCall.get(callEnd[1] - 1);
+				if(!lastLine.substring(callEnd[2]).trim().isEmpty()){
+					superCall.set(callEnd[1] - 1, lastLine.substring(0, callEnd[2]));
+					rest.add(0, lastLine.substring(callEnd[2]).trim());
+				}
+			}
+			StringBuilder passThrough = new StringBuilder("super(");
+			for(int j = 0; j < constructor.getParameterCount(); j++){
+				passThrough.append(j > 0?", ":"").append(constructor.getParameterName(j));
+			}
+			passThrough.append(");");
+			if(callEnd != null || constructor.getParameterCount() > 0){
+				rest.add(0, passThrough.toString());
+				mainMethods.set(i, JavaMethod.builder()
+						.annotations(constructor.getAnnotations())
+						.visibility(constructor.getVisibility())
+						.returnType(constructor.getReturnType())
+						.parameters(constructor.getParameters())
+						.throwTypes(constructor.getThrowTypes())
+						.lines(rest)
+						.build());
+			}
+			for(int j = 0; j < partCount - 1; j++){
+				parts.get(j).methods.add(0, JavaMethod.builder()
+						.visibility(Visibility.PROTECTED)
+						.returnType(partName(javaClass, j, partCount))
+						.parameters(constructor.getParameters())
+						.throwTypes(constructor.getThrowTypes())
+						.lines(j == 0?superCall:Collections.singletonList(passThrough.toString()))
+						.build());
+			}
+		}
+		
+		// Build the part-classes, with the main class at the top of the chain
+		List<JavaClass> classes = new ArrayList<>();
+		List<JavaField> partFields = new ArrayList<>();
+		for(JavaField field: fields){
+			partFields.add(field.getVisibility() == Visibility.PRIVATE?JavaField.builder()
+					.annotations(field.getAnnotations())
+					.visibility(Visibility.NONE)
+					.isFinal(field.isFinal())
+					.type(field.getType())
+					.name(field.getName())
+					.value(field.getValue())
+					.build():field);
+		}
+		for(int i = partCount - 1; i >= 0; i--){
+			String name = partName(javaClass, i, partCount);
+			String superClassName = i == 0?javaClass.getSuperClassName():partName(javaClass, i - 1, partCount);
+			classes.add(copyClass(javaClass, name, superClassName, i == partCount - 1,
+					i == 0?partFields:new ArrayList<>(), parts.get(i).methods));
+		}
+		return classes;
+	}
+	
+	/**
+	 * Adds the names of the methods of this class that the given code calls (or references) to the given set
+	 *
+	 * @param code The code to look for calls in (may be null)
+	 * @param names The names found so far
+	 */
+	private static void addCalledNames(String code, Set<String> names){
+		if(code == null){
+			return;
+		}
+		Matcher call = CALLED_NAME.matcher(code);
+		while(call.find()){
+			for(int group = 1; group <= call.groupCount(); group++){
+				if(call.group(group) != null){
+					names.add(call.group(group));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @param lines The lines of a constructor
+	 * @return Where the {@code super(...)} or {@code this(...)} call the constructor starts with is: the line it starts
+	 * on, the number of lines up to its end, and the offset just past its semicolon on its last line; or null if the
+	 * constructor doesn't start with one
+	 */
+	private static int[] constructorCallEnd(List<String> lines){
+		int first = 0;
+		while(first < lines.size() && (lines.get(first).trim().isEmpty() || lines.get(first).trim().startsWith("//"))){
+			first++;
+		}
+		if(first == lines.size() || !CONSTRUCTOR_CALL.matcher(lines.get(first).trim()).lookingAt()){
+			return null;
+		}
+		int depth = 0;
+		for(int i = first; i < lines.size(); i++){
+			String line = lines.get(i);
+			for(int j = 0; j < line.length(); j++){
+				char c = line.charAt(j);
+				if(c == '"' || c == '\''){
+					// Skip over the literal
+					for(j++; j < line.length() && line.charAt(j) != c; j++){
+						if(line.charAt(j) == '\\'){
+							j++;
+						}
+					}
+				}else if(c == '('){
+					depth++;
+				}else if(c == ')'){
+					depth--;
+				}else if(c == ';' && depth == 0){
+					return new int[]{first, i + 1, j + 1};
+				}
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Adds a unit of methods to the current part, starting a new part above it if it doesn't fit
+	 *
+	 * @param parts The parts filled so far, from the bottom of the chain up
+	 * @param current The part being filled
+	 * @param unit The method and its helpers
+	 * @param entries The constant pool entries of the unit
+	 * @param javaClass The {@link JavaClass} being split
+	 * @return The part being filled after adding the unit
+	 */
+	private Part addUnit(
+			List<Part> parts, Part current, List<JavaMethod> unit, Map<String, Integer> entries,
+			JavaClass javaClass){
+		if(current.hasMembers && current.estimate.size() + current.estimate.costOf(entries) > maxConstantPoolSize){
+			parts.add(current);
+			current = new Part(javaClass);
+		}
+		List<JavaMethod> methods = new ArrayList<>();
+		for(int i = 0; i < unit.size(); i++){
+			JavaMethod method = unit.get(i);
+			// Helpers stay private, since they're always in the same part as the method that calls them
+			methods.add(i == 0 && method.getVisibility() == Visibility.PRIVATE?JavaMethod.builder()
+					.annotations(method.getAnnotations())
+					.visibility(Visibility.NONE)
+					.returnType(method.getReturnType())
+					.name(method.getName())
+					.parameters(method.getParameters())
+					.throwTypes(method.getThrowTypes())
+					.lines(method.getLines())
+					.build():method);
+		}
+		current.methods.addAll(0, methods);
+		current.estimate.addAll(entries);
+		current.hasMembers = true;
+		return current;
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} being split
+	 * @param index The index of the part, from the bottom of the chain
+	 * @param partCount The number of parts
+	 * @return The name of the part-class
+	 */
+	private static String partName(JavaClass javaClass, int index, int partCount){
+		int fromTop = partCount - index;
+		return fromTop == 1?javaClass.getClassName():javaClass.getClassName() + "Part" + fromTop;
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to copy the declaration of
+	 * @param className The name of the new class
+	 * @param superClassName The name of the class it extends
+	 * @param main Whether it's the main class (which keeps the annotations, while the other parts are abstract)
+	 * @param fields The {@link JavaField fields} of the new class
+	 * @param methods The {@link JavaMethod methods} of the new class
+	 * @return The new class
+	 */
+	private static JavaClass copyClass(
+			JavaClass javaClass, String className, String superClassName, boolean main,
+			List<JavaField> fields, List<JavaMethod> methods){
+		return JavaClass.builder()
+				.packageName(javaClass.getPackageName())
+				.imports(javaClass.getImports())
+				.staticImports(javaClass.getStaticImports())
+				.annotations(main?javaClass.getAnnotations():new ArrayList<>())
+				.visibility(javaClass.getVisibility())
+				.isAbstract(!main || javaClass.isAbstract())
+				.className(className)
+				.superClassName(superClassName)
+				.fields(fields)
+				.methods(methods)
+				.build();
+	}
+}
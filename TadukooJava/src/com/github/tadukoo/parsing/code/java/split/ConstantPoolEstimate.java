@@ -0,0 +1,216 @@
+package com.github.tadukoo.parsing.code.java.split;
+
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.util.ListUtil;
+import com.github.tadukoo.util.StringUtil;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Constant Pool Estimate adds up the constant pool entries a class file would need for the members added to it.
+ * Entries are keyed by what they refer to (a string, a class, a method name, ...), so members that share constants
+ * only count them once, and the entries of a member can be {@link #costOf priced} before deciding to
+ * {@link #addAll add} them.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+final class ConstantPoolEstimate{
+	/** Keywords that can be followed by an opening parenthesis without being a method call */
+	private static final Set<String> NOT_CALLS = new HashSet<>(Arrays.asList(
+			"if", "for", "while", "switch", "catch", "synchronized", "this", "super", "return", "throw", "assert"));
+	
+	/** The entries added so far, by key, with the number of slots each takes */
+	private final Map<String, Integer> entries = new HashMap<>();
+	/** The number of slots taken so far */
+	private int size = 0;
+	
+	/**
+	 * Constructs a new Constant Pool Estimate, starting with the entries every class needs
+	 *
+	 * @param className The name of the class
+	 * @param superClassName The name of the class it extends (may be null)
+	 */
+	ConstantPoolEstimate(String className, String superClassName){
+		add("C:" + className, 2);
+		add("C:" + (StringUtil.isNotBlank(superClassName)?superClassName:"Object"), 2);
+		add("U:Code", 1);
+	}
+	
+	/**
+	 * @return The estimated number of entries in the constant pool
+	 */
+	int size(){
+		return size;
+	}
+	
+	/**
+	 * @param key The key of the entry
+	 * @param slots The number of slots the entry takes
+	 */
+	private void add(String key, int slots){
+		if(entries.putIfAbsent(key, slots) == null){
+			size += slots;
+		}
+	}
+	
+	/**
+	 * @param memberEntries Entries from {@link #entriesOf(List)} or {@link #entriesOf(JavaMethod, Set)}
+	 * @return The number of slots adding the entries would take
+	 */
+	int costOf(Map<String, Integer> memberEntries){
+		int cost = 0;
+		for(Map.Entry<String, Integer> entry: memberEntries.entrySet()){
+			if(!entries.containsKey(entry.getKey())){
+				cost += entry.getValue();
+			}
+		}
+		return cost;
+	}
+	
+	/**
+	 * @param memberEntries Entries from {@link #entriesOf(List)} or {@link #entriesOf(JavaMethod, Set)} to add
+	 */
+	void addAll(Map<String, Integer> memberEntries){
+		for(Map.Entry<String, Integer> entry: memberEntries.entrySet()){
+			add(entry.getKey(), entry.getValue());
+		}
+	}
+	
+	/**
+	 * @param fields The {@link JavaField fields} to add
+	 */
+	void addFields(List<JavaField> fields){
+		addAll(entriesOf(fields));
+	}
+	
+	/**
+	 * @param method The {@link JavaMethod} to add
+	 * @param fieldNames The names of the fields of the class
+	 */
+	void addMethod(JavaMethod method, Set<String> fieldNames){
+		addAll(entriesOf(method, fieldNames));
+	}
+	
+	/**
+	 * @param fields The {@link JavaField fields} to get the entries of
+	 * @return The constant pool entries the fields need
+	 */
+	static Map<String, Integer> entriesOf(List<JavaField> fields){
+		Map<String, Integer> fieldEntries = new HashMap<>();
+		BodyScanner scanner = new BodyScanner();
+		for(JavaField field: fields){
+			fieldEntries.put("U:" + field.getName(), 1);
+			fieldEntries.put("U:" + field.getType(), 1);
+			fieldEntries.put("F:" + field.getName(), 2);
+			if(StringUtil.isNotBlank(field.getValue())){
+				scanner.scan(field.getValue(), (kind, text) -> addToken(fieldEntries, kind, text, null));
+			}
+		}
+		return fieldEntries;
+	}
+	
+	/**
+	 * @param method The {@link JavaMethod} to get the entries of
+	 * @param fieldNames The names of the fields of the class, which the method's references to need entries
+	 * @return The constant pool entries the method needs
+	 */
+	static Map<String, Integer> entriesOf(JavaMethod method, Set<String> fieldNames){
+		Map<String, Integer> methodEntries = new HashMap<>();
+		methodEntries.put("U:" + (method.getName() == null?"<init>":method.getName()), 1);
+		StringBuilder descriptor = new StringBuilder("U:(");
+		for(int i = 0; i < method.getParameterCount(); i++){
+			descriptor.append(method.getParameterType(i)).append(';');
+		}
+		methodEntries.put(descriptor.append(')').append(method.getReturnType()).toString(), 1);
+		if(ListUtil.isNotBlank(method.getThrowTypes())){
+			methodEntries.put("U:Exceptions", 1);
+			for(String throwType: method.getThrowTypes()){
+				methodEntries.put("C:" + throwType, 2);
+			}
+		}
+		if(ListUtil.isNotBlank(method.getLines())){
+			BodyScanner scanner = new BodyScanner();
+			for(String line: method.getLines()){
+				scanner.scan(line, (kind, text) -> addToken(methodEntries, kind, text, fieldNames));
+			}
+		}
+		return methodEntries;
+	}
+	
+	/**
+	 * Adds the constant pool entries a token needs
+	 *
+	 * @param memberEntries The entries to add to
+	 * @param kind The kind of token
+	 * @param text The text of the token
+	 * @param fieldNames The names of the fields of the class (may be null if references to them don't matter)
+	 */
+	private static void addToken(Map<String, Integer> memberEntries, int kind, String text, Set<String> fieldNames){
+		switch(kind){
+			case BodyScanner.STRING:
+				memberEntries.put("S:" + text, 2);
+				break;
+			case BodyScanner.NUMBER:
+				int slots = numberSlots(text);
+				if(slots > 0){
+					memberEntries.put("N:" + text, slots);
+				}
+				break;
+			case BodyScanner.CALL:
+				if(!NOT_CALLS.contains(text)){
+					// The method reference, its name and type, and the name and descriptor
+					memberEntries.put("M:" + text, 4);
+				}
+				break;
+			case BodyScanner.IDENTIFIER:
+				if(Character.isUpperCase(text.charAt(0))){
+					memberEntries.put("C:" + text, 2);
+				}else if(fieldNames != null && fieldNames.contains(text)){
+					memberEntries.put("F:" + text, 2);
+				}
+				break;
+			default:
+				break;
+		}
+	}
+	
+	/**
+	 * @param number The text of a number literal
+	 * @return The number of constant pool slots the number takes (0 if it's small enough to be an instruction
+	 * operand)
+	 */
+	static int numberSlots(String number){
+		String text = number.replace("_", "").toLowerCase();
+		boolean hex = text.startsWith("0x");
+		if(text.endsWith("l")){
+			return 2;
+		}else if(!hex && text.endsWith("f")){
+			return 1;
+		}else if(!hex && (text.endsWith("d") || text.contains(".") || text.contains("e"))){
+			return 2;
+		}
+		try{
+			long value;
+			if(hex){
+				value = Long.parseLong(text.substring(2), 16);
+			}else if(text.startsWith("0b")){
+				value = Long.parseLong(text.substring(2), 2);
+			}else if(text.length() > 1 && text.startsWith("0")){
+				value = Long.parseLong(text.substring(1), 8);
+			}else{
+				value = Long.parseLong(text);
+			}
+			return value >= Short.MIN_VALUE && value <= Short.MAX_VALUE?0:1;
+		}catch(NumberFormatException e){
+			return 1;
+		}
+	}
+}
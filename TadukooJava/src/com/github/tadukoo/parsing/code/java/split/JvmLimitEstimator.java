@@ -0,0 +1,144 @@
+package com.github.tadukoo.parsing.code.java.split;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.parsing.code.java.SynthesizedMembers;
+import com.github.tadukoo.util.ListUtil;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JVM Limit Estimator estimates how close a {@link JavaClass} is to the limits the JVM puts on a class file, without
+ * compiling it: the size of each method's bytecode (at most {@link #MAX_CODE_SIZE} bytes) and the number of entries
+ * in the class's constant pool (at most {@link #MAX_CONSTANT_POOL_SIZE}). javac only reports going over either one
+ * as "code too large" or "too many constants" once the whole build gets to it, so classes can be checked (and
+ * {@link ClassSplitter split}) while they're still models.
+ * <br><br>
+ * The estimates come from the tokens of each line rather than real code generation, so they're approximate. They're
+ * weighted to err on the high side for the straight-line code generated tables are made of (each literal, name,
+ * call, and operator costs about as much as the instructions javac would usually emit for it), so budgets should
+ * still leave some room below the real limits.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class JvmLimitEstimator{
+	/** The most bytes of bytecode the JVM allows in a single method */
+	public static final int MAX_CODE_SIZE = 65535;
+	/** The most entries the JVM allows in the constant pool of a class */
+	public static final int MAX_CONSTANT_POOL_SIZE = 65535;
+	
+	/** Keywords that compile to a branch */
+	private static final Set<String> BRANCHES = new HashSet<>(Arrays.asList(
+			"if", "else", "for", "while", "do", "switch", "case", "default", "try", "catch", "finally", "break",
+			"continue", "synchronized", "instanceof"));
+	/** Keywords and literals that compile to at most a single byte */
+	private static final Set<String> CHEAP = new HashSet<>(Arrays.asList(
+			"return", "throw", "this", "super", "null", "true", "false", "final", "var", "boolean", "byte", "short",
+			"char", "int", "long", "float", "double", "void"));
+	
+	// Not allowed to create a JVM Limit Estimator
+	private JvmLimitEstimator(){ }
+	
+	/**
+	 * @param method The {@link JavaMethod} to estimate
+	 * @return The estimated number of bytes of bytecode in the method
+	 */
+	public static int estimateCodeSize(JavaMethod method){
+		List<String> lines = method.getLines();
+		int size = 1;
+		if(ListUtil.isNotBlank(lines)){
+			BodyScanner scanner = new BodyScanner();
+			for(String line: lines){
+				size += estimateLine(scanner, line);
+			}
+		}
+		return size;
+	}
+	
+	/**
+	 * Estimates the bytecode of a single line, continuing from the lines before it
+	 *
+	 * @param scanner The {@link BodyScanner} that scanned the lines before this one
+	 * @param line The line to estimate
+	 * @return The estimated number of bytes of bytecode for the line
+	 */
+	static int estimateLine(BodyScanner scanner, String line){
+		int[] size = {0};
+		scanner.scan(line, (kind, text) -> size[0] += tokenSize(kind, text));
+		// Storing or discarding the result of the statement
+		return size[0] == 0?0:size[0] + 1;
+	}
+	
+	/**
+	 * @param kind The kind of token
+	 * @param text The text of the token
+	 * @return The estimated number of bytes of bytecode for the token
+	 */
+	private static int tokenSize(int kind, String text){
+		switch(kind){
+			case BodyScanner.IDENTIFIER:
+				if(BRANCHES.contains(text)){
+					return 3;
+				}else if("new".equals(text)){
+					return 4;
+				}
+				return CHEAP.contains(text)?1:2;
+			case BodyScanner.CALL:
+				return 3;
+			case BodyScanner.STRING:
+			case BodyScanner.NUMBER:
+				return 3;
+			case BodyScanner.CHARACTER:
+				return 2;
+			default:
+				return 1;
+		}
+	}
+	
+	/**
+	 * Estimates the constant pool of a class, including any {@link SynthesizedMembers synthesized members}
+	 *
+	 * @param javaClass The {@link JavaClass} to estimate
+	 * @return The estimated number of entries in the constant pool of the class
+	 */
+	public static int estimateConstantPoolSize(JavaClass javaClass){
+		JavaClass expanded = SynthesizedMembers.expand(javaClass);
+		ConstantPoolEstimate estimate = new ConstantPoolEstimate(expanded.getClassName(),
+				expanded.getSuperClassName());
+		Set<String> fieldNames = new HashSet<>();
+		if(ListUtil.isNotBlank(expanded.getFields())){
+			estimate.addFields(expanded.getFields());
+			for(JavaField field: expanded.getFields()){
+				fieldNames.add(field.getName());
+			}
+		}
+		if(ListUtil.isNotBlank(expanded.getMethods())){
+			for(JavaMethod method: expanded.getMethods()){
+				estimate.addMethod(method, fieldNames);
+			}
+		}
+		return estimate.size();
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to check
+	 * @return Whether any method or the constant pool of the class is estimated to be over the JVM's limits
+	 */
+	public static boolean exceedsLimits(JavaClass javaClass){
+		JavaClass expanded = SynthesizedMembers.expand(javaClass);
+		if(ListUtil.isNotBlank(expanded.getMethods())){
+			for(JavaMethod method: expanded.getMethods()){
+				if(estimateCodeSize(method) > MAX_CODE_SIZE){
+					return true;
+				}
+			}
+		}
+		return estimateConstantPoolSize(expanded) > MAX_CONSTANT_POOL_SIZE;
+	}
+}
@@ -0,0 +1,113 @@
+package com.github.tadukoo.parsing.code.java.split;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Split Result holds what the {@link ClassSplitter} made of a {@link JavaClass}: the class to generate in its place
+ * and, if it had to be split, the part-classes it extends, along with any methods that are still estimated to be
+ * too large (because they couldn't be split safely)
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class SplitResult{
+	/** The {@link JavaClass} that was split */
+	private final JavaClass original;
+	/** The classes to generate, starting with the main class, each extending the one after it */
+	private final List<JavaClass> classes;
+	/** The {@link JavaMethod methods} that are still estimated to be over the code size budget */
+	private final List<JavaMethod> oversizedMethods;
+	/** The {@link ForkJoinPool} to render the classes on */
+	private final ForkJoinPool pool;
+	
+	/**
+	 * Constructs a new Split Result with the given parameters
+	 *
+	 * @param original The {@link JavaClass} that was split
+	 * @param classes The classes to generate, starting with the main class, each extending the one after it
+	 * @param oversizedMethods The {@link JavaMethod methods} that are still estimated to be over the code size budget
+	 * @param pool The {@link ForkJoinPool} to render the classes on
+	 */
+	SplitResult(JavaClass original, List<JavaClass> classes, List<JavaMethod> oversizedMethods, ForkJoinPool pool){
+		this.original = original;
+		this.classes = Collections.unmodifiableList(classes);
+		this.oversizedMethods = Collections.unmodifiableList(oversizedMethods);
+		this.pool = pool;
+	}
+	
+	/**
+	 * @return The {@link JavaClass} that was split
+	 */
+	public JavaClass getOriginal(){
+		return original;
+	}
+	
+	/**
+	 * @return The classes to generate, starting with the main class (which has the original's name), each
+	 * extending the one after it
+	 */
+	public List<JavaClass> getClasses(){
+		return classes;
+	}
+	
+	/**
+	 * @return The class to generate in place of the original, with the original's name
+	 */
+	public JavaClass getMainClass(){
+		return classes.get(0);
+	}
+	
+	/**
+	 * @return The {@link JavaMethod methods} that are still estimated to be over the code size budget
+	 */
+	public List<JavaMethod> getOversizedMethods(){
+		return oversizedMethods;
+	}
+	
+	/**
+	 * @return Whether anything had to be split
+	 */
+	public boolean isSplit(){
+		return classes.size() > 1 || classes.get(0) != original;
+	}
+	
+	/**
+	 * Renders all the classes in parallel
+	 *
+	 * @return The rendered classes, keyed by fully qualified name, starting with the main class
+	 * @throws IllegalStateException If rendering is interrupted
+	 */
+	public Map<String, String> render(){
+		List<String> sources;
+		try{
+			// Parallel streams run on the pool they're started from
+			sources = pool.submit(() -> classes.parallelStream()
+					.map(JavaClass::toString)
+					.collect(Collectors.toList())).get();
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while rendering " + original.getClassName(), e);
+		}catch(ExecutionException e){
+			if(e.getCause() instanceof RuntimeException){
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("Failed to render " + original.getClassName(), e.getCause());
+		}
+		
+		Map<String, String> rendered = new LinkedHashMap<>();
+		for(int i = 0; i < classes.size(); i++){
+			rendered.put(classes.get(i).getPackageName() + "." + classes.get(i).getClassName(), sources.get(i));
+		}
+		return rendered;
+	}
+}
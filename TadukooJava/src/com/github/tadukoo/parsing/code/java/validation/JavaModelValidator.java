@@ -0,0 +1,211 @@
+package com.github.tadukoo.parsing.code.java.validation;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+import com.github.tadukoo.util.ListUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Java Model Validator checks {@link JavaClass classes} against the naming rules of the Java language before they're
+ * rendered or compiled: package names, class names, imports, annotation names, field and method names, and all the
+ * types used, as well as reserved words used as names, constructors that don't match the class name, and duplicate
+ * field or parameter names.
+ * <br><br>
+ * The builders only check that required values are present, so anything they let through that javac wouldn't can
+ * be caught here instead. Name checks use the tables in {@link JavaNames}, so whole corpora can be checked cheaply,
+ * and {@link #validateAll(Collection)} splits them across the common fork-join pool.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class JavaModelValidator{
+	
+	// Not allowed to create a Java Model Validator
+	private JavaModelValidator(){ }
+	
+	/**
+	 * Validates a single {@link JavaClass}
+	 *
+	 * @param javaClass The {@link JavaClass} to validate
+	 * @return A {@link ValidationReport} with any problems found
+	 */
+	public static ValidationReport validate(JavaClass javaClass){
+		return new ValidationReport(1, check(javaClass));
+	}
+	
+	/**
+	 * Validates all the given {@link JavaClass classes} in parallel. The diagnostics in the resulting report are in
+	 * the same order as the classes were given.
+	 *
+	 * @param javaClasses The {@link JavaClass classes} to validate
+	 * @return A {@link ValidationReport} with any problems found in any of the classes
+	 */
+	public static ValidationReport validateAll(Collection<JavaClass> javaClasses){
+		List<ValidationDiagnostic> diagnostics = javaClasses.parallelStream()
+				.map(JavaModelValidator::check)
+				.flatMap(List::stream)
+				.collect(Collectors.toList());
+		return new ValidationReport(javaClasses.size(), diagnostics);
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to check
+	 * @return The {@link ValidationDiagnostic diagnostics} for any problems found in the class
+	 */
+	private static List<ValidationDiagnostic> check(JavaClass javaClass){
+		List<ValidationDiagnostic> diagnostics = new ArrayList<>();
+		
+		// Check the package and imports
+		if(!JavaNames.isQualifiedName(javaClass.getPackageName())){
+			diagnostics.add(new ValidationDiagnostic(javaClass, null,
+					"Invalid package name '" + javaClass.getPackageName() + "'"));
+		}
+		if(ListUtil.isNotBlank(javaClass.getImports())){
+			for(String anImport: javaClass.getImports()){
+				if(!JavaNames.isImport(anImport)){
+					diagnostics.add(new ValidationDiagnostic(javaClass, null, "Invalid import '" + anImport + "'"));
+				}
+			}
+		}
+		if(ListUtil.isNotBlank(javaClass.getStaticImports())){
+			for(String staticImport: javaClass.getStaticImports()){
+				if(!JavaNames.isImport(staticImport)){
+					diagnostics.add(new ValidationDiagnostic(javaClass, null,
+							"Invalid static import '" + staticImport + "'"));
+				}
+			}
+		}
+		
+		// Check the class declaration
+		checkAnnotations(javaClass, null, javaClass.getAnnotations(), diagnostics);
+		if(!JavaNames.isIdentifier(javaClass.getClassName())){
+			diagnostics.add(new ValidationDiagnostic(javaClass, null,
+					"Invalid class name '" + javaClass.getClassName() + "'"));
+		}
+		if(javaClass.getSuperClassName() != null && !JavaNames.isClassType(javaClass.getSuperClassName())){
+			diagnostics.add(new ValidationDiagnostic(javaClass, null,
+					"Invalid super class '" + javaClass.getSuperClassName() + "'"));
+		}
+		
+		// Check the fields
+		Set<String> fieldNames = new HashSet<>();
+		if(ListUtil.isNotBlank(javaClass.getFields())){
+			for(JavaField field: javaClass.getFields()){
+				checkAnnotations(javaClass, field, field.getAnnotations(), diagnostics);
+				if(!JavaNames.isType(field.getType()) || "void".equals(field.getType())){
+					diagnostics.add(new ValidationDiagnostic(javaClass, field,
+							"Invalid type '" + field.getType() + "' for field '" + field.getName() + "'"));
+				}
+				if(!JavaNames.isIdentifier(field.getName())){
+					diagnostics.add(new ValidationDiagnostic(javaClass, field,
+							"Invalid field name '" + field.getName() + "'"));
+				}else if(!fieldNames.add(field.getName())){
+					diagnostics.add(new ValidationDiagnostic(javaClass, field,
+							"Duplicate field name '" + field.getName() + "'"));
+				}
+			}
+		}
+		
+		// Check the methods
+		if(ListUtil.isNotBlank(javaClass.getMethods())){
+			for(JavaMethod method: javaClass.getMethods()){
+				checkMethod(javaClass, method, diagnostics);
+			}
+		}
+		
+		return diagnostics;
+	}
+	
+	/**
+	 * Checks the given {@link JavaMethod}, adding diagnostics for any problems found
+	 *
+	 * @param javaClass The {@link JavaClass} the method is in
+	 * @param method The {@link JavaMethod} to check
+	 * @param diagnostics The list of diagnostics to add to
+	 */
+	private static void checkMethod(JavaClass javaClass, JavaMethod method, List<ValidationDiagnostic> diagnostics){
+		checkAnnotations(javaClass, method, method.getAnnotations(), diagnostics);
+		String methodName = method.getName() == null?javaClass.getClassName():method.getName();
+		
+		if(method.getName() == null){
+			// Constructors use the class name as the return type
+			if(!javaClass.getClassName().equals(method.getReturnType())){
+				diagnostics.add(new ValidationDiagnostic(javaClass, method,
+						"Constructor '" + method.getReturnType() + "' doesn't match class name '" +
+								javaClass.getClassName() + "'"));
+			}
+		}else{
+			if(!"void".equals(method.getReturnType()) && !JavaNames.isType(method.getReturnType())){
+				diagnostics.add(new ValidationDiagnostic(javaClass, method,
+						"Invalid return type '" + method.getReturnType() + "' for method '" + methodName + "'"));
+			}
+			if(!JavaNames.isIdentifier(method.getName())){
+				diagnostics.add(new ValidationDiagnostic(javaClass, method,
+						"Invalid method name '" + method.getName() + "'"));
+			}
+		}
+		
+		// Check the parameters
+		Set<String> parameterNames = new HashSet<>();
+		int parameterCount = method.getParameterCount();
+		for(int i = 0; i < parameterCount; i++){
+			String type = method.getParameterType(i);
+			String name = method.getParameterName(i);
+			boolean varargs = type != null && type.trim().endsWith("...");
+			if(varargs && i != parameterCount - 1){
+				diagnostics.add(new ValidationDiagnostic(javaClass, method,
+						"Varargs parameter '" + name + "' must be last in method '" + methodName + "'"));
+			}else if(!JavaNames.isParameterType(type)){
+				diagnostics.add(new ValidationDiagnostic(javaClass, method,
+						"Invalid type '" + type + "' for parameter '" + name + "' in method '" + methodName + "'"));
+			}
+			if(!JavaNames.isIdentifier(name)){
+				diagnostics.add(new ValidationDiagnostic(javaClass, method,
+						"Invalid parameter name '" + name + "' in method '" + methodName + "'"));
+			}else if(!parameterNames.add(name)){
+				diagnostics.add(new ValidationDiagnostic(javaClass, method,
+						"Duplicate parameter name '" + name + "' in method '" + methodName + "'"));
+			}
+		}
+		
+		// Check the throw types
+		if(ListUtil.isNotBlank(method.getThrowTypes())){
+			for(String throwType: method.getThrowTypes()){
+				if(!JavaNames.isClassType(throwType)){
+					diagnostics.add(new ValidationDiagnostic(javaClass, method,
+							"Invalid throw type '" + throwType + "' in method '" + methodName + "'"));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Checks the names of the given {@link JavaAnnotation annotations}, adding diagnostics for any that are invalid
+	 *
+	 * @param javaClass The {@link JavaClass} the annotations are in
+	 * @param member The {@link JavaField} or {@link JavaMethod} the annotations are on (null for the class itself)
+	 * @param annotations The {@link JavaAnnotation annotations} to check
+	 * @param diagnostics The list of diagnostics to add to
+	 */
+	private static void checkAnnotations(
+			JavaClass javaClass, Object member, List<JavaAnnotation> annotations,
+			List<ValidationDiagnostic> diagnostics){
+		if(ListUtil.isNotBlank(annotations)){
+			for(JavaAnnotation annotation: annotations){
+				if(!JavaNames.isQualifiedName(annotation.getName())){
+					diagnostics.add(new ValidationDiagnostic(javaClass, member == null?annotation:member,
+							"Invalid annotation name '" + annotation.getName() + "'"));
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,344 @@
+package com.github.tadukoo.parsing.code.java.validation;
+
+/**
+ * Java Names checks names and type names against the rules of the Java language. ASCII characters are checked
+ * against tables computed once when the class is loaded, and only other characters fall back to
+ * {@link Character#isJavaIdentifierStart(char)} and {@link Character#isJavaIdentifierPart(char)}. Reserved words are
+ * checked with a perfect hash, so none of the checks allocate.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public final class JavaNames{
+	/** Flag for characters that can start an identifier */
+	private static final byte START = 1;
+	/** Flag for characters that can be part of an identifier */
+	private static final byte PART = 2;
+	/** Flags for each ASCII character */
+	private static final byte[] ASCII = new byte[128];
+	/** The names of the primitive types */
+	private static final String[] PRIMITIVES = {
+			"boolean", "byte", "char", "short", "int", "long", "float", "double"};
+	
+	static{
+		for(char c = 0; c < ASCII.length; c++){
+			ASCII[c] = (byte) ((Character.isJavaIdentifierStart(c)?START:0) |
+					(Character.isJavaIdentifierPart(c)?PART:0));
+		}
+	}
+	
+	// Not allowed to create Java Names
+	private JavaNames(){ }
+	
+	/**
+	 * @param c The character to check
+	 * @return Whether the character can start an identifier
+	 */
+	static boolean isIdentifierStart(char c){
+		return c < 128?(ASCII[c] & START) != 0:Character.isJavaIdentifierStart(c);
+	}
+	
+	/**
+	 * @param c The character to check
+	 * @return Whether the character can be part of an identifier
+	 */
+	static boolean isIdentifierPart(char c){
+		return c < 128?(ASCII[c] & PART) != 0:Character.isJavaIdentifierPart(c);
+	}
+	
+	/**
+	 * @param word The word to check
+	 * @return Whether the word is reserved (a keyword or literal) and can't be used as an identifier
+	 */
+	public static boolean isReserved(String word){
+		return word != null && KeywordSet.contains(word);
+	}
+	
+	/**
+	 * @param word The word to check
+	 * @return Whether the word is a primitive type name (not including void)
+	 */
+	public static boolean isPrimitive(String word){
+		for(String primitive: PRIMITIVES){
+			if(primitive.equals(word)){
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * @param name The name to check
+	 * @return Whether the name is a valid (non-reserved) Java identifier
+	 */
+	public static boolean isIdentifier(String name){
+		return name != null && !name.isEmpty() && identifierEnd(name, 0) == name.length();
+	}
+	
+	/**
+	 * @param name The name to check
+	 * @return Whether the name is a valid qualified name (e.g. com.example.Test), made of identifiers separated
+	 * by dots
+	 */
+	public static boolean isQualifiedName(String name){
+		return name != null && qualifiedNameEnd(name, 0) == name.length();
+	}
+	
+	/**
+	 * @param name The import to check (without "import" and the semicolon)
+	 * @return Whether the import is a valid single-type or on-demand (ending in .*) import
+	 */
+	public static boolean isImport(String name){
+		if(name == null){
+			return false;
+		}
+		if(name.endsWith(".*")){
+			return qualifiedNameEnd(name, 0) == name.length() - 2;
+		}
+		return isQualifiedName(name) && name.indexOf('.') != -1;
+	}
+	
+	/**
+	 * @param typeName The type name to check (e.g. {@code Map<String, List<? extends Number>>[]})
+	 * @return Whether the type name is a valid Java type (primitive, class, or array, with generic arguments)
+	 */
+	public static boolean isType(String typeName){
+		return typeName != null && new TypeCursor(typeName).parseType(false);
+	}
+	
+	/**
+	 * @param typeName The type name to check
+	 * @return Whether the type name is a valid class type (not primitive or array), like those used in
+	 * extends and throws clauses
+	 */
+	public static boolean isClassType(String typeName){
+		return typeName != null && new TypeCursor(typeName).parseClassType();
+	}
+	
+	/**
+	 * @param typeName The type name to check
+	 * @return Whether the type name is a valid parameter type - like {@link #isType(String)}, but also allowing a
+	 * trailing {@code ...} for varargs
+	 */
+	public static boolean isParameterType(String typeName){
+		return typeName != null && new TypeCursor(typeName).parseType(true);
+	}
+	
+	/**
+	 * @param text The text containing the identifier
+	 * @param start The index to start at
+	 * @return The index after the identifier that starts at the given index, or -1 if there's no valid
+	 * (non-reserved) identifier there
+	 */
+	private static int identifierEnd(CharSequence text, int start){
+		if(start >= text.length() || !isIdentifierStart(text.charAt(start))){
+			return -1;
+		}
+		int end = start + 1;
+		while(end < text.length() && isIdentifierPart(text.charAt(end))){
+			end++;
+		}
+		return KeywordSet.contains(text, start, end)?-1:end;
+	}
+	
+	/**
+	 * @param text The text containing the qualified name
+	 * @param start The index to start at
+	 * @return The index after the qualified name that starts at the given index, or -1 if there's no valid
+	 * qualified name there
+	 */
+	private static int qualifiedNameEnd(CharSequence text, int start){
+		int end = identifierEnd(text, start);
+		while(end != -1 && end < text.length() - 1 && text.charAt(end) == '.' && text.charAt(end + 1) != '*'){
+			end = identifierEnd(text, end + 1);
+		}
+		return end;
+	}
+	
+	/**
+	 * Type Cursor walks through a type name, checking it against the Java grammar for types:
+	 * <pre>
+	 * Type          := (Primitive | ClassType) ('[' ']')*
+	 * ClassType     := Identifier TypeArguments? ('.' Identifier TypeArguments?)*
+	 * TypeArguments := '&lt;' TypeArgument (',' TypeArgument)* '&gt;'
+	 * TypeArgument  := ReferenceType | '?' (('extends' | 'super') ReferenceType)?
+	 * </pre>
+	 * Whitespace is allowed between tokens.
+	 */
+	private static class TypeCursor{
+		/** The type name being checked */
+		private final String text;
+		/** The current index in the text */
+		private int index = 0;
+		
+		/**
+		 * @param text The type name to check
+		 */
+		private TypeCursor(String text){
+			this.text = text;
+		}
+		
+		/**
+		 * Skips any whitespace at the current index
+		 */
+		private void skipWhitespace(){
+			while(index < text.length() && Character.isWhitespace(text.charAt(index))){
+				index++;
+			}
+		}
+		
+		/**
+		 * @param c The character to look for
+		 * @return true (and moves past it) if the next non-whitespace character is the given one
+		 */
+		private boolean accept(char c){
+			skipWhitespace();
+			if(index < text.length() && text.charAt(index) == c){
+				index++;
+				return true;
+			}
+			return false;
+		}
+		
+		/**
+		 * @return true if the whole text is used up (ignoring whitespace)
+		 */
+		private boolean atEnd(){
+			skipWhitespace();
+			return index == text.length();
+		}
+		
+		/**
+		 * @param allowVarargs Whether a trailing ... is allowed
+		 * @return Whether the whole text is a valid type
+		 */
+		private boolean parseType(boolean allowVarargs){
+			if(!type()){
+				return false;
+			}
+			if(allowVarargs){
+				skipWhitespace();
+				if(text.startsWith("...", index)){
+					index += 3;
+				}
+			}
+			return atEnd();
+		}
+		
+		/**
+		 * @return Whether the whole text is a valid class type
+		 */
+		private boolean parseClassType(){
+			skipWhitespace();
+			int start = index;
+			int end = identifierEnd(text, start);
+			if(end == -1 || isPrimitive(text.substring(start, end))){
+				return false;
+			}
+			return classType() && atEnd();
+		}
+		
+		/**
+		 * @return Whether a valid type (possibly primitive or an array) is at the current index
+		 */
+		private boolean type(){
+			skipWhitespace();
+			int start = index;
+			int end = identifierEnd(text, start);
+			if(end == -1){
+				// Primitives are reserved, so check for them separately
+				end = start;
+				while(end < text.length() && isIdentifierPart(text.charAt(end))){
+					end++;
+				}
+				if(end == start || !isPrimitive(text.substring(start, end))){
+					return false;
+				}
+				index = end;
+			}else if(!classType()){
+				return false;
+			}
+			return dimensions();
+		}
+		
+		/**
+		 * @return Whether a valid reference type (class or array, not a bare primitive) is at the current index
+		 */
+		private boolean referenceType(){
+			skipWhitespace();
+			int start = index;
+			if(!type()){
+				return false;
+			}
+			// A bare primitive (no brackets) isn't a reference type
+			String typeText = text.substring(start, index).trim();
+			return !isPrimitive(typeText);
+		}
+		
+		/**
+		 * @return Whether a valid class type is at the current index
+		 */
+		private boolean classType(){
+			do{
+				skipWhitespace();
+				int end = identifierEnd(text, index);
+				if(end == -1){
+					return false;
+				}
+				index = end;
+				if(accept('<') && !typeArguments()){
+					return false;
+				}
+			}while(acceptDot());
+			return true;
+		}
+		
+		/**
+		 * @return true (and moves past it) if the next non-whitespace character is a single dot, and not the start
+		 * of a ... for varargs
+		 */
+		private boolean acceptDot(){
+			skipWhitespace();
+			if(text.startsWith("..", index)){
+				return false;
+			}
+			return accept('.');
+		}
+		
+		/**
+		 * @return Whether valid type arguments follow the opening angle bracket
+		 */
+		private boolean typeArguments(){
+			do{
+				if(accept('?')){
+					skipWhitespace();
+					if(text.startsWith("extends", index) || text.startsWith("super", index)){
+						index += text.startsWith("extends", index)?7:5;
+						if(index < text.length() && isIdentifierPart(text.charAt(index))){
+							return false;
+						}
+						if(!referenceType()){
+							return false;
+						}
+					}
+				}else if(!referenceType()){
+					return false;
+				}
+			}while(accept(','));
+			return accept('>');
+		}
+		
+		/**
+		 * @return true after moving past any array brackets, or false if a bracket isn't closed
+		 */
+		private boolean dimensions(){
+			while(accept('[')){
+				if(!accept(']')){
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.github.tadukoo.parsing.code.java.validation;
+
+import java.util.Arrays;
+
+/**
+ * Keyword Set is a perfect hash set of the words that can't be used as identifiers in Java: the reserved keywords
+ * (including {@code _}) and the literals {@code true}, {@code false}, and {@code null}. Words longer than the
+ * longest keyword are rejected right away, so checking a word costs at most a dozen multiply-adds and one string
+ * comparison, with no collisions to walk through.
+ * <br><br>
+ * The multiplier for the hash is found once, when the class is loaded, by trying multipliers until every keyword
+ * lands in its own slot.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+final class KeywordSet{
+	/** The words that can't be used as identifiers */
+	static final String[] KEYWORDS = {
+			"abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const",
+			"continue", "default", "do", "double", "else", "enum", "extends", "final", "finally", "float",
+			"for", "goto", "if", "implements", "import", "instanceof", "int", "interface", "long", "native",
+			"new", "package", "private", "protected", "public", "return", "short", "static", "strictfp", "super",
+			"switch", "synchronized", "this", "throw", "throws", "transient", "try", "void", "volatile", "while",
+			"_", "true", "false", "null"};
+	
+	/** The number of bits used for a slot */
+	private static final int SLOT_BITS = 9;
+	/** The number of slots in the table */
+	private static final int SIZE = 1 << SLOT_BITS;
+	/** The keyword in each slot, or null */
+	private static final String[] TABLE = new String[SIZE];
+	/** The multiplier that gives every keyword its own slot */
+	private static final int MULTIPLIER;
+	
+	/** The length of the longest keyword */
+	private static final int MAX_LENGTH = 12;
+	
+	static{
+		int multiplier = 0x9E3779B1;
+		while(!tryMultiplier(multiplier)){
+			multiplier += 2;
+		}
+		MULTIPLIER = multiplier;
+	}
+	
+	// Not allowed to create Keyword Set
+	private KeywordSet(){ }
+	
+	/**
+	 * Attempts to fill the table with the given multiplier
+	 *
+	 * @param multiplier The multiplier to try
+	 * @return true if every keyword got its own slot (and the table was filled), false otherwise
+	 */
+	private static boolean tryMultiplier(int multiplier){
+		Arrays.fill(TABLE, null);
+		for(String keyword: KEYWORDS){
+			int slot = slot(keyword, 0, keyword.length(), multiplier);
+			if(TABLE[slot] != null){
+				return false;
+			}
+			TABLE[slot] = keyword;
+		}
+		return true;
+	}
+	
+	/**
+	 * @param text The text containing the word
+	 * @param start The index the word starts at (inclusive)
+	 * @param end The index the word ends at (exclusive)
+	 * @param multiplier The multiplier to use
+	 * @return The slot for the word
+	 */
+	private static int slot(CharSequence text, int start, int end, int multiplier){
+		int hash = 0;
+		for(int i = start; i < end; i++){
+			hash = 31 * hash + text.charAt(i);
+		}
+		return (hash * multiplier) >>> (Integer.SIZE - SLOT_BITS);
+	}
+	
+	/**
+	 * @param word The word to check
+	 * @return Whether the word is a keyword or literal that can't be used as an identifier
+	 */
+	static boolean contains(String word){
+		return !word.isEmpty() && contains(word, 0, word.length());
+	}
+	
+	/**
+	 * @param text The text containing the word
+	 * @param start The index the word starts at (inclusive)
+	 * @param end The index the word ends at (exclusive, must be after start)
+	 * @return Whether the word is a keyword or literal that can't be used as an identifier
+	 */
+	static boolean contains(CharSequence text, int start, int end){
+		if(end - start > MAX_LENGTH){
+			return false;
+		}
+		String keyword = TABLE[slot(text, start, end, MULTIPLIER)];
+		if(keyword == null || keyword.length() != end - start){
+			return false;
+		}
+		for(int i = 0; i < keyword.length(); i++){
+			if(keyword.charAt(i) != text.charAt(start + i)){
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,69 @@
+package com.github.tadukoo.parsing.code.java.validation;
+
+import com.github.tadukoo.parsing.code.java.JavaAnnotation;
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.parsing.code.java.JavaField;
+import com.github.tadukoo.parsing.code.java.JavaMethod;
+
+/**
+ * Validation Diagnostic is a single problem found by the {@link JavaModelValidator}, along with the
+ * {@link JavaClass} it was found in and the {@link JavaField field}, {@link JavaMethod method}, or
+ * {@link JavaAnnotation annotation} it was found on
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class ValidationDiagnostic{
+	/** The {@link JavaClass} the problem was found in */
+	private final JavaClass javaClass;
+	/** The {@link JavaField}, {@link JavaMethod}, or {@link JavaAnnotation} the problem was found on
+	 * (null if it's on the class itself) */
+	private final Object member;
+	/** The description of the problem */
+	private final String message;
+	
+	/**
+	 * Constructs a new Validation Diagnostic with the given parameters
+	 *
+	 * @param javaClass The {@link JavaClass} the problem was found in
+	 * @param member The {@link JavaField}, {@link JavaMethod}, or {@link JavaAnnotation} the problem was found on
+	 * (null if it's on the class itself)
+	 * @param message The description of the problem
+	 */
+	public ValidationDiagnostic(JavaClass javaClass, Object member, String message){
+		this.javaClass = javaClass;
+		this.member = member;
+		this.message = message;
+	}
+	
+	/**
+	 * @return The {@link JavaClass} the problem was found in
+	 */
+	public JavaClass getJavaClass(){
+		return javaClass;
+	}
+	
+	/**
+	 * @return The {@link JavaField}, {@link JavaMethod}, or {@link JavaAnnotation} the problem was found on
+	 * (null if it's on the class itself)
+	 */
+	public Object getMember(){
+		return member;
+	}
+	
+	/**
+	 * @return The description of the problem
+	 */
+	public String getMessage(){
+		return message;
+	}
+	
+	/**
+	 * @return The class name followed by the description of the problem
+	 */
+	@Override
+	public String toString(){
+		return (javaClass != null?javaClass.getClassName() + ": ":"") + message;
+	}
+}
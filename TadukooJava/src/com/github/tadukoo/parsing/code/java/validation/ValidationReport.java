@@ -0,0 +1,84 @@
+package com.github.tadukoo.parsing.code.java.validation;
+
+import com.github.tadukoo.parsing.code.java.JavaClass;
+import com.github.tadukoo.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Validation Report holds all the {@link ValidationDiagnostic diagnostics} found by the {@link JavaModelValidator}
+ * for one or more {@link JavaClass classes}, in the order the classes were given
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class ValidationReport{
+	/** The number of classes that were validated */
+	private final int classCount;
+	/** The {@link ValidationDiagnostic diagnostics} that were found */
+	private final List<ValidationDiagnostic> diagnostics;
+	
+	/**
+	 * Constructs a new Validation Report with the given parameters
+	 *
+	 * @param classCount The number of classes that were validated
+	 * @param diagnostics The {@link ValidationDiagnostic diagnostics} that were found
+	 */
+	public ValidationReport(int classCount, List<ValidationDiagnostic> diagnostics){
+		this.classCount = classCount;
+		this.diagnostics = Collections.unmodifiableList(diagnostics);
+	}
+	
+	/**
+	 * @return The number of classes that were validated
+	 */
+	public int getClassCount(){
+		return classCount;
+	}
+	
+	/**
+	 * @return The {@link ValidationDiagnostic diagnostics} that were found
+	 */
+	public List<ValidationDiagnostic> getDiagnostics(){
+		return diagnostics;
+	}
+	
+	/**
+	 * @param javaClass The {@link JavaClass} to get diagnostics for
+	 * @return The {@link ValidationDiagnostic diagnostics} that were found in the given class
+	 */
+	public List<ValidationDiagnostic> getDiagnosticsFor(JavaClass javaClass){
+		List<ValidationDiagnostic> found = new ArrayList<>();
+		for(ValidationDiagnostic diagnostic: diagnostics){
+			if(diagnostic.getJavaClass() == javaClass){
+				found.add(diagnostic);
+			}
+		}
+		return found;
+	}
+	
+	/**
+	 * @return Whether no problems were found
+	 */
+	public boolean isValid(){
+		return diagnostics.isEmpty();
+	}
+	
+	/**
+	 * Throws an exception listing every problem found, if there were any
+	 *
+	 * @throws IllegalArgumentException if any problems were found
+	 */
+	public void throwIfInvalid(){
+		if(!diagnostics.isEmpty()){
+			List<String> errors = new ArrayList<>();
+			for(ValidationDiagnostic diagnostic: diagnostics){
+				errors.add(diagnostic.toString());
+			}
+			throw new IllegalArgumentException(StringUtil.buildStringWithNewLines(errors));
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.github.tadukoo.parsing.code.java.zip;
+
+/**
+ * Mapped Zip Entry is an entry from the central directory of a {@link MappedZipFile}. It only holds what's needed
+ * to find and decode the entry's data - use {@link MappedZipFile#read(MappedZipEntry)} to get the data itself.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class MappedZipEntry{
+	/** The name of the entry (e.g. com/example/Test.class) */
+	private final String name;
+	/** The compression method of the entry (0 for stored, 8 for deflated) */
+	private final int method;
+	/** The size of the entry's data as stored in the zip file */
+	private final long compressedSize;
+	/** The size of the entry's data once decompressed */
+	private final long size;
+	/** The offset of the entry's local header in the zip file */
+	private final long localHeaderOffset;
+	
+	/**
+	 * Constructs a new Mapped Zip Entry with the given parameters
+	 *
+	 * @param name The name of the entry (e.g. com/example/Test.class)
+	 * @param method The compression method of the entry (0 for stored, 8 for deflated)
+	 * @param compressedSize The size of the entry's data as stored in the zip file
+	 * @param size The size of the entry's data once decompressed
+	 * @param localHeaderOffset The offset of the entry's local header in the zip file
+	 */
+	MappedZipEntry(String name, int method, long compressedSize, long size, long localHeaderOffset){
+		this.name = name;
+		this.method = method;
+		this.compressedSize = compressedSize;
+		this.size = size;
+		this.localHeaderOffset = localHeaderOffset;
+	}
+	
+	/**
+	 * @return The name of the entry (e.g. com/example/Test.class)
+	 */
+	public String getName(){
+		return name;
+	}
+	
+	/**
+	 * @return The compression method of the entry (0 for stored, 8 for deflated)
+	 */
+	public int getMethod(){
+		return method;
+	}
+	
+	/**
+	 * @return The size of the entry's data as stored in the zip file
+	 */
+	public long getCompressedSize(){
+		return compressedSize;
+	}
+	
+	/**
+	 * @return The size of the entry's data once decompressed
+	 */
+	public long getSize(){
+		return size;
+	}
+	
+	/**
+	 * @return The offset of the entry's local header in the zip file
+	 */
+	long getLocalHeaderOffset(){
+		return localHeaderOffset;
+	}
+	
+	/**
+	 * @return Whether this entry is a directory or not
+	 */
+	public boolean isDirectory(){
+		return name.endsWith("/");
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toString(){
+		return name;
+	}
+}
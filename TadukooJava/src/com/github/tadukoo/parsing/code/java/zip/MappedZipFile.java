@@ -0,0 +1,269 @@
+package com.github.tadukoo.parsing.code.java.zip;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Mapped Zip File reads zip (and jar) files through a read-only memory mapping instead of a stream per entry. Only
+ * the central directory is parsed when the file is opened; entry data is decoded when it's {@link #read read}, and
+ * stored entries are returned as slices of the mapping without being copied. Reads don't share any state, so
+ * entries can be decoded from many threads at once.
+ * <br><br>
+ * Only stored and deflated entries are supported, and zip files must be smaller than 2 GB and not use ZIP64 or
+ * encryption. The mapping is released by the garbage collector once the file and any buffers read from it are no
+ * longer used - {@link #close()} only closes the underlying channel.
+ *
+ * @author Logan Ferree (Tadukoo)
+ * @version Alpha v.0.3.3
+ * @since Alpha v.0.3.3
+ */
+public class MappedZipFile implements Closeable{
+	/** Compression method for stored (uncompressed) entries */
+	public static final int STORED = 0;
+	/** Compression method for deflated entries */
+	public static final int DEFLATED = 8;
+	
+	/** Signature of the end of central directory record */
+	private static final int END_SIGNATURE = 0x06054b50;
+	/** Signature of a central directory file header */
+	private static final int CENTRAL_SIGNATURE = 0x02014b50;
+	/** Signature of a local file header */
+	private static final int LOCAL_SIGNATURE = 0x04034b50;
+	/** Size of the end of central directory record, without its comment */
+	private static final int END_SIZE = 22;
+	/** Size of a central directory file header, without its variable length fields */
+	private static final int CENTRAL_SIZE = 46;
+	/** Size of a local file header, without its variable length fields */
+	private static final int LOCAL_SIZE = 30;
+	/** General purpose flag bit for names encoded in UTF-8 */
+	private static final int UTF8_FLAG = 0x0800;
+	
+	/** The path of the zip file */
+	private final Path path;
+	/** The channel the zip file was mapped from */
+	private final FileChannel channel;
+	/** The mapping of the whole zip file */
+	private final ByteBuffer buffer;
+	/** The {@link MappedZipEntry entries} in the order of the central directory */
+	private final List<MappedZipEntry> entries;
+	/** The {@link MappedZipEntry entries}, keyed by name */
+	private final Map<String, MappedZipEntry> entriesByName;
+	
+	/**
+	 * Constructs a new Mapped Zip File with the given parameters
+	 *
+	 * @param path The path of the zip file
+	 * @param channel The channel the zip file was mapped from
+	 * @param buffer The mapping of the whole zip file
+	 * @param entries The {@link MappedZipEntry entries} in the order of the central directory
+	 */
+	private MappedZipFile(Path path, FileChannel channel, ByteBuffer buffer, List<MappedZipEntry> entries){
+		this.path = path;
+		this.channel = channel;
+		this.buffer = buffer;
+		this.entries = Collections.unmodifiableList(entries);
+		entriesByName = new HashMap<>(entries.size() * 2);
+		for(MappedZipEntry entry: entries){
+			entriesByName.putIfAbsent(entry.getName(), entry);
+		}
+	}
+	
+	/**
+	 * Opens the given zip file, mapping it into memory and reading its central directory
+	 *
+	 * @param path The path of the zip file to open
+	 * @return The opened {@link MappedZipFile}
+	 * @throws IOException If the file can't be read or isn't a supported zip file
+	 */
+	public static MappedZipFile open(Path path) throws IOException{
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try{
+			long fileSize = channel.size();
+			if(fileSize > Integer.MAX_VALUE){
+				throw new IOException(path + " is too large to map (over 2 GB)");
+			}
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			return new MappedZipFile(path, channel, buffer, readCentralDirectory(path, buffer));
+		}catch(IOException | RuntimeException e){
+			channel.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Reads the central directory of a mapped zip file
+	 *
+	 * @param path The path of the zip file (for error messages)
+	 * @param buffer The mapping of the whole zip file
+	 * @return The {@link MappedZipEntry entries} in the central directory
+	 * @throws IOException If the central directory is missing or malformed
+	 */
+	private static List<MappedZipEntry> readCentralDirectory(Path path, ByteBuffer buffer) throws IOException{
+		// The end record is at the very end, unless there's a comment (at most 65535 bytes) after it
+		int end = -1;
+		int lowest = Math.max(0, buffer.limit() - END_SIZE - 0xFFFF);
+		for(int i = buffer.limit() - END_SIZE; i >= lowest; i--){
+			if(buffer.getInt(i) == END_SIGNATURE){
+				end = i;
+				break;
+			}
+		}
+		if(end == -1){
+			throw new IOException(path + " is not a zip file (no end of central directory record)");
+		}
+		int count = buffer.getShort(end + 10) & 0xFFFF;
+		long directoryOffset = buffer.getInt(end + 16) & 0xFFFFFFFFL;
+		if(count == 0xFFFF || directoryOffset == 0xFFFFFFFFL){
+			throw new IOException(path + " uses ZIP64, which isn't supported");
+		}
+		
+		List<MappedZipEntry> entries = new ArrayList<>(count);
+		int offset = (int) directoryOffset;
+		for(int i = 0; i < count; i++){
+			if(offset + CENTRAL_SIZE > end || buffer.getInt(offset) != CENTRAL_SIGNATURE){
+				throw new IOException(path + " has a malformed central directory at offset " + offset);
+			}
+			int flags = buffer.getShort(offset + 8) & 0xFFFF;
+			int method = buffer.getShort(offset + 10) & 0xFFFF;
+			long compressedSize = buffer.getInt(offset + 20) & 0xFFFFFFFFL;
+			long size = buffer.getInt(offset + 24) & 0xFFFFFFFFL;
+			int nameLength = buffer.getShort(offset + 28) & 0xFFFF;
+			int extraLength = buffer.getShort(offset + 30) & 0xFFFF;
+			int commentLength = buffer.getShort(offset + 32) & 0xFFFF;
+			long localHeaderOffset = buffer.getInt(offset + 42) & 0xFFFFFFFFL;
+			
+			String name = decodeName(buffer, offset + CENTRAL_SIZE, nameLength,
+					(flags & UTF8_FLAG) != 0?StandardCharsets.UTF_8:StandardCharsets.ISO_8859_1);
+			entries.add(new MappedZipEntry(name, method, compressedSize, size, localHeaderOffset));
+			offset += CENTRAL_SIZE + nameLength + extraLength + commentLength;
+		}
+		return entries;
+	}
+	
+	/**
+	 * @param buffer The buffer to decode the name from
+	 * @param offset The offset of the name in the buffer
+	 * @param length The length of the name in bytes
+	 * @param charset The {@link Charset} the name is encoded in
+	 * @return The decoded name
+	 */
+	private static String decodeName(ByteBuffer buffer, int offset, int length, Charset charset){
+		byte[] bytes = new byte[length];
+		for(int i = 0; i < length; i++){
+			bytes[i] = buffer.get(offset + i);
+		}
+		return new String(bytes, charset);
+	}
+	
+	/**
+	 * @return The path of the zip file
+	 */
+	public Path getPath(){
+		return path;
+	}
+	
+	/**
+	 * @return The {@link MappedZipEntry entries} in the order of the central directory
+	 */
+	public List<MappedZipEntry> getEntries(){
+		return entries;
+	}
+	
+	/**
+	 * @param name The name of the entry to find (e.g. com/example/Test.class)
+	 * @return The {@link MappedZipEntry} with the given name, or null if there isn't one
+	 */
+	public MappedZipEntry getEntry(String name){
+		return entriesByName.get(name);
+	}
+	
+	/**
+	 * Reads the data of the given entry. Stored entries are returned as a read-only slice of the mapping; deflated
+	 * entries are inflated into a new heap buffer. Either way, the buffer is positioned at 0 with its limit at the
+	 * end of the data, and is in big-endian order.
+	 *
+	 * @param entry The {@link MappedZipEntry} to read
+	 * @return A buffer containing the entry's data
+	 * @throws IOException If the entry is malformed or uses an unsupported compression method
+	 */
+	public ByteBuffer read(MappedZipEntry entry) throws IOException{
+		int headerOffset = (int) entry.getLocalHeaderOffset();
+		if(headerOffset + LOCAL_SIZE > buffer.limit() || buffer.getInt(headerOffset) != LOCAL_SIGNATURE){
+			throw new IOException(entry.getName() + " has a malformed local header in " + path);
+		}
+		int nameLength = buffer.getShort(headerOffset + 26) & 0xFFFF;
+		int extraLength = buffer.getShort(headerOffset + 28) & 0xFFFF;
+		int dataOffset = headerOffset + LOCAL_SIZE + nameLength + extraLength;
+		if(dataOffset + entry.getCompressedSize() > buffer.limit()){
+			throw new IOException(entry.getName() + " runs past the end of " + path);
+		}
+		
+		ByteBuffer data = buffer.duplicate();
+		data.position(dataOffset).limit(dataOffset + (int) entry.getCompressedSize());
+		data = data.slice();
+		switch(entry.getMethod()){
+			case STORED:
+				return data.asReadOnlyBuffer().order(ByteOrder.BIG_ENDIAN);
+			case DEFLATED:
+				return inflate(entry, data);
+			default:
+				throw new IOException(entry.getName() + " uses unsupported compression method " +
+						entry.getMethod());
+		}
+	}
+	
+	/**
+	 * @param entry The {@link MappedZipEntry} being read
+	 * @param data The deflated data of the entry
+	 * @return A heap buffer of the inflated data
+	 * @throws IOException If the data can't be inflated
+	 */
+	private ByteBuffer inflate(MappedZipEntry entry, ByteBuffer data) throws IOException{
+		if(entry.getSize() > Integer.MAX_VALUE){
+			throw new IOException(entry.getName() + " is too large to inflate");
+		}
+		byte[] inflated = new byte[(int) entry.getSize()];
+		Inflater inflater = new Inflater(true);
+		try{
+			inflater.setInput(data);
+			int length = 0;
+			while(length < inflated.length){
+				int read = inflater.inflate(inflated, length, inflated.length - length);
+				if(read == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())){
+					break;
+				}
+				length += read;
+			}
+			if(length != inflated.length){
+				throw new IOException(entry.getName() + " inflated to " + length + " bytes instead of " +
+						inflated.length);
+			}
+		}catch(DataFormatException e){
+			throw new IOException(entry.getName() + " has malformed deflated data", e);
+		}finally{
+			inflater.end();
+		}
+		return ByteBuffer.wrap(inflated);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void close() throws IOException{
+		channel.close();
+	}
+}